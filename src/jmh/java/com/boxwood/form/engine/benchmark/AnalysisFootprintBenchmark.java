@@ -0,0 +1,75 @@
+package com.boxwood.form.engine.benchmark;
+
+import com.boxwood.form.engine.form.utils.CompactTemplateAnalysis;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.VariablePathDictionary;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 보관 형태별 분석 결과 힙 사용량 - 번들 템플릿별
+ * - expanded: TemplateVariableAnalysis (LinkedHashSet/LinkedHashMap)
+ * - compact: CompactTemplateAnalysis (경로 사전 공유 + int ID 배열, 사전 크기 포함)
+ * - 같은 분석 결과를 COPIES 개 보관한 뒤 GC 후 사용 중 힙 증가량으로 bytesPerAnalysis 보고
+ *   (EVENTS 보조 지표라 측정 반복 횟수만큼 합산되어 출력됨 - -i 값으로 나눠 읽음)
+ * - 경로 문자열은 두 형태 모두 공유하므로 차이는 자료구조 오버헤드만 반영 (expanded 쪽 하한)
+ * - mvn -Pbenchmark verify -Djmh.includes=AnalysisFootprintBenchmark -Djmh.args="-f 1 -wi 2 -i 5"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AnalysisFootprintBenchmark {
+    private static final int COPIES = 2_000;
+
+    @Param({"index.ftl", "invoice.ftl", "monthly-report.ftl", "script_sample.ftl",
+            "system-notification.ftl", "user-profile.ftl", "welcome-email.ftl"})
+    public String templateName;
+
+    @Param({"expanded", "compact"})
+    public String form;
+
+    private ConfigurableApplicationContext context;
+    private CompactTemplateAnalysis source;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerAnalysis;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        FreeMarkerVariableExtractor extractor = context.getBean(FreeMarkerVariableExtractor.class);
+        source = CompactTemplateAnalysis.of(extractor.analyzeTemplate(templateName), new VariablePathDictionary());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object[] retain(Footprint footprint) {
+        long before = usedHeap();
+        Object[] retained = new Object[COPIES];
+        VariablePathDictionary dictionary = new VariablePathDictionary();
+        for (int i = 0; i < COPIES; i++) {
+            retained[i] = "compact".equals(form)
+                    ? CompactTemplateAnalysis.of(source.toAnalysis(), dictionary)
+                    : source.toAnalysis();
+        }
+        footprint.bytesPerAnalysis = (usedHeap() - before) / COPIES;
+        return retained;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
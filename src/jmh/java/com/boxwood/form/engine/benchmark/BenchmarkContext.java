@@ -0,0 +1,30 @@
+package com.boxwood.form.engine.benchmark;
+
+import com.boxwood.form.engine.FormTemplateEngineApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 (웹 서버 없이 실제 빈 구성으로 기동)
+ * - gRPC 서버, 렌더링 작업 워커, 디스크 인덱스/문서 저장소는 끄고 측정 대상만 남김
+ */
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(FormTemplateEngineApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "form.grpc.enabled=false",
+                        "form.render.jobs.enabled=false",
+                        "form.analysis.index.enabled=false",
+                        "form.render.documents.enabled=false")
+                .run();
+    }
+}
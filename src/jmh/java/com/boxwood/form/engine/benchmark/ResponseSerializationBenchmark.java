@@ -0,0 +1,70 @@
+package com.boxwood.form.engine.benchmark;
+
+import com.boxwood.form.engine.form.model.TemplateAnalysisResponseDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.utils.ResponseFormatNegotiator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 DTO 직렬화/역직렬화 - 응답에 쓰는 것과 같은 JSON / CBOR / Smile 매퍼
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseSerializationBenchmark {
+
+    @Param({"invoice.ftl", "monthly-report.ftl"})
+    public String templateName;
+
+    @Param({"application/json", "application/cbor", "application/x-jackson-smile"})
+    public String format;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper mapper;
+    private TemplateAnalysisResponseDto analysis;
+    private TemplateRenderResponseDto renderResult;
+    private byte[] encodedAnalysis;
+    private byte[] encodedRenderResult;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        TemplateAnalysisService templateService = context.getBean(TemplateAnalysisService.class);
+        mapper = context.getBean(ResponseFormatNegotiator.class).getMapper(MediaType.valueOf(format));
+        analysis = templateService.analyzeTemplate(templateName);
+        renderResult = templateService.renderTemplatePreview(templateName);
+        encodedAnalysis = mapper.writeValueAsBytes(analysis);
+        encodedRenderResult = mapper.writeValueAsBytes(renderResult);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeAnalysis() throws Exception {
+        return mapper.writeValueAsBytes(analysis);
+    }
+
+    @Benchmark
+    public TemplateAnalysisResponseDto deserializeAnalysis() throws Exception {
+        return mapper.readValue(encodedAnalysis, TemplateAnalysisResponseDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializeRenderResult() throws Exception {
+        return mapper.writeValueAsBytes(renderResult);
+    }
+
+    @Benchmark
+    public TemplateRenderResponseDto deserializeRenderResult() throws Exception {
+        return mapper.readValue(encodedRenderResult, TemplateRenderResponseDto.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.boxwood.form.engine.benchmark;
+
+import com.boxwood.form.engine.form.utils.AnalysisIndexStore;
+import com.boxwood.form.engine.form.utils.FormEngineMetrics;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import freemarker.template.Configuration;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FreeMarkerVariableExtractor.analyzeTemplate - 번들 템플릿별
+ * - cold: 매번 새 추출기 (파일 분석 캐시/인덱스 없음, Mock 실행 포함 전체 분석)
+ * - warm: 애플리케이션 추출기 (내용 해시로 캐시 확인 후 합성만)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateAnalysisBenchmark {
+
+    @Param({"index.ftl", "invoice.ftl", "monthly-report.ftl", "script_sample.ftl",
+            "system-notification.ftl", "user-profile.ftl", "welcome-email.ftl"})
+    public String templateName;
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    private ConfigurableApplicationContext context;
+    private Configuration freeMarkerConfig;
+    private FormEngineMetrics metrics;
+    private FreeMarkerVariableExtractor extractor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        freeMarkerConfig = context.getBean(Configuration.class);
+        metrics = context.getBean(FormEngineMetrics.class);
+        extractor = context.getBean(FreeMarkerVariableExtractor.class);
+        extractor.analyzeTemplate(templateName);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TemplateVariableAnalysis analyzeTemplate() throws Exception {
+        FreeMarkerVariableExtractor target = "cold".equals(cache)
+                ? new FreeMarkerVariableExtractor(freeMarkerConfig, new AnalysisIndexStore(), metrics)
+                : extractor;
+        return target.analyzeTemplate(templateName);
+    }
+}
@@ -0,0 +1,74 @@
+package com.boxwood.form.engine.benchmark;
+
+import com.boxwood.form.engine.test.MustacheTemplateController;
+import com.samskivert.mustache.Mustache;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.ui.ExtendedModelMap;
+
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 화면의 Mustache / FreeMarker 템플릿 렌더링 비교
+ * - 모델은 두 데모 컨트롤러가 같은 값을 만드므로 MustacheTemplateController 로 한 번 생성해 양쪽에 사용
+ * - 템플릿 컴파일은 설정 단계에서 끝내고 실행(process/execute)만 측정
+ * - Mustache 템플릿 일부가 모델에 없는 값을 참조하므로 없는 값은 빈 문자열로 렌더링 (defaultValue)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateEngineComparisonBenchmark {
+
+    @Param({"invoice", "monthly-report", "system-notification", "user-profile", "welcome-email"})
+    public String page;
+
+    private ConfigurableApplicationContext context;
+    private Map<String, Object> model;
+    private Template freeMarkerTemplate;
+    private com.samskivert.mustache.Template mustacheTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        model = pageModel(page);
+        freeMarkerTemplate = context.getBean(Configuration.class).getTemplate(page + ".ftl");
+        mustacheTemplate = context.getBean(Mustache.Compiler.class).defaultValue("").loadTemplate(page);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String freeMarker() throws Exception {
+        StringWriter writer = new StringWriter();
+        freeMarkerTemplate.process(model, writer);
+        return writer.toString();
+    }
+
+    @Benchmark
+    public String mustache() {
+        StringWriter writer = new StringWriter();
+        mustacheTemplate.execute(model, writer);
+        return writer.toString();
+    }
+
+    private static Map<String, Object> pageModel(String page) {
+        MustacheTemplateController controller = new MustacheTemplateController();
+        ExtendedModelMap model = new ExtendedModelMap();
+        switch (page) {
+            case "invoice" -> controller.invoice(model);
+            case "monthly-report" -> controller.monthlyReport(model);
+            case "system-notification" -> controller.systemNotification(model);
+            case "user-profile" -> controller.userProfile(model);
+            case "welcome-email" -> controller.welcomeEmail(model);
+            default -> throw new IllegalArgumentException("Unknown page: " + page);
+        }
+        return model;
+    }
+}
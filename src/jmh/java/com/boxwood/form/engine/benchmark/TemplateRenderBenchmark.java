@@ -0,0 +1,89 @@
+package com.boxwood.form.engine.benchmark;
+
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TemplateAnalysisService.renderTemplate - 생성한 모델 크기별 (검증 + 렌더링 전체 경로)
+ * - 미리보기 기본값 모델을 바탕으로 모든 리스트를 small 10 / medium 1,000 / huge 20,000 원소로 늘림
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TemplateRenderBenchmark {
+    private static final Map<String, Integer> LIST_SIZES = Map.of("small", 10, "medium", 1_000, "huge", 20_000);
+
+    @Param({"invoice.ftl", "monthly-report.ftl"})
+    public String templateName;
+
+    @Param({"small", "medium", "huge"})
+    public String modelSize;
+
+    private ConfigurableApplicationContext context;
+    private TemplateAnalysisService templateService;
+    private TemplateRenderRequestDto request;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        templateService = context.getBean(TemplateAnalysisService.class);
+        Map<String, Object> model = expand(templateService.getPreviewModel(templateName), LIST_SIZES.get(modelSize));
+        request = TemplateRenderRequestDto.builder()
+                .templateName(templateName)
+                .variables(model)
+                .build();
+
+        TemplateRenderResponseDto result = templateService.renderTemplate(request);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Benchmark model does not render: " + result.getErrors());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TemplateRenderResponseDto renderTemplate() {
+        return templateService.renderTemplate(request);
+    }
+
+    /**
+     * 모델 복사 - 리스트는 첫 원소를 복제해 size 개로 (리스트 원소 안의 리스트는 원래 길이 유지)
+     */
+    static Map<String, Object> expand(Map<String, Object> model, int size) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        model.forEach((key, value) -> copy.put(key, expandValue(value, size)));
+        return copy;
+    }
+
+    private static Object expandValue(Object value, int size) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, nested) -> copy.put(String.valueOf(key), expandValue(nested, size)));
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>();
+            if (size < 0) {
+                list.forEach(element -> copy.add(expandValue(element, -1)));
+            } else if (!list.isEmpty()) {
+                for (int i = 0; i < size; i++) {
+                    copy.add(expandValue(list.get(0), -1));
+                }
+            }
+            return copy;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,57 @@
+package com.boxwood.form.engine.benchmark;
+
+import com.boxwood.form.engine.form.service.impl.TemplateAnalysisServiceImpl;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 결과 후처리 - getHierarchicalVariablesJson, populateDefaultValues (미리보기 기본값 모델 생성)
+ * - populateDefaultValues 는 서비스 내부 메서드이므로 리플렉션으로 호출 (호출 비용은 본문에 비해 무시할 수준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VariableDefaultsBenchmark {
+
+    @Param({"index.ftl", "invoice.ftl", "monthly-report.ftl", "script_sample.ftl",
+            "system-notification.ftl", "user-profile.ftl", "welcome-email.ftl"})
+    public String templateName;
+
+    private ConfigurableApplicationContext context;
+    private TemplateAnalysisServiceImpl templateService;
+    private TemplateVariableAnalysis analysis;
+    private Method populateDefaultValues;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkContext.start();
+        templateService = context.getBean(TemplateAnalysisServiceImpl.class);
+        analysis = context.getBean(FreeMarkerVariableExtractor.class).analyzeTemplate(templateName);
+        populateDefaultValues = TemplateAnalysisServiceImpl.class.getDeclaredMethod(
+                "populateDefaultValues", Map.class, String.class, Map.class);
+        populateDefaultValues.setAccessible(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String hierarchicalVariablesJson() {
+        return analysis.getHierarchicalVariablesJson();
+    }
+
+    @Benchmark
+    public Object populateDefaultValues() throws Exception {
+        Map<String, VariableType> inferredTypes = analysis.getInferredTypes();
+        return populateDefaultValues.invoke(templateService, analysis.getHierarchicalVariables(), "", inferredTypes);
+    }
+}
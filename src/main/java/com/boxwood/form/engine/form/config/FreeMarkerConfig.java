@@ -1,5 +1,10 @@
 package com.boxwood.form.engine.form.config;
 
+import com.boxwood.form.engine.form.utils.LoadTrackingTemplateLoader;
+import com.boxwood.form.engine.form.utils.MinifyingTemplateLoader;
+import com.boxwood.form.engine.form.utils.RenderTimingStatistics;
+import com.boxwood.form.engine.form.utils.StyleAssetStore;
+import com.boxwood.form.engine.form.utils.StyleExtractingTemplateLoader;
 import freemarker.template.Configuration;
 import freemarker.template.TemplateExceptionHandler;
 
@@ -11,6 +16,7 @@ import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Set;
 
 @Component
 public class FreeMarkerConfig {
@@ -18,15 +24,43 @@ public class FreeMarkerConfig {
     @Value("${spring.freemarker.template-loader-path:classpath:/templates/freemarker}")
     private String templateLoaderPath;
 
+    @Value("${form.template.minify.enabled:false}")
+    private boolean minifyTemplates;
+
+    @Value("${form.template.styles.extract.enabled:false}")
+    private boolean extractStyles;
+
+    @Value("${form.template.styles.asset-url:/api/template/assets}")
+    private String styleAssetUrl;
+
+    // 외부 스타일시트를 쓸 수 없는 템플릿 (메일 등)
+    @Value("${form.template.styles.inline-templates:}")
+    private Set<String> inlineStyleTemplates;
+
+    @Value("${form.template.styles.min-asset-bytes:512}")
+    private int minStyleAssetBytes;
+
     @Primary
     @Bean
-    public Configuration customFreeMarkerConfiguration(ResourceLoader resourceLoader) throws IOException {
+    public Configuration customFreeMarkerConfiguration(ResourceLoader resourceLoader, StyleAssetStore styleAssetStore,
+                                                       RenderTimingStatistics timingStatistics) throws IOException {
         Configuration config = new Configuration(Configuration.VERSION_2_3_31);
 
         // 템플릿 로더 설정
         config.setDirectoryForTemplateLoading(
                 resourceLoader.getResource(templateLoaderPath).getFile()
         );
+        if (extractStyles) {
+            // 로드 시점에 정적 <style> 을 내용 해시 스타일시트(<link>)로 분리
+            config.setTemplateLoader(new StyleExtractingTemplateLoader(config.getTemplateLoader(), styleAssetStore,
+                    styleAssetUrl, inlineStyleTemplates, minStyleAssetBytes));
+        }
+        if (minifyTemplates) {
+            // 로드 시점에 정적 텍스트의 공백/HTML 주석 축소
+            config.setTemplateLoader(new MinifyingTemplateLoader(config.getTemplateLoader()));
+        }
+        // 소스 로드(컴파일 캐시 미스) 추적 - 렌더링 단계별 시간에서 lookup/parse 구분
+        config.setTemplateLoader(new LoadTrackingTemplateLoader(config.getTemplateLoader(), timingStatistics));
 
         // 기본 설정
         config.setDefaultEncoding(StandardCharsets.UTF_8.name());
@@ -0,0 +1,90 @@
+package com.boxwood.form.engine.form.config;
+
+import com.boxwood.form.engine.form.grpc.TemplateEngineGrpcService;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gRPC 서버 기동/종료 (form.grpc.enabled=true 일 때만, 기본은 꺼짐)
+ * - 네트워크 서버(form.grpc.port, 음수면 사용 안 함)와 in-process 서버(form.grpc.in-process-name)를 함께 띄움
+ * - 테스트는 InProcessChannelBuilder.forName(이름) 으로 네트워크 없이 호출 가능
+ */
+@Slf4j
+@Component
+public class GrpcServerConfig {
+    private final TemplateEngineGrpcService templateEngineGrpcService;
+
+    @Value("${form.grpc.enabled:false}")
+    private boolean enabled;
+
+    @Value("${form.grpc.port:9090}")
+    private int port;
+
+    @Value("${form.grpc.in-process-name:form-template-engine}")
+    private String inProcessName;
+
+    @Value("${form.grpc.max-inbound-message-bytes:16777216}")
+    private int maxInboundMessageBytes;
+
+    private Server server;
+    private Server inProcessServer;
+
+    public GrpcServerConfig(TemplateEngineGrpcService templateEngineGrpcService) {
+        this.templateEngineGrpcService = templateEngineGrpcService;
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        inProcessServer = InProcessServerBuilder.forName(inProcessName)
+                .addService(templateEngineGrpcService)
+                .maxInboundMessageSize(maxInboundMessageBytes)
+                .build()
+                .start();
+        if (port >= 0) {
+            server = Grpc.newServerBuilderForPort(port, InsecureServerCredentials.create())
+                    .addService(templateEngineGrpcService)
+                    .maxInboundMessageSize(maxInboundMessageBytes)
+                    .build()
+                    .start();
+            log.info("gRPC server started on port {} (in-process name: {})", server.getPort(), inProcessName);
+        } else {
+            log.info("gRPC in-process server started: {}", inProcessName);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        for (Server running : new Server[]{server, inProcessServer}) {
+            if (running != null) {
+                running.shutdown();
+                if (!running.awaitTermination(5, TimeUnit.SECONDS)) {
+                    running.shutdownNow();
+                }
+            }
+        }
+    }
+
+    /**
+     * 실제 네트워크 포트 (port=0 이면 임의 포트), 네트워크 서버가 없으면 -1
+     */
+    public int getPort() {
+        return server != null ? server.getPort() : -1;
+    }
+
+    public String getInProcessName() {
+        return inProcessName;
+    }
+}
@@ -0,0 +1,69 @@
+package com.boxwood.form.engine.form.config;
+
+import com.boxwood.form.engine.form.utils.ResponseFormatNegotiator;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.util.List;
+
+@Component
+public class WebMvcConfig implements WebMvcConfigurer {
+    private final ResponseFormatNegotiator formatNegotiator;
+
+    public WebMvcConfig(ResponseFormatNegotiator formatNegotiator) {
+        this.formatNegotiator = formatNegotiator;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // ResponseEntity<?> 로 선언된 핸들러에서도 StreamingResponseBody 본문을 응답 스트림에 바로 쓰도록 등록
+        converters.add(0, new StreamingResponseBodyConverter());
+
+        // CBOR/Smile (Accept 협상) - 기본 컨버터의 매퍼 대신 애플리케이션 설정을 따르는 매퍼 사용
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                formatNegotiator.getMapper(MediaType.APPLICATION_CBOR)));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                formatNegotiator.getMapper(ResponseFormatNegotiator.SMILE)));
+    }
+
+    /**
+     * StreamingResponseBody 본문 출력용 컨버터 (쓰기 전용)
+     */
+    private static final class StreamingResponseBodyConverter extends AbstractHttpMessageConverter<StreamingResponseBody> {
+        private StreamingResponseBodyConverter() {
+            super(MediaType.ALL);
+        }
+
+        @Override
+        protected boolean supports(Class<?> clazz) {
+            return StreamingResponseBody.class.isAssignableFrom(clazz);
+        }
+
+        @Override
+        protected boolean canRead(MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        protected StreamingResponseBody readInternal(Class<? extends StreamingResponseBody> clazz, HttpInputMessage inputMessage) {
+            throw new HttpMessageNotReadableException("StreamingResponseBody is write-only", inputMessage);
+        }
+
+        @Override
+        protected void writeInternal(StreamingResponseBody body, HttpOutputMessage outputMessage) throws IOException {
+            body.writeTo(outputMessage.getBody());
+        }
+    }
+}
@@ -1,14 +1,47 @@
 package com.boxwood.form.engine.form.controller;
 
 import com.boxwood.form.engine.form.model.*;
+import com.boxwood.form.engine.form.service.RenderJobService;
+import com.boxwood.form.engine.form.service.RenderedDocumentService;
+import com.boxwood.form.engine.form.service.ResponseCompressionService;
 import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.service.TemplateAssetService;
+import com.boxwood.form.engine.form.service.TemplateETagService;
+import com.boxwood.form.engine.form.service.TemplateFragmentService;
+import com.boxwood.form.engine.form.service.TemplateIncrementalRenderService;
+import com.boxwood.form.engine.form.service.TemplateMinificationService;
+import com.boxwood.form.engine.form.service.TemplateRenderFormatService;
+import com.boxwood.form.engine.form.service.TemplateVariableIndexService;
 import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.RenderResultHeaders;
+import com.boxwood.form.engine.form.utils.ResponseFormatNegotiator;
+import com.boxwood.form.engine.form.utils.SerializedResponseStore;
+import com.boxwood.form.engine.form.utils.TemplateUsageScanner;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -17,8 +50,34 @@ import java.util.stream.Collectors;
 @RestController
 @RequestMapping("/api/template")
 public class TemplateAnalysisController {
+    // Tomcat sendfile 요청 속성 (org.apache.tomcat.util.net.Constants)
+    private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
 
     private final TemplateAnalysisService templateService;
+    private final TemplateVariableIndexService variableIndexService;
+    private final TemplateFragmentService fragmentService;
+    private final TemplateIncrementalRenderService incrementalRenderService;
+    private final TemplateMinificationService minificationService;
+    private final TemplateAssetService assetService;
+    private final ResponseCompressionService compressionService;
+    private final TemplateETagService etagService;
+    private final SerializedResponseStore serializedResponseStore;
+    private final ObjectMapper objectMapper;
+    private final TemplateRenderFormatService renderFormatService;
+    private final ResponseFormatNegotiator formatNegotiator;
+    private final RenderJobService renderJobService;
+    private final RenderedDocumentService documentService;
+
+    // /render-raw 메타데이터 헤더 한도 (Tomcat 기본 응답 헤더 한도 8KB 보다 작게)
+    @Value("${form.render.raw.max-header-bytes:4096}")
+    private int maxRenderHeaderBytes;
+
+    // /jobs/batch 한 번에 제출할 수 있는 작업 수
+    @Value("${form.render.jobs.max-batch-size:1000}")
+    private int maxJobBatchSize;
 
     /**
      * 통합 템플릿 분석 API - 기존 개별 API들의 정보를 모두 포함 (선택적)
@@ -39,7 +98,21 @@ public class TemplateAnalysisController {
             @RequestParam(value = "preview", defaultValue = "false") boolean includePreview,
             @RequestParam(value = "validation", defaultValue = "true") boolean includeValidation,
             @RequestParam(value = "statistics", defaultValue = "true") boolean includeStatistics,
-            @RequestParam(value = "legacy", defaultValue = "false") boolean legacyFormat) {
+            @RequestParam(value = "legacy", defaultValue = "false") boolean legacyFormat,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+
+        MediaType format = formatNegotiator.negotiate(accept);
+        String etag = formatETag(etagService.getETag("analyze", templateId,
+                includeHierarchy, includeDefaults, includePreview, includeValidation, includeStatistics, legacyFormat), format);
+        if (etagService.matches(ifNoneMatch, etag)) {
+            return notModified(etag, HttpHeaders.ACCEPT);
+        }
+        // 같은 버전/옵션/형식의 응답은 직렬화된 바이트를 그대로 전송
+        byte[] serialized = etag != null ? serializedResponseStore.get(etag) : null;
+        if (serialized != null) {
+            return okWithETag(etag).varyBy(HttpHeaders.ACCEPT).contentType(format).body(serialized);
+        }
 
         try {
             log.info("Analyzing template: {} with options [hierarchy:{}, defaults:{}, preview:{}, validation:{}, statistics:{}, legacy:{}]",
@@ -48,7 +121,7 @@ public class TemplateAnalysisController {
             // 기존 형태 응답이 필요한 경우
             if (legacyFormat) {
                 TemplateAnalysisResponseDto legacyResult = templateService.analyzeTemplate(templateId);
-                return ResponseEntity.ok(legacyResult);
+                return serialized(etag, format, legacyResult);
             }
 
             // === 새로운 통합 분석 ===
@@ -92,6 +165,7 @@ public class TemplateAnalysisController {
                 TemplateVariableDto varDto = TemplateVariableDto.builder()
                         .name(varName)
                         .usageTypes(usageTypes)
+                        .inferredType(rawAnalysis.getInferredTypes().get(TemplateUsageScanner.normalizePath(varName)))
                         .isRequired(requiredVariables.contains(varName))
                         .isFormRelated(isFormRelatedVariable(varName))
                         .description(generateUsageDescription(usageTypes))
@@ -99,6 +173,7 @@ public class TemplateAnalysisController {
                 variableDetails.put(varName, varDto);
             });
             response.put("referencedVariables", variableDetails);
+            response.put("inferredTypes", rawAnalysis.getInferredTypes());
 
             // === 계층구조 변수 (선택적) ===
             if (includeHierarchy) {
@@ -137,6 +212,8 @@ public class TemplateAnalysisController {
                 statistics.put("macroCallsCount", rawAnalysis.getMacroCalls().size());
                 statistics.put("includedTemplatesCount", rawAnalysis.getIncludedTemplates().size());
                 statistics.put("importedTemplatesCount", rawAnalysis.getImportedTemplates().size());
+                statistics.put("analysisAllocatedBytes", rawAnalysis.getAllocatedBytes());
+                statistics.put("analysisCpuTimeNanos", rawAnalysis.getCpuTimeNanos());
                 response.put("statistics", statistics);
             }
 
@@ -169,7 +246,7 @@ public class TemplateAnalysisController {
                     templateId, requiredVariables.size(), rawAnalysis.getErrors().size(),
                     System.currentTimeMillis() - (Long) response.get("analysisTimestamp"));
 
-            return ResponseEntity.ok(response);
+            return serialized(etag, format, response);
 
         } catch (Exception e) {
             log.error("Failed to analyze template: {}", templateId, e);
@@ -202,6 +279,11 @@ public class TemplateAnalysisController {
 
             TemplateRenderResponseDto result = templateService.renderTemplate(request);
 
+            if (result.getValidationErrors() != null && !result.getValidationErrors().isEmpty()) {
+                // 렌더링 전 요청 검증에서 거부됨
+                return ResponseEntity.badRequest().body(result);
+            }
+
             if (!result.isSuccess()) {
                 log.warn("Template rendering failed: {}", result.getErrors());
             } else {
@@ -227,8 +309,399 @@ public class TemplateAnalysisController {
         }
     }
 
+    /**
+     * 템플릿 렌더링 - HTML 본문 그대로 반환
+     * - JSON 으로 감싸지 않으므로 HTML 이스케이프/언이스케이프 비용이 없음
+     * - success, renderTimeMs, errors, debugInfo 는 X-Render-* 헤더로 전달 (목록/맵은 퍼센트 인코딩된 JSON)
+     * - 요청 검증 실패는 400, 렌더링 실패는 /render 와 같이 200 + X-Render-Success: false
+     */
+    @PostMapping("/render-raw")
+    public ResponseEntity<?> renderTemplateRaw(@RequestBody TemplateRenderRequestDto request,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        TemplateRenderResponseDto result;
+        try {
+            result = templateService.renderTemplate(request);
+        } catch (Exception e) {
+            log.error("Failed to render template: {}", request.getTemplateName(), e);
+            result = TemplateRenderResponseDto.builder()
+                    .templateName(request.getTemplateName())
+                    .renderedHtml("")
+                    .success(false)
+                    .errors(List.of("Render failed: " + e.getMessage()))
+                    .build();
+        }
+
+        HttpHeaders headers = RenderResultHeaders.of(result, objectMapper, maxRenderHeaderBytes);
+        if (result.getValidationErrors() != null && !result.getValidationErrors().isEmpty()) {
+            return ResponseEntity.badRequest().headers(headers).build();
+        }
+        if (!result.isSuccess()) {
+            log.warn("Template rendering failed: {}", result.getErrors());
+            return ResponseEntity.ok().headers(headers).contentType(MediaType.TEXT_HTML).body("");
+        }
+        return htmlResponse(result.getRenderedHtml(), acceptEncoding, null, null, headers);
+    }
+
+    /**
+     * JSON 래핑 응답과 HTML 본문 + 헤더 응답의 직렬화 시간/전송 바이트 비교 (templateId 생략 시 전체 템플릿)
+     * - repeat: 미리보기 HTML 을 반복해 큰 문서를 흉내냄
+     */
+    @GetMapping("/render-format-report")
+    public ResponseEntity<?> getRenderFormatReport(@RequestParam(value = "templateId", required = false) String templateId,
+                                                   @RequestParam(value = "repeat", defaultValue = "1") int repeat) {
+        try {
+            return ResponseEntity.ok(renderFormatService.getRenderFormatReport(templateId, repeat));
+        } catch (Exception e) {
+            log.error("Failed to build render format report", e);
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to build render format report");
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * 분석/변수 맵/렌더링 DTO 의 JSON, CBOR, Smile 인코딩 크기와 인코딩/디코딩 시간 비교 (templateId 생략 시 전체 템플릿)
+     * - 응답 형식은 Accept: application/cbor, application/x-jackson-smile 로 선택
+     */
+    @GetMapping("/encoding-report")
+    public ResponseEntity<?> getEncodingReport(@RequestParam(value = "templateId", required = false) String templateId) {
+        try {
+            return ResponseEntity.ok(renderFormatService.getEncodingReport(templateId));
+        } catch (Exception e) {
+            log.error("Failed to build encoding report", e);
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to build encoding report");
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * 비동기 렌더링 작업 제출 (단건)
+     * - 접수되면 202 + Location, 큐가 차 있으면 429 + Retry-After (배압)
+     */
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitRenderJob(@RequestBody TemplateRenderRequestDto request) {
+        return renderJobSubmissionResponse(List.of(request));
+    }
+
+    /**
+     * 비동기 렌더링 작업 일괄 제출
+     * - 큐 용량만큼 앞에서부터 접수, 일부라도 접수되면 202 (rejected 건은 Retry-After 후 뒤쪽부터 재제출), 하나도 없으면 429
+     * - form.render.jobs.max-batch-size 보다 많으면 하나도 접수하지 않고 413
+     */
+    @PostMapping("/jobs/batch")
+    public ResponseEntity<?> submitRenderJobs(@RequestBody List<TemplateRenderRequestDto> requests) {
+        if (requests.size() > maxJobBatchSize) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Batch too large");
+            errorResponse.put("message", "Batch size " + requests.size() + " exceeds limit " + maxJobBatchSize);
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(errorResponse);
+        }
+        return renderJobSubmissionResponse(requests);
+    }
+
+    /**
+     * 렌더링 작업 상태
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getRenderJob(@PathVariable("jobId") String jobId) {
+        RenderJobDto job = renderJobService.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 성공한 렌더링 작업의 HTML (아직 끝나지 않았으면 409, 결과가 없으면 404)
+     */
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<?> getRenderJobResult(@PathVariable("jobId") String jobId,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        String html = renderJobService.getResultHtml(jobId);
+        if (html != null) {
+            return htmlResponse(html, acceptEncoding, null, null, null);
+        }
+        RenderJobDto job = renderJobService.getJob(jobId);
+        if (job != null && job.getCompletedAt() == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(job);
+        }
+        return ResponseEntity.notFound().build();
+    }
+
+    /**
+     * 재시도를 모두 소진한 작업 목록
+     */
+    @GetMapping("/jobs/dead-letters")
+    public ResponseEntity<?> getDeadLetteredRenderJobs() {
+        return ResponseEntity.ok(renderJobService.getDeadLetters());
+    }
+
+    /**
+     * dead-letter 작업 재실행 (본문 생략 시 전체)
+     */
+    @PostMapping("/jobs/dead-letters/replay")
+    public ResponseEntity<?> replayDeadLetteredRenderJobs(@RequestBody(required = false) List<String> jobIds) {
+        return ResponseEntity.ok(Map.of("replayed", renderJobService.replayDeadLetters(jobIds)));
+    }
+
+    /**
+     * 작업 큐/워커 통계 (큐 깊이, 처리량, 대기/렌더링 지연 백분위)
+     */
+    @GetMapping("/jobs/stats")
+    public ResponseEntity<?> getRenderJobStatistics() {
+        return ResponseEntity.ok(renderJobService.getStatistics());
+    }
+
+    private ResponseEntity<?> renderJobSubmissionResponse(List<TemplateRenderRequestDto> requests) {
+        RenderJobSubmissionDto submission;
+        try {
+            submission = renderJobService.submit(requests);
+        } catch (IllegalArgumentException e) {
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Invalid render job");
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+
+        ResponseEntity.BodyBuilder builder = submission.getAccepted() > 0
+                ? ResponseEntity.accepted() : ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS);
+        builder.header("X-Queue-Depth", String.valueOf(submission.getQueueDepth()))
+                .header("X-Queue-Capacity", String.valueOf(submission.getQueueCapacity()));
+        if (submission.getRetryAfterSeconds() != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, String.valueOf(submission.getRetryAfterSeconds()));
+        }
+        if (requests.size() == 1 && submission.getAccepted() == 1) {
+            builder.location(URI.create("/api/template/jobs/" + submission.getJobIds().get(0)));
+        }
+        return builder.body(submission);
+    }
+
+    /**
+     * 렌더링 문서 저장 - 같은 템플릿 버전과 모델로 저장된 문서가 있으면 다시 렌더링하지 않음
+     * - 새로 저장하면 201 + Location, 기존 문서면 200 (reused=true)
+     */
+    @PostMapping("/documents")
+    public ResponseEntity<?> storeRenderedDocument(@RequestBody TemplateRenderRequestDto request) {
+        RenderedDocumentDto document = documentService.storeDocument(request);
+        if (!document.isSuccess()) {
+            log.warn("Rendered document not stored: {}", document.getErrors() != null
+                    ? document.getErrors() : document.getValidationErrors());
+            return ResponseEntity.badRequest().body(document);
+        }
+        if (document.isReused()) {
+            return ResponseEntity.ok(document);
+        }
+        return ResponseEntity.created(URI.create(document.getDownloadUrl())).body(document);
+    }
+
+    /**
+     * 저장된 문서 다운로드 (문서 ID 가 내용 해시이므로 영구 캐시)
+     * - 컨테이너가 sendfile 을 지원하면 파일을 소켓으로 바로 전송 (본문을 힙에 올리지 않음)
+     * - 지원하지 않으면 미리 연 FileChannel 에서 transferTo 로 응답 스트림에 복사
+     * - 조회된 문서는 저장소 GC 유예 시간(form.render.documents.gc-grace-ms) 동안 삭제되지 않음
+     */
+    @GetMapping("/documents/{documentId}")
+    public ResponseEntity<?> downloadRenderedDocument(@PathVariable("documentId") String documentId,
+                                                      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+                                                      HttpServletRequest servletRequest) {
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        String etag = "\"" + documentId + "\"";
+        Path path = documentService.getDocument(documentId);
+        if (path == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (etagService.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(etag).build();
+        }
+
+        long size = path.toFile().length();
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(new MediaType("text", "html", StandardCharsets.UTF_8))
+                .contentLength(size)
+                .cacheControl(cacheControl)
+                .eTag(etag);
+        if (!HttpMethod.GET.matches(servletRequest.getMethod())) {
+            return builder.build();
+        }
+        if (Boolean.TRUE.equals(servletRequest.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+            servletRequest.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, path.toAbsolutePath().toString());
+            servletRequest.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+            servletRequest.setAttribute(SENDFILE_END_ATTRIBUTE, size);
+            return builder.build();
+        }
+        // 응답 전에 파일을 열어 둠 (열린 파일은 이후 GC 로 삭제되어도 끝까지 읽을 수 있음)
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = outputStream -> {
+            try (channel) {
+                WritableByteChannel target = Channels.newChannel(outputStream);
+                long position = 0;
+                while (position < size) {
+                    long transferred = channel.transferTo(position, size - position, target);
+                    if (transferred <= 0) {
+                        // 파일이 예상보다 짧아진 경우 - 무한 반복 대신 응답을 중단
+                        throw new IOException("Document " + documentId + " ended at " + position + " of " + size + " bytes");
+                    }
+                    position += transferred;
+                }
+            }
+        };
+        return builder.body(body);
+    }
+
+    /**
+     * 렌더링 문서 저장소 통계 (문서 수/크기, 인덱스 적중/미스, GC 로 삭제된 문서)
+     */
+    @GetMapping("/documents/stats")
+    public ResponseEntity<?> getRenderedDocumentStatistics() {
+        return ResponseEntity.ok(documentService.getStatistics());
+    }
+
+    /**
+     * 템플릿 렌더링 - 요청 변수 가지치기 모드 (?prune=true)
+     * - 본문을 스트리밍으로 읽으면서 템플릿이 읽지 않는 하위 트리는 객체로 만들지 않고 건너뜀
+     * - includeDebugInfo=true 이면 debugInfo 에 payloadBytesIn / payloadBytesKept 포함
+     */
+    @PostMapping(value = "/render", params = "prune=true")
+    public ResponseEntity<?> renderPrunedTemplate(InputStream requestBody) {
+        try {
+            TemplateRenderResponseDto result = templateService.renderPrunedTemplate(requestBody);
+
+            if (result.getValidationErrors() != null && !result.getValidationErrors().isEmpty()) {
+                return ResponseEntity.badRequest().body(result);
+            }
+
+            if (!result.isSuccess()) {
+                log.warn("Template rendering failed: {}", result.getErrors());
+            } else {
+                log.info("Pruned template rendering completed successfully: {} ({}ms)",
+                        result.getTemplateName(), result.getRenderTimeMs());
+            }
+
+            return ResponseEntity.ok(result);
+
+        } catch (Exception e) {
+            log.error("Failed to render pruned request", e);
+
+            TemplateRenderResponseDto errorResponse = TemplateRenderResponseDto.builder()
+                    .templateName("unknown")
+                    .renderedHtml("")
+                    .success(false)
+                    .errors(List.of("Render failed: " + e.getMessage()))
+                    .renderTimeMs(0)
+                    .build();
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * 증분 렌더링 - 같은 documentId 의 이전 결과에서 바뀐 경로를 읽은 섹션만 다시 실행
+     * - 응답의 sectionCount / reusedSectionCount 로 재사용 섹션 수 확인
+     */
+    @PostMapping("/render-incremental")
+    public ResponseEntity<?> renderIncremental(@RequestBody TemplateRenderRequestDto request) {
+        TemplateRenderResponseDto result = incrementalRenderService.renderIncremental(request);
+        if (!result.isSuccess()) {
+            log.warn("Incremental rendering failed: {}", result.getErrors());
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 정적 텍스트 축소 전후 출력 크기/렌더링 시간 비교 (templateId 생략 시 전체 템플릿)
+     * - 실제 적용은 form.template.minify.enabled=true
+     */
+    @GetMapping("/minification-report")
+    public ResponseEntity<?> getMinificationReport(@RequestParam(value = "templateId", required = false) String templateId) {
+        try {
+            return ResponseEntity.ok(minificationService.getMinificationReport(templateId));
+        } catch (Exception e) {
+            log.error("Failed to build minification report", e);
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to build minification report");
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
+    /**
+     * 템플릿에서 분리한 스타일시트 (내용 해시 ID 이므로 내용이 바뀌지 않음 - 영구 캐시)
+     */
+    @GetMapping("/assets/{assetId}.css")
+    public ResponseEntity<?> getStyleAsset(@PathVariable("assetId") String assetId,
+                                           @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        // 없는 자산에 304 를 주면 클라이언트가 계속 캐시를 쓰므로 존재 여부를 먼저 확인
+        byte[] css = assetService.getStyleAsset(assetId);
+        if (css == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+        String etag = "\"" + assetId + "\"";
+        if (etagService.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(etag).build();
+        }
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "css", StandardCharsets.UTF_8))
+                .cacheControl(cacheControl)
+                .eTag(etag)
+                .body(css);
+    }
+
+    /**
+     * 부분 렌더링 - 매크로 하나 또는 <#-- @region 이름 --> 으로 표시된 영역 하나만 렌더링
+     */
+    @PostMapping("/render-fragment")
+    public ResponseEntity<?> renderFragment(@RequestBody TemplateFragmentRequestDto request) {
+        TemplateRenderResponseDto result = fragmentService.renderFragment(request);
+        if (!result.isSuccess()) {
+            log.warn("Fragment rendering failed: {}", result.getErrors());
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * 부분 렌더링 - 조각 HTML 그대로 반환
+     */
+    @PostMapping("/render-fragment-html")
+    public ResponseEntity<?> renderFragmentInHtml(@RequestBody TemplateFragmentRequestDto request,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        TemplateRenderResponseDto result = fragmentService.renderFragment(request);
+        if (!result.isSuccess()) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.TEXT_PLAIN)
+                    .body(String.join("\n", result.getErrors()));
+        }
+        return htmlResponse(result.getRenderedHtml(), acceptEncoding, null, null, null);
+    }
+
+    /**
+     * 부분 렌더링 가능한 매크로/영역 목록
+     */
+    @GetMapping("/fragments/{templateId}")
+    public ResponseEntity<?> getTemplateFragments(@PathVariable("templateId") String templateId) {
+        try {
+            return ResponseEntity.ok(fragmentService.listFragments(templateId));
+        } catch (Exception e) {
+            log.error("Failed to list fragments for template: {}", templateId, e);
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to list fragments");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("templateId", templateId);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
     @PostMapping("/render-html")
-    public ResponseEntity<?> renderTemplateInHtml(@RequestBody TemplateRenderRequestDto request) {
+    public ResponseEntity<?> renderTemplateInHtml(@RequestBody TemplateRenderRequestDto request,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         try {
             TemplateRenderResponseDto result = templateService.renderTemplate(request);
 
@@ -255,9 +728,7 @@ public class TemplateAnalysisController {
                         .body(errorHtml);
             }
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.TEXT_HTML)
-                    .body(result.getRenderedHtml());
+            return htmlResponse(result.getRenderedHtml(), acceptEncoding, null, null, null);
 
         } catch (Exception e) {
             log.error("Failed to generate HTML preview for template: {}", request.getTemplateName(), e);
@@ -317,7 +788,14 @@ public class TemplateAnalysisController {
      * 템플릿 미리보기 - HTML 직접 반환
      */
     @GetMapping("/preview-html/{templateId}")
-    public ResponseEntity<String> previewTemplateHtml(@PathVariable("templateId") String templateId) {
+    public ResponseEntity<?> previewTemplateHtml(@PathVariable("templateId") String templateId,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String etag = etagService.getETag("preview-html", templateId);
+        if (etagService.matches(ifNoneMatch, etag)) {
+            return notModified(etag, HttpHeaders.ACCEPT_ENCODING);
+        }
+
         try {
             log.info("Generating HTML preview for template: {}", templateId);
             TemplateRenderResponseDto result = templateService.renderTemplatePreview(templateId);
@@ -345,9 +823,9 @@ public class TemplateAnalysisController {
                         .body(errorHtml);
             }
 
-            return ResponseEntity.ok()
-                    .contentType(MediaType.TEXT_HTML)
-                    .body(result.getRenderedHtml());
+            // 스냅샷에 저장된 미리보기는 압축 결과도 재사용
+            boolean snapshot = result.getDebugInfo() != null && result.getDebugInfo().containsKey("previewSnapshotVersion");
+            return htmlResponse(result.getRenderedHtml(), acceptEncoding, snapshot ? "preview-html:" + templateId : null, etag, null);
 
         } catch (Exception e) {
             log.error("Failed to generate HTML preview for template: {}", templateId, e);
@@ -370,6 +848,103 @@ public class TemplateAnalysisController {
         }
     }
 
+    /**
+     * 렌더링 단계별 소요 시간 히스토그램 (컴파일 캐시 적중/미스별 total 포함)
+     */
+    @GetMapping("/render-timing-stats")
+    public ResponseEntity<?> getRenderTimingStatistics() {
+        return ResponseEntity.ok(templateService.getRenderTimingStatistics());
+    }
+
+    /**
+     * 템플릿별 요청 스레드 할당 바이트 / CPU 시간 (render, analysis - 평균 할당 바이트가 큰 순)
+     */
+    @GetMapping("/resource-usage-stats")
+    public ResponseEntity<?> getResourceUsageStatistics() {
+        return ResponseEntity.ok(templateService.getResourceUsageStatistics());
+    }
+
+    /**
+     * 응답 압축 통계 (인코딩별 압축률/압축 시간, 사전 압축 캐시 적중)
+     */
+    @GetMapping("/compression-stats")
+    public ResponseEntity<?> getCompressionStatistics() {
+        return ResponseEntity.ok(compressionService.getStatistics());
+    }
+
+    /**
+     * 직렬화 응답 캐시 통계 (항목 수, 바이트 합계, 적중/제거 횟수)
+     */
+    @GetMapping("/response-cache-stats")
+    public ResponseEntity<?> getResponseCacheStatistics() {
+        return ResponseEntity.ok(serializedResponseStore.getStatistics());
+    }
+
+    /**
+     * HTML 응답 (Accept-Encoding 협상)
+     * - cacheKey 가 있으면 캐시된 본문이므로 사전 압축 바이트로 응답, 없으면 응답 스트림에 바로 압축
+     * - etag 가 있으면 인코딩별 변형 ETag 와 Cache-Control 부여, headers 는 추가 응답 헤더 (null 허용)
+     */
+    private ResponseEntity<?> htmlResponse(String html, String acceptEncoding, String cacheKey, String etag,
+                                           HttpHeaders headers) {
+        String encoding = compressionService.negotiate(acceptEncoding, html);
+        if (encoding == null) {
+            return okWithETag(etag)
+                    .headers(headers)
+                    .contentType(MediaType.TEXT_HTML)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .body(html);
+        }
+
+        ResponseEntity.BodyBuilder builder = okWithETag(etagService.forVariant(etag, encoding))
+                .headers(headers)
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_ENCODING, encoding)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cacheKey != null) {
+            return builder.body(compressionService.precompressed(cacheKey, html, encoding));
+        }
+        StreamingResponseBody body = out -> compressionService.compressTo(html, encoding, out);
+        return builder.body(body);
+    }
+
+    /**
+     * 200 응답 빌더 (ETag 가 있으면 ETag/Cache-Control 포함)
+     */
+    private ResponseEntity.BodyBuilder okWithETag(String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        return etag != null ? builder.eTag(etag).cacheControl(etagService.getCacheControl()) : builder;
+    }
+
+    /**
+     * 응답을 협상된 형식(JSON/CBOR/Smile)의 바이트로 직렬화해 저장한 뒤 전송 (ETag 가 없으면 저장하지 않음)
+     */
+    private ResponseEntity<?> serialized(String etag, MediaType format, Object body) throws JsonProcessingException {
+        byte[] bytes = formatNegotiator.getMapper(format).writeValueAsBytes(body);
+        if (etag != null) {
+            serializedResponseStore.put(etag, bytes);
+        }
+        return okWithETag(etag).varyBy(HttpHeaders.ACCEPT).contentType(format).body(bytes);
+    }
+
+    /**
+     * 응답 형식별 ETag (JSON 은 기본 ETag, 바이너리 형식은 변형 ETag)
+     */
+    private String formatETag(String etag, MediaType format) {
+        return MediaType.APPLICATION_JSON.equals(format) ? etag : etagService.forVariant(etag, format.getSubtype());
+    }
+
+    /**
+     * 304 응답 - 캐시가 표현을 구분할 수 있도록 200 응답과 같은 Vary 포함
+     */
+    private ResponseEntity<?> notModified(String etag, String vary) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(etagService.getCacheControl())
+                .varyBy(vary)
+                .build();
+    }
+
     /**
      * 템플릿 변수 기본값 조회 - 렌더링 준비용
      */
@@ -432,7 +1007,14 @@ public class TemplateAnalysisController {
      * 템플릿 요약 정보 조회 - 간단한 메타데이터
      */
     @GetMapping("/summary/{templateId}")
-    public ResponseEntity<?> getTemplateSummary(@PathVariable("templateId") String templateId) {
+    public ResponseEntity<?> getTemplateSummary(@PathVariable("templateId") String templateId,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String etag = formatETag(etagService.getETag("summary", templateId), formatNegotiator.negotiate(accept));
+        if (etagService.matches(ifNoneMatch, etag)) {
+            return notModified(etag, HttpHeaders.ACCEPT);
+        }
+
         try {
             log.info("Getting summary for template: {}", templateId);
             TemplateAnalysisResponseDto analysis = templateService.analyzeTemplate(templateId);
@@ -440,7 +1022,7 @@ public class TemplateAnalysisController {
             Map<String, Object> summary = getSummary(templateId, analysis);
 
             log.info("Template summary retrieved: {}", templateId);
-            return ResponseEntity.ok(summary);
+            return okWithETag(etag).varyBy(HttpHeaders.ACCEPT).body(summary);
 
         } catch (Exception e) {
             log.error("Failed to get template summary: {}", templateId, e);
@@ -457,7 +1039,14 @@ public class TemplateAnalysisController {
      * 템플릿 변수 계층 구조 조회 - 개선된 버전
      */
     @GetMapping("/variables/{templateId}")
-    public ResponseEntity<?> getTemplateVariablesHierarchical(@PathVariable("templateId") String templateId) {
+    public ResponseEntity<?> getTemplateVariablesHierarchical(@PathVariable("templateId") String templateId,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                              @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String etag = formatETag(etagService.getETag("variables", templateId), formatNegotiator.negotiate(accept));
+        if (etagService.matches(ifNoneMatch, etag)) {
+            return notModified(etag, HttpHeaders.ACCEPT);
+        }
+
         try {
             log.info("Getting hierarchical variable structure for template: {}", templateId);
 
@@ -476,7 +1065,7 @@ public class TemplateAnalysisController {
             log.info("Hierarchical variables retrieved for template: {} ({} root variables)",
                     templateId, analysis.getHierarchicalVariables().size());
 
-            return ResponseEntity.ok(response);
+            return okWithETag(etag).varyBy(HttpHeaders.ACCEPT).body(response);
 
         } catch (Exception e) {
             log.error("Failed to get hierarchical variables for template: {}", templateId, e);
@@ -545,6 +1134,46 @@ public class TemplateAnalysisController {
         }
     }
 
+    /**
+     * 변수 경로를 사용하는 템플릿 조회 (역색인)
+     * <p>
+     * Query Parameters:
+     * - path: 변수 경로, * 와 ? 와일드카드 사용 가능 (예: client.businessNumber, *.businessNumber)
+     * - prefix: 경로 접두사 조회 여부 (default: false, 예: client.)
+     */
+    @GetMapping("/variable-usages")
+    public ResponseEntity<?> findVariableUsages(
+            @RequestParam("path") String path,
+            @RequestParam(value = "prefix", defaultValue = "false") boolean prefix) {
+        try {
+            String mode = prefix ? "prefix" : (path.contains("*") || path.contains("?") ? "wildcard" : "exact");
+            List<VariableUsageDto> usages = switch (mode) {
+                case "prefix" -> variableIndexService.findByPrefix(path);
+                case "wildcard" -> variableIndexService.findByPattern(path);
+                default -> variableIndexService.findByPath(path);
+            };
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("query", path);
+            response.put("mode", mode);
+            response.put("matchCount", usages.size());
+            response.put("templates", usages.stream()
+                    .map(VariableUsageDto::getTemplateName)
+                    .collect(Collectors.toCollection(TreeSet::new)));
+            response.put("usages", usages);
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Failed to find variable usages: {}", path, e);
+            Map<String, String> errorResponse = new HashMap<>();
+            errorResponse.put("error", "Failed to find variable usages");
+            errorResponse.put("message", e.getMessage());
+            errorResponse.put("path", path);
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+
 
     // --- 유틸 메서드 ---------------------------------------------------------------------------------
 
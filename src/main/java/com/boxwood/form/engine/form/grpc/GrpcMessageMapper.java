@@ -0,0 +1,189 @@
+package com.boxwood.form.engine.form.grpc;
+
+import com.boxwood.form.engine.form.grpc.proto.RenderRequest;
+import com.boxwood.form.engine.form.grpc.proto.RenderResult;
+import com.boxwood.form.engine.form.grpc.proto.StringList;
+import com.boxwood.form.engine.form.grpc.proto.TemplateAnalysis;
+import com.boxwood.form.engine.form.grpc.proto.TemplateVariable;
+import com.boxwood.form.engine.form.model.TemplateAnalysisResponseDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.model.TemplateVariableDto;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.ListValue;
+import com.google.protobuf.NullValue;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * DTO <-> protobuf 메시지 변환
+ * - 변수/디버그 정보처럼 형태가 정해지지 않은 맵은 google.protobuf.Struct 로 전달
+ * - Struct 의 숫자는 double 이므로, 정수 값은 JSON 요청과 같도록 Integer/Long 으로 되돌림
+ */
+public final class GrpcMessageMapper {
+
+    private GrpcMessageMapper() {
+    }
+
+    public static TemplateRenderRequestDto toDto(RenderRequest request) {
+        return TemplateRenderRequestDto.builder()
+                .templateName(request.getTemplateName())
+                .variables(request.hasVariables() ? toMap(request.getVariables()) : new LinkedHashMap<>())
+                .includeDebugInfo(request.getIncludeDebugInfo())
+                .documentId(request.getDocumentId().isEmpty() ? null : request.getDocumentId())
+                .build();
+    }
+
+    public static RenderResult toProto(TemplateRenderResponseDto dto, int index) {
+        RenderResult.Builder builder = RenderResult.newBuilder()
+                .setSuccess(dto.isSuccess())
+                .setRenderTimeMs(dto.getRenderTimeMs())
+                .setIndex(index);
+        if (dto.getTemplateName() != null) {
+            builder.setTemplateName(dto.getTemplateName());
+        }
+        if (dto.getRenderedHtml() != null) {
+            builder.setRenderedHtml(ByteString.copyFrom(dto.getRenderedHtml(), StandardCharsets.UTF_8));
+        }
+        if (dto.getErrors() != null) {
+            builder.addAllErrors(dto.getErrors());
+        }
+        if (dto.getValidationErrors() != null) {
+            builder.addAllValidationErrors(dto.getValidationErrors());
+        }
+        if (dto.getDebugInfo() != null) {
+            builder.setDebugInfo(toStruct(dto.getDebugInfo()));
+        }
+        return builder.build();
+    }
+
+    public static TemplateAnalysis toProto(TemplateAnalysisResponseDto dto) {
+        TemplateAnalysis.Builder builder = TemplateAnalysis.newBuilder()
+                .setTemplateValid(dto.isTemplateValid())
+                .addAllRequiredExternalVariables(nullToEmpty(dto.getRequiredExternalVariables()))
+                .addAllFormVariables(nullToEmpty(dto.getFormVariables()))
+                .addAllAssignedVariables(nullToEmpty(dto.getAssignedVariables()))
+                .addAllLocalVariables(nullToEmpty(dto.getLocalVariables()))
+                .addAllGlobalVariables(nullToEmpty(dto.getGlobalVariables()))
+                .addAllLoopVariables(nullToEmpty(dto.getLoopVariables()))
+                .addAllMacroCalls(nullToEmpty(dto.getMacroCalls()))
+                .addAllIncludedTemplates(nullToEmpty(dto.getIncludedTemplates()))
+                .addAllErrors(nullToEmpty(dto.getErrors()));
+        if (dto.getTemplateName() != null) {
+            builder.setTemplateName(dto.getTemplateName());
+        }
+        if (dto.getSummary() != null) {
+            builder.setSummary(dto.getSummary());
+        }
+        if (dto.getReferencedVariables() != null) {
+            dto.getReferencedVariables().forEach((name, variable) ->
+                    builder.putReferencedVariables(name, toProto(variable)));
+        }
+        if (dto.getInferredTypes() != null) {
+            dto.getInferredTypes().forEach((path, type) -> builder.putInferredTypes(path, type.name()));
+        }
+        if (dto.getMacros() != null) {
+            dto.getMacros().forEach((name, parameters) -> builder.putMacros(name, toStringList(parameters)));
+        }
+        if (dto.getFunctions() != null) {
+            dto.getFunctions().forEach((name, parameters) -> builder.putFunctions(name, toStringList(parameters)));
+        }
+        if (dto.getImportedTemplates() != null) {
+            builder.putAllImportedTemplates(dto.getImportedTemplates());
+        }
+        return builder.build();
+    }
+
+    private static TemplateVariable toProto(TemplateVariableDto dto) {
+        TemplateVariable.Builder builder = TemplateVariable.newBuilder()
+                .setRequired(dto.isRequired())
+                .setFormRelated(dto.isFormRelated());
+        if (dto.getName() != null) {
+            builder.setName(dto.getName());
+        }
+        if (dto.getUsageTypes() != null) {
+            dto.getUsageTypes().forEach(type -> builder.addUsageTypes(type.name()));
+        }
+        if (dto.getInferredType() != null) {
+            builder.setInferredType(dto.getInferredType().name());
+        }
+        if (dto.getDescription() != null) {
+            builder.setDescription(dto.getDescription());
+        }
+        return builder.build();
+    }
+
+    private static StringList toStringList(Collection<String> values) {
+        return StringList.newBuilder().addAllValues(nullToEmpty(values)).build();
+    }
+
+    private static <T> Collection<T> nullToEmpty(Collection<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    public static Map<String, Object> toMap(Struct struct) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        struct.getFieldsMap().forEach((key, value) -> map.put(key, toJava(value)));
+        return map;
+    }
+
+    public static Struct toStruct(Map<?, ?> map) {
+        Struct.Builder builder = Struct.newBuilder();
+        map.forEach((key, value) -> builder.putFields(String.valueOf(key), toValue(value)));
+        return builder.build();
+    }
+
+    private static Object toJava(Value value) {
+        return switch (value.getKindCase()) {
+            case STRUCT_VALUE -> toMap(value.getStructValue());
+            case LIST_VALUE -> {
+                List<Object> list = new ArrayList<>();
+                value.getListValue().getValuesList().forEach(element -> list.add(toJava(element)));
+                yield list;
+            }
+            case NUMBER_VALUE -> toNumber(value.getNumberValue());
+            case STRING_VALUE -> value.getStringValue();
+            case BOOL_VALUE -> value.getBoolValue();
+            case NULL_VALUE, KIND_NOT_SET -> null;
+        };
+    }
+
+    private static Number toNumber(double number) {
+        if (number == Math.rint(number) && !Double.isInfinite(number) && Math.abs(number) < 1L << 53) {
+            long integral = (long) number;
+            // 조건 연산자로 쓰면 양쪽이 long 으로 승격되어 항상 Long 이 되므로 분기
+            if (integral == (int) integral) {
+                return (int) integral;
+            }
+            return integral;
+        }
+        return number;
+    }
+
+    private static Value toValue(Object value) {
+        if (value == null) {
+            return Value.newBuilder().setNullValue(NullValue.NULL_VALUE).build();
+        }
+        if (value instanceof Boolean bool) {
+            return Value.newBuilder().setBoolValue(bool).build();
+        }
+        if (value instanceof Number number) {
+            return Value.newBuilder().setNumberValue(number.doubleValue()).build();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return Value.newBuilder().setStructValue(toStruct(map)).build();
+        }
+        if (value instanceof Iterable<?> iterable) {
+            ListValue.Builder list = ListValue.newBuilder();
+            iterable.forEach(element -> list.addValues(toValue(element)));
+            return Value.newBuilder().setListValue(list).build();
+        }
+        if (value instanceof Object[] array) {
+            return toValue(Arrays.asList(array));
+        }
+        return Value.newBuilder().setStringValue(String.valueOf(value)).build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.boxwood.form.engine.form.grpc;
+
+import com.boxwood.form.engine.form.grpc.proto.AnalyzeRequest;
+import com.boxwood.form.engine.form.grpc.proto.BatchRenderRequest;
+import com.boxwood.form.engine.form.grpc.proto.RenderRequest;
+import com.boxwood.form.engine.form.grpc.proto.RenderResult;
+import com.boxwood.form.engine.form.grpc.proto.TemplateAnalysis;
+import com.boxwood.form.engine.form.grpc.proto.TemplateEngineServiceGrpc;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 템플릿 분석/렌더링 gRPC 서비스 - REST 컨트롤러와 같은 TemplateAnalysisService 사용
+ * - BatchRender 는 클라이언트가 받을 준비가 됐을 때(isReady)만 다음 요청을 렌더링하므로
+ *   큰 배치도 결과를 서버 메모리에 쌓지 않음 (느린 클라이언트는 onReady 로 재개)
+ */
+@Slf4j
+@Component
+public class TemplateEngineGrpcService extends TemplateEngineServiceGrpc.TemplateEngineServiceImplBase {
+    private final TemplateAnalysisService templateService;
+
+    @Value("${form.grpc.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    public TemplateEngineGrpcService(TemplateAnalysisService templateService) {
+        this.templateService = templateService;
+    }
+
+    @Override
+    public void analyze(AnalyzeRequest request, StreamObserver<TemplateAnalysis> responseObserver) {
+        if (request.getTemplateName().isBlank()) {
+            responseObserver.onError(Status.INVALID_ARGUMENT.withDescription("template_name is required").asRuntimeException());
+            return;
+        }
+        try {
+            responseObserver.onNext(GrpcMessageMapper.toProto(templateService.analyzeTemplate(request.getTemplateName())));
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            log.error("gRPC analyze failed for template: {}", request.getTemplateName(), e);
+            responseObserver.onError(Status.INTERNAL.withDescription("Analysis failed: " + e.getMessage()).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void render(RenderRequest request, StreamObserver<RenderResult> responseObserver) {
+        responseObserver.onNext(render(request, 0));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchRender(BatchRenderRequest request, StreamObserver<RenderResult> responseObserver) {
+        List<RenderRequest> requests = request.getRequestsList();
+        if (requests.size() > maxBatchSize) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("Batch size " + requests.size() + " exceeds limit " + maxBatchSize)
+                    .asRuntimeException());
+            return;
+        }
+
+        ServerCallStreamObserver<RenderResult> observer = (ServerCallStreamObserver<RenderResult>) responseObserver;
+        BatchProgress progress = new BatchProgress(requests, observer);
+        observer.setOnCancelHandler(() -> log.debug("BatchRender cancelled after {}/{} results", progress.next, requests.size()));
+        observer.setOnReadyHandler(progress::drain);
+        progress.drain();
+    }
+
+    /**
+     * 렌더링 실패도 예외가 아닌 결과 메시지로 반환 (배치 중 한 건 실패로 스트림 전체가 끊기지 않도록)
+     */
+    private RenderResult render(RenderRequest request, int index) {
+        TemplateRenderResponseDto result;
+        try {
+            result = templateService.renderTemplate(GrpcMessageMapper.toDto(request));
+        } catch (Exception e) {
+            log.error("gRPC render failed for template: {}", request.getTemplateName(), e);
+            result = TemplateRenderResponseDto.builder()
+                    .templateName(request.getTemplateName())
+                    .success(false)
+                    .errors(List.of("Render failed: " + e.getMessage()))
+                    .build();
+        }
+        return GrpcMessageMapper.toProto(result, index);
+    }
+
+    /**
+     * 배치 진행 상태 - 전송 버퍼가 찰 때까지만 렌더링하고 멈춤
+     */
+    private class BatchProgress {
+        private final List<RenderRequest> requests;
+        private final ServerCallStreamObserver<RenderResult> observer;
+        private int next;
+        private boolean completed;
+
+        private BatchProgress(List<RenderRequest> requests, ServerCallStreamObserver<RenderResult> observer) {
+            this.requests = requests;
+            this.observer = observer;
+        }
+
+        private synchronized void drain() {
+            while (!completed && !observer.isCancelled() && observer.isReady() && next < requests.size()) {
+                observer.onNext(render(requests.get(next), next));
+                next++;
+            }
+            if (!completed && !observer.isCancelled() && next == requests.size()) {
+                completed = true;
+                observer.onCompleted();
+            }
+        }
+    }
+}
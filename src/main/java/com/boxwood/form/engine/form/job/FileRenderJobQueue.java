@@ -0,0 +1,251 @@
+package com.boxwood.form.engine.form.job;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 파일 작업 큐 - 외부 브로커 대신 쓰는 내장 큐 (재시작 후에도 대기/처리 중 작업 유지)
+ * - 작업마다 pending/{순번}-{ID}.json 파일, 처리 완료 시 삭제 (최소 한 번 처리 - 처리 중 종료되면 재시작 후 다시 실행)
+ * - dead-letter 는 dead/ 로 이동
+ * - 용량은 pending 파일이 있는 작업(files) 기준 - acknowledge / deadLetter 는 파일을 지운 경우에만 반환
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "form.render.jobs.queue", havingValue = "file")
+public class FileRenderJobQueue implements RenderJobQueue {
+    private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9-]+");
+
+    private final ObjectMapper objectMapper;
+    private final LinkedBlockingDeque<RenderJob> pending = new LinkedBlockingDeque<>();
+    private final Map<String, Path> files = new ConcurrentHashMap<>();
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Value("${form.render.jobs.file.directory:./.form-engine/render-jobs}")
+    private String directory;
+
+    @Value("${form.render.jobs.queue-capacity:10000}")
+    private int capacity;
+
+    @Value("${form.render.jobs.max-dead-letters:1000}")
+    private int maxDeadLetters;
+
+    private Path pendingDirectory;
+    private Path deadDirectory;
+
+    public FileRenderJobQueue(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        pendingDirectory = Files.createDirectories(Paths.get(directory, "pending"));
+        deadDirectory = Files.createDirectories(Paths.get(directory, "dead"));
+        sequence.set(System.currentTimeMillis() * 1000);
+
+        // 파일명 순번 순서로 복구 (이전 실행에서 처리 중이던 작업 포함)
+        try (Stream<Path> stream = Files.list(pendingDirectory)) {
+            for (Path path : stream.sorted().toList()) {
+                try {
+                    RenderJob job = objectMapper.readValue(path.toFile(), RenderJob.class);
+                    files.put(job.getId(), path);
+                    pending.addLast(job);
+                    admitted.incrementAndGet();
+                } catch (IOException e) {
+                    log.warn("Discarding unreadable render job file {}: {}", path, e.getMessage());
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        log.info("File render job queue loaded: {} pending jobs from {}", pending.size(), pendingDirectory);
+    }
+
+    @Override
+    public boolean offer(RenderJob job) {
+        if (!admit(job)) {
+            return false;
+        }
+        pending.addLast(job);
+        return true;
+    }
+
+    @Override
+    public RenderJob poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return pending.pollFirst(timeout, unit);
+    }
+
+    @Override
+    public void acknowledge(RenderJob job) {
+        release(job);
+    }
+
+    @Override
+    public boolean retry(RenderJob job) {
+        // 증가한 시도 횟수를 파일에 반영한 뒤 다시 대기열 앞으로 (파일이 없으면 신규 접수와 같이 용량 확인)
+        Path path = files.get(job.getId());
+        if (path == null) {
+            if (!admit(job)) {
+                return false;
+            }
+        } else {
+            write(path, job);
+        }
+        pending.addFirst(job);
+        return true;
+    }
+
+    @Override
+    public void deadLetter(RenderJob job) {
+        release(job);
+        restoreDeadLetter(job);
+    }
+
+    @Override
+    public synchronized void restoreDeadLetter(RenderJob job) {
+        write(deadDirectory.resolve(job.getId() + ".json"), job);
+
+        List<Path> deadFiles = listDeadFiles();
+        for (int i = 0; i < deadFiles.size() - maxDeadLetters; i++) {
+            delete(deadFiles.get(i));
+        }
+    }
+
+    @Override
+    public synchronized List<RenderJob> getDeadLetters() {
+        List<RenderJob> jobs = new ArrayList<>();
+        for (Path path : listDeadFiles()) {
+            try {
+                jobs.add(objectMapper.readValue(path.toFile(), RenderJob.class));
+            } catch (IOException e) {
+                log.warn("Failed to read dead-lettered job {}: {}", path, e.getMessage());
+            }
+        }
+        return jobs;
+    }
+
+    @Override
+    public synchronized RenderJob removeDeadLetter(String jobId) {
+        if (!JOB_ID.matcher(jobId).matches()) {
+            return null;
+        }
+        Path path = deadDirectory.resolve(jobId + ".json");
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try {
+            RenderJob job = objectMapper.readValue(path.toFile(), RenderJob.class);
+            delete(path);
+            return job;
+        } catch (IOException e) {
+            log.warn("Failed to read dead-lettered job {}: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public int size() {
+        return admitted.get();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public String getType() {
+        return "file";
+    }
+
+    /**
+     * 용량을 확보하고 pending 파일 생성 (용량이 차 있으면 false)
+     */
+    private boolean admit(RenderJob job) {
+        if (admitted.incrementAndGet() > capacity) {
+            admitted.decrementAndGet();
+            return false;
+        }
+        Path path = pendingDirectory.resolve(String.format("%020d-%s.json", sequence.incrementAndGet(), job.getId()));
+        try {
+            write(path, job);
+        } catch (UncheckedIOException e) {
+            admitted.decrementAndGet();
+            throw e;
+        }
+        files.put(job.getId(), path);
+        return true;
+    }
+
+    private void release(RenderJob job) {
+        Path path = files.remove(job.getId());
+        if (path != null) {
+            delete(path);
+            admitted.decrementAndGet();
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이동 (중간에 종료돼도 반쯤 쓰인 작업 파일이 남지 않도록)
+     */
+    private void write(Path path, RenderJob job) {
+        try {
+            Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(temp.toFile(), job);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write render job " + job.getId(), e);
+        }
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete render job file {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * dead-letter 파일 (오래된 순)
+     */
+    private List<Path> listDeadFiles() {
+        try (Stream<Path> stream = Files.list(deadDirectory)) {
+            return stream.filter(path -> path.toString().endsWith(".json"))
+                    .sorted(Comparator.comparingLong(FileRenderJobQueue::lastModified))
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Failed to list dead-lettered jobs: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
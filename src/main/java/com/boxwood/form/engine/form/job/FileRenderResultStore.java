@@ -0,0 +1,140 @@
+package com.boxwood.form.engine.form.job;
+
+import com.boxwood.form.engine.form.model.RenderJobDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 파일 결과 저장소 - results/{ID}.json (상태) + results/{ID}.html
+ * - 최근 max-results 개만 유지 (오래된 결과부터 삭제)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "form.render.jobs.result-store", havingValue = "file")
+public class FileRenderResultStore implements RenderResultStore {
+    private static final Pattern JOB_ID = Pattern.compile("[A-Za-z0-9-]+");
+
+    private final ObjectMapper objectMapper;
+    // 저장 순서 (삭제 대상 선정용)
+    private final Set<String> jobIds = new LinkedHashSet<>();
+
+    @Value("${form.render.jobs.file.directory:./.form-engine/render-jobs}")
+    private String directory;
+
+    @Value("${form.render.jobs.max-results:10000}")
+    private int maxResults;
+
+    private Path resultDirectory;
+
+    public FileRenderResultStore(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void load() throws IOException {
+        resultDirectory = Files.createDirectories(Paths.get(directory, "results"));
+        try (Stream<Path> stream = Files.list(resultDirectory)) {
+            stream.filter(path -> path.toString().endsWith(".json"))
+                    .sorted(Comparator.comparingLong(FileRenderResultStore::lastModified))
+                    .forEach(path -> jobIds.add(path.getFileName().toString().replace(".json", "")));
+        }
+        log.info("File render result store loaded: {} results from {}", jobIds.size(), resultDirectory);
+    }
+
+    @Override
+    public void save(RenderJobDto status, String html) {
+        String jobId = status.getJobId();
+        try {
+            if (html != null) {
+                Files.writeString(resultDirectory.resolve(jobId + ".html"), html, StandardCharsets.UTF_8);
+            }
+            objectMapper.writeValue(resultDirectory.resolve(jobId + ".json").toFile(), status);
+        } catch (IOException e) {
+            log.error("Failed to store render result {}: {}", jobId, e.getMessage());
+            return;
+        }
+
+        synchronized (jobIds) {
+            jobIds.add(jobId);
+            Iterator<String> eldest = jobIds.iterator();
+            while (jobIds.size() > maxResults && eldest.hasNext()) {
+                String evicted = eldest.next();
+                eldest.remove();
+                delete(resultDirectory.resolve(evicted + ".json"));
+                delete(resultDirectory.resolve(evicted + ".html"));
+            }
+        }
+    }
+
+    @Override
+    public RenderJobDto getStatus(String jobId) {
+        if (!JOB_ID.matcher(jobId).matches()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(resultDirectory.resolve(jobId + ".json").toFile(), RenderJobDto.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String getHtml(String jobId) {
+        if (!JOB_ID.matcher(jobId).matches()) {
+            return null;
+        }
+        try {
+            return Files.readString(resultDirectory.resolve(jobId + ".html"), StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.warn("Failed to read render result {}: {}", jobId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (jobIds) {
+            return jobIds.size();
+        }
+    }
+
+    @Override
+    public String getType() {
+        return "file";
+    }
+
+    private static void delete(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete render result file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.boxwood.form.engine.form.job;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메모리 작업 큐 (기본값) - 재시작하면 대기 작업은 사라짐
+ * - 신규 작업만 용량 제한, 재시도 작업은 용량과 무관하게 앞에 넣어 먼저 처리
+ * - 접수된 작업 ID 를 함께 기록해 acknowledge / deadLetter 가 같은 작업의 용량을 두 번 반환하지 않도록 함
+ */
+@Component
+@ConditionalOnProperty(name = "form.render.jobs.queue", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRenderJobQueue implements RenderJobQueue {
+    private final LinkedBlockingDeque<RenderJob> pending = new LinkedBlockingDeque<>();
+    private final Map<String, RenderJob> deadLetters = new LinkedHashMap<>();
+    // 접수 후 끝나지 않은 작업 수 (용량 판단용) 와 그 ID
+    private final AtomicInteger admitted = new AtomicInteger();
+    private final Set<String> admittedIds = ConcurrentHashMap.newKeySet();
+
+    @Value("${form.render.jobs.queue-capacity:10000}")
+    private int capacity;
+
+    @Value("${form.render.jobs.max-dead-letters:1000}")
+    private int maxDeadLetters;
+
+    @Override
+    public boolean offer(RenderJob job) {
+        if (!admit(job)) {
+            return false;
+        }
+        pending.addLast(job);
+        return true;
+    }
+
+    @Override
+    public RenderJob poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return pending.pollFirst(timeout, unit);
+    }
+
+    @Override
+    public void acknowledge(RenderJob job) {
+        release(job);
+    }
+
+    @Override
+    public boolean retry(RenderJob job) {
+        if (!admittedIds.contains(job.getId()) && !admit(job)) {
+            return false;
+        }
+        pending.addFirst(job);
+        return true;
+    }
+
+    @Override
+    public void deadLetter(RenderJob job) {
+        release(job);
+        restoreDeadLetter(job);
+    }
+
+    @Override
+    public synchronized void restoreDeadLetter(RenderJob job) {
+        deadLetters.put(job.getId(), job);
+        Iterator<String> eldest = deadLetters.keySet().iterator();
+        while (deadLetters.size() > maxDeadLetters && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    @Override
+    public synchronized List<RenderJob> getDeadLetters() {
+        return new ArrayList<>(deadLetters.values());
+    }
+
+    @Override
+    public synchronized RenderJob removeDeadLetter(String jobId) {
+        return deadLetters.remove(jobId);
+    }
+
+    @Override
+    public int size() {
+        return admitted.get();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public String getType() {
+        return "memory";
+    }
+
+    private boolean admit(RenderJob job) {
+        if (admitted.incrementAndGet() > capacity) {
+            admitted.decrementAndGet();
+            return false;
+        }
+        admittedIds.add(job.getId());
+        return true;
+    }
+
+    private void release(RenderJob job) {
+        if (admittedIds.remove(job.getId())) {
+            admitted.decrementAndGet();
+        }
+    }
+}
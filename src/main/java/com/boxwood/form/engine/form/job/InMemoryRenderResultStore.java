@@ -0,0 +1,62 @@
+package com.boxwood.form.engine.form.job;
+
+import com.boxwood.form.engine.form.model.RenderJobDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메모리 결과 저장소 (기본값) - 최근 max-results 개만 유지
+ */
+@Component
+@ConditionalOnProperty(name = "form.render.jobs.result-store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRenderResultStore implements RenderResultStore {
+    @Value("${form.render.jobs.max-results:10000}")
+    private int maxResults;
+
+    private final Map<String, StoredResult> results = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, StoredResult> eldest) {
+            return size() > maxResults;
+        }
+    };
+
+    @Override
+    public synchronized void save(RenderJobDto status, String html) {
+        results.put(status.getJobId(), new StoredResult(status, html));
+    }
+
+    @Override
+    public synchronized RenderJobDto getStatus(String jobId) {
+        StoredResult result = results.get(jobId);
+        return result != null ? result.getStatus() : null;
+    }
+
+    @Override
+    public synchronized String getHtml(String jobId) {
+        StoredResult result = results.get(jobId);
+        return result != null ? result.getHtml() : null;
+    }
+
+    @Override
+    public synchronized int size() {
+        return results.size();
+    }
+
+    @Override
+    public String getType() {
+        return "memory";
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class StoredResult {
+        private final RenderJobDto status;
+        private final String html;
+    }
+}
@@ -0,0 +1,22 @@
+package com.boxwood.form.engine.form.job;
+
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 큐에 들어가는 렌더링 작업 (파일 큐에서는 JSON 으로 저장)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderJob {
+    private String id;
+    private TemplateRenderRequestDto request;
+    private int attempts;
+    private long submittedAt;
+    private String lastError;
+}
@@ -0,0 +1,58 @@
+package com.boxwood.form.engine.form.job;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 렌더링 작업 큐 (form.render.jobs.queue 로 구현 선택: memory, file)
+ * - poll 로 꺼낸 작업은 acknowledge / retry / deadLetter 중 하나로 끝냄
+ */
+public interface RenderJobQueue {
+    /**
+     * 작업 추가 (용량이 차 있으면 false - 호출자에게 배압 신호)
+     */
+    boolean offer(RenderJob job);
+
+    /**
+     * 다음 작업 (timeout 동안 없으면 null)
+     */
+    RenderJob poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * 처리 완료된 작업 제거
+     */
+    void acknowledge(RenderJob job);
+
+    /**
+     * 재시도할 작업을 다시 앞에 넣음
+     * - 접수된 채 끝나지 않은 작업은 이미 용량에 포함되어 있으므로 제한 없이 넣음
+     * - 접수 기록이 없는 작업은 offer 와 같이 용량 확인 (차 있으면 false)
+     */
+    boolean retry(RenderJob job);
+
+    /**
+     * 재시도를 모두 소진한 작업을 dead-letter 로 이동 (접수된 작업이면 용량 반환)
+     */
+    void deadLetter(RenderJob job);
+
+    /**
+     * removeDeadLetter 로 꺼냈다가 다시 넣지 못한 작업을 dead-letter 로 되돌림 (용량과 무관)
+     */
+    void restoreDeadLetter(RenderJob job);
+
+    List<RenderJob> getDeadLetters();
+
+    /**
+     * dead-letter 에서 제거해 반환 (없으면 null)
+     */
+    RenderJob removeDeadLetter(String jobId);
+
+    /**
+     * 접수 후 끝나지 않은 작업 수 (대기 + 처리 중 + 재시도 대기)
+     */
+    int size();
+
+    int capacity();
+
+    String getType();
+}
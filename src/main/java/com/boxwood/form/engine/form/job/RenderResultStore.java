@@ -0,0 +1,24 @@
+package com.boxwood.form.engine.form.job;
+
+import com.boxwood.form.engine.form.model.RenderJobDto;
+
+/**
+ * 끝난 렌더링 작업의 상태와 HTML 저장소 (form.render.jobs.result-store 로 구현 선택: memory, file)
+ */
+public interface RenderResultStore {
+    void save(RenderJobDto status, String html);
+
+    /**
+     * 작업 상태 (없으면 null)
+     */
+    RenderJobDto getStatus(String jobId);
+
+    /**
+     * 렌더링된 HTML (없거나 실패한 작업이면 null)
+     */
+    String getHtml(String jobId);
+
+    int size();
+
+    String getType();
+}
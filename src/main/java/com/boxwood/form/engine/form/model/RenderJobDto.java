@@ -0,0 +1,35 @@
+package com.boxwood.form.engine.form.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 비동기 렌더링 작업 상태 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderJobDto {
+    private String jobId;
+    private String templateName;
+    private Status status;
+    // 실행 횟수 (재시도 포함)
+    private int attempts;
+    private long submittedAt;
+    private Long startedAt;
+    private Long completedAt;
+    // 제출부터 마지막 실행 시작까지 대기 시간
+    private Long queueWaitMs;
+    private Long renderTimeMs;
+    private List<String> errors;
+    private List<String> validationErrors;
+
+    public enum Status {
+        QUEUED, RUNNING, RETRY_SCHEDULED, SUCCEEDED, FAILED, DEAD_LETTERED
+    }
+}
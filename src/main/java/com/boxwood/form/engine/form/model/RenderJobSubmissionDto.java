@@ -0,0 +1,27 @@
+package com.boxwood.form.engine.form.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 렌더링 작업 제출 결과 DTO
+ * - 큐가 차면 앞에서부터 받을 수 있는 만큼만 접수하고, 나머지는 rejected 로 돌려줌 (retryAfterSeconds 후 재제출)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderJobSubmissionDto {
+    // 접수된 작업 ID (요청 순서, 앞에서부터 accepted 개)
+    private List<String> jobIds;
+    private int accepted;
+    private int rejected;
+    private int queueDepth;
+    private int queueCapacity;
+    // 거부가 있을 때 재제출 권장 대기 시간
+    private Integer retryAfterSeconds;
+}
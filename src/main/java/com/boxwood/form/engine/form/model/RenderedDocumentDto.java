@@ -0,0 +1,31 @@
+package com.boxwood.form.engine.form.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 저장된 렌더링 문서 DTO
+ * - documentId 는 HTML 내용의 SHA-256 (같은 출력이면 요청이 달라도 같은 ID)
+ * - reused=true 이면 (템플릿 버전, 모델 해시) 인덱스로 찾아 다시 렌더링하지 않음
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RenderedDocumentDto {
+    private String documentId;
+    private String templateName;
+    private String templateVersion;
+    private String modelHash;
+    private long sizeBytes;
+    private boolean reused;
+    private boolean success;
+    private List<String> errors;
+    private List<String> validationErrors;
+    private long renderTimeMs;
+    private String downloadUrl;
+}
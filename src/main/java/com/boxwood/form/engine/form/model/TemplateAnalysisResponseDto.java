@@ -1,5 +1,6 @@
 package com.boxwood.form.engine.form.model;
 
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,6 +25,7 @@ public class TemplateAnalysisResponseDto {
     private Set<String> globalVariables;
     private Set<String> loopVariables;
     private Map<String, TemplateVariableDto> referencedVariables;
+    private Map<String, FreeMarkerVariableExtractor.VariableType> inferredTypes;
     private Map<String, List<String>> macros;
     private Map<String, List<String>> functions;
     private Set<String> macroCalls;
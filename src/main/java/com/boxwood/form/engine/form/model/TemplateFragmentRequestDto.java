@@ -0,0 +1,27 @@
+package com.boxwood.form.engine.form.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+
+/**
+ * 부분 렌더링 요청 DTO
+ * - macroName 또는 regionName 중 하나를 지정
+ * - arguments: 매크로 인자 (이름 -> 값)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TemplateFragmentRequestDto {
+    private String templateName;
+    private String macroName;
+    private String regionName;
+    private Map<String, Object> arguments;
+    private Map<String, Object> variables;
+    private boolean includeDebugInfo;
+}
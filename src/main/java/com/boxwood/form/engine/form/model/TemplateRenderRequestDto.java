@@ -19,4 +19,6 @@ public class TemplateRenderRequestDto {
     private String templateName;
     private Map<String, Object> variables;
     private boolean includeDebugInfo;
+    // 증분 렌더링 문서 식별자 (같은 문서의 이전 렌더링 결과를 재사용)
+    private String documentId;
 }
@@ -1,5 +1,6 @@
 package com.boxwood.form.engine.form.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,12 @@ public class TemplateRenderResponseDto {
     private String renderedHtml;
     private boolean success;
     private List<String> errors;
+    private List<String> validationErrors;
     private Map<String, Object> debugInfo;
     private long renderTimeMs;
+    // 증분 렌더링: 전체 섹션 수 / 이전 결과를 재사용한 섹션 수 (증분 렌더링이 아니면 응답에서 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer sectionCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer reusedSectionCount;
 }
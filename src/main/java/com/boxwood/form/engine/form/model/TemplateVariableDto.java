@@ -18,6 +18,7 @@ import java.util.Set;
 public class TemplateVariableDto {
     private String name;
     private Set<FreeMarkerVariableExtractor.ExpressionType> usageTypes;
+    private FreeMarkerVariableExtractor.VariableType inferredType;
     private boolean isRequired;
     private boolean isFormRelated;
     private String description;
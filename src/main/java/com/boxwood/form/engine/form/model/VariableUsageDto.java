@@ -0,0 +1,22 @@
+package com.boxwood.form.engine.form.model;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 변수 경로별 사용 템플릿 정보 DTO (역색인 조회 결과)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariableUsageDto {
+    private String path;
+    private String templateName;
+    private Set<FreeMarkerVariableExtractor.ExpressionType> usageTypes;
+}
@@ -0,0 +1,46 @@
+package com.boxwood.form.engine.form.service;
+
+import com.boxwood.form.engine.form.model.RenderJobDto;
+import com.boxwood.form.engine.form.model.RenderJobSubmissionDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비동기 렌더링 작업 서비스 인터페이스 (큐 + 워커 풀 + 재시도/dead-letter)
+ */
+public interface RenderJobService {
+    /**
+     * 렌더링 작업 제출 - 큐 용량만큼 앞에서부터 접수
+     *
+     * @param requests 렌더링 요청 목록
+     * @return 접수된 작업 ID 와 거부 건수, 큐 상태 (거부가 있으면 재제출 대기 시간 포함)
+     */
+    RenderJobSubmissionDto submit(List<TemplateRenderRequestDto> requests);
+
+    /**
+     * 작업 상태 (없으면 null)
+     */
+    RenderJobDto getJob(String jobId);
+
+    /**
+     * 성공한 작업의 HTML (없으면 null)
+     */
+    String getResultHtml(String jobId);
+
+    List<RenderJobDto> getDeadLetters();
+
+    /**
+     * dead-letter 작업을 시도 횟수를 초기화해 다시 큐에 넣음 (큐가 차면 중단)
+     *
+     * @param jobIds 대상 작업 ID (null 이면 전체)
+     * @return 다시 넣은 작업 수
+     */
+    int replayDeadLetters(List<String> jobIds);
+
+    /**
+     * 큐 깊이, 처리량, 대기/렌더링 지연 백분위, 재시도/dead-letter 건수
+     */
+    Map<String, Object> getStatistics();
+}
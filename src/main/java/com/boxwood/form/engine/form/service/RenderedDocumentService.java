@@ -0,0 +1,30 @@
+package com.boxwood.form.engine.form.service;
+
+import com.boxwood.form.engine.form.model.RenderedDocumentDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 렌더링 문서 저장/다운로드 서비스 인터페이스
+ */
+public interface RenderedDocumentService {
+    /**
+     * 같은 템플릿 버전과 모델로 저장된 문서가 있으면 그대로, 없으면 렌더링해 저장
+     *
+     * @param request 렌더링 요청 정보
+     * @return 문서 ID 와 다운로드 경로 (렌더링 실패 시 success=false 와 오류)
+     */
+    RenderedDocumentDto storeDocument(TemplateRenderRequestDto request);
+
+    /**
+     * 저장된 문서 파일 경로 (없으면 null)
+     */
+    Path getDocument(String documentId);
+
+    /**
+     * 저장소 크기, 인덱스 적중/미스, GC 통계
+     */
+    Map<String, Object> getStatistics();
+}
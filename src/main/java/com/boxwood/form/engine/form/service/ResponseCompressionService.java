@@ -0,0 +1,43 @@
+package com.boxwood.form.engine.form.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * 렌더링 응답 압축 서비스 인터페이스 (gzip/deflate 협상, 스트리밍 압축, 캐시 응답 사전 압축)
+ */
+public interface ResponseCompressionService {
+    /**
+     * Accept-Encoding 과 본문 크기로 사용할 인코딩 결정
+     *
+     * @param acceptEncoding 요청의 Accept-Encoding 헤더 (없으면 null)
+     * @param content        본문 (임계값은 UTF-8 바이트 수와 비교)
+     * @return "gzip" / "deflate", 압축하지 않으면 null
+     */
+    String negotiate(String acceptEncoding, CharSequence content);
+
+    /**
+     * 본문을 압축하면서 바로 출력 (동적 렌더링 응답용)
+     *
+     * @param content  본문
+     * @param encoding negotiate 결과
+     * @param out      응답 스트림 (닫지 않음)
+     */
+    void compressTo(String content, String encoding, OutputStream out) throws IOException;
+
+    /**
+     * 캐시된 본문의 사전 압축 바이트 (본문 인스턴스가 바뀔 때만 다시 압축)
+     *
+     * @param cacheKey 캐시 키 (예: preview-html:invoice.ftl)
+     * @param content  캐시된 본문
+     * @param encoding negotiate 결과
+     * @return 압축된 바이트
+     */
+    byte[] precompressed(String cacheKey, String content, String encoding);
+
+    /**
+     * 인코딩별 압축률/압축 시간과 사전 압축 캐시 적중 통계
+     */
+    Map<String, Object> getStatistics();
+}
@@ -6,6 +6,8 @@ import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
 import com.boxwood.form.engine.form.model.TemplateVariableMapDto;
 import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 
 /**
@@ -28,6 +30,15 @@ public interface TemplateAnalysisService {
      */
     TemplateRenderResponseDto renderTemplate(TemplateRenderRequestDto request);
 
+    /**
+     * JSON 요청 본문을 읽으면서 템플릿이 읽지 않는 변수를 가지치기한 뒤 렌더링
+     *
+     * @param requestBody 렌더링 요청 JSON (TemplateRenderRequestDto 형식)
+     * @return 렌더링된 HTML과 결과 정보 (debugInfo 에 입력/유지 바이트 포함)
+     * @throws IOException 요청 본문이 올바른 JSON 이 아닌 경우
+     */
+    TemplateRenderResponseDto renderPrunedTemplate(InputStream requestBody) throws IOException;
+
     /**
      * 템플릿을 기본 변수값으로 HTML 렌더링 (미리보기용)
      *
@@ -36,6 +47,14 @@ public interface TemplateAnalysisService {
      */
     TemplateRenderResponseDto renderTemplatePreview(String templateName);
 
+    /**
+     * 미리보기에 쓰는 기본값 모델 (템플릿 버전별 스냅샷, 읽기 전용)
+     *
+     * @param templateName 템플릿 파일명
+     * @return 변수명 -> 기본값
+     */
+    Map<String, Object> getPreviewModel(String templateName) throws IOException;
+
     /**
      * 템플릿의 변수들을 Map 형태로 반환
      *
@@ -75,4 +94,18 @@ public interface TemplateAnalysisService {
      * @return 분석 결과 원본 객체
      */
     FreeMarkerVariableExtractor.TemplateVariableAnalysis analyzeTemplateRaw(String templateName);
-}
\ No newline at end of file
+
+    /**
+     * 렌더링 단계별 소요 시간 히스토그램 (lookup/parse/validate/wrap/process/output/total, 컴파일 캐시 적중/미스)
+     *
+     * @return 단계별 건수, 평균/백분위/최대 (µs)
+     */
+    Map<String, Object> getRenderTimingStatistics();
+
+    /**
+     * 템플릿별 요청 스레드 할당 바이트 / CPU 시간 집계 (render, analysis)
+     *
+     * @return 측정 지원 여부와 작업별 템플릿 목록 (평균 할당 바이트가 큰 순)
+     */
+    Map<String, Object> getResourceUsageStatistics();
+}
@@ -0,0 +1,14 @@
+package com.boxwood.form.engine.form.service;
+
+/**
+ * 템플릿에서 분리한 정적 자산 조회 서비스 인터페이스
+ */
+public interface TemplateAssetService {
+    /**
+     * 내용 해시로 스타일시트 조회
+     *
+     * @param assetId 자산 ID (CSS 내용 해시)
+     * @return CSS 바이트, 없으면 null
+     */
+    byte[] getStyleAsset(String assetId);
+}
@@ -0,0 +1,34 @@
+package com.boxwood.form.engine.form.service;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * 분석/미리보기 응답의 조건부 GET 지원 서비스 인터페이스
+ */
+public interface TemplateETagService {
+    /**
+     * 템플릿 버전(include/import 포함 내용 해시)과 응답 옵션으로 ETag 생성
+     * - 렌더링 결과(preview-*)가 .now 에 따라 달라지는 템플릿은 weak ETag (W/"..."), 그 외는 strong
+     *
+     * @param resource     응답 종류 (예: analyze, preview-html)
+     * @param templateName 템플릿 파일명
+     * @param options      응답에 영향을 주는 쿼리 옵션
+     * @return 따옴표로 감싼 ETag, 템플릿 버전을 구할 수 없으면 null
+     */
+    String getETag(String resource, String templateName, Object... options);
+
+    /**
+     * If-None-Match 헤더가 ETag 와 일치하는지 확인 (인코딩별 변형 ETag 도 같은 내용으로 취급)
+     */
+    boolean matches(String ifNoneMatch, String etag);
+
+    /**
+     * 표현(압축 인코딩, 응답 형식)별 변형 ETag (예: "abc" -> "abc-gzip", "abc-cbor")
+     */
+    String forVariant(String etag, String variant);
+
+    /**
+     * ETag 가 붙는 응답의 Cache-Control
+     */
+    CacheControl getCacheControl();
+}
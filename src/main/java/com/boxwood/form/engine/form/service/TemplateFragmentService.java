@@ -0,0 +1,27 @@
+package com.boxwood.form.engine.form.service;
+
+import com.boxwood.form.engine.form.model.TemplateFragmentRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+
+import java.util.Map;
+
+/**
+ * 매크로/표시 영역 단위 부분 렌더링 서비스 인터페이스
+ */
+public interface TemplateFragmentService {
+    /**
+     * 템플릿의 매크로 하나 또는 표시된 영역 하나만 렌더링
+     *
+     * @param request 부분 렌더링 요청 정보
+     * @return 조각 HTML과 결과 정보
+     */
+    TemplateRenderResponseDto renderFragment(TemplateFragmentRequestDto request);
+
+    /**
+     * 부분 렌더링 가능한 매크로와 영역 목록
+     *
+     * @param templateName 템플릿 파일명
+     * @return macros(이름 -> 매개변수), regions(영역 이름 목록)
+     */
+    Map<String, Object> listFragments(String templateName);
+}
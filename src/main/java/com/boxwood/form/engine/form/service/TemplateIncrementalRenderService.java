@@ -0,0 +1,17 @@
+package com.boxwood.form.engine.form.service;
+
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+
+/**
+ * 문서 단위 증분 렌더링 서비스 인터페이스
+ */
+public interface TemplateIncrementalRenderService {
+    /**
+     * 같은 documentId 의 이전 렌더링 결과를 기준으로, 바뀐 모델 경로를 읽은 섹션만 다시 실행
+     *
+     * @param request 렌더링 요청 정보 (documentId 필수)
+     * @return 렌더링된 HTML과 재사용한 섹션 수
+     */
+    TemplateRenderResponseDto renderIncremental(TemplateRenderRequestDto request);
+}
@@ -0,0 +1,17 @@
+package com.boxwood.form.engine.form.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 템플릿 정적 텍스트 축소 효과 측정 서비스 인터페이스
+ */
+public interface TemplateMinificationService {
+    /**
+     * 원본/축소 소스를 각각 컴파일해 미리보기 모델로 렌더링한 출력 크기와 렌더링 시간 비교
+     *
+     * @param templateName 템플릿 파일명 (null 이면 전체 템플릿)
+     * @return 템플릿별 측정 결과
+     */
+    List<Map<String, Object>> getMinificationReport(String templateName);
+}
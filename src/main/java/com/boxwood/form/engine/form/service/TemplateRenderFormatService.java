@@ -0,0 +1,26 @@
+package com.boxwood.form.engine.form.service;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 응답 형식 비교 서비스 인터페이스 (JSON 래핑 vs HTML 본문 + 헤더, JSON vs CBOR/Smile)
+ */
+public interface TemplateRenderFormatService {
+    /**
+     * 미리보기 렌더링 결과로 두 형식의 직렬화/역직렬화 시간과 전송 바이트 비교
+     *
+     * @param templateName 템플릿 파일명 (null 이면 전체 템플릿)
+     * @param repeat       큰 문서를 흉내내기 위해 렌더링 결과를 반복할 횟수
+     * @return 템플릿별 측정 결과
+     */
+    List<Map<String, Object>> getRenderFormatReport(String templateName, int repeat);
+
+    /**
+     * 분석/변수 맵/렌더링 DTO 를 JSON, CBOR, Smile 로 인코딩/디코딩한 크기와 시간 비교
+     *
+     * @param templateName 템플릿 파일명 (null 이면 전체 템플릿)
+     * @return 템플릿별, DTO 별, 형식별 측정 결과
+     */
+    List<Map<String, Object>> getEncodingReport(String templateName);
+}
@@ -0,0 +1,54 @@
+package com.boxwood.form.engine.form.service;
+
+import com.boxwood.form.engine.form.model.VariableUsageDto;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+
+import java.util.List;
+
+/**
+ * 변수 경로 -> 템플릿 역색인 서비스 인터페이스
+ */
+public interface TemplateVariableIndexService {
+    /**
+     * 경로와 정확히 일치하는 변수를 사용하는 템플릿 조회
+     *
+     * @param path 변수 경로 (예: client.businessNumber)
+     * @return 사용 정보 목록
+     */
+    List<VariableUsageDto> findByPath(String path);
+
+    /**
+     * 경로 접두사로 시작하는 변수를 사용하는 템플릿 조회
+     *
+     * @param prefix 경로 접두사 (예: client.)
+     * @return 사용 정보 목록
+     */
+    List<VariableUsageDto> findByPrefix(String prefix);
+
+    /**
+     * 와일드카드 패턴(*, ?)과 일치하는 변수를 사용하는 템플릿 조회
+     *
+     * @param pattern 경로 패턴 (예: *.businessNumber)
+     * @return 사용 정보 목록
+     */
+    List<VariableUsageDto> findByPattern(String pattern);
+
+    /**
+     * 분석 결과로 해당 템플릿의 색인 갱신 (버전이 같으면 무시)
+     *
+     * @param analysis 템플릿 분석 결과
+     */
+    void update(FreeMarkerVariableExtractor.TemplateVariableAnalysis analysis);
+
+    /**
+     * 템플릿을 색인에서 제거
+     *
+     * @param templateName 템플릿 파일명
+     */
+    void remove(String templateName);
+
+    /**
+     * 템플릿 디렉터리 전체를 다시 확인하여 변경된 템플릿만 재색인
+     */
+    void refreshAll();
+}
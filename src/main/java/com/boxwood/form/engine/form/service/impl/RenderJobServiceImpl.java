@@ -0,0 +1,392 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.job.RenderJob;
+import com.boxwood.form.engine.form.job.RenderJobQueue;
+import com.boxwood.form.engine.form.job.RenderResultStore;
+import com.boxwood.form.engine.form.model.RenderJobDto;
+import com.boxwood.form.engine.form.model.RenderJobSubmissionDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.RenderJobService;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.utils.FormEngineMetrics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 렌더링 작업 처리
+ * - 제출: 큐 용량만큼만 접수하고 나머지는 거부 (제출자는 retryAfterSeconds 후 재제출) - 메모리가 아닌 큐 용량으로 제한
+ * - 워커: form.render.jobs.workers 개 스레드가 큐에서 꺼내 렌더링, 결과는 결과 저장소로
+ * - 실패: 요청 검증 실패는 바로 FAILED, 렌더링 실패/예외는 지수 백오프로 재시도 후 dead-letter
+ */
+@Service
+@Slf4j
+public class RenderJobServiceImpl implements RenderJobService {
+    private static final long POLL_TIMEOUT_MS = 500;
+
+    private final TemplateAnalysisService templateService;
+    private final RenderJobQueue queue;
+    private final RenderResultStore resultStore;
+    private final FormEngineMetrics metrics;
+
+    @Value("${form.render.jobs.enabled:true}")
+    private boolean enabled;
+
+    @Value("${form.render.jobs.workers:4}")
+    private int workers;
+
+    @Value("${form.render.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${form.render.jobs.retry-backoff-ms:500}")
+    private long retryBackoffMs;
+
+    // 대기/처리 중 작업 상태 (끝나면 결과 저장소로 이동)
+    private final Map<String, RenderJobDto> activeJobs = new ConcurrentHashMap<>();
+
+    private ExecutorService workerPool;
+    private ScheduledThreadPoolExecutor retryScheduler;
+    private volatile boolean running;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+    private final AtomicInteger busyWorkers = new AtomicInteger();
+
+    public RenderJobServiceImpl(
+            TemplateAnalysisService templateService,
+            RenderJobQueue queue,
+            RenderResultStore resultStore,
+            FormEngineMetrics metrics
+    ) {
+        this.templateService = templateService;
+        this.queue = queue;
+        this.resultStore = resultStore;
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            log.info("Render job workers disabled");
+            return;
+        }
+        running = true;
+        AtomicInteger threadNumber = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "render-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            workerPool.execute(this::workLoop);
+        }
+        retryScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "render-job-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        bindMetrics(metrics.getRegistry());
+        log.info("Render job workers started: {} workers, {} queue (capacity {}), {} result store",
+                workers, queue.getType(), queue.capacity(), resultStore.getType());
+    }
+
+    /**
+     * 큐 깊이/용량, 처리 중 워커, 재시도 대기 건수 게이지와 작업 이벤트 카운터
+     */
+    private void bindMetrics(MeterRegistry registry) {
+        Gauge.builder("form.render.jobs.queue.depth", queue, RenderJobQueue::size)
+                .description("Render jobs waiting in the queue")
+                .tag("queue", queue.getType())
+                .register(registry);
+        Gauge.builder("form.render.jobs.queue.capacity", queue, RenderJobQueue::capacity)
+                .tag("queue", queue.getType())
+                .register(registry);
+        Gauge.builder("form.render.jobs.workers.busy", busyWorkers, AtomicInteger::get)
+                .description("Render workers currently rendering")
+                .register(registry);
+        Gauge.builder("form.render.jobs.workers", () -> workers)
+                .register(registry);
+        Gauge.builder("form.render.jobs.retry.pending", retryScheduler, executor -> executor.getQueue().size())
+                .description("Render jobs waiting for a retry backoff")
+                .register(registry);
+        Map.of("submitted", submitted, "rejected", rejected, "succeeded", succeeded,
+                "failed", failed, "retried", retried, "dead_lettered", deadLettered).forEach((event, counter) ->
+                FunctionCounter.builder("form.render.jobs.events", counter, LongAdder::sum)
+                        .description("Render job lifecycle events")
+                        .tag("event", event)
+                        .register(registry));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (retryScheduler != null) {
+            retryScheduler.shutdownNow();
+        }
+        if (workerPool != null) {
+            workerPool.shutdown();
+            if (!workerPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                workerPool.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public RenderJobSubmissionDto submit(List<TemplateRenderRequestDto> requests) {
+        for (TemplateRenderRequestDto request : requests) {
+            if (request == null || request.getTemplateName() == null || request.getTemplateName().isBlank()) {
+                throw new IllegalArgumentException("templateName is required for every render job");
+            }
+        }
+
+        List<String> jobIds = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (TemplateRenderRequestDto request : requests) {
+            RenderJob job = RenderJob.builder()
+                    .id(UUID.randomUUID().toString())
+                    .request(request)
+                    .submittedAt(now)
+                    .build();
+            activeJobs.put(job.getId(), RenderJobDto.builder()
+                    .jobId(job.getId())
+                    .templateName(request.getTemplateName())
+                    .status(RenderJobDto.Status.QUEUED)
+                    .submittedAt(now)
+                    .build());
+            if (!queue.offer(job)) {
+                activeJobs.remove(job.getId());
+                break;
+            }
+            jobIds.add(job.getId());
+        }
+
+        int rejectedCount = requests.size() - jobIds.size();
+        submitted.add(jobIds.size());
+        rejected.add(rejectedCount);
+        if (rejectedCount > 0) {
+            log.warn("Render job queue full: accepted {}, rejected {} (depth {})", jobIds.size(), rejectedCount, queue.size());
+        }
+        return RenderJobSubmissionDto.builder()
+                .jobIds(jobIds)
+                .accepted(jobIds.size())
+                .rejected(rejectedCount)
+                .queueDepth(queue.size())
+                .queueCapacity(queue.capacity())
+                .retryAfterSeconds(rejectedCount > 0 ? estimateRetryAfterSeconds() : null)
+                .build();
+    }
+
+    @Override
+    public RenderJobDto getJob(String jobId) {
+        RenderJobDto active = activeJobs.get(jobId);
+        return active != null ? active : resultStore.getStatus(jobId);
+    }
+
+    @Override
+    public String getResultHtml(String jobId) {
+        return resultStore.getHtml(jobId);
+    }
+
+    @Override
+    public List<RenderJobDto> getDeadLetters() {
+        List<RenderJobDto> deadLetters = new ArrayList<>();
+        for (RenderJob job : queue.getDeadLetters()) {
+            RenderJobDto status = resultStore.getStatus(job.getId());
+            deadLetters.add(status != null ? status : RenderJobDto.builder()
+                    .jobId(job.getId())
+                    .templateName(job.getRequest().getTemplateName())
+                    .status(RenderJobDto.Status.DEAD_LETTERED)
+                    .attempts(job.getAttempts())
+                    .submittedAt(job.getSubmittedAt())
+                    .errors(job.getLastError() != null ? List.of(job.getLastError()) : List.of())
+                    .build());
+        }
+        return deadLetters;
+    }
+
+    @Override
+    public int replayDeadLetters(List<String> jobIds) {
+        List<String> targets = jobIds != null ? jobIds
+                : queue.getDeadLetters().stream().map(RenderJob::getId).toList();
+        int replayed = 0;
+        for (String jobId : targets) {
+            RenderJob job = queue.removeDeadLetter(jobId);
+            if (job == null) {
+                continue;
+            }
+            job.setAttempts(0);
+            job.setSubmittedAt(System.currentTimeMillis());
+            activeJobs.put(jobId, RenderJobDto.builder()
+                    .jobId(jobId)
+                    .templateName(job.getRequest().getTemplateName())
+                    .status(RenderJobDto.Status.QUEUED)
+                    .submittedAt(job.getSubmittedAt())
+                    .build());
+            if (!queue.offer(job)) {
+                // 접수되지 않았으므로 용량은 그대로 두고 dead-letter 로만 되돌림
+                activeJobs.remove(jobId);
+                queue.restoreDeadLetter(job);
+                break;
+            }
+            replayed++;
+        }
+        log.info("Replayed {} dead-lettered render jobs", replayed);
+        return replayed;
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("queueType", queue.getType());
+        statistics.put("resultStoreType", resultStore.getType());
+        statistics.put("workers", enabled ? workers : 0);
+        statistics.put("busyWorkers", busyWorkers.get());
+        statistics.put("queueDepth", queue.size());
+        statistics.put("queueCapacity", queue.capacity());
+        statistics.put("queueUtilization", Math.round((double) queue.size() / Math.max(1, queue.capacity()) * 1000) / 1000.0);
+        statistics.put("submitted", submitted.sum());
+        statistics.put("rejected", rejected.sum());
+        statistics.put("succeeded", succeeded.sum());
+        statistics.put("failed", failed.sum());
+        statistics.put("retried", retried.sum());
+        statistics.put("deadLettered", deadLettered.sum());
+        statistics.put("storedResults", resultStore.size());
+        // 지연 시간은 form.render.jobs.latency 타이머 기준
+        statistics.put("queueWaitMs", metrics.getRenderJobLatency("queue_wait"));
+        statistics.put("renderTimeMs", metrics.getRenderJobLatency("render"));
+        statistics.put("endToEndMs", metrics.getRenderJobLatency("end_to_end"));
+        return statistics;
+    }
+
+    private void workLoop() {
+        while (running) {
+            RenderJob job;
+            try {
+                job = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (job == null) {
+                continue;
+            }
+            busyWorkers.incrementAndGet();
+            try {
+                process(job);
+            } catch (RuntimeException e) {
+                log.error("Unexpected failure while processing render job {}", job.getId(), e);
+            } finally {
+                busyWorkers.decrementAndGet();
+            }
+        }
+    }
+
+    private void process(RenderJob job) {
+        job.setAttempts(job.getAttempts() + 1);
+        long startedAt = System.currentTimeMillis();
+        RenderJobDto status = activeJobs.computeIfAbsent(job.getId(), id -> RenderJobDto.builder()
+                .jobId(id)
+                .templateName(job.getRequest().getTemplateName())
+                .submittedAt(job.getSubmittedAt())
+                .build());
+        status.setStatus(RenderJobDto.Status.RUNNING);
+        status.setAttempts(job.getAttempts());
+        status.setStartedAt(startedAt);
+        status.setQueueWaitMs(startedAt - job.getSubmittedAt());
+        metrics.recordRenderJob("queue_wait", startedAt - job.getSubmittedAt());
+
+        TemplateRenderResponseDto result;
+        try {
+            result = templateService.renderTemplate(job.getRequest());
+        } catch (Exception e) {
+            result = TemplateRenderResponseDto.builder()
+                    .success(false)
+                    .errors(List.of("Render failed: " + e.getMessage()))
+                    .build();
+        }
+        long completedAt = System.currentTimeMillis();
+        metrics.recordRenderJob("render", completedAt - startedAt);
+        status.setRenderTimeMs(completedAt - startedAt);
+        status.setErrors(result.getErrors());
+        status.setValidationErrors(result.getValidationErrors());
+
+        if (result.isSuccess()) {
+            complete(job, status, RenderJobDto.Status.SUCCEEDED, result.getRenderedHtml(), completedAt);
+            succeeded.increment();
+        } else if (result.getValidationErrors() != null && !result.getValidationErrors().isEmpty()) {
+            // 잘못된 요청은 재시도해도 같으므로 바로 실패 처리
+            complete(job, status, RenderJobDto.Status.FAILED, null, completedAt);
+            failed.increment();
+        } else {
+            retryOrDeadLetter(job, status, result.getErrors(), completedAt);
+        }
+    }
+
+    private void retryOrDeadLetter(RenderJob job, RenderJobDto status, List<String> errors, long completedAt) {
+        job.setLastError(errors != null && !errors.isEmpty() ? errors.get(0) : "Render failed");
+        if (job.getAttempts() < maxAttempts && running) {
+            long delay = retryBackoffMs << (job.getAttempts() - 1);
+            status.setStatus(RenderJobDto.Status.RETRY_SCHEDULED);
+            retried.increment();
+            retryScheduler.schedule(() -> retry(job, status), delay, TimeUnit.MILLISECONDS);
+            log.debug("Render job {} failed (attempt {}), retrying in {}ms", job.getId(), job.getAttempts(), delay);
+            return;
+        }
+        deadLetter(job, status, completedAt);
+    }
+
+    private void retry(RenderJob job, RenderJobDto status) {
+        if (!queue.retry(job)) {
+            // 큐에 접수 기록이 없는 작업인데 용량이 찬 경우 (재시작 등) - 재시도 대신 dead-letter
+            deadLetter(job, status, System.currentTimeMillis());
+        }
+    }
+
+    private void deadLetter(RenderJob job, RenderJobDto status, long completedAt) {
+        queue.deadLetter(job);
+        status.setStatus(RenderJobDto.Status.DEAD_LETTERED);
+        status.setCompletedAt(completedAt);
+        resultStore.save(status, null);
+        activeJobs.remove(job.getId());
+        deadLettered.increment();
+        log.warn("Render job {} dead-lettered after {} attempts: {}", job.getId(), job.getAttempts(), job.getLastError());
+    }
+
+    private void complete(RenderJob job, RenderJobDto status, RenderJobDto.Status finalStatus, String html, long completedAt) {
+        metrics.recordRenderJob("end_to_end", completedAt - job.getSubmittedAt());
+        status.setStatus(finalStatus);
+        status.setCompletedAt(completedAt);
+        resultStore.save(status, html);
+        queue.acknowledge(job);
+        activeJobs.remove(job.getId());
+    }
+
+    /**
+     * 현재 깊이를 워커들이 소화하는 데 걸리는 시간 (평균 렌더링 시간 기준, 1~60초)
+     */
+    private int estimateRetryAfterSeconds() {
+        Timer render = metrics.getRegistry().find("form.render.jobs.latency").tag("stage", "render").timer();
+        if (render == null || render.count() == 0) {
+            return 5;
+        }
+        double seconds = queue.size() * render.mean(TimeUnit.SECONDS) / Math.max(1, workers);
+        return (int) Math.max(1, Math.min(60, Math.ceil(seconds)));
+    }
+}
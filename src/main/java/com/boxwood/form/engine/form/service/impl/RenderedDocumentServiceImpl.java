@@ -0,0 +1,153 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.RenderedDocumentDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.RenderedDocumentService;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.RenderedDocumentStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 렌더링 문서 저장
+ * - 현재 시각(.now)을 출력하지 않는 템플릿은 출력이 (템플릿 버전, 모델) 로 정해지므로,
+ *   키 순서를 정렬한 모델 JSON 해시와 템플릿 버전으로 인덱스 조회
+ * - 적중하면 렌더링 없이 기존 문서 ID 반환, 미스면 렌더링 후 내용 주소 저장소에 저장
+ * - .now 를 출력하는 템플릿은 재사용하지 않고 매번 렌더링 (같은 내용이면 저장소에서 한 벌만 보관)
+ * - 로드 시점 변환(축소/스타일 분리) 설정도 출력에 영향을 주므로 키에 포함
+ */
+@Service
+@Slf4j
+public class RenderedDocumentServiceImpl implements RenderedDocumentService {
+    private final TemplateAnalysisService templateService;
+    private final FreeMarkerVariableExtractor extractor;
+    private final RenderedDocumentStore documentStore;
+    private final ObjectWriter canonicalWriter;
+
+    @Value("${form.template.minify.enabled:false}")
+    private boolean minifyEnabled;
+
+    @Value("${form.template.styles.extract.enabled:false}")
+    private boolean extractStyles;
+
+    public RenderedDocumentServiceImpl(
+            TemplateAnalysisService templateService,
+            FreeMarkerVariableExtractor extractor,
+            RenderedDocumentStore documentStore,
+            ObjectMapper objectMapper
+    ) {
+        this.templateService = templateService;
+        this.extractor = extractor;
+        this.documentStore = documentStore;
+        this.canonicalWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    }
+
+    @Override
+    public RenderedDocumentDto storeDocument(TemplateRenderRequestDto request) {
+        String templateName = request.getTemplateName();
+        if (templateName == null || templateName.isBlank()) {
+            return failure(templateName, "templateName is required");
+        }
+        if (!documentStore.isEnabled()) {
+            return failure(templateName, "Rendered document store is disabled");
+        }
+
+        String templateVersion;
+        boolean timeDependent;
+        String modelHash;
+        try {
+            templateVersion = extractor.getCachedTemplateVersion(templateName);
+            timeDependent = extractor.isTimeDependent(templateName);
+            modelHash = hash(canonicalWriter.writeValueAsBytes(request.getVariables() != null ? request.getVariables() : Map.of()));
+        } catch (JsonProcessingException e) {
+            return failure(templateName, "Unsupported variables: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            return failure(templateName, "Template not found: " + templateName);
+        }
+
+        String key = templateName + '|' + templateVersion + '|' + modelHash
+                + "|minify=" + minifyEnabled + "|styles=" + extractStyles;
+        String documentId = timeDependent ? null : documentStore.lookup(key);
+        if (documentId != null) {
+            return document(templateName, templateVersion, modelHash, documentId, true, 0);
+        }
+
+        TemplateRenderResponseDto result = templateService.renderTemplate(request);
+        if (!result.isSuccess()) {
+            return RenderedDocumentDto.builder()
+                    .templateName(templateName)
+                    .templateVersion(templateVersion)
+                    .modelHash(modelHash)
+                    .success(false)
+                    .errors(result.getErrors())
+                    .validationErrors(result.getValidationErrors())
+                    .renderTimeMs(result.getRenderTimeMs())
+                    .build();
+        }
+        try {
+            documentId = documentStore.put(key, result.getRenderedHtml());
+        } catch (IOException e) {
+            log.error("Failed to store rendered document for template: {}", templateName, e);
+            return failure(templateName, "Failed to store document: " + e.getMessage());
+        }
+        log.debug("Stored rendered document {} for template {} (model {})", documentId, templateName, modelHash);
+        return document(templateName, templateVersion, modelHash, documentId, false, result.getRenderTimeMs());
+    }
+
+    @Override
+    public Path getDocument(String documentId) {
+        return documentStore.getDocument(documentId);
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        return documentStore.getStatistics();
+    }
+
+    private RenderedDocumentDto document(String templateName, String templateVersion, String modelHash,
+                                         String documentId, boolean reused, long renderTimeMs) {
+        Path path = documentStore.getDocument(documentId);
+        return RenderedDocumentDto.builder()
+                .documentId(documentId)
+                .templateName(templateName)
+                .templateVersion(templateVersion)
+                .modelHash(modelHash)
+                .sizeBytes(path != null ? path.toFile().length() : 0)
+                .reused(reused)
+                .success(true)
+                .renderTimeMs(renderTimeMs)
+                .downloadUrl("/api/template/documents/" + documentId)
+                .build();
+    }
+
+    private static RenderedDocumentDto failure(String templateName, String error) {
+        return RenderedDocumentDto.builder()
+                .templateName(templateName)
+                .success(false)
+                .errors(List.of(error))
+                .build();
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
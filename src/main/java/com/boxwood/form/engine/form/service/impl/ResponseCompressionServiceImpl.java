@@ -0,0 +1,281 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.service.ResponseCompressionService;
+import com.boxwood.form.engine.form.utils.FormEngineMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip/deflate 응답 압축
+ * - Accept-Encoding 의 q 값을 반영해 gzip 우선으로 협상, UTF-8 바이트 수가 임계값보다 작은 본문은 압축하지 않음
+ * - 동적 렌더링은 문자열을 조각씩 인코딩하면서 응답 스트림에 바로 압축 (전체 바이트 배열을 만들지 않음)
+ * - 캐시된 본문은 인코딩별로 한 번만 압축해 보관
+ * - 인코딩별 입력/출력 바이트와 압축 시간을 누적해 통계로 제공
+ */
+@Service
+@Slf4j
+public class ResponseCompressionServiceImpl implements ResponseCompressionService {
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final int BUFFER_SIZE = 8192;
+
+    @Value("${form.compression.enabled:true}")
+    private boolean enabled;
+
+    @Value("${form.compression.min-size:1024}")
+    private int minSize;
+
+    @Value("${form.compression.level:6}")
+    private int level;
+
+    // 캐시 키 -> 사전 압축 본문 (본문 인스턴스가 바뀌면 교체)
+    private final Map<String, PrecompressedContent> precompressed = new ConcurrentHashMap<>();
+
+    private final Map<String, EncodingStatistics> statistics = Map.of(
+            GZIP, new EncodingStatistics(), DEFLATE, new EncodingStatistics());
+    private final LongAdder uncompressedResponses = new LongAdder();
+    private final LongAdder precompressedHits = new LongAdder();
+
+    private final FormEngineMetrics metrics;
+
+    public ResponseCompressionServiceImpl(FormEngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String negotiate(String acceptEncoding, CharSequence content) {
+        if (!enabled || acceptEncoding == null || !atLeastBytes(content, minSize)) {
+            uncompressedResponses.increment();
+            return null;
+        }
+        double gzip = 0;
+        double deflate = 0;
+        double wildcard = 0;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            double quality = 1.0;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2));
+                    } catch (NumberFormatException e) {
+                        quality = 0;
+                    }
+                }
+            }
+            switch (tokens[0].trim().toLowerCase()) {
+                case GZIP, "x-gzip" -> gzip = quality;
+                case DEFLATE -> deflate = quality;
+                case "*" -> wildcard = quality;
+                default -> {
+                    // identity, br 등은 지원하지 않음
+                }
+            }
+        }
+        if (gzip == 0 && !acceptEncoding.contains(GZIP)) {
+            gzip = wildcard;
+        }
+        if (gzip > 0 && gzip >= deflate) {
+            return GZIP;
+        }
+        if (deflate > 0) {
+            return DEFLATE;
+        }
+        uncompressedResponses.increment();
+        return null;
+    }
+
+    @Override
+    public void compressTo(String content, String encoding, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        CountingOutputStream counting = new CountingOutputStream(out);
+        long bytesIn = write(content, encoding, counting);
+        statistics.get(encoding).record(bytesIn, counting.getCount(), System.nanoTime() - start);
+    }
+
+    @Override
+    public byte[] precompressed(String cacheKey, String content, String encoding) {
+        PrecompressedContent entry = precompressed.get(cacheKey);
+        if (entry == null || entry.content != content) {
+            entry = new PrecompressedContent(content);
+            precompressed.put(cacheKey, entry);
+        }
+        byte[] cached = entry.encoded.get(encoding);
+        metrics.cacheAccess("response.precompressed", cached != null);
+        if (cached != null) {
+            precompressedHits.increment();
+            return cached;
+        }
+        return entry.encoded.computeIfAbsent(encoding, key -> {
+            long start = System.nanoTime();
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(content.length() / 4);
+            long bytesIn;
+            try {
+                bytesIn = write(content, key, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            statistics.get(key).record(bytesIn, buffer.size(), System.nanoTime() - start);
+            log.debug("Precompressed {} with {}: {} -> {} bytes", cacheKey, key, bytesIn, buffer.size());
+            return buffer.toByteArray();
+        });
+    }
+
+    /**
+     * UTF-8 로 인코딩했을 때 최소 bytes 바이트 이상인지 (문자 수로 판단되면 끝까지 세지 않음)
+     */
+    static boolean atLeastBytes(CharSequence content, int bytes) {
+        int length = content.length();
+        if (length >= bytes) {
+            return true;
+        }
+        if ((long) length * 3 < bytes) {
+            return false;
+        }
+        long count = 0;
+        for (int i = 0; i < length && count < bytes; i++) {
+            char c = content.charAt(i);
+            if (c < 0x80) {
+                count++;
+            } else if (c < 0x800) {
+                count += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(content.charAt(i + 1))) {
+                count += 4;
+                i++;
+            } else {
+                count += 3;
+            }
+        }
+        return count >= bytes;
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+        result.put("minSize", minSize);
+        result.put("level", level);
+        result.put("uncompressedResponses", uncompressedResponses.sum());
+        result.put("precompressedHits", precompressedHits.sum());
+        result.put("precompressedEntries", precompressed.size());
+        statistics.forEach((encoding, stats) -> result.put(encoding, stats.toMap()));
+        return result;
+    }
+
+    /**
+     * 문자열을 BUFFER_SIZE 문자씩 UTF-8 로 인코딩하면서 압축 스트림으로 쓰고 finish
+     * - 하위 스트림은 닫지 않으므로 Deflater 는 직접 해제
+     *
+     * @return 압축 전 바이트 수
+     */
+    private long write(String content, String encoding, OutputStream out) throws IOException {
+        Deflater deflater = GZIP.equals(encoding) ? null : new Deflater(level);
+        DeflaterOutputStream compressor = deflater == null
+                ? new LeveledGzipOutputStream(out, level) : new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+        try {
+            CountingOutputStream uncompressed = new CountingOutputStream(compressor);
+            Writer writer = new OutputStreamWriter(uncompressed, StandardCharsets.UTF_8);
+            // 조각 경계에서 나뉜 서로게이트 쌍은 OutputStreamWriter 가 다음 조각과 이어서 인코딩
+            for (int offset = 0; offset < content.length(); offset += BUFFER_SIZE) {
+                writer.write(content, offset, Math.min(BUFFER_SIZE, content.length() - offset));
+            }
+            writer.flush();
+            compressor.finish();
+            compressor.flush();
+            return uncompressed.getCount();
+        } finally {
+            if (compressor instanceof LeveledGzipOutputStream gzip) {
+                gzip.end();
+            } else {
+                deflater.end();
+            }
+        }
+    }
+
+    /**
+     * 압축 레벨을 지정할 수 있는 gzip 스트림
+     */
+    private static final class LeveledGzipOutputStream extends GZIPOutputStream {
+        private LeveledGzipOutputStream(OutputStream out, int level) throws IOException {
+            super(out, BUFFER_SIZE);
+            def.setLevel(level);
+        }
+
+        private void end() {
+            def.end();
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            count += length;
+        }
+
+        private long getCount() {
+            return count;
+        }
+    }
+
+    private static final class PrecompressedContent {
+        private final String content;
+        private final Map<String, byte[]> encoded = new ConcurrentHashMap<>();
+
+        private PrecompressedContent(String content) {
+            this.content = content;
+        }
+    }
+
+    private static final class EncodingStatistics {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private void record(long in, long out, long elapsedNanos) {
+            responses.increment();
+            bytesIn.add(in);
+            bytesOut.add(out);
+            nanos.add(elapsedNanos);
+        }
+
+        private Map<String, Object> toMap() {
+            long in = bytesIn.sum();
+            long out = bytesOut.sum();
+            long count = responses.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("compressions", count);
+            map.put("bytesIn", in);
+            map.put("bytesOut", out);
+            map.put("compressionRatio", out == 0 ? 0.0 : Math.round((double) in / out * 100) / 100.0);
+            map.put("totalTimeMs", nanos.sum() / 1_000_000.0);
+            map.put("averageTimeMicros", count == 0 ? 0 : nanos.sum() / count / 1000);
+            return map;
+        }
+    }
+}
@@ -2,17 +2,35 @@ package com.boxwood.form.engine.form.service.impl;
 
 import com.boxwood.form.engine.form.model.*;
 import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.service.TemplateVariableIndexService;
+import com.boxwood.form.engine.form.utils.FormEngineMetrics;
 import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
 import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.RenderPayloadPruner;
+import com.boxwood.form.engine.form.utils.RenderTimingStatistics;
+import com.boxwood.form.engine.form.utils.TemplateRequestValidator;
+import com.boxwood.form.engine.form.utils.TemplateUsageScanner;
+import com.boxwood.form.engine.form.utils.ThreadResourceUsage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import freemarker.core.Environment;
 import freemarker.template.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringWriter;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.boxwood.form.engine.form.controller.TemplateAnalysisController.getType;
@@ -22,22 +40,78 @@ import static com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.*;
 @Service
 @Slf4j
 public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
+    // 단수형인데 s로 끝나는 변수들 (예외 처리)
+    private static final Set<String> SINGULAR_WORDS_ENDING_WITH_S = Set.of(
+            "paymentterms", "terms", "address", "business", "notes",
+            "status", "process", "access", "success", "class", "pass",
+            "sales", "news", "series", "species", "means", "headquarters"
+    );
+
+    // 확실한 리스트 변수들
+    private static final Set<String> KNOWN_LIST_VARIABLES = Set.of(
+            "items", "templates", "users", "products", "files", "documents",
+            "records", "entries", "values", "results", "orders", "invoices"
+    );
+
+    // 확실히 단수인 것들 (복수형 판단 제외)
+    private static final Set<String> SINGULAR_WORDS = Set.of(
+            "paymentterms", "terms", "address", "business", "notes", "status",
+            "process", "access", "success", "class", "pass", "sales", "news"
+    );
+
+    private static final Map<String, String> EXACT_MATCHES = Map.of(
+            "salesperson", "김영업",
+            "projectname", "BOXWOOD 프로젝트",
+            "paymentterms", "30일 이내 현금결제",  // 🔥 정확히 지정
+            "paymentinfo", "농협은행 123-456-789012 (주)박스우드테크놀로지",
+            "notes", "본 송장은 세금계산서를 포함하고 있습니다. 지불기한을 준수해주시기 바랍니다.",
+            "title", "템플릿 목록",
+            "subtitle", "사용 가능한 FreeMarker 템플릿들",
+            "currentuser", "관리자",
+            "documenttype", "송장",
+            "invoicenumber", "INV-20250108-001"
+    );
+
     private final FreeMarkerVariableExtractor extractor;
     private final Configuration freeMarkerConfig;
+    private final TemplateVariableIndexService variableIndexService;
+    private final ObjectMapper objectMapper;
+    private final RenderTimingStatistics timingStatistics;
+    private final FormEngineMetrics metrics;
+
+    @Value("${form.preview.cache-html:true}")
+    private boolean cachePreviewHtml;
+
+    // 템플릿명 -> 미리보기 스냅샷 (템플릿 버전이 바뀌면 교체)
+    private final Map<String, PreviewSnapshot> previewSnapshots = new ConcurrentHashMap<>();
+
+    @Value("${form.render.validation.enabled:true}")
+    private boolean requestValidationEnabled;
+
+    // 템플릿명 -> 컴파일된 요청 규칙 (검증기 + 가지치기 트리)
+    private final Map<String, CompiledRequestRules> requestRules = new ConcurrentHashMap<>();
 
     public TemplateAnalysisServiceImpl(
             FreeMarkerVariableExtractor extractor,
-            Configuration freeMarkerConfig
+            Configuration freeMarkerConfig,
+            TemplateVariableIndexService variableIndexService,
+            ObjectMapper objectMapper,
+            RenderTimingStatistics timingStatistics,
+            FormEngineMetrics metrics
     ) {
         this.extractor = extractor;
         this.freeMarkerConfig = freeMarkerConfig;
+        this.variableIndexService = variableIndexService;
+        this.objectMapper = objectMapper;
+        this.timingStatistics = timingStatistics;
+        this.metrics = metrics;
     }
 
     @Override
     public TemplateAnalysisResponseDto analyzeTemplate(String templateName) {
         try {
             log.info("Starting template analysis for: {}", templateName);
-            TemplateVariableAnalysis analysis = extractor.analyzeTemplate(templateName);
+            TemplateVariableAnalysis analysis = analyze(templateName);
             return convertToDto(analysis);
         } catch (Exception e) {
             log.error("Failed to analyze template: {}", templateName, e);
@@ -64,26 +138,141 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
 
     @Override
     public TemplateRenderResponseDto renderTemplate(TemplateRenderRequestDto request) {
-        long startTime = System.currentTimeMillis();
+        return render(request, Map.of());
+    }
+
+    @Override
+    public TemplateRenderResponseDto renderPrunedTemplate(InputStream requestBody) throws IOException {
+        long parseStart = System.nanoTime();
+        try (JsonParser parser = objectMapper.getFactory().createParser(requestBody)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Render request must be a JSON object");
+            }
+
+            String templateName = null;
+            boolean includeDebugInfo = false;
+            Map<String, Object> variables = null;
+            TokenBuffer bufferedVariables = null;
+            long bytesIn = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "templateName" -> templateName = parser.getValueAsString();
+                    case "includeDebugInfo" -> includeDebugInfo = parser.getValueAsBoolean();
+                    case "variables" -> {
+                        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+                            break;
+                        }
+                        long start = parser.currentTokenLocation().getByteOffset();
+                        if (templateName != null) {
+                            variables = requestPruner(templateName).read(parser);
+                        } else {
+                            // templateName 이 뒤에 오는 경우 토큰만 보관했다가 다시 읽음 (Map 은 만들지 않음)
+                            bufferedVariables = new TokenBuffer(parser);
+                            bufferedVariables.copyCurrentStructure(parser);
+                        }
+                        bytesIn = parser.currentLocation().getByteOffset() - start;
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (templateName == null) {
+                throw new IOException("templateName is required");
+            }
+            if (bufferedVariables != null) {
+                try (JsonParser replay = bufferedVariables.asParser()) {
+                    replay.nextToken();
+                    variables = requestPruner(templateName).read(replay);
+                }
+            }
+
+            Map<String, Object> payloadInfo = new LinkedHashMap<>();
+            if (includeDebugInfo) {
+                payloadInfo.put("payloadPruned", requestPruner(templateName).isEnabled());
+                payloadInfo.put("payloadBytesIn", bytesIn);
+                payloadInfo.put("payloadBytesKept", variables != null ? objectMapper.writeValueAsBytes(variables).length : 0);
+                long parseNanos = System.nanoTime() - parseStart;
+                payloadInfo.put("payloadParseTime", parseNanos / 1_000_000);
+                payloadInfo.put("payloadParseTimeNanos", parseNanos);
+            }
+
+            TemplateRenderRequestDto request = TemplateRenderRequestDto.builder()
+                    .templateName(templateName)
+                    .variables(variables)
+                    .includeDebugInfo(includeDebugInfo)
+                    .build();
+            return render(request, payloadInfo);
+        }
+    }
+
+    private RenderPayloadPruner requestPruner(String templateName) throws IOException {
+        return getRequestRules(templateName, freeMarkerConfig.getTemplate(templateName)).getPruner();
+    }
+
+    /**
+     * 렌더링 - 단계별 소요 시간(ns)을 항상 히스토그램에 누적하고, includeDebugInfo 이면 debugInfo 에도 포함
+     * - wrap 은 최상위 모델 래핑(Environment 생성)까지이며, 하위 값은 process 중 읽을 때 래핑됨
+     * - 성공한 렌더링은 요청 스레드의 할당 바이트 / CPU 시간도 템플릿별로 누적 (debugInfo 의 allocatedBytes, cpuTimeNanos)
+     */
+    private TemplateRenderResponseDto render(TemplateRenderRequestDto request, Map<String, Object> payloadInfo) {
+        long startTime = System.nanoTime();
+        ThreadResourceUsage usage = ThreadResourceUsage.start();
+        Map<String, Long> phaseNanos = new LinkedHashMap<>();
+        boolean cacheHit = false;
+        String outcome = FormEngineMetrics.FAILURE;
 
         try {
             log.info("Rendering template: {} with {} variables",
                     request.getTemplateName(),
                     request.getVariables() != null ? request.getVariables().size() : 0);
 
+            long loadsBefore = timingStatistics.currentLoads();
+            long phaseStart = System.nanoTime();
             Template template = freeMarkerConfig.getTemplate(request.getTemplateName());
+            cacheHit = timingStatistics.recordLookup(loadsBefore);
+            phaseStart = mark(phaseNanos, cacheHit ? RenderTimingStatistics.LOOKUP : RenderTimingStatistics.PARSE, phaseStart);
             StringWriter writer = new StringWriter();
 
             Map<String, Object> dataModel = request.getVariables() != null ?
                     request.getVariables() : new HashMap<>();
 
-            template.process(dataModel, writer);
+            // 렌더링 전 요청 검증 (누락/타입 불일치를 한 번에 보고)
+            TemplateRequestValidator validator = null;
+            if (requestValidationEnabled) {
+                validator = getRequestRules(request.getTemplateName(), template).getValidator();
+                List<String> problems = validator.validate(dataModel);
+                phaseStart = mark(phaseNanos, RenderTimingStatistics.VALIDATE, phaseStart);
+                if (!problems.isEmpty()) {
+                    log.warn("Render request rejected for {}: {} problems", request.getTemplateName(), problems.size());
+                    outcome = FormEngineMetrics.INVALID_REQUEST;
+                    return TemplateRenderResponseDto.builder()
+                            .templateName(request.getTemplateName())
+                            .renderedHtml("")
+                            .success(false)
+                            .errors(problems.stream().map(problem -> "Invalid variable " + problem).toList())
+                            .validationErrors(problems)
+                            .renderTimeMs(elapsedMillis(startTime))
+                            .build();
+                }
+            }
+
+            Environment environment = template.createProcessingEnvironment(dataModel, writer);
+            phaseStart = mark(phaseNanos, RenderTimingStatistics.WRAP, phaseStart);
+            environment.process();
+            phaseStart = mark(phaseNanos, RenderTimingStatistics.PROCESS, phaseStart);
+            String html = writer.toString();
+            mark(phaseNanos, RenderTimingStatistics.OUTPUT, phaseStart);
+            usage.stop();
+            metrics.recordOutput("render", request.getTemplateName(), html.length());
 
-            long renderTime = System.currentTimeMillis() - startTime;
+            long renderTimeNanos = System.nanoTime() - startTime;
+            long renderTime = renderTimeNanos / 1_000_000;
+            outcome = FormEngineMetrics.SUCCESS;
 
             TemplateRenderResponseDto.TemplateRenderResponseDtoBuilder builder = TemplateRenderResponseDto.builder()
                     .templateName(request.getTemplateName())
-                    .renderedHtml(writer.toString())
+                    .renderedHtml(html)
                     .success(true)
                     .errors(new ArrayList<>())
                     .renderTimeMs(renderTime);
@@ -91,9 +280,18 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
             if (request.isIncludeDebugInfo()) {
                 Map<String, Object> debugInfo = new HashMap<>();
                 debugInfo.put("variableCount", dataModel.size());
-                debugInfo.put("templateSize", writer.toString().length());
+                debugInfo.put("templateSize", html.length());
                 debugInfo.put("renderTime", renderTime);
+                debugInfo.put("renderTimeNanos", renderTimeNanos);
+                debugInfo.put("phaseNanos", new LinkedHashMap<>(phaseNanos));
+                debugInfo.put("templateCacheHit", cacheHit);
+                debugInfo.put("allocatedBytes", usage.getAllocatedBytes());
+                debugInfo.put("cpuTimeNanos", usage.getCpuNanos());
                 debugInfo.put("timestamp", LocalDateTime.now());
+                if (validator != null) {
+                    debugInfo.put("validationRules", validator.getRuleCount());
+                }
+                debugInfo.putAll(payloadInfo);
                 builder.debugInfo(debugInfo);
             }
 
@@ -101,29 +299,72 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
 
         } catch (IOException | TemplateException e) {
             log.error("Failed to render template: {}", request.getTemplateName(), e);
-            long renderTime = System.currentTimeMillis() - startTime;
 
             return TemplateRenderResponseDto.builder()
                     .templateName(request.getTemplateName())
                     .renderedHtml("")
                     .success(false)
                     .errors(List.of("Render failed: " + e.getMessage()))
-                    .renderTimeMs(renderTime)
+                    .renderTimeMs(elapsedMillis(startTime))
                     .build();
         } catch (Exception e) {
             throw new RuntimeException(e);
+        } finally {
+            long totalNanos = System.nanoTime() - startTime;
+            phaseNanos.put(RenderTimingStatistics.TOTAL, totalNanos);
+            timingStatistics.record(request.getTemplateName(), phaseNanos, cacheHit);
+            metrics.recordRender(request.getTemplateName(), outcome, totalNanos);
+            if (outcome.equals(FormEngineMetrics.SUCCESS)) {
+                metrics.recordResourceUsage("render", request.getTemplateName(), usage.stop());
+            }
         }
     }
 
+    /**
+     * 단계 소요 시간 기록 후 다음 단계 시작 시각 반환
+     */
+    private static long mark(Map<String, Long> phaseNanos, String phase, long phaseStart) {
+        long now = System.nanoTime();
+        phaseNanos.put(phase, now - phaseStart);
+        return now;
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    @Override
+    public Map<String, Object> getRenderTimingStatistics() {
+        return timingStatistics.getStatistics();
+    }
+
+    @Override
+    public Map<String, Object> getResourceUsageStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("allocationSupported", ThreadResourceUsage.isAllocationSupported());
+        statistics.put("cpuTimeSupported", ThreadResourceUsage.isCpuTimeSupported());
+        statistics.put("render", metrics.getResourceUsage("render"));
+        statistics.put("analysis", metrics.getResourceUsage("analysis"));
+        return statistics;
+    }
+
+    @Override
+    public Map<String, Object> getPreviewModel(String templateName) throws IOException {
+        return getPreviewSnapshot(templateName).getDefaultModel();
+    }
+
     @Override
     public TemplateRenderResponseDto renderTemplatePreview(String templateName) {
         try {
-            // 계층 구조 기반 기본값 생성
-            Map<String, Object> defaultVariables = createHierarchicalDefaults(templateName);
+            // 템플릿 버전별 스냅샷 (기본값 모델 + 렌더링 결과)
+            PreviewSnapshot snapshot = getPreviewSnapshot(templateName);
+            if (snapshot.getRenderResult() != null) {
+                return snapshot.copyRenderResult();
+            }
 
             TemplateRenderRequestDto request = TemplateRenderRequestDto.builder()
                     .templateName(templateName)
-                    .variables(defaultVariables)
+                    .variables(snapshot.getDefaultModel())
                     .includeDebugInfo(true)
                     .build();
 
@@ -144,7 +385,7 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
     @Override
     public TemplateVariableMapDto getTemplateVariableMap(String templateName) {
         try {
-            TemplateVariableAnalysis analysis = extractor.analyzeTemplate(templateName);
+            TemplateVariableAnalysis analysis = analyze(templateName);
 
             // 계층 구조 변수 가져오기
             Map<String, Object> hierarchicalVars = analysis.getHierarchicalVariables();
@@ -185,7 +426,7 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
     @Override
     public Map<String, Object> getRequiredVariablesWithDefaults(String templateName) {
         try {
-            TemplateVariableAnalysis analysis = extractor.analyzeTemplate(templateName);
+            TemplateVariableAnalysis analysis = analyze(templateName);
             return analysis.getHierarchicalVariables();
         } catch (Exception e) {
             log.error("Failed to get required variables with defaults: {}", templateName, e);
@@ -202,6 +443,7 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
             TemplateVariableDto varDto = TemplateVariableDto.builder()
                     .name(varName)
                     .usageTypes(usageTypes)
+                    .inferredType(analysis.getInferredTypes().get(TemplateUsageScanner.normalizePath(varName)))
                     .isRequired(analysis.getRequiredExternalVariables().contains(varName))
                     .isFormRelated(isFormRelatedVariable(varName))
                     .description(generateVariableDescription(varName, analysis))
@@ -219,6 +461,7 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
                 .globalVariables(analysis.getGlobalVariables())
                 .loopVariables(analysis.getLoopVariables())
                 .referencedVariables(referencedVars)
+                .inferredTypes(analysis.getInferredTypes())
                 .macros(analysis.getMacros())
                 .functions(analysis.getFunctions())
                 .macroCalls(analysis.getMacroCalls())
@@ -246,23 +489,136 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
     public TemplateVariableAnalysis analyzeTemplateRaw(String templateName) {
         try {
             log.info("Starting raw template analysis for: {}", templateName);
-            return extractor.analyzeTemplate(templateName);
+            return analyze(templateName);
         } catch (Exception e) {
             log.error("Failed to analyze template raw: {}", templateName, e);
             throw new RuntimeException("Template analysis failed: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 템플릿 분석 후 변수 역색인 갱신 (버전이 바뀐 경우에만 반영됨)
+     */
+    private TemplateVariableAnalysis analyze(String templateName) throws IOException, TemplateException {
+        TemplateVariableAnalysis analysis = extractor.analyzeTemplate(templateName);
+        variableIndexService.update(analysis);
+        return analysis;
+    }
+
+    /**
+     * 템플릿 버전별 요청 규칙(검증기/가지치기) 조회 (없거나 템플릿이 바뀌었으면 분석 결과로 다시 컴파일)
+     * - FreeMarker 가 다시 로드한 템플릿은 새 Template 인스턴스이므로 인스턴스 비교로 변경 감지
+     * - include/import 가 있는 템플릿은 의존 파일 변경도 반영하도록 버전 해시를 비교
+     * - 컴파일(분석 포함)은 맵 잠금 밖에서 하고 결과만 merge 로 게시 (동시에 만든 경우 먼저 게시된 것을 사용)
+     */
+    private CompiledRequestRules getRequestRules(String templateName, Template template) throws IOException {
+        CompiledRequestRules compiled = requestRules.get(templateName);
+        boolean hit = compiled != null && compiled.getTemplate() == template
+                && (!compiled.isHasDependencies() || compiled.getValidator().getVersion()
+                .equals(extractor.getCachedTemplateVersion(templateName)));
+        metrics.cacheAccess("request.rules", hit);
+        if (hit) {
+            return compiled;
+        }
+
+        CompiledRequestRules built = compileRequestRules(templateName, template);
+        // 다른 스레드가 이미 다시 컴파일해 게시한 경우 그것을 사용
+        return requestRules.merge(templateName, built,
+                (current, fresh) -> current != compiled && current.getTemplate() == template ? current : fresh);
+    }
+
+    private CompiledRequestRules compileRequestRules(String templateName, Template template) throws IOException {
+        try {
+            TemplateVariableAnalysis analysis = analyze(templateName);
+            TemplateRequestValidator validator = TemplateRequestValidator.compile(analysis);
+            RenderPayloadPruner pruner = RenderPayloadPruner.compile(analysis);
+            log.info("Compiled request rules for: {} ({} validation rules, {} reachable paths, pruning {})",
+                    templateName, validator.getRuleCount(), pruner.getPathCount(), pruner.isEnabled() ? "on" : "off");
+            boolean hasDependencies = !analysis.getIncludedTemplates().isEmpty()
+                    || !analysis.getImportedTemplates().isEmpty();
+            return new CompiledRequestRules(template, hasDependencies, validator, pruner);
+        } catch (TemplateException e) {
+            throw new IllegalStateException("Failed to compile request rules for " + templateName, e);
+        }
+    }
+
+    /**
+     * 현재 템플릿 버전의 미리보기 스냅샷 조회 (없거나 버전이 바뀌었으면 생성)
+     * - 버전은 컴파일된 템플릿 인스턴스 기준 캐시 값이라 적중 시 소스를 읽지 않음
+     * - 생성(렌더링)은 맵 잠금 밖에서 하고 결과만 merge 로 게시 (동시에 만든 경우 먼저 게시된 같은 버전을 사용)
+     * - 기본값 모델의 날짜는 생성 당일 기준이므로 날짜가 바뀌면 다시 생성
+     */
+    private PreviewSnapshot getPreviewSnapshot(String templateName) throws IOException {
+        String version = extractor.getCachedTemplateVersion(templateName);
+        LocalDate today = LocalDate.now();
+        PreviewSnapshot snapshot = previewSnapshots.get(templateName);
+        boolean hit = snapshot != null && snapshot.isCurrent(version, today);
+        metrics.cacheAccess("preview.snapshot", hit);
+        if (hit) {
+            return snapshot;
+        }
+
+        PreviewSnapshot built = buildPreviewSnapshot(templateName, version, today);
+        return previewSnapshots.merge(templateName, built,
+                (current, fresh) -> current.isCurrent(version, today) ? current : fresh);
+    }
+
+    /**
+     * 미리보기 스냅샷 생성
+     * - 현재 시각(.now)을 출력하는 템플릿은 렌더링 결과를 저장하지 않고 기본값 모델만 보관 (요청마다 렌더링)
+     */
+    private PreviewSnapshot buildPreviewSnapshot(String templateName, String version, LocalDate today) throws IOException {
+        log.info("Building preview snapshot for: {} (version {})", templateName, version.substring(0, 12));
+        Map<String, Object> defaultModel = deepUnmodifiable(createHierarchicalDefaults(templateName));
+
+        TemplateRenderResponseDto renderResult = null;
+        if (cachePreviewHtml && !extractor.isTimeDependent(templateName)) {
+            renderResult = renderTemplate(TemplateRenderRequestDto.builder()
+                    .templateName(templateName)
+                    .variables(defaultModel)
+                    .includeDebugInfo(true)
+                    .build());
+            if (renderResult.isSuccess()) {
+                Map<String, Object> debugInfo = new LinkedHashMap<>(renderResult.getDebugInfo());
+                debugInfo.put("previewSnapshotVersion", version);
+                renderResult.setDebugInfo(Collections.unmodifiableMap(debugInfo));
+                renderResult.setErrors(List.of());
+            } else {
+                // 실패한 렌더링은 저장하지 않음 (매 요청 재시도)
+                renderResult = null;
+            }
+        }
+        return new PreviewSnapshot(version, today, defaultModel, renderResult);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> deepUnmodifiable(Map<String, Object> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        map.forEach((key, value) -> copy.put(key, deepUnmodifiableValue(value)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object deepUnmodifiableValue(Object value) {
+        if (value instanceof Map) {
+            return deepUnmodifiable((Map<String, Object>) value);
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(TemplateAnalysisServiceImpl::deepUnmodifiableValue).toList();
+        }
+        return value;
+    }
+
     /**
      * 계층 구조 기반 기본값 생성
      */
     private Map<String, Object> createHierarchicalDefaults(String templateName) {
         try {
-            TemplateVariableAnalysis analysis = extractor.analyzeTemplate(templateName);
+            TemplateVariableAnalysis analysis = analyze(templateName);
             Map<String, Object> hierarchicalVars = analysis.getHierarchicalVariables();
 
-            // 계층 구조에 기본값 채우기
-            return populateDefaultValues(hierarchicalVars);
+            // 계층 구조에 기본값 채우기 (사용 문맥으로 추론한 타입 우선)
+            return populateDefaultValues(hierarchicalVars, "", analysis.getInferredTypes());
 
         } catch (Exception e) {
             log.error("Failed to create hierarchical defaults for: {}", templateName, e);
@@ -272,28 +628,98 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
 
     /**
      * 계층 구조에 기본값 채우기
+     * - 이름 기반 기본값이 추론 타입과 맞지 않으면 타입 기준 값으로 대체
+     * - items[0] 같은 인덱스 키는 items 리스트의 원소 구조로 사용
      */
     @SuppressWarnings("unchecked")
-    private Map<String, Object> populateDefaultValues(Map<String, Object> variables) {
+    private Map<String, Object> populateDefaultValues(Map<String, Object> variables, String pathPrefix,
+                                                      Map<String, VariableType> inferredTypes) {
         Map<String, Object> result = new LinkedHashMap<>();
 
         for (Map.Entry<String, Object> entry : variables.entrySet()) {
             String key = entry.getKey();
             Object value = entry.getValue();
+            if (key.contains("[")) {
+                continue;
+            }
+            String path = pathPrefix.isEmpty() ? key : pathPrefix + "." + key;
+            VariableType type = inferredTypes.get(path);
 
-            if (value instanceof Map) {
+            if (value instanceof Map && type != VariableType.SEQUENCE) {
                 // 중첩된 객체인 경우
                 Map<String, Object> nestedMap = (Map<String, Object>) value;
-                result.put(key, populateDefaultValues(nestedMap));
+                result.put(key, populateDefaultValues(nestedMap, path, inferredTypes));
             } else {
                 // 기본값 생성
-                result.put(key, createIntelligentDefaultValue(key, value));
+                Object candidate = createIntelligentDefaultValue(key, value);
+                Object elementShape = variables.get(key + "[0]");
+                boolean shapeMismatch = elementShape instanceof Map && candidate instanceof List<?> list
+                        && !list.isEmpty() && !(list.get(0) instanceof Map);
+                result.put(key, matchesType(candidate, type) && !shapeMismatch
+                        ? candidate
+                        : createTypedDefaultValue(key, path, type, candidate, elementShape, inferredTypes));
             }
         }
 
         return result;
     }
 
+    private static boolean matchesType(Object value, VariableType type) {
+        if (type == null) {
+            return true;
+        }
+        return switch (type) {
+            case SEQUENCE -> value instanceof List;
+            case HASH -> value instanceof Map;
+            case DATE -> value instanceof Date;
+            case NUMBER -> value instanceof Number;
+            case BOOLEAN -> value instanceof Boolean;
+            case STRING -> value instanceof String;
+        };
+    }
+
+    /**
+     * 추론 타입 기준 기본값
+     */
+    @SuppressWarnings("unchecked")
+    private Object createTypedDefaultValue(String varName, String path, VariableType type, Object candidate,
+                                           Object elementShape, Map<String, VariableType> inferredTypes) {
+        String lowerName = varName.toLowerCase();
+        return switch (type) {
+            case SEQUENCE -> {
+                if (elementShape instanceof Map) {
+                    Map<String, Object> element = populateDefaultValues((Map<String, Object>) elementShape,
+                            path + "[]", inferredTypes);
+                    yield List.of(element, element);
+                }
+                VariableType elementType = inferredTypes.get(path + "[]");
+                yield elementType == null || elementType == VariableType.STRING
+                        ? createListValue(lowerName)
+                        : List.of(createTypedDefaultValue(varName, path + "[]", elementType, null, null, inferredTypes));
+            }
+            case HASH -> new LinkedHashMap<String, Object>();
+            case DATE -> {
+                // FreeMarker ?string(pattern) 은 java.time 이 아닌 java.util.Date 를 요구
+                LocalDate date = candidate instanceof LocalDate localDate ? localDate
+                        : lowerName.contains("due") ? LocalDate.now().plusDays(30) : LocalDate.now();
+                yield Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+            }
+            case NUMBER -> {
+                if (lowerName.contains("amount") || lowerName.contains("total") || lowerName.contains("price")) {
+                    yield 9000000;
+                }
+                if (lowerName.contains("rate") || lowerName.contains("tax")) {
+                    yield 10.0;
+                }
+                yield 1;
+            }
+            case BOOLEAN -> true;
+            case STRING -> candidate instanceof LocalDate || candidate instanceof Number || candidate instanceof Boolean
+                    ? String.valueOf(candidate)
+                    : "Sample " + capitalize(varName);
+        };
+    }
+
     /**
      * 지능적인 기본값 생성 (정교하게 수정된 버전)
      */
@@ -321,23 +747,12 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
         }
 
         // === 🔥 단수형인데 s로 끝나는 변수들 (예외 처리) ===
-        Set<String> singularWordsEndingWithS = Set.of(
-                "paymentterms", "terms", "address", "business", "notes",
-                "status", "process", "access", "success", "class", "pass",
-                "sales", "news", "series", "species", "means", "headquarters"
-        );
-
-        if (singularWordsEndingWithS.contains(lowerName)) {
+        if (SINGULAR_WORDS_ENDING_WITH_S.contains(lowerName)) {
             return createSingularValue(varName);
         }
 
         // === 🔥 확실한 리스트 변수들 ===
-        Set<String> knownListVariables = Set.of(
-                "items", "templates", "users", "products", "files", "documents",
-                "records", "entries", "values", "results", "orders", "invoices"
-        );
-
-        if (knownListVariables.contains(lowerName)) {
+        if (KNOWN_LIST_VARIABLES.contains(lowerName)) {
             return createListValue(lowerName);
         }
 
@@ -412,21 +827,7 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
     }
 
     private static String getExactMatch(String lowerName) {
-        Map<String, String> exactMatches = Map.of(
-                "salesperson", "김영업",
-                "projectname", "BOXWOOD 프로젝트",
-                "paymentterms", "30일 이내 현금결제",  // 🔥 정확히 지정
-                "paymentinfo", "농협은행 123-456-789012 (주)박스우드테크놀로지",
-                "notes", "본 송장은 세금계산서를 포함하고 있습니다. 지불기한을 준수해주시기 바랍니다.",
-                "title", "템플릿 목록",
-                "subtitle", "사용 가능한 FreeMarker 템플릿들",
-                "currentuser", "관리자",
-                "documenttype", "송장",
-                "invoicenumber", "INV-20250108-001"
-        );
-
-        String exactMatch = exactMatches.get(lowerName);
-        return exactMatch;
+        return EXACT_MATCHES.get(lowerName);
     }
 
     /**
@@ -434,12 +835,7 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
      */
     private boolean isPluralVariable(String lowerName) {
         // 확실히 단수인 것들 제외
-        Set<String> singularWords = Set.of(
-                "paymentterms", "terms", "address", "business", "notes", "status",
-                "process", "access", "success", "class", "pass", "sales", "news"
-        );
-
-        if (singularWords.contains(lowerName)) {
+        if (SINGULAR_WORDS.contains(lowerName)) {
             return false;
         }
 
@@ -686,4 +1082,54 @@ public class TemplateAnalysisServiceImpl implements TemplateAnalysisService {
         defaults.put("dueDate", LocalDate.now().plusDays(30));
         return defaults;
     }
-}
\ No newline at end of file
+
+    /**
+     * 템플릿 인스턴스별로 컴파일된 요청 규칙 (검증기 + 가지치기 트리)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class CompiledRequestRules {
+        private final Template template;
+        private final boolean hasDependencies;
+        private final TemplateRequestValidator validator;
+        private final RenderPayloadPruner pruner;
+    }
+
+    /**
+     * 템플릿 버전별 미리보기 스냅샷 (불변)
+     * - createdOn: 생성일 (기본값 모델의 날짜 기준일)
+     * - defaultModel: 지능적 기본값이 채워진 모델
+     * - renderResult: 미리보기 렌더링 결과 (form.preview.cache-html=false 이거나 .now 를 출력하는 템플릿이면 null),
+     *   호출자에게는 copyRenderResult() 로 복사본 전달
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class PreviewSnapshot {
+        private final String version;
+        private final LocalDate createdOn;
+        private final Map<String, Object> defaultModel;
+        private final TemplateRenderResponseDto renderResult;
+
+        private boolean isCurrent(String currentVersion, LocalDate today) {
+            return version.equals(currentVersion) && createdOn.equals(today);
+        }
+
+        /**
+         * 스냅샷 렌더링 결과 복사본 - debugInfo 의 렌더링 시간/시각은 스냅샷 생성 당시 값이므로 스냅샷 표시와 제공 시각을 덧붙임
+         */
+        private TemplateRenderResponseDto copyRenderResult() {
+            Map<String, Object> debugInfo = new LinkedHashMap<>(renderResult.getDebugInfo());
+            debugInfo.put("fromPreviewSnapshot", true);
+            debugInfo.put("snapshotCreatedAt", debugInfo.get("timestamp"));
+            debugInfo.put("timestamp", LocalDateTime.now());
+            return TemplateRenderResponseDto.builder()
+                    .templateName(renderResult.getTemplateName())
+                    .renderedHtml(renderResult.getRenderedHtml())
+                    .success(true)
+                    .errors(new ArrayList<>())
+                    .debugInfo(debugInfo)
+                    .renderTimeMs(0)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.service.TemplateAssetService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.StyleAssetStore;
+import freemarker.template.Configuration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+
+/**
+ * 분리된 스타일시트 조회
+ * - 자산은 템플릿을 로드할 때 등록되므로, 기동 시 전체 템플릿을 한 번 로드해 재시작 전에 내려간 링크도 바로 응답
+ * - 없는 ID 는 템플릿을 다시 로드하지 않고 바로 null (임의 ID 요청이 템플릿 로드를 일으키지 않도록)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TemplateAssetServiceImpl implements TemplateAssetService {
+    private final StyleAssetStore styleAssetStore;
+    private final FreeMarkerVariableExtractor extractor;
+    private final Configuration freeMarkerConfig;
+
+    @Value("${form.template.styles.extract.enabled:false}")
+    private boolean extractStyles;
+
+    @Override
+    public byte[] getStyleAsset(String assetId) {
+        return styleAssetStore.get(assetId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registerStyleAssets() {
+        if (!extractStyles) {
+            return;
+        }
+        try {
+            for (String templateName : extractor.listTemplateNames()) {
+                try {
+                    freeMarkerConfig.getTemplate(templateName);
+                } catch (IOException e) {
+                    log.warn("Failed to load template {} while registering style assets: {}", templateName, e.getMessage());
+                }
+            }
+            log.info("Registered {} style assets", styleAssetStore.getAssetIds().size());
+        } catch (IOException e) {
+            log.warn("Failed to list templates while registering style assets: {}", e.getMessage());
+        }
+    }
+}
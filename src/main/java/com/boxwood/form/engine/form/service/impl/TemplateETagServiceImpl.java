@@ -0,0 +1,119 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.service.TemplateETagService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+
+/**
+ * 템플릿 버전 기반 ETag
+ * - 응답은 템플릿 버전과 옵션의 순수 함수이므로, 캐시된 버전만 조회하고 분석/렌더링 없이 304 판단
+ * - 로드 시점 변환(축소/스타일 분리) 설정과 분석기 버전도 출력에 영향을 주므로 ETag 에 포함
+ * - 렌더링 결과(preview-*)에 .now 가 들어가는 템플릿은 바이트가 매번 달라지므로 weak ETag
+ */
+@Service
+@Slf4j
+public class TemplateETagServiceImpl implements TemplateETagService {
+    private static final String[] ENCODING_SUFFIXES = {"-gzip", "-deflate"};
+    private static final String RENDERED_RESOURCE_PREFIX = "preview";
+
+    private final FreeMarkerVariableExtractor extractor;
+
+    // 추출 로직 버전 (같은 템플릿이라도 배포 후 분석 결과가 달라질 수 있음)
+    private int analyzerVersion = FreeMarkerVariableExtractor.ANALYZER_VERSION;
+
+    @Value("${form.template.etag.max-age:0}")
+    private long maxAgeSeconds;
+
+    @Value("${form.template.minify.enabled:false}")
+    private boolean minifyEnabled;
+
+    @Value("${form.template.styles.extract.enabled:false}")
+    private boolean extractStyles;
+
+    public TemplateETagServiceImpl(FreeMarkerVariableExtractor extractor) {
+        this.extractor = extractor;
+    }
+
+    @Override
+    public String getETag(String resource, String templateName, Object... options) {
+        String version;
+        boolean weak;
+        try {
+            version = extractor.getCachedTemplateVersion(templateName);
+            weak = resource.startsWith(RENDERED_RESOURCE_PREFIX) && extractor.isTimeDependent(templateName);
+        } catch (IOException e) {
+            log.debug("No ETag for {} ({}): {}", templateName, resource, e.getMessage());
+            return null;
+        }
+        String key = resource + '|' + templateName + '|' + version + '|' + Arrays.toString(options)
+                + "|minify=" + minifyEnabled + "|styles=" + extractStyles + "|analyzer=" + analyzerVersion;
+        return (weak ? "W/\"" : "\"") + hash(key) + '"';
+    }
+
+    @Override
+    public boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            // If-None-Match 는 약한 비교 (W/ 무시)
+            if (stripEncoding(opaqueTag(tag)).equals(opaqueTag(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String forVariant(String etag, String variant) {
+        if (etag == null || variant == null) {
+            return etag;
+        }
+        return etag.substring(0, etag.length() - 1) + '-' + variant + '"';
+    }
+
+    @Override
+    public CacheControl getCacheControl() {
+        // 기본은 매번 재검증 (편집 중인 템플릿이 바로 반영되도록)
+        return maxAgeSeconds > 0
+                ? CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).mustRevalidate()
+                : CacheControl.noCache();
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static String stripEncoding(String tag) {
+        for (String suffix : ENCODING_SUFFIXES) {
+            if (tag.endsWith(suffix + '"')) {
+                return tag.substring(0, tag.length() - suffix.length() - 1) + '"';
+            }
+        }
+        return tag;
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.TemplateFragmentRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateFragmentService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.TemplateFragmentSource;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 매크로/표시 영역 단위 부분 렌더링
+ * - 템플릿의 매크로/함수 정의(+ include 대상의 정의)를 프렐류드로 붙인 조각 템플릿을 만들어 컴파일
+ * - 조각 템플릿은 (템플릿, 조각) 단위로 캐시하며, 원본 Template 인스턴스가 바뀌면 다시 컴파일
+ * - 전체 문서를 실행하지 않으므로 조각 밖의 출력/계산 비용이 들지 않음
+ */
+@Service
+@Slf4j
+public class TemplateFragmentServiceImpl implements TemplateFragmentService {
+    private final FreeMarkerVariableExtractor extractor;
+    private final Configuration freeMarkerConfig;
+
+    // "템플릿명|macro:이름" / "템플릿명|region:이름" -> 컴파일된 조각
+    private final Map<String, CompiledFragment> fragments = new ConcurrentHashMap<>();
+
+    public TemplateFragmentServiceImpl(FreeMarkerVariableExtractor extractor, Configuration freeMarkerConfig) {
+        this.extractor = extractor;
+        this.freeMarkerConfig = freeMarkerConfig;
+    }
+
+    @Override
+    public TemplateRenderResponseDto renderFragment(TemplateFragmentRequestDto request) {
+        long startTime = System.currentTimeMillis();
+        String templateName = request.getTemplateName();
+        boolean macro = request.getMacroName() != null && !request.getMacroName().isBlank();
+        boolean region = request.getRegionName() != null && !request.getRegionName().isBlank();
+
+        if (macro == region) {
+            return failure(templateName, "Exactly one of macroName or regionName is required", startTime);
+        }
+
+        try {
+            Template template = freeMarkerConfig.getTemplate(templateName);
+            String fragmentKey = macro ? "macro:" + request.getMacroName() : "region:" + request.getRegionName();
+            CompiledFragment fragment = getFragment(templateName, template, fragmentKey);
+            int renderCount = fragment.getRenderCount().incrementAndGet();
+
+            Map<String, Object> dataModel = request.getVariables() != null
+                    ? new HashMap<>(request.getVariables()) : new HashMap<>();
+            if (macro) {
+                dataModel.put(TemplateFragmentSource.ARGUMENTS_VARIABLE,
+                        request.getArguments() != null ? request.getArguments() : Map.of());
+            }
+
+            StringWriter writer = new StringWriter();
+            fragment.getFragment().process(dataModel, writer);
+            long renderTime = System.currentTimeMillis() - startTime;
+
+            TemplateRenderResponseDto.TemplateRenderResponseDtoBuilder builder = TemplateRenderResponseDto.builder()
+                    .templateName(templateName)
+                    .renderedHtml(writer.toString())
+                    .success(true)
+                    .errors(new ArrayList<>())
+                    .renderTimeMs(renderTime);
+
+            if (request.isIncludeDebugInfo()) {
+                Map<String, Object> debugInfo = new HashMap<>();
+                debugInfo.put("fragment", fragmentKey);
+                debugInfo.put("fragmentRenderCount", renderCount);
+                debugInfo.put("fragmentSourceSize", fragment.getSourceSize());
+                debugInfo.put("variableCount", dataModel.size());
+                debugInfo.put("templateSize", writer.getBuffer().length());
+                debugInfo.put("renderTime", renderTime);
+                debugInfo.put("timestamp", LocalDateTime.now());
+                builder.debugInfo(debugInfo);
+            }
+
+            return builder.build();
+
+        } catch (IllegalArgumentException e) {
+            return failure(templateName, e.getMessage(), startTime);
+        } catch (IOException | TemplateException e) {
+            log.error("Failed to render fragment of template: {}", templateName, e);
+            return failure(templateName, "Render failed: " + e.getMessage(), startTime);
+        }
+    }
+
+    @Override
+    public Map<String, Object> listFragments(String templateName) {
+        try {
+            TemplateVariableAnalysis analysis = extractor.analyzeTemplate(templateName);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("templateName", templateName);
+            result.put("macros", analysis.getMacros());
+            result.put("regions", TemplateFragmentSource.parse(extractor.loadTemplateSource(templateName)).getRegionNames());
+            return result;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to list fragments of " + templateName + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 컴파일된 조각 조회 (없거나 원본 템플릿이 바뀌었으면 다시 컴파일)
+     * - include 가 있는 템플릿은 대상 파일 변경도 반영하도록 버전 해시를 비교
+     */
+    private CompiledFragment getFragment(String templateName, Template template, String fragmentKey) throws IOException {
+        String cacheKey = templateName + "|" + fragmentKey;
+        CompiledFragment cached = fragments.get(cacheKey);
+        if (cached != null && cached.getTemplate() == template
+                && (!cached.isHasDependencies() || cached.getVersion().equals(extractor.getTemplateVersion(templateName)))) {
+            return cached;
+        }
+
+        CompiledFragment fragment = compileFragment(templateName, template, fragmentKey);
+        fragments.put(cacheKey, fragment);
+        return fragment;
+    }
+
+    private CompiledFragment compileFragment(String templateName, Template template, String fragmentKey) throws IOException {
+        TemplateVariableAnalysis analysis;
+        try {
+            analysis = extractor.analyzeTemplate(templateName);
+        } catch (TemplateException e) {
+            throw new IOException("Template analysis failed: " + e.getMessage(), e);
+        }
+
+        TemplateFragmentSource parsed = TemplateFragmentSource.parse(extractor.loadTemplateSource(templateName));
+        StringBuilder source = new StringBuilder(parsed.getDefinitions());
+        // include 대상의 매크로/함수는 같은 네임스페이스에 정의되므로 함께 포함
+        for (String included : analysis.getIncludedTemplates()) {
+            source.append(TemplateFragmentSource.parse(extractor.loadTemplateSource(included)).getDefinitions());
+        }
+
+        String name = fragmentKey.substring(fragmentKey.indexOf(':') + 1);
+        if (fragmentKey.startsWith("macro:")) {
+            if (!analysis.getMacros().containsKey(name)) {
+                throw new IllegalArgumentException("Unknown macro '" + name + "' in " + templateName
+                        + " (available: " + analysis.getMacros().keySet() + ")");
+            }
+            source.append("<@").append(name).append("?with_args(")
+                    .append(TemplateFragmentSource.ARGUMENTS_VARIABLE).append(") />");
+        } else {
+            String body = parsed.regionBody(name);
+            if (body == null) {
+                throw new IllegalArgumentException("Unknown region '" + name + "' in " + templateName
+                        + " (available: " + parsed.getRegionNames() + ")");
+            }
+            source.append(body);
+        }
+
+        Template fragment = new Template(templateName + "#" + fragmentKey, source.toString(), freeMarkerConfig);
+        log.info("Compiled fragment {} of {} ({} chars)", fragmentKey, templateName, source.length());
+        boolean hasDependencies = !analysis.getIncludedTemplates().isEmpty() || !analysis.getImportedTemplates().isEmpty();
+        return new CompiledFragment(template, hasDependencies, analysis.getContentHash(), fragment, source.length());
+    }
+
+    private static TemplateRenderResponseDto failure(String templateName, String error, long startTime) {
+        return TemplateRenderResponseDto.builder()
+                .templateName(templateName)
+                .renderedHtml("")
+                .success(false)
+                .errors(List.of(error))
+                .renderTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * 원본 템플릿 인스턴스별로 컴파일된 조각
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class CompiledFragment {
+        private final Template template;
+        private final boolean hasDependencies;
+        private final String version;
+        private final Template fragment;
+        private final int sourceSize;
+        private final AtomicInteger renderCount = new AtomicInteger();
+    }
+}
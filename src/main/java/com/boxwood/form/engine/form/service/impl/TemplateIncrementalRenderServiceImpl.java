@@ -0,0 +1,353 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateIncrementalRenderService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.ModelReadTracker;
+import com.boxwood.form.engine.form.utils.ModelReadTracker.ReadSet;
+import com.boxwood.form.engine.form.utils.TemplateFragmentSource;
+import freemarker.core.Environment;
+import freemarker.template.*;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 최상위 섹션 단위 증분 렌더링
+ * - 최상위 블록 지시자(#if, #list 등)를 섹션 지시자로 감싼 템플릿을 컴파일 (템플릿 버전 단위 캐시)
+ *   같은 위치에 태그만 추가하므로 공백 제거 결과는 원본 템플릿과 같음
+ * - 렌더링 중 섹션별로 읽은 모델 경로를 기록하고, 문서(템플릿명 + documentId)별로 섹션 출력과 함께 보관
+ * - 다음 렌더링에서는 이전 모델과의 변경 경로를 읽은 섹션만 다시 실행하고 나머지는 이전 출력을 이어 붙임
+ * - 섹션 사이의 텍스트/보간은 항상 실행
+ * - 변수를 할당하는 섹션(#assign 등)은 항상 실행하고, 그 입력이 바뀌면 이후 섹션을 모두 다시 실행
+ * - .now 를 출력하는 섹션은 항상 실행하고, .now 를 할당하는 곳이 있으면 이후 섹션도 모두 실행
+ * - 매크로/함수 호출은 정의 본문까지 보고 판단 (.now 를 쓰는 정의, import 네임스페이스, 정의를 모르는 지시자를 호출하면 항상 실행)
+ */
+@Service
+@Slf4j
+public class TemplateIncrementalRenderServiceImpl implements TemplateIncrementalRenderService {
+    private static final String SECTION_DIRECTIVE = "_incrementalSection";
+    // 네임스페이스 상태를 바꾸는 지시자 (이후 섹션 출력에 영향)
+    private static final Pattern STATEFUL_PATTERN = Pattern.compile("<#(assign|global|include|import|setting)\\b");
+    // 모델과 무관하게 매번 달라지는 값
+    private static final Pattern VOLATILE_PATTERN = Pattern.compile("\\.now\\b");
+    // 매번 달라지는 값을 할당하는 지시자
+    private static final Pattern VOLATILE_STATE_PATTERN = Pattern.compile("<#(assign|global|setting)\\b[^>]*\\.now\\b");
+    // 사용자 지시자 호출 (<@name, <@ns.name, 이름이 비어 있으면 동적 호출)
+    private static final Pattern USER_DIRECTIVE_CALL = Pattern.compile("<@([\\w.]*)");
+
+    private final FreeMarkerVariableExtractor extractor;
+    private final Configuration freeMarkerConfig;
+
+    @Value("${form.render.incremental.max-documents:1000}")
+    private int maxDocuments;
+
+    // 템플릿명 -> 섹션 분할 컴파일 결과
+    private final Map<String, SectionPlan> plans = new ConcurrentHashMap<>();
+
+    // "템플릿명|documentId" -> 이전 렌더링 상태 (접근 순서 LRU)
+    private final Map<String, DocumentState> documents = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, DocumentState> eldest) {
+                    return size() > maxDocuments;
+                }
+            });
+
+    public TemplateIncrementalRenderServiceImpl(FreeMarkerVariableExtractor extractor, Configuration freeMarkerConfig) {
+        this.extractor = extractor;
+        this.freeMarkerConfig = freeMarkerConfig;
+    }
+
+    @Override
+    public TemplateRenderResponseDto renderIncremental(TemplateRenderRequestDto request) {
+        long startTime = System.currentTimeMillis();
+        String templateName = request.getTemplateName();
+        if (request.getDocumentId() == null || request.getDocumentId().isBlank()) {
+            return failure(templateName, "documentId is required for incremental rendering", startTime);
+        }
+
+        String documentKey = templateName + "|" + request.getDocumentId();
+        try {
+            Template template = freeMarkerConfig.getTemplate(templateName);
+            SectionPlan plan = getPlan(templateName, template);
+            int sectionCount = plan.getSections().size();
+            Map<String, Object> model = request.getVariables() != null
+                    ? ModelReadTracker.copy(request.getVariables()) : new LinkedHashMap<>();
+
+            DocumentState previous = documents.get(documentKey);
+            Set<String> changedPaths = null;
+            boolean[] execute = new boolean[sectionCount];
+            if (previous == null || !previous.getVersion().equals(plan.getVersion())) {
+                Arrays.fill(execute, true);
+            } else {
+                changedPaths = ModelReadTracker.changedPaths(previous.getModel(), model);
+                markSectionsToExecute(plan, previous, changedPaths, execute);
+            }
+
+            ModelReadTracker tracker = new ModelReadTracker(freeMarkerConfig.getObjectWrapper());
+            SectionDirective directive = new SectionDirective(previous, execute, tracker);
+            StringWriter writer = new StringWriter();
+            Environment env = plan.getTemplate().createProcessingEnvironment(tracker.wrap(model), writer);
+            env.setGlobalVariable(SECTION_DIRECTIVE, directive);
+            env.process();
+
+            documents.put(documentKey, new DocumentState(plan.getVersion(), model,
+                    List.of(directive.outputs), List.of(directive.reads), List.of(directive.gapReads)));
+
+            int reused = 0;
+            for (boolean executed : execute) {
+                reused += executed ? 0 : 1;
+            }
+            long renderTime = System.currentTimeMillis() - startTime;
+            log.info("Incremental render of {} [{}]: {}/{} sections reused ({}ms)",
+                    templateName, request.getDocumentId(), reused, execute.length, renderTime);
+
+            TemplateRenderResponseDto.TemplateRenderResponseDtoBuilder builder = TemplateRenderResponseDto.builder()
+                    .templateName(templateName)
+                    .renderedHtml(writer.toString())
+                    .success(true)
+                    .errors(new ArrayList<>())
+                    .renderTimeMs(renderTime)
+                    .sectionCount(execute.length)
+                    .reusedSectionCount(reused);
+
+            if (request.isIncludeDebugInfo()) {
+                List<Integer> executedSections = new ArrayList<>();
+                for (int i = 0; i < execute.length; i++) {
+                    if (execute[i]) {
+                        executedSections.add(i);
+                    }
+                }
+                Map<String, Object> debugInfo = new HashMap<>();
+                debugInfo.put("documentId", request.getDocumentId());
+                debugInfo.put("fullRender", changedPaths == null);
+                debugInfo.put("changedPaths", changedPaths != null ? changedPaths : List.of());
+                debugInfo.put("executedSections", executedSections);
+                debugInfo.put("variableCount", model.size());
+                debugInfo.put("templateSize", writer.getBuffer().length());
+                debugInfo.put("renderTime", renderTime);
+                debugInfo.put("timestamp", LocalDateTime.now());
+                builder.debugInfo(debugInfo);
+            }
+
+            return builder.build();
+
+        } catch (IOException | TemplateException e) {
+            // 실패한 렌더링의 부분 결과는 재사용하지 않음
+            documents.remove(documentKey);
+            log.error("Failed to render template incrementally: {}", templateName, e);
+            return failure(templateName, "Render failed: " + e.getMessage(), startTime);
+        }
+    }
+
+    /**
+     * 다시 실행할 섹션 표시
+     * - 변경 경로를 읽은 섹션, .now 섹션, 할당이 있는 섹션(이후 텍스트/섹션이 할당 값을 읽을 수 있음)
+     * - 할당이 있는 섹션이나 섹션 사이 텍스트의 입력이 바뀌었으면 이후 섹션은 모두 실행
+     */
+    private static void markSectionsToExecute(SectionPlan plan, DocumentState previous,
+                                              Set<String> changedPaths, boolean[] execute) {
+        boolean stateChanged = false;
+        for (int i = 0; i < execute.length; i++) {
+            Section section = plan.getSections().get(i);
+            Section gap = plan.getGaps().get(i);
+            stateChanged |= gap.isStateful()
+                    && (gap.isVolatileState() || ModelReadTracker.affects(previous.getGapReads().get(i), changedPaths));
+            boolean affected = ModelReadTracker.affects(previous.getReads().get(i), changedPaths);
+            execute[i] = stateChanged || affected || section.isVolatileOutput() || section.isStateful();
+            stateChanged |= section.isStateful() && (affected || section.isVolatileState());
+        }
+    }
+
+    /**
+     * 섹션 지시자로 감싼 템플릿 조회 (원본 템플릿이나 include/import 대상이 바뀌었으면 다시 컴파일)
+     */
+    private SectionPlan getPlan(String templateName, Template template) throws IOException {
+        String version = extractor.getTemplateVersion(templateName);
+        SectionPlan cached = plans.get(templateName);
+        if (cached != null && cached.getSource() == template && cached.getVersion().equals(version)) {
+            return cached;
+        }
+
+        String source = extractor.loadTemplateSource(templateName);
+        TemplateFragmentSource parsed = TemplateFragmentSource.parse(source);
+        // 매크로/함수 안의 할당은 호출하는 곳마다 상태를 바꿀 수 있으므로 전부 할당이 있는 것으로 취급
+        boolean statefulDefinitions = STATEFUL_PATTERN.matcher(parsed.getDefinitions()).find();
+        Set<String> volatileDefinitions = volatileDefinitions(parsed);
+
+        StringBuilder wrapped = new StringBuilder(source.length() + parsed.getTopLevelBlocks().size() * 64);
+        List<Section> sections = new ArrayList<>();
+        List<Section> gaps = new ArrayList<>();
+        int previous = 0;
+        for (int[] block : parsed.getTopLevelBlocks()) {
+            gaps.add(section(source.substring(previous, block[0]), statefulDefinitions, parsed, volatileDefinitions));
+            sections.add(section(source.substring(block[0], block[1]), statefulDefinitions, parsed, volatileDefinitions));
+            wrapped.append(source, previous, block[0])
+                    .append("<@").append(SECTION_DIRECTIVE).append(" index=").append(sections.size() - 1).append('>')
+                    .append(source, block[0], block[1])
+                    .append("</@").append(SECTION_DIRECTIVE).append('>');
+            previous = block[1];
+        }
+        gaps.add(section(source.substring(previous), statefulDefinitions, parsed, volatileDefinitions));
+        wrapped.append(source, previous, source.length());
+
+        Template sectioned = new Template(templateName, wrapped.toString(), freeMarkerConfig);
+        SectionPlan plan = new SectionPlan(template, version, sectioned, sections, gaps);
+        plans.put(templateName, plan);
+        log.info("Compiled {} incremental sections of {} ({} with assignments)", sections.size(), templateName,
+                sections.stream().filter(Section::isStateful).count());
+        return plan;
+    }
+
+    private static Section section(String source, boolean statefulDefinitions,
+                                   TemplateFragmentSource parsed, Set<String> volatileDefinitions) {
+        return new Section(statefulDefinitions || STATEFUL_PATTERN.matcher(source).find(),
+                VOLATILE_PATTERN.matcher(source).find() || callsVolatile(source, parsed, volatileDefinitions),
+                VOLATILE_STATE_PATTERN.matcher(source).find());
+    }
+
+    /**
+     * 호출 결과가 매번 달라질 수 있는 매크로/함수 (본문에서 .now 사용, 또는 그런 정의를 호출 - 고정점까지 반복)
+     */
+    private static Set<String> volatileDefinitions(TemplateFragmentSource parsed) {
+        Set<String> volatileNames = new HashSet<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<String, String> definition : parsed.getDefinitionSources().entrySet()) {
+                String body = definition.getValue();
+                if (!volatileNames.contains(definition.getKey())
+                        && (VOLATILE_PATTERN.matcher(body).find() || callsVolatile(body, parsed, volatileNames))) {
+                    volatileNames.add(definition.getKey());
+                    changed = true;
+                }
+            }
+        }
+        return volatileNames;
+    }
+
+    /**
+     * 결과가 매번 달라질 수 있는 호출이 있는지
+     * - 이 템플릿에 정의가 없는 사용자 지시자(import 네임스페이스, 공유 변수, 동적 호출)는 본문을 알 수 없으므로 포함
+     */
+    private static boolean callsVolatile(String source, TemplateFragmentSource parsed, Set<String> volatileDefinitions) {
+        Matcher call = USER_DIRECTIVE_CALL.matcher(source);
+        while (call.find()) {
+            String name = call.group(1);
+            if (!parsed.getDefinitionSources().containsKey(name) || volatileDefinitions.contains(name)) {
+                return true;
+            }
+        }
+        for (String namespace : parsed.getImportNamespaces()) {
+            if (Pattern.compile("\\b" + namespace + "\\.").matcher(source).find()) {
+                return true;
+            }
+        }
+        for (String name : volatileDefinitions) {
+            if (Pattern.compile("\\b" + name + "\\s*\\(").matcher(source).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static TemplateRenderResponseDto failure(String templateName, String error, long startTime) {
+        return TemplateRenderResponseDto.builder()
+                .templateName(templateName)
+                .renderedHtml("")
+                .success(false)
+                .errors(List.of(error))
+                .renderTimeMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * 섹션 지시자 (재사용 섹션은 이전 출력, 나머지는 본문을 실행하면서 읽기 경로 기록)
+     * - 섹션 밖에서 읽은 경로는 다음 섹션 앞의 사이 텍스트 읽기로 기록
+     */
+    private static final class SectionDirective implements TemplateDirectiveModel {
+        private final DocumentState previous;
+        private final boolean[] execute;
+        private final ModelReadTracker tracker;
+        private final String[] outputs;
+        private final ReadSet[] reads;
+        private final ReadSet[] gapReads;
+
+        private SectionDirective(DocumentState previous, boolean[] execute, ModelReadTracker tracker) {
+            this.previous = previous;
+            this.execute = execute;
+            this.tracker = tracker;
+            this.outputs = new String[execute.length];
+            this.reads = new ReadSet[execute.length];
+            this.gapReads = new ReadSet[execute.length + 1];
+            for (int i = 0; i < gapReads.length; i++) {
+                gapReads[i] = new ReadSet();
+            }
+            tracker.record(gapReads[0]);
+        }
+
+        @Override
+        public void execute(Environment env, Map params, TemplateModel[] loopVars, TemplateDirectiveBody body)
+                throws TemplateException, IOException {
+            int index = ((TemplateNumberModel) params.get("index")).getAsNumber().intValue();
+            if (!execute[index]) {
+                outputs[index] = previous.getOutputs().get(index);
+                reads[index] = previous.getReads().get(index);
+            } else {
+                reads[index] = new ReadSet();
+                tracker.record(reads[index]);
+                StringWriter section = new StringWriter();
+                body.render(section);
+                outputs[index] = section.toString();
+            }
+            env.getOut().write(outputs[index]);
+            tracker.record(gapReads[index + 1]);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Section {
+        private final boolean stateful;
+        private final boolean volatileOutput;
+        private final boolean volatileState;
+    }
+
+    /**
+     * 원본 템플릿 인스턴스/버전별 섹션 분할 결과 (gaps: 각 섹션 앞의 사이 텍스트 + 마지막 섹션 뒤)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class SectionPlan {
+        private final Template source;
+        private final String version;
+        private final Template template;
+        private final List<Section> sections;
+        private final List<Section> gaps;
+    }
+
+    /**
+     * 문서별 이전 렌더링 상태 (렌더링 후 교체만 하므로 불변)
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class DocumentState {
+        private final String version;
+        private final Map<String, Object> model;
+        private final List<String> outputs;
+        private final List<ReadSet> reads;
+        private final List<ReadSet> gapReads;
+    }
+}
@@ -0,0 +1,143 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.service.TemplateMinificationService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.TransformingTemplateLoader;
+import com.boxwood.form.engine.form.utils.TemplateTextMinifier;
+import freemarker.cache.TemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 정적 텍스트 축소 전후 비교
+ * - 설정과 무관하게 원본 로더에서 소스를 읽어 원본/축소 템플릿을 각각 컴파일
+ * - 미리보기 기본값 모델로 반복 렌더링해 평균 렌더링 시간과 출력 크기를 측정
+ */
+@Service
+@Slf4j
+public class TemplateMinificationServiceImpl implements TemplateMinificationService {
+    private final FreeMarkerVariableExtractor extractor;
+    private final Configuration freeMarkerConfig;
+    private final TemplateAnalysisService templateService;
+
+    @Value("${form.template.minify.enabled:false}")
+    private boolean minifyEnabled;
+
+    @Value("${form.template.minify.report-iterations:200}")
+    private int iterations;
+
+    public TemplateMinificationServiceImpl(
+            FreeMarkerVariableExtractor extractor,
+            Configuration freeMarkerConfig,
+            TemplateAnalysisService templateService
+    ) {
+        this.extractor = extractor;
+        this.freeMarkerConfig = freeMarkerConfig;
+        this.templateService = templateService;
+    }
+
+    @Override
+    public List<Map<String, Object>> getMinificationReport(String templateName) {
+        List<String> templateNames;
+        try {
+            templateNames = templateName != null ? List.of(templateName) : extractor.listTemplateNames();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to list templates: " + e.getMessage(), e);
+        }
+
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (String name : templateNames) {
+            report.add(measure(name));
+        }
+        return report;
+    }
+
+    private Map<String, Object> measure(String templateName) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("templateName", templateName);
+        result.put("minifyEnabled", minifyEnabled);
+        try {
+            String source = loadOriginalSource(templateName);
+            String minified = TemplateTextMinifier.minify(source);
+            Map<String, Object> model = templateService.getPreviewModel(templateName);
+
+            Measurement before = render(new Template(templateName, source, freeMarkerConfig), model);
+            Measurement after = render(new Template(templateName, minified, freeMarkerConfig), model);
+
+            result.put("sourceBytesBefore", source.getBytes(StandardCharsets.UTF_8).length);
+            result.put("sourceBytesAfter", minified.getBytes(StandardCharsets.UTF_8).length);
+            result.put("outputBytesBefore", before.getOutputBytes());
+            result.put("outputBytesAfter", after.getOutputBytes());
+            result.put("outputReduction", before.getOutputBytes() == 0 ? 0.0
+                    : Math.round((1.0 - (double) after.getOutputBytes() / before.getOutputBytes()) * 1000) / 10.0);
+            result.put("renderTimeMicrosBefore", before.getAverageMicros());
+            result.put("renderTimeMicrosAfter", after.getAverageMicros());
+            result.put("iterations", iterations);
+        } catch (IOException | TemplateException e) {
+            log.warn("Failed to measure minification for {}: {}", templateName, e.getMessage());
+            result.put("error", e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * 워밍업 후 반복 렌더링한 평균 시간(µs)과 출력 크기
+     */
+    private Measurement render(Template template, Map<String, Object> model) throws IOException, TemplateException {
+        String output = "";
+        for (int i = 0; i < Math.max(3, iterations / 10); i++) {
+            output = process(template, model);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            process(template, model);
+        }
+        long averageMicros = (System.nanoTime() - start) / Math.max(1, iterations) / 1000;
+        return new Measurement(output.getBytes(StandardCharsets.UTF_8).length, averageMicros);
+    }
+
+    private static String process(Template template, Map<String, Object> model) throws IOException, TemplateException {
+        StringWriter writer = new StringWriter();
+        template.process(model, writer);
+        return writer.toString();
+    }
+
+    /**
+     * 축소 로더를 거치지 않은 원본 소스
+     */
+    private String loadOriginalSource(String templateName) throws IOException {
+        TemplateLoader loader = TransformingTemplateLoader.unwrap(freeMarkerConfig.getTemplateLoader());
+        Object source = loader.findTemplateSource(templateName);
+        if (source == null) {
+            throw new FileNotFoundException("Template not found: " + templateName);
+        }
+        try (Reader reader = loader.getReader(source, freeMarkerConfig.getDefaultEncoding())) {
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            return writer.toString();
+        } finally {
+            loader.closeTemplateSource(source);
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Measurement {
+        private final int outputBytes;
+        private final long averageMicros;
+    }
+}
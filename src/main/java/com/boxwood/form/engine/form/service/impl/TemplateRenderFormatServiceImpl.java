@@ -0,0 +1,231 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.service.TemplateRenderFormatService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.RenderResultHeaders;
+import com.boxwood.form.engine.form.utils.ResponseFormatNegotiator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 렌더링 응답 형식 비교
+ * - JSON: TemplateRenderResponseDto 를 Jackson 으로 직렬화 (클라이언트는 다시 역직렬화)
+ * - raw: HTML 을 UTF-8 바이트 그대로 본문으로, 메타데이터는 /render-raw 와 같은 헤더로 인코딩
+ * - 같은 렌더링 결과로 반복 측정해 평균 시간(µs)과 전송 바이트(본문 + 헤더)를 비교
+ * - 인코딩 비교: 같은 DTO 를 JSON/CBOR/Smile 매퍼(응답에 쓰는 것과 동일)로 인코딩/디코딩
+ */
+@Service
+@Slf4j
+public class TemplateRenderFormatServiceImpl implements TemplateRenderFormatService {
+    private final FreeMarkerVariableExtractor extractor;
+    private final TemplateAnalysisService templateService;
+    private final ObjectMapper objectMapper;
+    private final ResponseFormatNegotiator formatNegotiator;
+
+    @Value("${form.render.raw.max-header-bytes:4096}")
+    private int maxHeaderBytes;
+
+    @Value("${form.render.format-report.iterations:200}")
+    private int iterations;
+
+    public TemplateRenderFormatServiceImpl(
+            FreeMarkerVariableExtractor extractor,
+            TemplateAnalysisService templateService,
+            ObjectMapper objectMapper,
+            ResponseFormatNegotiator formatNegotiator
+    ) {
+        this.extractor = extractor;
+        this.templateService = templateService;
+        this.objectMapper = objectMapper;
+        this.formatNegotiator = formatNegotiator;
+    }
+
+    @Override
+    public List<Map<String, Object>> getRenderFormatReport(String templateName, int repeat) {
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (String name : templateNames(templateName)) {
+            report.add(measure(name, Math.max(1, repeat)));
+        }
+        return report;
+    }
+
+    @Override
+    public List<Map<String, Object>> getEncodingReport(String templateName) {
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (String name : templateNames(templateName)) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("templateName", name);
+            result.put("iterations", iterations);
+            result.put("analysis", measureEncodings(templateService.analyzeTemplate(name)));
+            result.put("variableMap", measureEncodings(templateService.getTemplateVariableMap(name)));
+            result.put("render", measureEncodings(templateService.renderTemplatePreview(name)));
+            report.add(result);
+        }
+        return report;
+    }
+
+    private List<String> templateNames(String templateName) {
+        try {
+            return templateName != null ? List.of(templateName) : extractor.listTemplateNames();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to list templates: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 형식별 인코딩 크기, 평균 인코딩/디코딩 시간(µs)
+     */
+    private Map<String, Object> measureEncodings(Object dto) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (MediaType format : formatNegotiator.getFormats()) {
+            ObjectMapper mapper = formatNegotiator.getMapper(format);
+            Map<String, Object> measurement = new LinkedHashMap<>();
+            try {
+                byte[] bytes = mapper.writeValueAsBytes(dto);
+                for (int i = 0; i < warmup(); i++) {
+                    mapper.readValue(mapper.writeValueAsBytes(dto), dto.getClass());
+                }
+
+                long start = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    bytes = mapper.writeValueAsBytes(dto);
+                }
+                long encodeNanos = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                for (int i = 0; i < iterations; i++) {
+                    mapper.readValue(bytes, dto.getClass());
+                }
+                long decodeNanos = System.nanoTime() - start;
+
+                measurement.put("bytes", bytes.length);
+                measurement.put("encodeMicros", average(encodeNanos));
+                measurement.put("decodeMicros", average(decodeNanos));
+            } catch (IOException e) {
+                measurement.put("error", e.getMessage());
+            }
+            result.put(format.getSubtype(), measurement);
+        }
+        return result;
+    }
+
+    private Map<String, Object> measure(String templateName, int repeat) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("templateName", templateName);
+        TemplateRenderResponseDto preview = templateService.renderTemplatePreview(templateName);
+        if (!preview.isSuccess()) {
+            result.put("error", preview.getErrors());
+            return result;
+        }
+        TemplateRenderResponseDto rendered = TemplateRenderResponseDto.builder()
+                .templateName(templateName)
+                .renderedHtml(preview.getRenderedHtml().repeat(repeat))
+                .success(true)
+                .errors(List.of())
+                .debugInfo(preview.getDebugInfo())
+                .renderTimeMs(preview.getRenderTimeMs())
+                .build();
+
+        try {
+            Measurement json = measureJson(rendered);
+            Measurement raw = measureRaw(rendered);
+            result.put("htmlBytes", raw.getBodyBytes());
+            result.put("iterations", iterations);
+            result.put("json", json.toMap());
+            result.put("raw", raw.toMap());
+            result.put("wireBytesSaved", json.getWireBytes() - raw.getWireBytes());
+            result.put("serializeSpeedup", raw.getSerializeMicros() == 0 ? null
+                    : Math.round((double) json.getSerializeMicros() / raw.getSerializeMicros() * 10) / 10.0);
+        } catch (IOException e) {
+            log.warn("Failed to measure render formats for {}: {}", templateName, e.getMessage());
+            result.put("error", e.getMessage());
+        }
+        return result;
+    }
+
+    private Measurement measureJson(TemplateRenderResponseDto rendered) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(rendered);
+        for (int i = 0; i < warmup(); i++) {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(rendered), TemplateRenderResponseDto.class);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = objectMapper.writeValueAsBytes(rendered);
+        }
+        long serializeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            objectMapper.readValue(bytes, TemplateRenderResponseDto.class);
+        }
+        long parseNanos = System.nanoTime() - start;
+        return new Measurement(bytes.length, 0, average(serializeNanos), average(parseNanos));
+    }
+
+    private Measurement measureRaw(TemplateRenderResponseDto rendered) {
+        HttpHeaders headers = RenderResultHeaders.of(rendered, objectMapper, maxHeaderBytes);
+        byte[] bytes = rendered.getRenderedHtml().getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < warmup(); i++) {
+            RenderResultHeaders.of(rendered, objectMapper, maxHeaderBytes);
+            new String(rendered.getRenderedHtml().getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            headers = RenderResultHeaders.of(rendered, objectMapper, maxHeaderBytes);
+            bytes = rendered.getRenderedHtml().getBytes(StandardCharsets.UTF_8);
+        }
+        long serializeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            new String(bytes, StandardCharsets.UTF_8);
+        }
+        long parseNanos = System.nanoTime() - start;
+        return new Measurement(bytes.length, RenderResultHeaders.size(headers), average(serializeNanos), average(parseNanos));
+    }
+
+    private int warmup() {
+        return Math.max(3, iterations / 10);
+    }
+
+    private long average(long nanos) {
+        return nanos / Math.max(1, iterations) / 1000;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Measurement {
+        private final int bodyBytes;
+        private final int headerBytes;
+        private final long serializeMicros;
+        private final long parseMicros;
+
+        private int getWireBytes() {
+            return bodyBytes + headerBytes;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("bodyBytes", bodyBytes);
+            map.put("headerBytes", headerBytes);
+            map.put("wireBytes", getWireBytes());
+            map.put("serializeMicros", serializeMicros);
+            map.put("parseMicros", parseMicros);
+            return map;
+        }
+    }
+}
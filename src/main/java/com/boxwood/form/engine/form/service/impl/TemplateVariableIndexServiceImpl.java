@@ -0,0 +1,235 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.VariableUsageDto;
+import com.boxwood.form.engine.form.service.TemplateVariableIndexService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.TemplateUsageScanner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * 변수 경로 -> 템플릿 역색인
+ * - 경로는 정렬 맵으로 보관하여 접두사 조회는 범위 탐색으로 처리
+ * - 템플릿 내용 해시가 바뀐 경우에만 해당 템플릿의 항목을 교체
+ * - 분석에 실패한 템플릿도 버전을 기록해 바뀌기 전까지 다시 분석하지 않음
+ * - 주기 갱신은 컴파일된 Template 기준 캐시 버전으로 비교하므로 바뀌지 않은 템플릿은 소스를 다시 읽지 않음
+ */
+@Service
+@Slf4j
+public class TemplateVariableIndexServiceImpl implements TemplateVariableIndexService {
+    private final FreeMarkerVariableExtractor extractor;
+
+    // 변수 경로 -> (템플릿명 -> 사용 유형)
+    private final ConcurrentSkipListMap<String, Map<String, Set<ExpressionType>>> index = new ConcurrentSkipListMap<>();
+    // 템플릿명 -> 색인된 버전
+    private final Map<String, String> indexedVersions = new ConcurrentHashMap<>();
+    // 템플릿명 -> 색인된 경로
+    private final Map<String, Set<String>> indexedPaths = new ConcurrentHashMap<>();
+    // refreshAll 실행 중 여부
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public TemplateVariableIndexServiceImpl(FreeMarkerVariableExtractor extractor) {
+        this.extractor = extractor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        refreshAll();
+        log.info("Variable index built: {} paths across {} templates", index.size(), indexedVersions.size());
+    }
+
+    @Scheduled(initialDelayString = "${form.variable-index.refresh-interval-ms:60000}",
+            fixedDelayString = "${form.variable-index.refresh-interval-ms:60000}")
+    @Override
+    public void refreshAll() {
+        // 시작 시 색인과 주기 갱신이 겹치면 나중 호출은 건너뜀 (update 는 요청 스레드도 호출하므로 모니터로 막지 않음)
+        if (!refreshing.compareAndSet(false, true)) {
+            log.debug("Variable index refresh already running, skipped");
+            return;
+        }
+        try {
+            List<String> templateNames = extractor.listTemplateNames();
+            for (String templateName : templateNames) {
+                try {
+                    String version = extractor.getCachedTemplateVersion(templateName);
+                    if (!version.equals(indexedVersions.get(templateName))) {
+                        TemplateVariableAnalysis analysis = extractor.analyzeTemplate(templateName);
+                        if (analysis.isTemplateValid()) {
+                            update(analysis);
+                        } else {
+                            markInvalid(templateName, version);
+                        }
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to index template {}: {}", templateName, e.getMessage());
+                }
+            }
+            // 삭제된 템플릿 정리
+            new HashSet<>(indexedVersions.keySet()).stream()
+                    .filter(name -> !templateNames.contains(name))
+                    .forEach(this::remove);
+        } catch (Exception e) {
+            log.warn("Variable index refresh failed: {}", e.getMessage());
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    @Override
+    public synchronized void update(TemplateVariableAnalysis analysis) {
+        String templateName = analysis.getTemplateName();
+        if (!analysis.isTemplateValid() || analysis.getContentHash() == null
+                || analysis.getContentHash().equals(indexedVersions.get(templateName))) {
+            return;
+        }
+
+        removeEntries(templateName);
+
+        Set<String> paths = new LinkedHashSet<>();
+        for (String variablePath : analysis.getVariablePaths()) {
+            String path = TemplateUsageScanner.normalizePath(variablePath);
+            paths.add(path);
+            Set<ExpressionType> types = EnumSet.noneOf(ExpressionType.class);
+            types.addAll(analysis.getReferencedVariables().getOrDefault(variablePath, Set.of()));
+            index.computeIfAbsent(path, k -> new ConcurrentHashMap<>())
+                    .merge(templateName, types, TemplateVariableIndexServiceImpl::union);
+        }
+
+        indexedPaths.put(templateName, paths);
+        indexedVersions.put(templateName, analysis.getContentHash());
+        log.debug("Variable index updated for {}: {} paths", templateName, paths.size());
+    }
+
+    /**
+     * 분석 실패 템플릿 - 이전 항목은 지우고 버전만 기록
+     */
+    private synchronized void markInvalid(String templateName, String version) {
+        removeEntries(templateName);
+        indexedVersions.put(templateName, version);
+        log.warn("Template {} could not be analyzed, skipped until it changes", templateName);
+    }
+
+    @Override
+    public synchronized void remove(String templateName) {
+        removeEntries(templateName);
+        indexedVersions.remove(templateName);
+    }
+
+    @Override
+    public List<VariableUsageDto> findByPath(String path) {
+        String normalized = TemplateUsageScanner.normalizePath(path);
+        Map<String, Set<ExpressionType>> templates = index.get(normalized);
+        List<VariableUsageDto> result = new ArrayList<>();
+        if (templates != null) {
+            addUsages(normalized, templates, result);
+        }
+        return result;
+    }
+
+    @Override
+    public List<VariableUsageDto> findByPrefix(String prefix) {
+        String normalized = TemplateUsageScanner.normalizePath(prefix);
+        List<VariableUsageDto> result = new ArrayList<>();
+        prefixRange(normalized).forEach((path, templates) -> {
+            if (isPathPrefix(normalized, path)) {
+                addUsages(path, templates, result);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<VariableUsageDto> findByPattern(String pattern) {
+        String normalized = TemplateUsageScanner.normalizePath(pattern);
+        Pattern regex = toRegex(normalized);
+
+        // 첫 와일드카드 앞의 리터럴 부분으로 탐색 범위 축소
+        int wildcard = indexOfWildcard(normalized);
+        Map<String, Map<String, Set<ExpressionType>>> candidates =
+                wildcard > 0 ? prefixRange(normalized.substring(0, wildcard)) : index;
+
+        List<VariableUsageDto> result = new ArrayList<>();
+        candidates.forEach((path, templates) -> {
+            if (regex.matcher(path).matches()) {
+                addUsages(path, templates, result);
+            }
+        });
+        return result;
+    }
+
+    private void removeEntries(String templateName) {
+        Set<String> paths = indexedPaths.remove(templateName);
+        if (paths == null) {
+            return;
+        }
+        for (String path : paths) {
+            index.computeIfPresent(path, (key, templates) -> {
+                templates.remove(templateName);
+                return templates.isEmpty() ? null : templates;
+            });
+        }
+    }
+
+    private Map<String, Map<String, Set<ExpressionType>>> prefixRange(String prefix) {
+        return index.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void addUsages(String path, Map<String, Set<ExpressionType>> templates, List<VariableUsageDto> result) {
+        new TreeMap<>(templates).forEach((templateName, types) -> result.add(VariableUsageDto.builder()
+                .path(path)
+                .templateName(templateName)
+                .usageTypes(types)
+                .build()));
+    }
+
+    /**
+     * 경로 구간 경계에서만 접두사로 인정 (item 은 item, item.name, item[] 과 일치하고 items 와는 불일치)
+     */
+    private static boolean isPathPrefix(String prefix, String path) {
+        if (prefix.isEmpty() || path.length() == prefix.length()) {
+            return true;
+        }
+        char last = prefix.charAt(prefix.length() - 1);
+        char next = path.charAt(prefix.length());
+        return last == '.' || last == '[' || next == '.' || next == '[';
+    }
+
+    private static Set<ExpressionType> union(Set<ExpressionType> first, Set<ExpressionType> second) {
+        Set<ExpressionType> merged = EnumSet.noneOf(ExpressionType.class);
+        merged.addAll(first);
+        merged.addAll(second);
+        return merged;
+    }
+
+    private static int indexOfWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == '*' || pattern.charAt(i) == '?') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static Pattern toRegex(String pattern) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
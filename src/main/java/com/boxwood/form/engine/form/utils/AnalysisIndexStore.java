@@ -0,0 +1,394 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * 파일 단위 템플릿 분석 결과의 디스크 인덱스
+ * - 템플릿 경로 + 내용 해시 기준으로 저장, 재시작 시 변경되지 않은 템플릿은 분석 생략
+ * - 레코드 단위 append 기록, 기동 시 memory-mapped 로 일괄 로드
+ * - 추출기 버전이 다른 레코드는 폐기
+ * - 같은 템플릿의 이전 레코드가 유효 레코드 수(최소 compact-threshold)보다 많이 쌓이면 실행 중에도 재작성
+ * - 기본은 꺼져 있음 (켜면 form.analysis.index.path 에 파일을 씀)
+ */
+@Slf4j
+@Component
+public class AnalysisIndexStore {
+    private static final int MAGIC = 0x46544149; // "FTAI"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+
+    @Value("${form.analysis.index.enabled:false}")
+    private boolean enabled;
+
+    @Value("${form.analysis.index.path:./.form-engine/analysis.idx}")
+    private String indexPath;
+
+    @Value("${form.analysis.index.compact-threshold:64}")
+    private int compactThreshold;
+
+    private final Map<String, CompactTemplateAnalysis> entries = new ConcurrentHashMap<>();
+    // 파일에서 읽은 레코드용 사전 (추출기는 조회 결과를 자신의 사전으로 옮겨 보관)
+    private final VariablePathDictionary dictionary = new VariablePathDictionary();
+    private FileChannel channel;
+    private Path path;
+    // 파일에 기록된 레코드 수 (이전 버전 포함)
+    private int fileRecords;
+
+    @PostConstruct
+    public void load() {
+        if (!enabled) {
+            log.info("Analysis index disabled");
+            return;
+        }
+
+        path = Paths.get(indexPath);
+        try {
+            int records = 0;
+            int discarded = 0;
+            boolean validHeader = false;
+            if (Files.size(path) >= HEADER_SIZE) {
+                try (FileChannel readChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, readChannel.size());
+                    validHeader = buffer.getInt() == MAGIC && buffer.getInt() == FORMAT_VERSION;
+                    if (validHeader) {
+                        while (buffer.remaining() >= 12) {
+                            CompactTemplateAnalysis analysis = readRecord(buffer);
+                            if (analysis == null) {
+                                discarded++;
+                                continue;
+                            }
+                            records++;
+                            entries.put(analysis.getTemplateName(), analysis);
+                        }
+                        // 레코드 헤더(12바이트)보다 짧게 잘린 꼬리 - 그대로 두면 이후 append 가 그 뒤에 붙어 읽을 수 없게 됨
+                        if (buffer.hasRemaining()) {
+                            discarded++;
+                        }
+                    }
+                }
+            }
+
+            // 헤더가 없거나 다르면 새 파일로, 폐기/중복 레코드가 쌓였으면 유효 레코드만으로 재작성
+            if (!validHeader) {
+                log.warn("Analysis index has unknown format, rebuilding: {}", path);
+                rewrite();
+            } else if (discarded > 0 || records > entries.size()) {
+                rewrite();
+            } else {
+                fileRecords = records;
+            }
+            openForAppend();
+            log.info("Analysis index loaded: {} templates ({} records, {} discarded) from {}",
+                    entries.size(), records, discarded, path);
+        } catch (NoSuchFileException e) {
+            openQuietly();
+        } catch (Exception e) {
+            log.warn("Failed to load analysis index {}: {}", path, e.getMessage());
+            entries.clear();
+            openQuietly();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close analysis index: {}", e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    /**
+     * 내용 해시가 일치하는 저장된 분석 결과 조회
+     */
+    public CompactTemplateAnalysis lookup(String templateName, String contentHash) {
+        CompactTemplateAnalysis analysis = entries.get(templateName);
+        return analysis != null && contentHash.equals(analysis.getContentHash()) ? analysis : null;
+    }
+
+    /**
+     * 분석 결과를 인덱스 파일 끝에 추가
+     */
+    public synchronized void append(CompactTemplateAnalysis analysis) {
+        entries.put(analysis.getTemplateName(), analysis);
+        if (channel == null) {
+            return;
+        }
+        try {
+            ByteBuffer record = encodeRecord(analysis);
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+            fileRecords++;
+            if (fileRecords - entries.size() > Math.max(compactThreshold, entries.size())) {
+                compact();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to append analysis index record for {}: {}", analysis.getTemplateName(), e.getMessage());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 파일에 기록된 레코드 수 (이전 버전 레코드 포함)
+     */
+    public synchronized int fileRecords() {
+        return fileRecords;
+    }
+
+    /**
+     * 유효 레코드만으로 재작성 후 append 채널을 새 파일로 다시 엶
+     */
+    private void compact() throws IOException {
+        int before = fileRecords;
+        channel.close();
+        channel = null;
+        rewrite();
+        openForAppend();
+        log.info("Analysis index compacted: {} -> {} records", before, fileRecords);
+    }
+
+    private void openQuietly() {
+        try {
+            rewrite();
+            openForAppend();
+        } catch (IOException e) {
+            log.warn("Analysis index not writable, running in memory only: {}", e.getMessage());
+        }
+    }
+
+    private void openForAppend() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    private synchronized void rewrite() throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(FORMAT_VERSION).flip();
+            out.write(header);
+            for (CompactTemplateAnalysis analysis : entries.values()) {
+                ByteBuffer record = encodeRecord(analysis);
+                while (record.hasRemaining()) {
+                    out.write(record);
+                }
+            }
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        fileRecords = entries.size();
+    }
+
+    // --- 레코드 인코딩: [length][analyzerVersion][crc32][payload] ------------------------------------
+
+    private ByteBuffer encodeRecord(CompactTemplateAnalysis analysis) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream out = new DataOutputStream(bytes);
+        writeString(out, analysis.getTemplateName());
+        writeString(out, analysis.getContentHash());
+        out.writeBoolean(analysis.isTemplateValid());
+        writeStrings(out, analysis.getVariablePaths());
+        writeStrings(out, analysis.getAssignedVariables());
+        writeStrings(out, analysis.getInputAssignedVariables());
+        writeStrings(out, analysis.getLocalVariables());
+        writeStrings(out, analysis.getGlobalVariables());
+        writeStrings(out, analysis.getLoopVariables());
+        out.writeInt(analysis.getReferencedVariables().size());
+        for (Map.Entry<String, Set<ExpressionType>> entry : analysis.getReferencedVariables().entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (ExpressionType type : entry.getValue()) {
+                out.writeByte(type.ordinal());
+            }
+        }
+        out.writeInt(analysis.getInferredTypes().size());
+        for (Map.Entry<String, VariableType> entry : analysis.getInferredTypes().entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeByte(entry.getValue().ordinal());
+        }
+        writeStrings(out, analysis.getRequiredPaths());
+        out.writeInt(analysis.getTypeConstraints().size());
+        for (Map.Entry<String, Set<VariableType>> entry : analysis.getTypeConstraints().entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (VariableType type : entry.getValue()) {
+                out.writeByte(type.ordinal());
+            }
+        }
+        writeStrings(out, analysis.getReachablePaths());
+        writeStrings(out, analysis.getOpaquePaths());
+        out.writeBoolean(analysis.isDynamicDataAccess());
+        writeParameterMap(out, analysis.getMacros());
+        writeParameterMap(out, analysis.getFunctions());
+        writeStrings(out, analysis.getMacroCalls());
+        writeStrings(out, analysis.getIncludedTemplates());
+        out.writeInt(analysis.getImportedTemplates().size());
+        for (Map.Entry<String, String> entry : analysis.getImportedTemplates().entrySet()) {
+            writeString(out, entry.getKey());
+            writeString(out, entry.getValue());
+        }
+        writeStrings(out, analysis.getErrors());
+        out.flush();
+
+        byte[] payload = bytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(12 + payload.length)
+                .putInt(payload.length)
+                .putInt(FreeMarkerVariableExtractor.ANALYZER_VERSION)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .flip();
+    }
+
+    /**
+     * 레코드 하나를 읽음. 버전 불일치/손상 레코드는 null (잘린 꼬리 레코드는 버퍼 끝으로 이동)
+     */
+    private CompactTemplateAnalysis readRecord(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        int version = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            buffer.position(buffer.limit());
+            return null;
+        }
+
+        ByteBuffer payload = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        if (version != FreeMarkerVariableExtractor.ANALYZER_VERSION) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            return null;
+        }
+
+        TemplateVariableAnalysis analysis = new TemplateVariableAnalysis(readString(payload));
+        analysis.setContentHash(readString(payload));
+        analysis.setTemplateValid(payload.get() != 0);
+        analysis.addVariablePaths(readStrings(payload));
+        readStrings(payload).forEach(analysis::addAssignedVariable);
+        readStrings(payload).forEach(analysis::addInputAssignedVariable);
+        readStrings(payload).forEach(analysis::addLocalVariable);
+        readStrings(payload).forEach(analysis::addGlobalVariable);
+        readStrings(payload).forEach(analysis::addLoopVariable);
+        ExpressionType[] types = ExpressionType.values();
+        int referenced = payload.getInt();
+        for (int i = 0; i < referenced; i++) {
+            String name = readString(payload);
+            int count = payload.getInt();
+            for (int j = 0; j < count; j++) {
+                analysis.addReferencedVariable(name, types[payload.get()]);
+            }
+        }
+        VariableType[] variableTypes = VariableType.values();
+        int inferred = payload.getInt();
+        for (int i = 0; i < inferred; i++) {
+            String path = readString(payload);
+            analysis.addInferredType(path, variableTypes[payload.get()]);
+        }
+        readStrings(payload).forEach(analysis::addRequiredPath);
+        int constraints = payload.getInt();
+        for (int i = 0; i < constraints; i++) {
+            String path = readString(payload);
+            Set<VariableType> allowed = EnumSet.noneOf(VariableType.class);
+            int count = payload.getInt();
+            for (int j = 0; j < count; j++) {
+                allowed.add(variableTypes[payload.get()]);
+            }
+            analysis.addTypeConstraint(path, allowed);
+        }
+        readStrings(payload).forEach(analysis::addReachablePath);
+        readStrings(payload).forEach(analysis::addOpaquePath);
+        analysis.setDynamicDataAccess(payload.get() != 0);
+        readParameterMap(payload).forEach(analysis::addMacro);
+        readParameterMap(payload).forEach(analysis::addFunction);
+        readStrings(payload).forEach(analysis::addMacroCall);
+        readStrings(payload).forEach(analysis::addIncludedTemplate);
+        int imported = payload.getInt();
+        for (int i = 0; i < imported; i++) {
+            String namespace = readString(payload);
+            analysis.addImportedTemplate(readString(payload), namespace);
+        }
+        readStrings(payload).forEach(analysis::addError);
+        return CompactTemplateAnalysis.of(analysis, dictionary);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static void writeParameterMap(DataOutputStream out, Map<String, List<String>> map) throws IOException {
+        out.writeInt(map.size());
+        for (Map.Entry<String, List<String>> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeStrings(out, entry.getValue());
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(buffer));
+        }
+        return values;
+    }
+
+    private static Map<String, List<String>> readParameterMap(ByteBuffer buffer) {
+        int size = buffer.getInt();
+        Map<String, List<String>> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(readString(buffer), readStrings(buffer));
+        }
+        return map;
+    }
+}
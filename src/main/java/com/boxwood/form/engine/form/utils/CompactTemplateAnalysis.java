@@ -0,0 +1,333 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 캐시 보관용 불변 분석 결과
+ * - 경로/이름 문자열은 만들 때 받은 사전({@link VariablePathDictionary})의 int ID 배열로 보관
+ * - getter 이름은 TemplateVariableAnalysis 와 동일하며, 호출 시점에 읽기 전용 뷰로 복원
+ */
+public final class CompactTemplateAnalysis {
+    private static final int[] EMPTY = new int[0];
+    private static final byte[] NO_TYPES = new byte[0];
+    private static final String[] NO_ERRORS = new String[0];
+
+    private final VariablePathDictionary dictionary;
+
+    @Getter
+    private final String templateName;
+    @Getter
+    private final String contentHash;
+    @Getter
+    private final boolean templateValid;
+
+    private final int[] variablePaths;
+    private final int[] assignedVariables;
+    private final int[] inputAssignedVariables;
+    private final int[] localVariables;
+    private final int[] globalVariables;
+    private final int[] loopVariables;
+    private final int[] referencedNames;
+    private final int[] referencedTypes;   // ExpressionType 비트 마스크
+    private final int[] inferredPaths;
+    private final byte[] inferredTypes;    // VariableType ordinal
+    private final int[] requiredPaths;
+    private final int[] constraintPaths;
+    private final int[] constraintTypes;   // VariableType 비트 마스크
+    private final int[] reachablePaths;
+    private final int[] opaquePaths;
+    @Getter
+    private final boolean dynamicDataAccess;
+    private final int[] macroNames;
+    private final int[][] macroParams;
+    private final int[] functionNames;
+    private final int[][] functionParams;
+    private final int[] macroCalls;
+    private final int[] includedTemplates;
+    private final int[] importNamespaces;
+    private final int[] importTemplates;
+    private final String[] errors;
+
+    private CompactTemplateAnalysis(TemplateVariableAnalysis analysis, VariablePathDictionary dictionary) {
+        this.dictionary = dictionary;
+        this.templateName = analysis.getTemplateName();
+        this.contentHash = analysis.getContentHash();
+        this.templateValid = analysis.isTemplateValid();
+        this.variablePaths = ids(dictionary, analysis.getVariablePaths());
+        this.assignedVariables = ids(dictionary, analysis.getAssignedVariables());
+        this.inputAssignedVariables = ids(dictionary, analysis.getInputAssignedVariables());
+        this.localVariables = ids(dictionary, analysis.getLocalVariables());
+        this.globalVariables = ids(dictionary, analysis.getGlobalVariables());
+        this.loopVariables = ids(dictionary, analysis.getLoopVariables());
+
+        Map<String, Set<ExpressionType>> referenced = analysis.getReferencedVariables();
+        this.referencedNames = ids(dictionary, referenced.keySet());
+        this.referencedTypes = referenced.values().stream().mapToInt(CompactTemplateAnalysis::mask).toArray();
+
+        Map<String, VariableType> inferred = analysis.getInferredTypes();
+        this.inferredPaths = ids(dictionary, inferred.keySet());
+        this.inferredTypes = inferred.isEmpty() ? NO_TYPES : new byte[inferred.size()];
+        int index = 0;
+        for (VariableType type : inferred.values()) {
+            this.inferredTypes[index++] = (byte) type.ordinal();
+        }
+
+        this.requiredPaths = ids(dictionary, analysis.getRequiredPaths());
+        Map<String, Set<VariableType>> constraints = analysis.getTypeConstraints();
+        this.constraintPaths = ids(dictionary, constraints.keySet());
+        this.constraintTypes = constraints.values().stream().mapToInt(CompactTemplateAnalysis::mask).toArray();
+        this.reachablePaths = ids(dictionary, analysis.getReachablePaths());
+        this.opaquePaths = ids(dictionary, analysis.getOpaquePaths());
+        this.dynamicDataAccess = analysis.isDynamicDataAccess();
+
+        this.macroNames = ids(dictionary, analysis.getMacros().keySet());
+        this.macroParams = params(dictionary, analysis.getMacros());
+        this.functionNames = ids(dictionary, analysis.getFunctions().keySet());
+        this.functionParams = params(dictionary, analysis.getFunctions());
+        this.macroCalls = ids(dictionary, analysis.getMacroCalls());
+        this.includedTemplates = ids(dictionary, analysis.getIncludedTemplates());
+        this.importNamespaces = ids(dictionary, analysis.getImportedTemplates().keySet());
+        this.importTemplates = ids(dictionary, analysis.getImportedTemplates().values());
+        this.errors = analysis.getErrors().isEmpty() ? NO_ERRORS : analysis.getErrors().toArray(String[]::new);
+    }
+
+    /**
+     * 분석 결과를 압축된 불변 형태로 변환
+     */
+    public static CompactTemplateAnalysis of(TemplateVariableAnalysis analysis, VariablePathDictionary dictionary) {
+        return new CompactTemplateAnalysis(analysis, dictionary);
+    }
+
+    /**
+     * 다른 사전을 사용하는 사본 (같은 사전이면 자신)
+     */
+    public CompactTemplateAnalysis withDictionary(VariablePathDictionary target) {
+        return dictionary == target ? this : new CompactTemplateAnalysis(toAnalysis(), target);
+    }
+
+    /**
+     * 수정 가능한 TemplateVariableAnalysis 로 복원
+     */
+    public TemplateVariableAnalysis toAnalysis() {
+        TemplateVariableAnalysis analysis = new TemplateVariableAnalysis(templateName);
+        analysis.setContentHash(contentHash);
+        analysis.setTemplateValid(templateValid);
+        analysis.addVariablePaths(getVariablePaths());
+        getAssignedVariables().forEach(analysis::addAssignedVariable);
+        getInputAssignedVariables().forEach(analysis::addInputAssignedVariable);
+        getLocalVariables().forEach(analysis::addLocalVariable);
+        getGlobalVariables().forEach(analysis::addGlobalVariable);
+        getLoopVariables().forEach(analysis::addLoopVariable);
+        getReferencedVariables().forEach((name, types) -> types.forEach(type -> analysis.addReferencedVariable(name, type)));
+        getInferredTypes().forEach(analysis::addInferredType);
+        getRequiredPaths().forEach(analysis::addRequiredPath);
+        getTypeConstraints().forEach(analysis::addTypeConstraint);
+        getReachablePaths().forEach(analysis::addReachablePath);
+        getOpaquePaths().forEach(analysis::addOpaquePath);
+        analysis.setDynamicDataAccess(dynamicDataAccess);
+        getMacros().forEach(analysis::addMacro);
+        getFunctions().forEach(analysis::addFunction);
+        getMacroCalls().forEach(analysis::addMacroCall);
+        getIncludedTemplates().forEach(analysis::addIncludedTemplate);
+        getImportedTemplates().forEach((namespace, name) -> analysis.addImportedTemplate(name, namespace));
+        getErrors().forEach(analysis::addError);
+        return analysis;
+    }
+
+    // --- TemplateVariableAnalysis 호환 getter (읽기 전용) ---------------------------------------------
+
+    public Set<String> getVariablePaths() {
+        return new IdSet(variablePaths);
+    }
+
+    public Set<String> getAssignedVariables() {
+        return new IdSet(assignedVariables);
+    }
+
+    public Set<String> getInputAssignedVariables() {
+        return new IdSet(inputAssignedVariables);
+    }
+
+    public Set<String> getLocalVariables() {
+        return new IdSet(localVariables);
+    }
+
+    public Set<String> getGlobalVariables() {
+        return new IdSet(globalVariables);
+    }
+
+    public Set<String> getLoopVariables() {
+        return new IdSet(loopVariables);
+    }
+
+    public Set<String> getMacroCalls() {
+        return new IdSet(macroCalls);
+    }
+
+    public Set<String> getIncludedTemplates() {
+        return new IdSet(includedTemplates);
+    }
+
+    public Map<String, Set<ExpressionType>> getReferencedVariables() {
+        Map<String, Set<ExpressionType>> referenced = new LinkedHashMap<>();
+        for (int i = 0; i < referencedNames.length; i++) {
+            referenced.put(dictionary.path(referencedNames[i]), Collections.unmodifiableSet(types(referencedTypes[i], ExpressionType.class)));
+        }
+        return Collections.unmodifiableMap(referenced);
+    }
+
+    public Map<String, VariableType> getInferredTypes() {
+        VariableType[] values = VariableType.values();
+        Map<String, VariableType> inferred = new LinkedHashMap<>();
+        for (int i = 0; i < inferredPaths.length; i++) {
+            inferred.put(dictionary.path(inferredPaths[i]), values[inferredTypes[i]]);
+        }
+        return Collections.unmodifiableMap(inferred);
+    }
+
+    public Set<String> getRequiredPaths() {
+        return new IdSet(requiredPaths);
+    }
+
+    public Map<String, Set<VariableType>> getTypeConstraints() {
+        Map<String, Set<VariableType>> constraints = new LinkedHashMap<>();
+        for (int i = 0; i < constraintPaths.length; i++) {
+            constraints.put(dictionary.path(constraintPaths[i]), Collections.unmodifiableSet(
+                    types(constraintTypes[i], VariableType.class)));
+        }
+        return Collections.unmodifiableMap(constraints);
+    }
+
+    public Set<String> getReachablePaths() {
+        return new IdSet(reachablePaths);
+    }
+
+    public Set<String> getOpaquePaths() {
+        return new IdSet(opaquePaths);
+    }
+
+    public Map<String, List<String>> getMacros() {
+        return paramMap(macroNames, macroParams);
+    }
+
+    public Map<String, List<String>> getFunctions() {
+        return paramMap(functionNames, functionParams);
+    }
+
+    public Map<String, String> getImportedTemplates() {
+        Map<String, String> imported = new LinkedHashMap<>();
+        for (int i = 0; i < importNamespaces.length; i++) {
+            imported.put(dictionary.path(importNamespaces[i]), dictionary.path(importTemplates[i]));
+        }
+        return Collections.unmodifiableMap(imported);
+    }
+
+    public List<String> getErrors() {
+        return List.of(errors);
+    }
+
+    // --- 내부 변환 ---------------------------------------------------------------------------------
+
+    private static int[] ids(VariablePathDictionary dictionary, Collection<String> values) {
+        return values.isEmpty() ? EMPTY : dictionary.internAll(values);
+    }
+
+    private static int[][] params(VariablePathDictionary dictionary, Map<String, List<String>> map) {
+        int[][] result = new int[map.size()][];
+        int i = 0;
+        for (List<String> params : map.values()) {
+            result[i++] = ids(dictionary, params);
+        }
+        return result;
+    }
+
+    private static int mask(Set<? extends Enum<?>> types) {
+        int mask = 0;
+        for (Enum<?> type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    private static <E extends Enum<E>> Set<E> types(int mask, Class<E> enumType) {
+        Set<E> types = EnumSet.noneOf(enumType);
+        for (E type : enumType.getEnumConstants()) {
+            if ((mask & (1 << type.ordinal())) != 0) {
+                types.add(type);
+            }
+        }
+        return types;
+    }
+
+    private Map<String, List<String>> paramMap(int[] names, int[][] params) {
+        Map<String, List<String>> map = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            map.put(dictionary.path(names[i]), new IdList(params[i]));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * ID 배열 기반 읽기 전용 Set 뷰 (삽입 순서 유지)
+     */
+    private final class IdSet extends AbstractSet<String> {
+        private final int[] ids;
+
+        private IdSet(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new IdList(ids).iterator();
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof String path)) {
+                return false;
+            }
+            int id = dictionary.idOf(path);
+            if (id < 0) {
+                return false;
+            }
+            for (int candidate : ids) {
+                if (candidate == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * ID 배열 기반 읽기 전용 List 뷰
+     */
+    private final class IdList extends AbstractList<String> {
+        private final int[] ids;
+
+        private IdList(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public String get(int index) {
+            return dictionary.path(ids[index]);
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.boxwood.form.engine.form.utils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer 계측 (/actuator/prometheus 로 노출)
+ * - form.analysis / form.analysis.mock.pass / form.render / form.render.phase: 템플릿·결과별 타이머
+ * - form.template.loads: 템플릿 소스 로드(컴파일) 횟수, form.cache.requests: 캐시 계층별 적중/미스
+ * - form.resource.allocated / form.resource.cpu / form.resource.output: 요청 스레드의 할당 바이트, CPU 시간, 출력 문자 수 (작업·템플릿별)
+ * - 템플릿 태그는 요청 값이므로 form.metrics.max-template-tags 개까지만 구분하고 나머지는 "other" 로 묶음
+ */
+@Slf4j
+@Component
+public class FormEngineMetrics {
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    public static final String INVALID_REQUEST = "invalid_request";
+
+    private static final String OTHER_TEMPLATE = "other";
+
+    private final MeterRegistry registry;
+    private final Set<String> templateTags = ConcurrentHashMap.newKeySet();
+
+    @Value("${form.metrics.max-template-tags:200}")
+    private int maxTemplateTags;
+
+    public FormEngineMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    public void recordAnalysis(String templateName, String outcome, long nanos) {
+        Timer.builder("form.analysis")
+                .description("Template variable analysis time")
+                .tag("template", templateTag(templateName))
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 분석 Mock 실행 단계 (basic / conditional / iteration)
+     */
+    public void recordMockPass(String templateName, String pass, String outcome, long nanos) {
+        Timer.builder("form.analysis.mock.pass")
+                .description("Mock template execution pass during analysis")
+                .tag("template", templateTag(templateName))
+                .tag("pass", pass)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRender(String templateName, String outcome, long nanos) {
+        Timer.builder("form.render")
+                .description("Template render time")
+                .tag("template", templateTag(templateName))
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRenderPhase(String templateName, String phase, long nanos) {
+        Timer.builder("form.render.phase")
+                .description("Template render time by phase")
+                .tag("template", templateTag(templateName))
+                .tag("phase", phase)
+                .register(registry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 비동기 렌더링 작업 단계별 시간
+     *
+     * @param stage queue_wait (제출부터 워커가 꺼낼 때까지) / render / end_to_end (제출부터 완료까지)
+     */
+    public void recordRenderJob(String stage, long millis) {
+        Timer.builder("form.render.jobs.latency")
+                .description("Render job queue wait, render and end-to-end time")
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry)
+                .record(millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 비동기 렌더링 작업 단계별 시간 집계 (ms, 백분위/max 는 최근 구간 기준)
+     */
+    public Map<String, Object> getRenderJobLatency(String stage) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        Timer timer = registry.find("form.render.jobs.latency").tag("stage", stage).timer();
+        if (timer == null) {
+            latency.put("count", 0L);
+            return latency;
+        }
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        latency.put("count", snapshot.count());
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            latency.put("p" + Math.round(value.percentile() * 100), Math.round(value.value(TimeUnit.MILLISECONDS)));
+        }
+        latency.put("max", Math.round(snapshot.max(TimeUnit.MILLISECONDS)));
+        latency.put("avg", Math.round(snapshot.mean(TimeUnit.MILLISECONDS) * 10) / 10.0);
+        return latency;
+    }
+
+    public void templateLoaded(String templateName) {
+        Counter.builder("form.template.loads")
+                .description("Template sources loaded and compiled")
+                .tag("template", templateTag(templateName))
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 캐시 계층 조회 결과 (compile, analysis.memory, analysis.index, preview.snapshot, request.rules,
+     * response.serialized, response.precompressed, documents)
+     */
+    public void cacheAccess(String cache, boolean hit) {
+        Counter.builder("form.cache.requests")
+                .description("Cache lookups by layer and result")
+                .tag("cache", cache)
+                .tag("result", hit ? "hit" : "miss")
+                .register(registry)
+                .increment();
+    }
+
+    /**
+     * 요청 한 건의 스레드 할당 바이트 / CPU 시간 (ThreadResourceUsage, 측정 불가(-1)면 생략)
+     *
+     * @param operation render / analysis
+     */
+    public void recordResourceUsage(String operation, String templateName, ThreadResourceUsage usage) {
+        String template = templateTag(templateName);
+        if (usage.getAllocatedBytes() >= 0) {
+            DistributionSummary.builder("form.resource.allocated")
+                    .description("Bytes allocated by the request thread")
+                    .baseUnit("bytes")
+                    .tag("operation", operation)
+                    .tag("template", template)
+                    .register(registry)
+                    .record(usage.getAllocatedBytes());
+        }
+        if (usage.getCpuNanos() >= 0) {
+            Timer.builder("form.resource.cpu")
+                    .description("CPU time used by the request thread")
+                    .tag("operation", operation)
+                    .tag("template", template)
+                    .register(registry)
+                    .record(usage.getCpuNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 출력 크기 (할당량 대비 출력 비율 계산용)
+     */
+    public void recordOutput(String operation, String templateName, long chars) {
+        DistributionSummary.builder("form.resource.output")
+                .description("Characters produced per request")
+                .baseUnit("chars")
+                .tag("operation", operation)
+                .tag("template", templateTag(templateName))
+                .register(registry)
+                .record(chars);
+    }
+
+    /**
+     * 작업별 템플릿 단위 할당량 / CPU 집계 (평균 할당 바이트가 큰 순, max 는 최근 구간 기준)
+     */
+    public List<Map<String, Object>> getResourceUsage(String operation) {
+        List<Map<String, Object>> templates = new ArrayList<>();
+        for (DistributionSummary allocated : registry.find("form.resource.allocated").tag("operation", operation).summaries()) {
+            String template = allocated.getId().getTag("template");
+            Map<String, Object> usage = new LinkedHashMap<>();
+            usage.put("template", template);
+            usage.put("count", allocated.count());
+            usage.put("allocatedBytesAvg", Math.round(allocated.mean()));
+            usage.put("allocatedBytesMax", Math.round(allocated.max()));
+            usage.put("allocatedBytesTotal", Math.round(allocated.totalAmount()));
+            Timer cpu = registry.find("form.resource.cpu").tag("operation", operation).tag("template", template).timer();
+            if (cpu != null) {
+                usage.put("cpuMicrosAvg", Math.round(cpu.mean(TimeUnit.MICROSECONDS)));
+                usage.put("cpuMicrosMax", Math.round(cpu.max(TimeUnit.MICROSECONDS)));
+            }
+            DistributionSummary output = registry.find("form.resource.output")
+                    .tag("operation", operation).tag("template", template).summary();
+            if (output != null && output.mean() > 0) {
+                usage.put("outputCharsAvg", Math.round(output.mean()));
+                usage.put("allocatedBytesPerOutputChar", Math.round(allocated.mean() / output.mean() * 10) / 10.0);
+            }
+            templates.add(usage);
+        }
+        templates.sort(Comparator.comparingLong((Map<String, Object> usage) -> (Long) usage.get("allocatedBytesAvg")).reversed());
+        return templates;
+    }
+
+    private String templateTag(String templateName) {
+        if (templateName == null || templateName.isBlank()) {
+            return "unknown";
+        }
+        if (templateTags.contains(templateName)) {
+            return templateName;
+        }
+        if (templateTags.size() < maxTemplateTags) {
+            templateTags.add(templateName);
+            return templateName;
+        }
+        return OTHER_TEMPLATE;
+    }
+}
@@ -1,5 +1,8 @@
 package com.boxwood.form.engine.form.utils;
 
+import freemarker.cache.FileTemplateLoader;
+import freemarker.cache.TemplateLoader;
+import freemarker.core.Environment;
 import freemarker.template.*;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -7,10 +10,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * 기업용 안전한 FreeMarker 변수 추출 서비스
@@ -22,24 +33,57 @@ import java.nio.file.Paths;
 @Service
 @RequiredArgsConstructor
 public class FreeMarkerVariableExtractor {
+    private static final Pattern INCLUDE_PATTERN = Pattern.compile(
+            "<#include\\s+[\"']([^\"']+)[\"'][^>]*>");
+    private static final Pattern IMPORT_PATTERN = Pattern.compile(
+            "<#import\\s+[\"']([^\"']+)[\"']\\s+as\\s+(\\w+)\\s*/?>");
+    private static final Pattern ASSIGNMENT_PATTERN = Pattern.compile(
+            "<#(assign|global|local)\\s+(\\w+)");
+    private static final Pattern LOOP_VARIABLE_PATTERN = Pattern.compile(
+            "<#list\\s+[^>]+?\\s+as\\s+(\\w+)(?:\\s*,\\s*(\\w+))?");
+    private static final Pattern COMMENT_PATTERN = Pattern.compile("<#--.*?-->", Pattern.DOTALL);
+    private static final Pattern CURRENT_TIME_PATTERN = Pattern.compile("\\.now\\b");
+
+    // 추출 로직 버전 (변경 시 증가시키면 디스크 인덱스의 이전 결과가 폐기됨)
+    public static final int ANALYZER_VERSION = 6;
+
+    // 매크로/함수 본문 추적 시 인자로 전달되는 Mock 변수명 (결과에서 제외)
+    private static final String MOCK_ARGUMENT = "__mockArgument";
+
     private final Configuration freeMarkerConfig;
+    private final AnalysisIndexStore analysisIndexStore;
+    private final FormEngineMetrics metrics;
+
+    // 파일 단위 분석 결과 캐시 (템플릿명 -> 압축된 분석 결과, 내용 해시로 유효성 확인)
+    private final Map<String, CompactTemplateAnalysis> fileAnalysisCache = new ConcurrentHashMap<>();
+    // 캐시된 분석 결과가 참조하는 경로 사전 (교체된 결과가 쌓이면 살아 있는 결과만으로 재구성)
+    private volatile VariablePathDictionary pathDictionary = new VariablePathDictionary();
+    // 마지막 재구성 이후 교체되어 사전에 사용되지 않는 경로를 남겼을 수 있는 분석 결과 수
+    private final AtomicInteger replacedAnalyses = new AtomicInteger();
+    // 템플릿명 -> 컴파일된 Template 인스턴스 기준 버전 캐시 (getCachedTemplateVersion)
+    private final Map<String, CachedVersion> versionCache = new ConcurrentHashMap<>();
 
     /**
      * 템플릿에서 모든 변수 정보를 추출
+     * - 파일 단위 분석 결과를 캐시하고 include/import 대상의 결과를 합성
      */
     public TemplateVariableAnalysis analyzeTemplate(String templateName) throws IOException, TemplateException {
         TemplateVariableAnalysis analysis = new TemplateVariableAnalysis(templateName);
+        long start = System.nanoTime();
+        ThreadResourceUsage usage = ThreadResourceUsage.start();
 
         try {
             log.info("Starting enterprise template analysis for: {}", templateName);
 
-            // 1. Mock Environment를 통한 변수 추출 (메인 방식)
-            Set<String> extractedVariables = extractVariablesUsingEnhancedMockEnvironment(templateName, analysis);
+            // 1. 파일 단위 분석 결과 합성 (include/import 포함)
+            Set<String> extractedVariables = composeTemplateVariables(templateName, analysis);
 
-            // 2. 계층 구조 생성
+            // 2. 계층 구조 생성 (추론 타입 기준 기본값)
             Map<String, Object> hierarchicalVariables = new LinkedHashMap<>();
-            buildHierarchicalStructure(extractedVariables, hierarchicalVariables);
+            buildHierarchicalStructure(extractedVariables, hierarchicalVariables, analysis.getInferredTypes());
 
+            analysis.addVariablePaths(extractedVariables);
+            analysis.setContentHash(getTemplateVersion(templateName));
             analysis.setHierarchicalVariables(hierarchicalVariables);
             analysis.setTemplateValid(true);
 
@@ -52,40 +96,511 @@ public class FreeMarkerVariableExtractor {
             analysis.setTemplateValid(false);
         }
 
+        metrics.recordAnalysis(templateName, analysis.isTemplateValid()
+                ? FormEngineMetrics.SUCCESS : FormEngineMetrics.FAILURE, System.nanoTime() - start);
+        usage.stop();
+        analysis.setResourceUsage(usage.getAllocatedBytes(), usage.getCpuNanos());
+        metrics.recordResourceUsage("analysis", templateName, usage);
+        return analysis;
+    }
+
+    /**
+     * 템플릿의 현재 버전 반환 (소스 내용 해시, include/import 대상이 있으면 함께 합성)
+     */
+    public String getTemplateVersion(String templateName) throws IOException {
+        Map<String, CompactTemplateAnalysis> files = analyzeWithDependencies(templateName);
+        if (files.size() == 1) {
+            return files.get(templateName).getContentHash();
+        }
+
+        // include/import 대상이 있으면 전체 의존 파일의 해시를 합성
+        StringBuilder versions = new StringBuilder(files.get(templateName).getContentHash());
+        files.forEach((name, file) -> {
+            if (!name.equals(templateName)) {
+                versions.append(':').append(name).append('=').append(file.getContentHash());
+            }
+        });
+        return contentHash(versions.toString());
+    }
+
+    /**
+     * 소스를 읽지 않는 템플릿 버전 (getTemplateVersion 결과를 컴파일된 Template 인스턴스 기준으로 캐시)
+     * - 자신과 include/import 대상의 Template 인스턴스가 모두 그대로면 이전 값 반환 (해시 계산 없음)
+     * - FreeMarker 가 수정을 감지해 다시 로드하면 인스턴스가 바뀌므로 다시 계산
+     * - 파싱할 수 없는 템플릿은 캐시하지 않음
+     */
+    public String getCachedTemplateVersion(String templateName) throws IOException {
+        CachedVersion cached = versionCache.get(templateName);
+        if (cached != null && cached.isCurrent(freeMarkerConfig)) {
+            return cached.version;
+        }
+
+        // 버전 계산 전에 인스턴스를 잡아 두어야 계산 중 바뀐 경우 다음 조회에서 다시 계산됨
+        Map<String, Template> templates = new LinkedHashMap<>();
+        try {
+            templates.put(templateName, freeMarkerConfig.getTemplate(templateName));
+            for (String dependency : analyzeWithDependencies(templateName).keySet()) {
+                templates.putIfAbsent(dependency, freeMarkerConfig.getTemplate(dependency));
+            }
+        } catch (freemarker.core.ParseException e) {
+            versionCache.remove(templateName);
+            return getTemplateVersion(templateName);
+        }
+        String version = getTemplateVersion(templateName);
+        versionCache.put(templateName, new CachedVersion(version, templates, readsCurrentTime(templates.keySet())));
+        return version;
+    }
+
+    /**
+     * 출력이 현재 시각(.now)에 따라 달라지는지 (자신과 include/import 대상 소스 기준, 주석 제외)
+     * - getCachedTemplateVersion 과 같은 캐시를 사용하므로 템플릿이 그대로면 소스를 읽지 않음
+     */
+    public boolean isTimeDependent(String templateName) throws IOException {
+        getCachedTemplateVersion(templateName);
+        CachedVersion cached = versionCache.get(templateName);
+        return cached != null
+                ? cached.timeDependent
+                : readsCurrentTime(analyzeWithDependencies(templateName).keySet());
+    }
+
+    private boolean readsCurrentTime(Collection<String> templateNames) throws IOException {
+        for (String name : templateNames) {
+            String source = COMMENT_PATTERN.matcher(loadTemplateSource(name)).replaceAll("");
+            if (CURRENT_TIME_PATTERN.matcher(source).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 템플릿과 include/import 로 이어지는 모든 파일의 분석 결과 (자신이 첫 항목)
+     */
+    private Map<String, CompactTemplateAnalysis> analyzeWithDependencies(String templateName) throws IOException {
+        Map<String, CompactTemplateAnalysis> files = new LinkedHashMap<>();
+        CompactTemplateAnalysis file = analyzeFile(templateName);
+        files.put(templateName, file);
+        Deque<CompactTemplateAnalysis> pending = new ArrayDeque<>(List.of(file));
+        while (!pending.isEmpty()) {
+            CompactTemplateAnalysis current = pending.poll();
+            List<String> dependencies = new ArrayList<>(current.getIncludedTemplates());
+            dependencies.addAll(current.getImportedTemplates().values());
+            for (String dependency : dependencies) {
+                if (!files.containsKey(dependency)) {
+                    CompactTemplateAnalysis dependencyFile = analyzeFile(dependency);
+                    files.put(dependency, dependencyFile);
+                    pending.add(dependencyFile);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 파일 단위 분석 결과 합성
+     * - 부모의 필수 변수 = 자신의 변수 + include/import 대상의 변수 - 자신이 할당한 변수 (외부 입력을 다시 할당하는 이름 제외)
+     * - include 대상은 같은 네임스페이스이므로 매크로/할당 변수도 함께 병합
+     */
+    private Set<String> composeTemplateVariables(String templateName, TemplateVariableAnalysis analysis) throws IOException {
+        Set<String> variables = new LinkedHashSet<>();
+        Set<String> importedVariables = new LinkedHashSet<>();
+        Map<String, Set<ExpressionType>> usageTypes = new HashMap<>();
+        Map<String, VariableType> inferredTypes = new TreeMap<>();
+        Set<String> requiredPaths = new TreeSet<>();
+        Map<String, Set<VariableType>> typeConstraints = new TreeMap<>();
+        Set<String> visited = new HashSet<>();
+        visited.add(templateName);
+
+        Deque<String> inlined = new ArrayDeque<>();
+        inlined.add(templateName);
+
+        while (!inlined.isEmpty()) {
+            CompactTemplateAnalysis file = analyzeFile(inlined.poll());
+            mergeFileAnalysis(file, analysis);
+            variables.addAll(file.getVariablePaths());
+            mergeUsageTypes(file, usageTypes, inferredTypes);
+            mergePayloadPaths(file, analysis);
+            requiredPaths.addAll(file.getRequiredPaths());
+            file.getTypeConstraints().forEach((path, allowed) ->
+                    typeConstraints.computeIfAbsent(path, k -> EnumSet.allOf(VariableType.class)).retainAll(allowed));
+
+            for (String included : file.getIncludedTemplates()) {
+                analysis.addIncludedTemplate(included);
+                if (visited.add(included)) {
+                    inlined.add(included);
+                }
+            }
+            file.getImportedTemplates().forEach((namespace, imported) -> {
+                analysis.addImportedTemplate(imported, namespace);
+                collectImportedVariables(imported, visited, importedVariables, usageTypes, inferredTypes, analysis);
+            });
+        }
+
+        // 부모 네임스페이스에서 정의된 이름은 외부 변수가 아님 (할당 전에 읽거나 자기 값을 다시 할당하는 이름은 외부 입력)
+        Set<String> shadowed = new HashSet<>();
+        shadowed.addAll(analysis.getAssignedVariables());
+        shadowed.addAll(analysis.getGlobalVariables());
+        shadowed.removeAll(analysis.getInputAssignedVariables());
+        shadowed.addAll(analysis.getImportedTemplates().keySet());
+        shadowed.addAll(analysis.getMacros().keySet());
+        shadowed.addAll(analysis.getFunctions().keySet());
+        variables.removeIf(path -> shadowed.contains(rootSegment(path)));
+
+        // import 대상은 별도 네임스페이스이므로 #global 로 정의된 이름만 가려짐
+        importedVariables.removeIf(path -> analysis.getGlobalVariables().contains(rootSegment(path)));
+        variables.addAll(importedVariables);
+
+        // 추론 타입은 남은 경로와 그 상위 경로(items, items[])에 대해서만 유지
+        Set<String> typedPaths = new HashSet<>();
+        for (String path : variables) {
+            Set<ExpressionType> types = usageTypes.get(path);
+            if (types != null) {
+                types.forEach(type -> analysis.addReferencedVariable(path, type));
+            }
+            String normalized = TemplateUsageScanner.normalizePath(path);
+            for (int i = 1; i <= normalized.length(); i++) {
+                if (i == normalized.length() || normalized.charAt(i) == '.' || normalized.charAt(i) == '[') {
+                    typedPaths.add(normalized.substring(0, i));
+                }
+            }
+        }
+        inferredTypes.forEach((path, type) -> {
+            if (typedPaths.contains(path)) {
+                analysis.addInferredType(path, type);
+            }
+        });
+
+        // 요청 검증 규칙은 부모 네임스페이스(include 포함)의 사용만 반영 (import 라이브러리는 매크로 호출 시에만 실행)
+        requiredPaths.stream().filter(typedPaths::contains).forEach(analysis::addRequiredPath);
+        typeConstraints.forEach((path, allowed) -> {
+            if (typedPaths.contains(path) && !allowed.isEmpty()) {
+                analysis.addTypeConstraint(path, allowed);
+            }
+        });
+        return variables;
+    }
+
+    private void mergeUsageTypes(CompactTemplateAnalysis file, Map<String, Set<ExpressionType>> usageTypes,
+                                 Map<String, VariableType> inferredTypes) {
+        file.getReferencedVariables().forEach((path, types) ->
+                usageTypes.computeIfAbsent(path, k -> EnumSet.noneOf(ExpressionType.class)).addAll(types));
+        file.getInferredTypes().forEach((path, type) -> inferredTypes.merge(path, type, VariableTypeInferrer::preferred));
+    }
+
+    /**
+     * 요청 가지치기 경로는 import 라이브러리까지 모두 합침 (매크로 호출 시 데이터 모델을 읽을 수 있음)
+     */
+    private void mergePayloadPaths(CompactTemplateAnalysis file, TemplateVariableAnalysis analysis) {
+        file.getReachablePaths().forEach(analysis::addReachablePath);
+        file.getOpaquePaths().forEach(analysis::addOpaquePath);
+        if (file.isDynamicDataAccess()) {
+            analysis.setDynamicDataAccess(true);
+        }
+    }
+
+    private void collectImportedVariables(String templateName, Set<String> visited, Set<String> importedVariables,
+                                          Map<String, Set<ExpressionType>> usageTypes,
+                                          Map<String, VariableType> inferredTypes,
+                                          TemplateVariableAnalysis analysis) {
+        if (!visited.add(templateName)) {
+            return;
+        }
+        try {
+            CompactTemplateAnalysis library = analyzeFile(templateName);
+            importedVariables.addAll(library.getVariablePaths());
+            mergeUsageTypes(library, usageTypes, inferredTypes);
+            mergePayloadPaths(library, analysis);
+            for (String nested : library.getIncludedTemplates()) {
+                collectImportedVariables(nested, visited, importedVariables, usageTypes, inferredTypes, analysis);
+            }
+            for (String nested : library.getImportedTemplates().values()) {
+                collectImportedVariables(nested, visited, importedVariables, usageTypes, inferredTypes, analysis);
+            }
+        } catch (IOException e) {
+            log.warn("Imported template analysis failed for {}: {}", templateName, e.getMessage());
+        }
+    }
+
+    private void mergeFileAnalysis(CompactTemplateAnalysis file, TemplateVariableAnalysis analysis) {
+        file.getAssignedVariables().forEach(analysis::addAssignedVariable);
+        file.getInputAssignedVariables().forEach(analysis::addInputAssignedVariable);
+        file.getLocalVariables().forEach(analysis::addLocalVariable);
+        file.getGlobalVariables().forEach(analysis::addGlobalVariable);
+        file.getLoopVariables().forEach(analysis::addLoopVariable);
+        file.getMacros().forEach(analysis::addMacro);
+        file.getFunctions().forEach(analysis::addFunction);
+        file.getMacroCalls().forEach(analysis::addMacroCall);
+        file.getErrors().forEach(analysis::addError);
+    }
+
+    /**
+     * 단일 파일 분석 (캐시 사용)
+     * - include/import 지시자는 제거한 뒤 실행하므로 대상 템플릿은 재실행되지 않음
+     */
+    CompactTemplateAnalysis analyzeFile(String templateName) throws IOException {
+        String source = loadTemplateSource(templateName);
+        String hash = contentHash(source);
+
+        CompactTemplateAnalysis cached = fileAnalysisCache.get(templateName);
+        boolean memoryHit = cached != null && hash.equals(cached.getContentHash());
+        metrics.cacheAccess("analysis.memory", memoryHit);
+        if (memoryHit) {
+            log.debug("File analysis cache hit: {}", templateName);
+            return cached;
+        }
+
+        CompactTemplateAnalysis indexed = analysisIndexStore.lookup(templateName, hash);
+        metrics.cacheAccess("analysis.index", indexed != null);
+        if (indexed != null) {
+            log.debug("File analysis loaded from index: {}", templateName);
+            return cacheFileAnalysis(indexed.withDictionary(pathDictionary));
+        }
+
+        log.debug("File analysis cache miss: {}", templateName);
+        TemplateVariableAnalysis file = new TemplateVariableAnalysis(templateName);
+        file.setContentHash(hash);
+        String localSource = extractTemplateDependencies(templateName, source, file);
+        extractAssignments(source, file);
+        Map<String, List<TemplateUsageScanner.VariableUsage>> inputReads = inputReads(source);
+        inputReads.keySet().forEach(file::addInputAssignedVariable);
+        file.addVariablePaths(extractVariablesUsingEnhancedMockEnvironment(templateName, localSource, file));
+        classifyUsages(localSource, file, inputReads);
+        file.setDynamicDataAccess(RenderPayloadPruner.hasDynamicDataAccess(source));
+
+        CompactTemplateAnalysis compact = cacheFileAnalysis(CompactTemplateAnalysis.of(file, pathDictionary));
+        analysisIndexStore.append(compact);
+        return compact;
+    }
+
+    /**
+     * 파일 분석 결과를 캐시에 보관
+     * - 템플릿이 수정되어 이전 결과가 교체된 횟수가 캐시된 템플릿 수를 넘으면 경로 사전을 재구성
+     */
+    private CompactTemplateAnalysis cacheFileAnalysis(CompactTemplateAnalysis analysis) {
+        CompactTemplateAnalysis previous = fileAnalysisCache.put(analysis.getTemplateName(), analysis);
+        if (previous != null && replacedAnalyses.incrementAndGet() > fileAnalysisCache.size()) {
+            rebuildPathDictionary();
+        }
         return analysis;
     }
 
+    /**
+     * 캐시에 남아 있는 분석 결과만으로 새 경로 사전을 만들어 교체
+     * - 이전 사전은 그것을 참조하는 결과(진행 중인 요청 포함)가 모두 사라지면 GC 됨
+     */
+    private synchronized void rebuildPathDictionary() {
+        VariablePathDictionary rebuilt = new VariablePathDictionary();
+        pathDictionary = rebuilt;
+        replacedAnalyses.set(0);
+        fileAnalysisCache.replaceAll((name, analysis) -> analysis.withDictionary(rebuilt));
+        log.debug("Variable path dictionary rebuilt: {} paths for {} templates", rebuilt.size(), fileAnalysisCache.size());
+    }
+
+    /**
+     * 현재 경로 사전 (테스트용)
+     */
+    VariablePathDictionary pathDictionary() {
+        return pathDictionary;
+    }
+
+    /**
+     * Mock 실행으로 찾은 경로에 소스상의 사용 유형(출력/조건/반복 등)과 추론 타입 부여
+     */
+    private void classifyUsages(String localSource, TemplateVariableAnalysis file,
+                                Map<String, List<TemplateUsageScanner.VariableUsage>> inputReads) {
+        List<TemplateUsageScanner.VariableUsage> usages = TemplateUsageScanner.scan(localSource);
+        Map<String, Set<ExpressionType>> usageTypes = TemplateUsageScanner.usageTypesByPath(usages);
+        Set<String> normalizedPaths = new LinkedHashSet<>();
+        for (String path : file.getVariablePaths()) {
+            String normalized = TemplateUsageScanner.normalizePath(path);
+            normalizedPaths.add(normalized);
+            Set<ExpressionType> types = usageTypes.get(normalized);
+            if (types != null) {
+                types.forEach(type -> file.addReferencedVariable(path, type));
+            }
+        }
+        VariableTypeInferrer.infer(usages, normalizedPaths).forEach(file::addInferredType);
+        // 외부 입력을 다시 할당하는 이름은 할당 이후 사용이 아니라 입력으로 읽는 위치만으로 필수 여부 판단
+        VariableTypeInferrer.requiredPaths(usages, normalizedPaths).stream()
+                .filter(path -> !inputReads.containsKey(rootSegment(path)))
+                .forEach(file::addRequiredPath);
+        inputReads.forEach((name, reads) -> VariableTypeInferrer.requiredPaths(reads, normalizedPaths).stream()
+                .filter(path -> rootSegment(path).equals(name))
+                .forEach(file::addRequiredPath));
+        VariableTypeInferrer.typeConstraints(usages, normalizedPaths).forEach(file::addTypeConstraint);
+        RenderPayloadPruner.reachablePaths(usages, normalizedPaths).forEach(file::addReachablePath);
+        RenderPayloadPruner.opaquePaths(usages, normalizedPaths).forEach(file::addOpaquePath);
+    }
+
+    /**
+     * 템플릿 디렉터리의 모든 템플릿 이름 (파일 기반 로더인 경우)
+     */
+    public List<String> listTemplateNames() throws IOException {
+        if (!(TransformingTemplateLoader.unwrap(freeMarkerConfig.getTemplateLoader()) instanceof FileTemplateLoader fileLoader)) {
+            return List.of();
+        }
+        Path baseDirectory = fileLoader.getBaseDirectory().toPath();
+        try (Stream<Path> files = Files.walk(baseDirectory)) {
+            return files.filter(path -> path.toString().endsWith(".ftl"))
+                    .map(path -> baseDirectory.relativize(path).toString().replace('\\', '/'))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * include/import 지시자 추출 후 제거된 소스 반환
+     */
+    private String extractTemplateDependencies(String templateName, String source, TemplateVariableAnalysis file) {
+        Matcher includeMatcher = INCLUDE_PATTERN.matcher(source);
+        while (includeMatcher.find()) {
+            file.addIncludedTemplate(resolveTemplateName(templateName, includeMatcher.group(1)));
+        }
+
+        Matcher importMatcher = IMPORT_PATTERN.matcher(source);
+        while (importMatcher.find()) {
+            file.addImportedTemplate(resolveTemplateName(templateName, importMatcher.group(1)), importMatcher.group(2));
+        }
+
+        String localSource = INCLUDE_PATTERN.matcher(source).replaceAll("");
+        return IMPORT_PATTERN.matcher(localSource).replaceAll("");
+    }
+
+    private void extractAssignments(String source, TemplateVariableAnalysis file) {
+        Matcher matcher = ASSIGNMENT_PATTERN.matcher(source);
+        while (matcher.find()) {
+            switch (matcher.group(1)) {
+                case "global" -> file.addGlobalVariable(matcher.group(2));
+                case "local" -> file.addLocalVariable(matcher.group(2));
+                default -> file.addAssignedVariable(matcher.group(2));
+            }
+        }
+
+        Matcher loopMatcher = LOOP_VARIABLE_PATTERN.matcher(source);
+        while (loopMatcher.find()) {
+            file.addLoopVariable(loopMatcher.group(1));
+            if (loopMatcher.group(2) != null) {
+                file.addLoopVariable(loopMatcher.group(2));
+            }
+        }
+    }
+
+    /**
+     * 할당되지만 외부 입력으로 읽히는 이름과 그 입력 사용 위치
+     * - #assign / #global 의 첫 할당 전에 읽히거나, 첫 할당식이 같은 이름을 읽는 경우
+     *   (예: <#assign title = title!"x">, <#assign items = items?sort>)
+     * - #local 은 매크로 안의 이름이므로 제외
+     */
+    private static Map<String, List<TemplateUsageScanner.VariableUsage>> inputReads(String source) {
+        Map<String, List<TemplateUsageScanner.VariableUsage>> inputReads = new LinkedHashMap<>();
+        Set<String> assigned = new HashSet<>();
+        Matcher matcher = ASSIGNMENT_PATTERN.matcher(source);
+        while (matcher.find()) {
+            String name = matcher.group(2);
+            if (matcher.group(1).equals("local") || !assigned.add(name)) {
+                continue;
+            }
+            List<TemplateUsageScanner.VariableUsage> reads = new ArrayList<>(
+                    TemplateUsageScanner.scan(source.substring(0, matcher.start())));
+            int end = source.indexOf('>', matcher.end());
+            String rest = source.substring(matcher.end(), end < 0 ? source.length() : end).trim();
+            if (rest.startsWith("=")) {
+                reads.addAll(TemplateUsageScanner.scan("${" + rest.substring(1).replaceFirst("/\\s*$", "") + "}"));
+            }
+            reads.removeIf(usage -> !rootSegment(usage.getPath()).equals(name));
+            if (!reads.isEmpty()) {
+                inputReads.put(name, reads);
+            }
+        }
+        return inputReads;
+    }
+
+    /**
+     * 설정된 TemplateLoader를 통해 원본 소스 로드
+     */
+    public String loadTemplateSource(String templateName) throws IOException {
+        // 분석용 읽기는 컴파일이 아니므로 로드 추적에서 제외
+        TemplateLoader loader = LoadTrackingTemplateLoader.untracked(freeMarkerConfig.getTemplateLoader());
+        Object source = loader.findTemplateSource(templateName);
+        if (source == null) {
+            throw new FileNotFoundException("Template not found: " + templateName);
+        }
+        try (Reader reader = loader.getReader(source, freeMarkerConfig.getDefaultEncoding())) {
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            return writer.toString();
+        } finally {
+            loader.closeTemplateSource(source);
+        }
+    }
+
+    /**
+     * include/import 경로를 포함하는 템플릿 기준으로 해석
+     */
+    private String resolveTemplateName(String baseName, String targetName) {
+        if (targetName.startsWith("/")) {
+            return targetName.substring(1);
+        }
+        int slash = baseName.lastIndexOf('/');
+        String resolved = slash >= 0 ? baseName.substring(0, slash + 1) + targetName : targetName;
+        return Paths.get(resolved).normalize().toString().replace('\\', '/');
+    }
+
+    private static String rootSegment(String path) {
+        int end = path.length();
+        int dot = path.indexOf('.');
+        int bracket = path.indexOf('[');
+        if (dot >= 0) end = dot;
+        if (bracket >= 0 && bracket < end) end = bracket;
+        return path.substring(0, end);
+    }
+
+    static String contentHash(String source) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     /**
      * Enhanced Mock Environment를 사용한 변수 추출
      * - 여러 번의 실행으로 모든 변수 캐치
      * - 다양한 시나리오 테스트
      */
-    private Set<String> extractVariablesUsingEnhancedMockEnvironment(String templateName, TemplateVariableAnalysis analysis) {
+    private Set<String> extractVariablesUsingEnhancedMockEnvironment(String templateName, String localSource,
+                                                                     TemplateVariableAnalysis analysis) {
         Set<String> allVariables = new LinkedHashSet<>();
 
         try {
-            Template template = freeMarkerConfig.getTemplate(templateName);
+            Template template = new Template(templateName, localSource, freeMarkerConfig);
+
+            // === 0단계: 매크로/함수 분석 (본문 추적용 호출 생성) ===
+            extractMacrosAndFunctions(template, analysis);
+            Template probedTemplate = new Template(templateName,
+                    buildMacroProbes(analysis) + localSource, freeMarkerConfig);
+            probedTemplate.setAttemptExceptionReporter((te, env) ->
+                    log.trace("Expected error in macro probe: {}", te.getMessage()));
 
             // === 1단계: 기본 Mock Environment ===
             EnterpriseVariableCapturingModel basicMock = new EnterpriseVariableCapturingModel();
-            executeTemplateWithMock(template, basicMock, "basic");
+            executeTemplateWithMock(probedTemplate, basicMock, "basic");
             allVariables.addAll(basicMock.getAccessedVariables());
 
             // === 2단계: 조건문/반복문을 위한 Mock Environment ===
             EnterpriseVariableCapturingModel conditionalMock = new EnterpriseVariableCapturingModel();
             conditionalMock.enableConditionalMode(); // 조건문 테스트를 위한 모드
-            executeTemplateWithMock(template, conditionalMock, "conditional");
+            executeTemplateWithMock(probedTemplate, conditionalMock, "conditional");
             allVariables.addAll(conditionalMock.getAccessedVariables());
 
             // === 3단계: 리스트/배열 접근을 위한 Mock Environment ===
             EnterpriseVariableCapturingModel iterationMock = new EnterpriseVariableCapturingModel();
             iterationMock.enableIterationMode(); // 반복문 테스트를 위한 모드
-            executeTemplateWithMock(template, iterationMock, "iteration");
+            executeTemplateWithMock(probedTemplate, iterationMock, "iteration");
             allVariables.addAll(iterationMock.getAccessedVariables());
 
-            // === 4단계: 매크로/함수 분석 ===
-            extractMacrosAndFunctions(template, analysis);
-
+            allVariables.removeIf(path -> MOCK_ARGUMENT.equals(rootSegment(path)));
             log.info("Enhanced mock analysis completed: {} unique variables", allVariables.size());
 
         } catch (Exception e) {
@@ -95,16 +610,40 @@ public class FreeMarkerVariableExtractor {
         return allVariables;
     }
 
+    /**
+     * 파일에 정의된 매크로/함수를 Mock 인자로 호출하는 구문 생성
+     * - include/import 로 재사용되는 본문의 변수를 파일 단위 분석에서 추적
+     */
+    private String buildMacroProbes(TemplateVariableAnalysis analysis) {
+        StringBuilder probes = new StringBuilder();
+        analysis.getMacros().forEach((name, params) -> {
+            probes.append("<#attempt><@").append(name);
+            params.forEach(param -> probes.append(' ').append(param).append('=').append(MOCK_ARGUMENT));
+            probes.append("></@").append(name).append("><#recover></#attempt>");
+        });
+        analysis.getFunctions().forEach((name, params) -> {
+            probes.append("<#attempt><#assign ").append(MOCK_ARGUMENT).append("Result = ").append(name).append('(');
+            probes.append(String.join(", ", Collections.nCopies(params.size(), MOCK_ARGUMENT)));
+            probes.append(")><#recover></#attempt>");
+        });
+        return probes.toString();
+    }
+
     /**
      * Mock 환경에서 템플릿 실행
      */
     private void executeTemplateWithMock(Template template, EnterpriseVariableCapturingModel mockModel, String mode) {
+        long start = System.nanoTime();
+        String outcome = FormEngineMetrics.SUCCESS;
         try (StringWriter writer = new StringWriter()) {
             template.process(mockModel, writer);
             log.trace("Template execution completed in {} mode", mode);
         } catch (Exception e) {
             // 템플릿 실행 중 오류는 예상되는 상황 (변수가 없으니까)
+            outcome = FormEngineMetrics.FAILURE;
             log.trace("Expected error during {} mock processing: {}", mode, e.getMessage());
+        } finally {
+            metrics.recordMockPass(template.getName(), mode, outcome, System.nanoTime() - start);
         }
     }
 
@@ -162,20 +701,23 @@ public class FreeMarkerVariableExtractor {
     /**
      * 계층 구조 생성
      */
-    private void buildHierarchicalStructure(Set<String> variables, Map<String, Object> hierarchicalVariables) {
+    private void buildHierarchicalStructure(Set<String> variables, Map<String, Object> hierarchicalVariables,
+                                            Map<String, VariableType> inferredTypes) {
         for (String varPath : variables) {
             if (varPath.contains(".")) {
-                createHierarchicalPath(varPath, hierarchicalVariables);
+                createHierarchicalPath(varPath, hierarchicalVariables, inferredTypes);
             } else {
                 if (!hierarchicalVariables.containsKey(varPath)) {
-                    hierarchicalVariables.put(varPath, createDefaultValue(varPath));
+                    hierarchicalVariables.put(varPath, createDefaultValue(varPath,
+                            inferredTypes.get(TemplateUsageScanner.normalizePath(varPath))));
                 }
             }
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void createHierarchicalPath(String varPath, Map<String, Object> hierarchicalVariables) {
+    private void createHierarchicalPath(String varPath, Map<String, Object> hierarchicalVariables,
+                                        Map<String, VariableType> inferredTypes) {
         String[] parts = varPath.split("\\.");
         Map<String, Object> current = hierarchicalVariables;
 
@@ -197,10 +739,24 @@ public class FreeMarkerVariableExtractor {
         }
 
         String lastPart = parts[parts.length - 1];
-        current.put(lastPart, createDefaultValue(lastPart));
+        current.put(lastPart, createDefaultValue(lastPart, inferredTypes.get(TemplateUsageScanner.normalizePath(varPath))));
     }
 
-    private Object createDefaultValue(String varName) {
+    /**
+     * 추론 타입이 있으면 타입별 기본값, 없으면 이름 기반 추정
+     */
+    private Object createDefaultValue(String varName, VariableType inferredType) {
+        if (inferredType != null) {
+            return switch (inferredType) {
+                case SEQUENCE -> new ArrayList<>();
+                case HASH -> new LinkedHashMap<String, Object>();
+                case DATE -> "2024-01-01";
+                case NUMBER -> 0;
+                case BOOLEAN -> false;
+                case STRING -> "";
+            };
+        }
+
         String lowerName = varName.toLowerCase();
 
         if (lowerName.contains("is") || lowerName.contains("has") || lowerName.contains("enable")) {
@@ -269,6 +825,11 @@ public class FreeMarkerVariableExtractor {
         OUTPUT, ASSIGNMENT, CONDITION, ITERATION, PARAMETER, INTERPOLATION, STRING_INTERPOLATION
     }
 
+    // 사용 문맥으로 추론한 변수 타입 (근거가 충돌하면 앞선 타입 우선)
+    public enum VariableType {
+        SEQUENCE, HASH, DATE, NUMBER, BOOLEAN, STRING
+    }
+
     /**
      * 기업용 강화된 변수 캡처 모델
      */
@@ -314,7 +875,8 @@ public class FreeMarkerVariableExtractor {
      * 기업용 중첩 변수 캡처 모델
      */
     private static class EnterpriseNestedCapturingModel implements TemplateHashModel, TemplateScalarModel,
-            TemplateSequenceModel, TemplateBooleanModel, TemplateNumberModel, TemplateDateModel {
+            TemplateSequenceModel, TemplateBooleanModel, TemplateNumberModel, TemplateDateModel,
+            TemplateDirectiveModel, TemplateMethodModelEx {
 
         private final String basePath;
         private final Set<String> accessedVariables;
@@ -380,6 +942,45 @@ public class FreeMarkerVariableExtractor {
         public int getDateType() {
             return TemplateDateModel.DATETIME;
         }
+
+        /**
+         * include/import 된 매크로 호출 시 본문만 실행 (본문 안의 변수 추적)
+         */
+        @Override
+        public void execute(Environment env, Map params, TemplateModel[] loopVars, TemplateDirectiveBody body)
+                throws TemplateException, IOException {
+            if (body != null) {
+                body.render(env.getOut());
+            }
+        }
+
+        @Override
+        public Object exec(List arguments) throws TemplateModelException {
+            return this;
+        }
+    }
+
+    /**
+     * 버전 계산 당시의 Template 인스턴스들 (모두 그대로면 버전도 그대로)
+     */
+    @RequiredArgsConstructor
+    private static class CachedVersion {
+        private final String version;
+        private final Map<String, Template> templates;
+        private final boolean timeDependent;
+
+        private boolean isCurrent(Configuration configuration) {
+            try {
+                for (Map.Entry<String, Template> entry : templates.entrySet()) {
+                    if (configuration.getTemplate(entry.getKey()) != entry.getValue()) {
+                        return false;
+                    }
+                }
+                return true;
+            } catch (IOException e) {
+                return false;
+            }
+        }
     }
 
     /**
@@ -389,11 +990,21 @@ public class FreeMarkerVariableExtractor {
     public static class TemplateVariableAnalysis {
         private final String templateName;
         private boolean templateValid = true;
+        private String contentHash;
+        private final Set<String> variablePaths = new LinkedHashSet<>();
         private final Set<String> assignedVariables = new LinkedHashSet<>();
+        // 할당되지만 외부 입력을 읽는 이름 (할당 전 사용, 자기 자신을 읽는 할당식) - 필수 변수에서 가리지 않음
+        private final Set<String> inputAssignedVariables = new LinkedHashSet<>();
         private final Set<String> localVariables = new LinkedHashSet<>();
         private final Set<String> globalVariables = new LinkedHashSet<>();
         private final Set<String> loopVariables = new LinkedHashSet<>();
         private final Map<String, Set<ExpressionType>> referencedVariables = new LinkedHashMap<>();
+        private final Map<String, VariableType> inferredTypes = new LinkedHashMap<>();
+        private final Set<String> requiredPaths = new LinkedHashSet<>();
+        private final Map<String, Set<VariableType>> typeConstraints = new LinkedHashMap<>();
+        private final Set<String> reachablePaths = new LinkedHashSet<>();
+        private final Set<String> opaquePaths = new LinkedHashSet<>();
+        private boolean dynamicDataAccess;
         private final Map<String, List<String>> macros = new LinkedHashMap<>();
         private final Map<String, List<String>> functions = new LinkedHashMap<>();
         private final Set<String> macroCalls = new LinkedHashSet<>();
@@ -401,6 +1012,9 @@ public class FreeMarkerVariableExtractor {
         private final Map<String, String> importedTemplates = new LinkedHashMap<>();
         private final List<String> errors = new ArrayList<>();
         private Map<String, Object> hierarchicalVariables = new LinkedHashMap<>();
+        // 이 분석 실행의 스레드 할당 바이트 / CPU 시간 (측정 불가면 -1)
+        private long allocatedBytes = -1;
+        private long cpuTimeNanos = -1;
 
         public TemplateVariableAnalysis(String templateName) {
             this.templateName = templateName;
@@ -410,6 +1024,10 @@ public class FreeMarkerVariableExtractor {
             assignedVariables.add(name);
         }
 
+        public void addInputAssignedVariable(String name) {
+            inputAssignedVariables.add(name);
+        }
+
         public void addLocalVariable(String name) {
             localVariables.add(name);
         }
@@ -426,6 +1044,45 @@ public class FreeMarkerVariableExtractor {
             referencedVariables.computeIfAbsent(name, k -> new LinkedHashSet<>()).add(type);
         }
 
+        /**
+         * 정규화 경로(items[].name)의 추론 타입 추가
+         */
+        public void addInferredType(String path, VariableType type) {
+            inferredTypes.merge(path, type, VariableTypeInferrer::preferred);
+        }
+
+        /**
+         * 요청 검증용 필수 경로 (정규화 경로)
+         */
+        public void addRequiredPath(String path) {
+            requiredPaths.add(path);
+        }
+
+        /**
+         * 요청 검증용 타입 제약 (값이 있을 때 허용되는 타입, 여러 번 추가되면 교집합)
+         */
+        public void addTypeConstraint(String path, Set<VariableType> allowed) {
+            typeConstraints.computeIfAbsent(path, k -> EnumSet.allOf(VariableType.class)).retainAll(allowed);
+        }
+
+        /**
+         * 요청 가지치기용 도달 가능 경로 (정규화 경로)
+         */
+        public void addReachablePath(String path) {
+            reachablePaths.add(path);
+        }
+
+        /**
+         * 요청 가지치기 시 값 전체를 유지할 경로 (정규화 경로)
+         */
+        public void addOpaquePath(String path) {
+            opaquePaths.add(path);
+        }
+
+        public void setDynamicDataAccess(boolean dynamicDataAccess) {
+            this.dynamicDataAccess = dynamicDataAccess;
+        }
+
         public void addMacro(String name, List<String> params) {
             macros.put(name, new ArrayList<>(params));
         }
@@ -450,6 +1107,14 @@ public class FreeMarkerVariableExtractor {
             errors.add(error);
         }
 
+        public void addVariablePaths(Collection<String> paths) {
+            variablePaths.addAll(paths);
+        }
+
+        public void setContentHash(String contentHash) {
+            this.contentHash = contentHash;
+        }
+
         public void setTemplateValid(boolean valid) {
             this.templateValid = valid;
         }
@@ -458,6 +1123,11 @@ public class FreeMarkerVariableExtractor {
             this.hierarchicalVariables = hierarchicalVariables;
         }
 
+        public void setResourceUsage(long allocatedBytes, long cpuTimeNanos) {
+            this.allocatedBytes = allocatedBytes;
+            this.cpuTimeNanos = cpuTimeNanos;
+        }
+
         public Set<String> getRequiredExternalVariables() {
             return hierarchicalVariables.keySet();
         }
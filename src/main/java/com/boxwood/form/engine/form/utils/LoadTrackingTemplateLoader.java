@@ -0,0 +1,31 @@
+package com.boxwood.form.engine.form.utils;
+
+import freemarker.cache.TemplateLoader;
+
+/**
+ * 템플릿 소스를 실제로 읽을 때(컴파일 캐시 미스)마다 RenderTimingStatistics 에 알리는 TemplateLoader 래퍼
+ * - FreeMarker 는 캐시에 없거나 소스가 바뀐 경우에만 getReader 를 호출하므로 적중/미스를 정확히 구분할 수 있음
+ */
+public class LoadTrackingTemplateLoader extends TransformingTemplateLoader {
+    private final TemplateLoader delegate;
+    private final RenderTimingStatistics timingStatistics;
+
+    public LoadTrackingTemplateLoader(TemplateLoader delegate, RenderTimingStatistics timingStatistics) {
+        super(delegate);
+        this.delegate = delegate;
+        this.timingStatistics = timingStatistics;
+    }
+
+    /**
+     * 로드 추적 래퍼를 벗긴 로더 (분석 등 컴파일이 아닌 소스 읽기용, 다른 변환은 유지)
+     */
+    public static TemplateLoader untracked(TemplateLoader loader) {
+        return loader instanceof LoadTrackingTemplateLoader tracking ? tracking.delegate : loader;
+    }
+
+    @Override
+    protected String transform(String templateName, String source) {
+        timingStatistics.templateLoaded(templateName);
+        return source;
+    }
+}
@@ -0,0 +1,19 @@
+package com.boxwood.form.engine.form.utils;
+
+import freemarker.cache.TemplateLoader;
+
+/**
+ * 로드한 템플릿 소스의 정적 텍스트를 축소하는 TemplateLoader 래퍼 (form.template.minify.enabled=true 일 때 사용)
+ * - 컴파일 전에 한 번만 변환하므로 렌더링마다 드는 비용 없음
+ */
+public class MinifyingTemplateLoader extends TransformingTemplateLoader {
+
+    public MinifyingTemplateLoader(TemplateLoader delegate) {
+        super(delegate);
+    }
+
+    @Override
+    protected String transform(String templateName, String source) {
+        return TemplateTextMinifier.minify(source);
+    }
+}
@@ -0,0 +1,244 @@
+package com.boxwood.form.engine.form.utils;
+
+import freemarker.template.*;
+
+import java.util.*;
+
+/**
+ * 렌더링 중 데이터 모델 읽기 경로 기록 (증분 렌더링용)
+ * - Map/List 를 감싸는 추적 모델을 만들어 템플릿이 접근한 정규화 경로(items[].name)를 기록
+ * - 하위 Map/List 로 내려가기만 한 경로는 "탐색", 값을 읽은 경로(스칼라, 없는 키, ?keys/?size 등)는 "값" 읽기로 구분
+ * - 두 모델의 변경 경로 계산과 읽기 집합과의 교차 판단 제공
+ */
+public final class ModelReadTracker {
+    private final ObjectWrapper wrapper;
+    private ReadSet current = new ReadSet();
+
+    public ModelReadTracker(ObjectWrapper wrapper) {
+        this.wrapper = wrapper;
+    }
+
+    /**
+     * 이후 읽기를 기록할 집합 지정 (섹션 단위로 교체)
+     */
+    public void record(ReadSet readSet) {
+        this.current = readSet;
+    }
+
+    /**
+     * 데이터 모델 루트를 추적 모델로 감쌈
+     */
+    public TemplateHashModelEx2 wrap(Map<String, Object> model) {
+        return new TrackingHash(model, "");
+    }
+
+    /**
+     * 이전 모델 대비 바뀐 경로 (정규화 경로, 리스트 길이가 바뀌면 리스트 경로 자체)
+     */
+    public static Set<String> changedPaths(Object previous, Object next) {
+        Set<String> changed = new LinkedHashSet<>();
+        diff(previous, next, "", changed);
+        return changed;
+    }
+
+    private static void diff(Object previous, Object next, String path, Set<String> changed) {
+        if (previous instanceof Map<?, ?> before && next instanceof Map<?, ?> after) {
+            Set<Object> keys = new LinkedHashSet<>(before.keySet());
+            keys.addAll(after.keySet());
+            for (Object key : keys) {
+                diff(before.get(key), after.get(key), child(path, String.valueOf(key)), changed);
+            }
+        } else if (previous instanceof List<?> before && next instanceof List<?> after) {
+            if (before.size() != after.size()) {
+                changed.add(path);
+                return;
+            }
+            for (int i = 0; i < before.size(); i++) {
+                diff(before.get(i), after.get(i), path + "[]", changed);
+            }
+        } else if (!Objects.equals(previous, next)) {
+            changed.add(path);
+        }
+    }
+
+    /**
+     * 변경 경로가 읽기 집합에 영향을 주는지
+     * - 값 읽기: 같은 경로이거나 한쪽이 다른 쪽의 하위 경로
+     * - 탐색 읽기: 같은 경로이거나 상위 경로가 바뀐 경우 (하위 값 변경은 해당 값 읽기로 판단)
+     */
+    public static boolean affects(ReadSet reads, Set<String> changedPaths) {
+        for (String changed : changedPaths) {
+            for (String value : reads.getValues()) {
+                if (changed.equals(value) || extendsPath(changed, value) || extendsPath(value, changed)) {
+                    return true;
+                }
+            }
+            for (String navigated : reads.getNavigated()) {
+                if (changed.equals(navigated) || extendsPath(navigated, changed)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 저장용 깊은 복사 (Map/List 구조만 복사, 말단 값은 공유)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T copy(T value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copied = new LinkedHashMap<>();
+            map.forEach((key, child) -> copied.put(key, copy(child)));
+            return (T) copied;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copied = new ArrayList<>(list.size());
+            list.forEach(child -> copied.add(copy(child)));
+            return (T) copied;
+        }
+        return value;
+    }
+
+    private static String child(String path, String key) {
+        return path.isEmpty() ? key : path + "." + key;
+    }
+
+    private static boolean extendsPath(String path, String prefix) {
+        return path.length() > prefix.length() && path.startsWith(prefix)
+                && (prefix.isEmpty() || path.charAt(prefix.length()) == '.' || path.charAt(prefix.length()) == '[');
+    }
+
+    private TemplateModel wrapChild(Object value, String path) throws TemplateModelException {
+        if (value instanceof Map<?, ?> map) {
+            current.navigated.add(path);
+            @SuppressWarnings("unchecked")
+            Map<String, Object> hash = (Map<String, Object>) map;
+            return new TrackingHash(hash, path);
+        }
+        if (value instanceof List<?> list) {
+            current.navigated.add(path);
+            return new TrackingSequence(list, path);
+        }
+        current.values.add(path);
+        return value == null ? null : wrapper.wrap(value);
+    }
+
+    /**
+     * 섹션 하나의 읽기 경로
+     */
+    public static final class ReadSet {
+        private final Set<String> navigated = new HashSet<>();
+        private final Set<String> values = new HashSet<>();
+
+        public Set<String> getNavigated() {
+            return Collections.unmodifiableSet(navigated);
+        }
+
+        public Set<String> getValues() {
+            return Collections.unmodifiableSet(values);
+        }
+
+        public int size() {
+            return navigated.size() + values.size();
+        }
+    }
+
+    private final class TrackingHash implements TemplateHashModelEx2 {
+        private final Map<String, Object> map;
+        private final String path;
+
+        private TrackingHash(Map<String, Object> map, String path) {
+            this.map = map;
+            this.path = path;
+        }
+
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            return wrapChild(map.get(key), child(path, key));
+        }
+
+        @Override
+        public boolean isEmpty() {
+            current.values.add(path);
+            return map.isEmpty();
+        }
+
+        @Override
+        public int size() {
+            current.values.add(path);
+            return map.size();
+        }
+
+        @Override
+        public TemplateCollectionModel keys() {
+            current.values.add(path);
+            return new SimpleCollection(map.keySet(), wrapper);
+        }
+
+        @Override
+        public TemplateCollectionModel values() throws TemplateModelException {
+            current.values.add(path);
+            List<TemplateModel> values = new ArrayList<>(map.size());
+            for (Map.Entry<String, Object> entry : map.entrySet()) {
+                values.add(wrapChild(entry.getValue(), child(path, entry.getKey())));
+            }
+            return new SimpleCollection(values, wrapper);
+        }
+
+        @Override
+        public KeyValuePairIterator keyValuePairIterator() {
+            current.values.add(path);
+            Iterator<Map.Entry<String, Object>> entries = map.entrySet().iterator();
+            return new KeyValuePairIterator() {
+                @Override
+                public boolean hasNext() {
+                    return entries.hasNext();
+                }
+
+                @Override
+                public KeyValuePair next() throws TemplateModelException {
+                    Map.Entry<String, Object> entry = entries.next();
+                    TemplateModel key = wrapper.wrap(entry.getKey());
+                    TemplateModel value = wrapChild(entry.getValue(), child(path, entry.getKey()));
+                    return new KeyValuePair() {
+                        @Override
+                        public TemplateModel getKey() {
+                            return key;
+                        }
+
+                        @Override
+                        public TemplateModel getValue() {
+                            return value;
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private final class TrackingSequence implements TemplateSequenceModel {
+        private final List<?> list;
+        private final String path;
+
+        private TrackingSequence(List<?> list, String path) {
+            this.list = list;
+            this.path = path;
+        }
+
+        @Override
+        public TemplateModel get(int index) throws TemplateModelException {
+            if (index < 0 || index >= list.size()) {
+                current.navigated.add(path);
+                return null;
+            }
+            return wrapChild(list.get(index), path + "[]");
+        }
+
+        @Override
+        public int size() {
+            current.navigated.add(path);
+            return list.size();
+        }
+    }
+}
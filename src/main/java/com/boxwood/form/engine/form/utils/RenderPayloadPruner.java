@@ -0,0 +1,285 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.TemplateUsageScanner.VariableUsage;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿 버전별로 미리 컴파일한 렌더링 요청 가지치기
+ * - 분석 결과의 도달 가능 경로로 트리를 만들어 두고, 템플릿이 읽을 수 없는 하위 트리를 요청 변수에서 제거
+ * - JSON 파싱 중에 적용하면 불필요한 하위 트리는 객체로 만들지 않고 건너뜀
+ * - 값 전체가 쓰이는 경로(출력, 매크로 인자, ?keys, 동적 키 접근 등)는 통째로 유지
+ * - ??, ?is_* 로 존재/타입만 확인하는 경로는 같은 종류의 빈 값으로 대체 (리스트는 길이 유지)
+ */
+public final class RenderPayloadPruner {
+    // 데이터 모델 전체에 동적으로 접근할 수 있는 구문 (포함 시 가지치기 안 함)
+    private static final Pattern DYNAMIC_ACCESS_PATTERN = Pattern.compile(
+            "\\.(vars|data_model|globals)\\b|\\?(eval|eval_json|interpret)\\b|\\.get_optional_template\\b"
+                    + "|<#(include|import)\\s+[^\"'\\s]|<#items\\b|<#list\\s+[^>]+?\\s+as\\s+\\w+\\s*,");
+    // 값 자체를 읽지 않는 내장 함수 체인 (존재/타입 확인)
+    private static final Pattern SHALLOW_BUILT_INS = Pattern.compile("(\\?\\?|\\?is_\\w+)*");
+
+    @Getter
+    private final String templateName;
+    @Getter
+    private final String version;
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final int pathCount;
+    private final Node root = new Node();
+
+    private RenderPayloadPruner(TemplateVariableAnalysis analysis) {
+        this.templateName = analysis.getTemplateName();
+        this.version = analysis.getContentHash();
+        this.enabled = analysis.isTemplateValid() && analysis.getErrors().isEmpty() && !analysis.isDynamicDataAccess();
+        analysis.getReachablePaths().forEach(this::node);
+        analysis.getOpaquePaths().forEach(path -> node(path).opaque = true);
+        this.pathCount = analysis.getReachablePaths().size();
+    }
+
+    /**
+     * 분석 결과로 가지치기 트리 생성 (동적 접근이 있거나 분석이 불완전하면 비활성)
+     */
+    public static RenderPayloadPruner compile(TemplateVariableAnalysis analysis) {
+        return new RenderPayloadPruner(analysis);
+    }
+
+    /**
+     * 템플릿 소스에 데이터 모델 동적 접근이 있는지 (.vars, ?eval, 비리터럴 include, 키/값 #list 등)
+     */
+    public static boolean hasDynamicDataAccess(String source) {
+        return DYNAMIC_ACCESS_PATTERN.matcher(source).find();
+    }
+
+    /**
+     * 도달 가능 경로 (사용 위치 + Mock 실행으로 찾은 경로, 정규화 경로)
+     */
+    public static Set<String> reachablePaths(List<VariableUsage> usages, Set<String> paths) {
+        Set<String> reachable = new LinkedHashSet<>(paths);
+        usages.forEach(usage -> reachable.add(usage.getPath()));
+        return reachable;
+    }
+
+    /**
+     * 값 전체를 유지해야 하는 경로
+     * - 존재/타입 확인(??, ?is_*)이나 #list 반복 외의 방식으로 값이 쓰인 경로
+     * - 사용 위치는 못 찾고 Mock 실행으로만 발견된 말단 경로
+     */
+    public static Set<String> opaquePaths(List<VariableUsage> usages, Set<String> paths) {
+        Set<String> opaque = new LinkedHashSet<>();
+        Set<String> used = new HashSet<>();
+        for (VariableUsage usage : usages) {
+            used.add(usage.getPath());
+            String builtIns = usage.getBuiltIns();
+            boolean iteration = usage.getType() == ExpressionType.ITERATION && builtIns.isEmpty();
+            boolean shallow = !builtIns.isEmpty() && SHALLOW_BUILT_INS.matcher(builtIns).matches();
+            if (!iteration && !shallow || usage.getFollowing().startsWith("[")) {
+                opaque.add(usage.getPath());
+            }
+        }
+        for (String path : paths) {
+            if (!used.contains(path) && paths.stream().noneMatch(other -> extendsPath(other, path))) {
+                opaque.add(path);
+            }
+        }
+        return opaque;
+    }
+
+    private static boolean extendsPath(String path, String prefix) {
+        return path.length() > prefix.length() && path.startsWith(prefix)
+                && (path.charAt(prefix.length()) == '.' || path.charAt(prefix.length()) == '[');
+    }
+
+    /**
+     * 이미 만들어진 요청 변수에서 도달 불가능한 하위 트리 제거
+     */
+    public Map<String, Object> prune(Map<String, Object> variables) {
+        if (!enabled || variables == null) {
+            return variables;
+        }
+        Map<String, Object> pruned = new LinkedHashMap<>();
+        pruneHash(root, variables, pruned);
+        return pruned;
+    }
+
+    private void pruneHash(Node node, Map<?, ?> values, Map<String, Object> target) {
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            if (values.containsKey(child.getKey())) {
+                target.put(child.getKey(), pruneValue(child.getValue(), values.get(child.getKey())));
+            }
+        }
+    }
+
+    private Object pruneValue(Node node, Object value) {
+        if (node == null) {
+            return placeholder(value);
+        }
+        if (node.opaque || value == null) {
+            return value;
+        }
+        if (value instanceof Map<?, ?> map) {
+            // 원소 경로가 있는 노드에 해시가 오면 키/값 반복일 수 있으므로 유지
+            if (node.element != null) {
+                return value;
+            }
+            Map<String, Object> pruned = new LinkedHashMap<>();
+            pruneHash(node, map, pruned);
+            return pruned;
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> pruned = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                pruned.add(pruneValue(node.element, element));
+            }
+            return pruned;
+        }
+        return value;
+    }
+
+    private static Object placeholder(Object value) {
+        if (value instanceof Map) {
+            return new LinkedHashMap<>();
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> placeholders = new ArrayList<>(collection.size());
+            collection.forEach(element -> placeholders.add(placeholder(element)));
+            return placeholders;
+        }
+        return value;
+    }
+
+    /**
+     * JSON 객체를 읽으면서 가지치기 (parser 는 variables 객체의 START_OBJECT 위치)
+     * - 도달 불가능한 하위 트리는 skipChildren() 으로 건너뛰므로 Map/List 가 만들어지지 않음
+     */
+    public Map<String, Object> read(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Expected JSON object for variables but was " + parser.currentToken());
+        }
+        Map<String, Object> variables = new LinkedHashMap<>();
+        readHash(enabled ? root : null, parser, variables);
+        return variables;
+    }
+
+    private void readHash(Node node, JsonParser parser, Map<String, Object> target) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if (node == null) {
+                target.put(name, readAll(parser));
+                continue;
+            }
+            Node child = node.children.get(name);
+            if (child == null) {
+                parser.skipChildren();
+            } else {
+                target.put(name, readValue(child, parser));
+            }
+        }
+    }
+
+    private Object readValue(Node node, JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (node.opaque || token == JsonToken.START_OBJECT && node.element != null) {
+            return readAll(parser);
+        }
+        if (token == JsonToken.START_OBJECT) {
+            Map<String, Object> hash = new LinkedHashMap<>();
+            readHash(node, parser, hash);
+            return hash;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            List<Object> sequence = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                sequence.add(node.element != null ? readValue(node.element, parser) : readPlaceholder(parser));
+            }
+            return sequence;
+        }
+        return readScalar(parser);
+    }
+
+    private static Object readPlaceholder(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return new LinkedHashMap<>();
+        }
+        if (token == JsonToken.START_ARRAY) {
+            List<Object> placeholders = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                placeholders.add(readPlaceholder(parser));
+            }
+            return placeholders;
+        }
+        return readScalar(parser);
+    }
+
+    private static Object readAll(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            Map<String, Object> hash = new LinkedHashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                parser.nextToken();
+                hash.put(name, readAll(parser));
+            }
+            return hash;
+        }
+        if (token == JsonToken.START_ARRAY) {
+            List<Object> sequence = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                sequence.add(readAll(parser));
+            }
+            return sequence;
+        }
+        return readScalar(parser);
+    }
+
+    private static Object readScalar(JsonParser parser) throws IOException {
+        return switch (parser.currentToken()) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> throw new IOException("Unexpected JSON token " + parser.currentToken());
+        };
+    }
+
+    /**
+     * 정규화 경로(items[].name)에 해당하는 노드 (없으면 생성)
+     */
+    private Node node(String path) {
+        Node current = root;
+        for (String segment : path.split("\\.")) {
+            String name = segment;
+            int depth = 0;
+            while (name.endsWith("[]")) {
+                name = name.substring(0, name.length() - 2);
+                depth++;
+            }
+            current = current.children.computeIfAbsent(name, k -> new Node());
+            for (int i = 0; i < depth; i++) {
+                if (current.element == null) {
+                    current.element = new Node();
+                }
+                current = current.element;
+            }
+        }
+        return current;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node element;
+        private boolean opaque;
+    }
+}
@@ -0,0 +1,96 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 렌더링 결과 메타데이터를 응답 헤더로 변환 (본문은 HTML 그대로 전송)
+ * - 목록/맵 값은 JSON 으로 직렬화한 뒤 UTF-8 퍼센트 인코딩 (헤더는 ASCII 만 안전)
+ * - 헤더 합계가 한도를 넘으면 debugInfo 부터 생략하고 X-Render-Headers-Truncated 표시
+ */
+public final class RenderResultHeaders {
+    public static final String SUCCESS = "X-Render-Success";
+    public static final String TEMPLATE_NAME = "X-Render-Template";
+    public static final String RENDER_TIME_MS = "X-Render-Time-Ms";
+    public static final String ERRORS = "X-Render-Errors";
+    public static final String VALIDATION_ERRORS = "X-Render-Validation-Errors";
+    public static final String DEBUG_INFO = "X-Render-Debug-Info";
+    public static final String TRUNCATED = "X-Render-Headers-Truncated";
+
+    private RenderResultHeaders() {
+    }
+
+    public static HttpHeaders of(TemplateRenderResponseDto result, ObjectMapper objectMapper, int maxBytes) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(SUCCESS, String.valueOf(result.isSuccess()));
+        headers.set(RENDER_TIME_MS, String.valueOf(result.getRenderTimeMs()));
+        if (result.getTemplateName() != null) {
+            headers.set(TEMPLATE_NAME, encode(result.getTemplateName()));
+        }
+
+        int remaining = maxBytes;
+        boolean truncated = false;
+        for (Map.Entry<String, Object> entry : Map.<String, Object>of(
+                ERRORS, nullToEmpty(result.getErrors()),
+                VALIDATION_ERRORS, nullToEmpty(result.getValidationErrors())).entrySet()) {
+            if (((List<?>) entry.getValue()).isEmpty()) {
+                continue;
+            }
+            String value = encodeJson(entry.getValue(), objectMapper);
+            if (value.length() > remaining) {
+                truncated = true;
+                continue;
+            }
+            headers.set(entry.getKey(), value);
+            remaining -= value.length();
+        }
+        if (result.getDebugInfo() != null && !result.getDebugInfo().isEmpty()) {
+            String value = encodeJson(result.getDebugInfo(), objectMapper);
+            if (value.length() > remaining) {
+                truncated = true;
+            } else {
+                headers.set(DEBUG_INFO, value);
+            }
+        }
+        if (truncated) {
+            headers.set(TRUNCATED, "true");
+        }
+        return headers;
+    }
+
+    /**
+     * 헤더 이름/값의 바이트 합계 (": " 와 CRLF 포함, 전송량 비교용)
+     */
+    public static int size(HttpHeaders headers) {
+        int bytes = 0;
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            for (String value : entry.getValue()) {
+                bytes += entry.getKey().length() + value.length() + 4;
+            }
+        }
+        return bytes;
+    }
+
+    private static List<String> nullToEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static String encodeJson(Object value, ObjectMapper objectMapper) {
+        try {
+            return encode(objectMapper.writeValueAsString(value));
+        } catch (JsonProcessingException e) {
+            return encode(String.valueOf(value));
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+    }
+}
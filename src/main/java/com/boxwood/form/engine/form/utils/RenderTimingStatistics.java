@@ -0,0 +1,188 @@
+package com.boxwood.form.engine.form.utils;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 렌더링 단계별 소요 시간(ns) 누적 히스토그램
+ * - 단계: lookup(캐시 적중 시 템플릿 조회) / parse(캐시 미스 시 로드 + 컴파일) / validate / wrap / process / output / total
+ * - 로그-선형 버킷(2의 거듭제곱 구간을 4등분, 오차 25% 이내)에 lock-free 로 누적하므로 매 렌더링마다 기록해도 부담이 작음
+ * - 컴파일 캐시 적중 여부는 템플릿 조회 중 현재 스레드에서 소스 로드(LoadTrackingTemplateLoader)가 있었는지로 판단
+ */
+@Component
+public class RenderTimingStatistics {
+    public static final String LOOKUP = "lookup";
+    public static final String PARSE = "parse";
+    public static final String VALIDATE = "validate";
+    public static final String WRAP = "wrap";
+    public static final String PROCESS = "process";
+    public static final String OUTPUT = "output";
+    public static final String TOTAL = "total";
+
+    private static final List<String> PHASES = List.of(LOOKUP, PARSE, VALIDATE, WRAP, PROCESS, OUTPUT, TOTAL);
+
+    private final FormEngineMetrics metrics;
+
+    // 스레드별 템플릿 소스 로드 횟수 (조회 전후 비교로 캐시 미스 판단)
+    private final ThreadLocal<long[]> threadLoads = ThreadLocal.withInitial(() -> new long[1]);
+    private final Map<String, NanoHistogram> histograms = new ConcurrentHashMap<>();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheMisses = new LongAdder();
+
+    public RenderTimingStatistics(FormEngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 템플릿 소스를 읽어 컴파일함 (LoadTrackingTemplateLoader 에서 호출)
+     */
+    public void templateLoaded(String templateName) {
+        threadLoads.get()[0]++;
+        metrics.templateLoaded(templateName);
+    }
+
+    /**
+     * 현재 스레드의 템플릿 소스 로드 횟수 (템플릿 조회 전에 받아 두고 recordLookup 에 전달)
+     */
+    public long currentLoads() {
+        return threadLoads.get()[0];
+    }
+
+    /**
+     * 템플릿 조회가 컴파일 캐시에서 끝났는지 기록
+     *
+     * @param loadsBefore 조회 전 currentLoads() 값
+     * @return 조회 중 소스 로드가 없었으면 true (적중)
+     */
+    public boolean recordLookup(long loadsBefore) {
+        boolean hit = currentLoads() == loadsBefore;
+        (hit ? cacheHits : cacheMisses).increment();
+        metrics.cacheAccess("compile", hit);
+        return hit;
+    }
+
+    /**
+     * 렌더링 한 건의 단계별 소요 시간 기록 (Micrometer form.render.phase 에도 템플릿별로 기록)
+     *
+     * @param templateName 템플릿 파일명
+     * @param phaseNanos 단계명 -> ns (total 포함, 거치지 않은 단계는 생략)
+     * @param cacheHit   컴파일 캐시 적중 여부 (total 은 적중/미스별로도 따로 누적)
+     */
+    public void record(String templateName, Map<String, Long> phaseNanos, boolean cacheHit) {
+        phaseNanos.forEach((phase, nanos) -> {
+            histogram(phase).record(nanos);
+            if (!phase.equals(TOTAL)) {
+                metrics.recordRenderPhase(templateName, phase, nanos);
+            }
+        });
+        Long total = phaseNanos.get(TOTAL);
+        if (total != null) {
+            histogram(cacheHit ? TOTAL + ".cacheHit" : TOTAL + ".cacheMiss").record(total);
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("compileCacheHits", cacheHits.sum());
+        statistics.put("compileCacheMisses", cacheMisses.sum());
+        Map<String, Object> phases = new LinkedHashMap<>();
+        for (String phase : PHASES) {
+            addSnapshot(phases, phase);
+            if (phase.equals(TOTAL)) {
+                addSnapshot(phases, TOTAL + ".cacheHit");
+                addSnapshot(phases, TOTAL + ".cacheMiss");
+            }
+        }
+        statistics.put("phases", phases);
+        return statistics;
+    }
+
+    private void addSnapshot(Map<String, Object> phases, String phase) {
+        NanoHistogram histogram = histograms.get(phase);
+        if (histogram != null) {
+            phases.put(phase, histogram.snapshot());
+        }
+    }
+
+    private NanoHistogram histogram(String phase) {
+        return histograms.computeIfAbsent(phase, name -> new NanoHistogram());
+    }
+
+    /**
+     * ns 단위 로그-선형 히스토그램 (백분위는 버킷 상한값, µs 로 보고)
+     */
+    private static class NanoHistogram {
+        private static final int SUB_BUCKETS = 4;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos) {
+            long value = Math.max(1, nanos);
+            buckets.incrementAndGet(index(value));
+            count.increment();
+            sum.add(value);
+            max.accumulate(value);
+        }
+
+        private static int index(long value) {
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = exponent >= 2 ? (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1) : (int) value & (SUB_BUCKETS - 1);
+            return exponent * SUB_BUCKETS + sub;
+        }
+
+        private static long upperBound(int index) {
+            int exponent = index / SUB_BUCKETS;
+            int sub = index % SUB_BUCKETS;
+            if (exponent < 2) {
+                return sub;
+            }
+            return ((long) (SUB_BUCKETS + sub + 1) << (exponent - 2)) - 1;
+        }
+
+        private Map<String, Object> snapshot() {
+            long[] counts = new long[buckets.length()];
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("count", total);
+            if (total == 0) {
+                return snapshot;
+            }
+            snapshot.put("avgMicros", micros(sum.sum() / Math.max(1, count.sum())));
+            snapshot.put("p50Micros", micros(percentile(counts, total, 0.50)));
+            snapshot.put("p90Micros", micros(percentile(counts, total, 0.90)));
+            snapshot.put("p99Micros", micros(percentile(counts, total, 0.99)));
+            snapshot.put("maxMicros", micros(max.get()));
+            return snapshot;
+        }
+
+        private long percentile(long[] counts, long total, double percentile) {
+            long rank = (long) Math.ceil(percentile * total);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(upperBound(i), max.get());
+                }
+            }
+            return max.get();
+        }
+
+        private static double micros(long nanos) {
+            return Math.round(nanos / 100.0) / 10.0;
+        }
+    }
+}
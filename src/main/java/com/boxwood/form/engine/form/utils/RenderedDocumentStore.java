@@ -0,0 +1,276 @@
+package com.boxwood.form.engine.form.utils;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 렌더링 결과 문서의 내용 주소 저장소
+ * - 문서는 내용 SHA-256 으로 objects/ab/cd/{hash}.html 에 한 번만 저장 (같은 출력은 공유)
+ * - 인덱스: (템플릿, 템플릿 버전, 모델 해시) 키 -> 내용 해시, index.log 에 한 줄씩 append
+ * - 전체 크기가 max-bytes 를 넘으면 오래 쓰이지 않은 문서부터 gc-target 비율까지 삭제하고 인덱스를 다시 씀
+ * - 저장 직후 받은 ID 나 getDocument 로 받은 경로로 전송(sendfile 포함)하는 동안 지워지지 않도록,
+ *   gc-grace-ms 안에 저장/조회된 문서는 GC 에서 제외
+ */
+@Slf4j
+@Component
+public class RenderedDocumentStore {
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String INDEX_FILE = "index.log";
+
+    private final FormEngineMetrics metrics;
+
+    @Value("${form.render.documents.enabled:false}")
+    private boolean enabled;
+
+    @Value("${form.render.documents.directory:./.form-engine/documents}")
+    private String directory;
+
+    @Value("${form.render.documents.max-bytes:536870912}")
+    private long maxBytes;
+
+    // GC 후 목표 크기 (max-bytes 대비)
+    @Value("${form.render.documents.gc-target:0.8}")
+    private double gcTarget;
+
+    // 최근 조회된 문서의 GC 유예 시간 (다운로드 전송 중 삭제 방지)
+    @Value("${form.render.documents.gc-grace-ms:60000}")
+    private long gcGraceMs;
+
+    // 요청 키 -> 내용 해시
+    private final Map<String, String> index = new HashMap<>();
+    // 내용 해시 -> 크기 (접근 순서, GC 대상 선정용)
+    private final LinkedHashMap<String, Long> objects = new LinkedHashMap<>(256, 0.75f, true);
+    // 내용 해시 -> 마지막으로 ID/경로를 내준 시각 (put / getDocument, ms, GC 유예 판단용)
+    private final Map<String, Long> lastReads = new HashMap<>();
+    private long totalBytes;
+    private long hits;
+    private long misses;
+    private long collectedObjects;
+    private long collectedBytes;
+
+    private Path root;
+    private BufferedWriter indexWriter;
+
+    public RenderedDocumentStore(FormEngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @PostConstruct
+    public synchronized void load() {
+        if (!enabled) {
+            log.info("Rendered document store disabled");
+            return;
+        }
+        root = Paths.get(directory);
+        try {
+            Path objectDirectory = Files.createDirectories(root.resolve("objects"));
+            // 마지막 수정 시각 순으로 등록 (재시작 후에는 오래된 파일부터 GC)
+            List<Path> files;
+            try (Stream<Path> stream = Files.walk(objectDirectory)) {
+                files = stream.filter(path -> path.toString().endsWith(".html")).toList();
+            }
+            files.stream()
+                    .sorted(Comparator.comparingLong(RenderedDocumentStore::lastModified))
+                    .forEach(path -> {
+                        long size = size(path);
+                        objects.put(path.getFileName().toString().replace(".html", ""), size);
+                        totalBytes += size;
+                    });
+
+            int records = 0;
+            try (Stream<String> lines = Files.lines(root.resolve(INDEX_FILE), StandardCharsets.UTF_8)) {
+                for (String line : (Iterable<String>) lines::iterator) {
+                    int tab = line.lastIndexOf('\t');
+                    if (tab > 0 && objects.containsKey(line.substring(tab + 1))) {
+                        index.put(line.substring(0, tab), line.substring(tab + 1));
+                    }
+                    records++;
+                }
+            } catch (NoSuchFileException e) {
+                // 첫 기동
+            }
+            if (records > index.size()) {
+                rewriteIndex();
+            }
+            openIndexWriter();
+            log.info("Rendered document store loaded: {} documents ({} bytes), {} index entries from {}",
+                    objects.size(), totalBytes, index.size(), root);
+            collectGarbage();
+        } catch (IOException e) {
+            log.warn("Failed to load rendered document store {}: {}", root, e.getMessage());
+            enabled = false;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 키에 저장된 문서의 내용 해시 (없으면 null)
+     */
+    public synchronized String lookup(String key) {
+        String contentHash = enabled ? index.get(key) : null;
+        if (contentHash != null && objects.get(contentHash) != null) {
+            hits++;
+            metrics.cacheAccess("documents", true);
+            return contentHash;
+        }
+        misses++;
+        metrics.cacheAccess("documents", false);
+        return null;
+    }
+
+    /**
+     * 문서 저장 (같은 내용이 있으면 파일은 그대로 두고 인덱스만 추가) 후 내용 해시 반환
+     */
+    public synchronized String put(String key, String html) throws IOException {
+        byte[] bytes = html.getBytes(StandardCharsets.UTF_8);
+        String contentHash = contentHash(bytes);
+        if (!objects.containsKey(contentHash)) {
+            Path path = objectPath(contentHash);
+            Files.createDirectories(path.getParent());
+            Path temp = path.resolveSibling(contentHash + ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            objects.put(contentHash, (long) bytes.length);
+            totalBytes += bytes.length;
+        }
+        lastReads.put(contentHash, System.currentTimeMillis());
+        if (!contentHash.equals(index.put(key, contentHash))) {
+            indexWriter.write(key + '\t' + contentHash);
+            indexWriter.newLine();
+            indexWriter.flush();
+        }
+        collectGarbage();
+        return contentHash;
+    }
+
+    /**
+     * 문서 파일 경로 (없으면 null) - 조회 시각을 갱신해 GC 대상에서 뒤로 보내고 gc-grace-ms 동안 삭제하지 않음
+     */
+    public synchronized Path getDocument(String contentHash) {
+        if (!enabled || !CONTENT_HASH.matcher(contentHash).matches() || objects.get(contentHash) == null) {
+            return null;
+        }
+        lastReads.put(contentHash, System.currentTimeMillis());
+        return objectPath(contentHash);
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", enabled);
+        statistics.put("documents", objects.size());
+        statistics.put("indexEntries", index.size());
+        statistics.put("totalBytes", totalBytes);
+        statistics.put("maxBytes", maxBytes);
+        statistics.put("hits", hits);
+        statistics.put("misses", misses);
+        statistics.put("collectedDocuments", collectedObjects);
+        statistics.put("collectedBytes", collectedBytes);
+        return statistics;
+    }
+
+    /**
+     * 크기 기준 GC - 오래 쓰이지 않은 문서부터 목표 크기까지 삭제, 삭제된 문서를 가리키는 인덱스 항목도 제거
+     * - 유예 시간 안에 저장/조회된 문서는 건너뜀 (모두 유예 중이면 목표 크기를 넘은 채로 끝남)
+     */
+    private void collectGarbage() throws IOException {
+        if (totalBytes <= maxBytes) {
+            return;
+        }
+        long target = (long) (maxBytes * gcTarget);
+        long graceStart = System.currentTimeMillis() - gcGraceMs;
+        lastReads.values().removeIf(readAt -> readAt <= graceStart);
+        Set<String> removed = new HashSet<>();
+        Iterator<Map.Entry<String, Long>> eldest = objects.entrySet().iterator();
+        while (totalBytes > target && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            if (lastReads.containsKey(entry.getKey())) {
+                continue;
+            }
+            Files.deleteIfExists(objectPath(entry.getKey()));
+            totalBytes -= entry.getValue();
+            collectedBytes += entry.getValue();
+            collectedObjects++;
+            removed.add(entry.getKey());
+            eldest.remove();
+        }
+        index.values().removeIf(removed::contains);
+        rewriteIndex();
+        log.info("Rendered document store GC: removed {} documents, {} bytes remaining", removed.size(), totalBytes);
+    }
+
+    private void rewriteIndex() throws IOException {
+        if (indexWriter != null) {
+            indexWriter.close();
+        }
+        Path temp = root.resolve(INDEX_FILE + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, String> entry : index.entrySet()) {
+                writer.write(entry.getKey() + '\t' + entry.getValue());
+                writer.newLine();
+            }
+        }
+        Files.move(temp, root.resolve(INDEX_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (indexWriter != null) {
+            openIndexWriter();
+        }
+    }
+
+    private void openIndexWriter() throws IOException {
+        indexWriter = Files.newBufferedWriter(root.resolve(INDEX_FILE), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * 해시 앞 4자리로 두 단계 샤딩 (한 디렉터리에 파일이 몰리지 않도록)
+     */
+    private Path objectPath(String contentHash) {
+        return root.resolve("objects")
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash + ".html");
+    }
+
+    private static String contentHash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static long size(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
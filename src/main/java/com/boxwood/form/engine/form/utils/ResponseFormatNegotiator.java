@@ -0,0 +1,72 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON / CBOR / Smile 응답 형식 선택과 형식별 ObjectMapper
+ * - 바이너리 매퍼는 애플리케이션 ObjectMapper 를 복사해 만들므로 모듈/직렬화 설정이 JSON 과 같음
+ * - 메시지 컨버터(WebMvcConfig)와 직접 직렬화하는 곳(사전 직렬화 응답, 형식 비교 리포트)이 같은 매퍼를 사용
+ */
+@Component
+public class ResponseFormatNegotiator {
+    public static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    private final Map<MediaType, ObjectMapper> mappers;
+
+    public ResponseFormatNegotiator(ObjectMapper objectMapper) {
+        this.mappers = Map.of(
+                MediaType.APPLICATION_JSON, objectMapper,
+                MediaType.APPLICATION_CBOR, objectMapper.copyWith(new CBORFactory()),
+                SMILE, objectMapper.copyWith(new SmileFactory()));
+    }
+
+    /**
+     * Accept 헤더에서 q 값이 가장 높은 지원 형식 (없거나 해석할 수 없으면 JSON)
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        // q 값 내림차순 (같으면 헤더 순서 유지)
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType candidate : accepted) {
+            if (candidate.getQualityValue() <= 0) {
+                break;
+            }
+            if (candidate.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (candidate.equalsTypeAndSubtype(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+            if (candidate.equalsTypeAndSubtype(SMILE)) {
+                return SMILE;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    public ObjectMapper getMapper(MediaType format) {
+        return mappers.get(format);
+    }
+
+    public List<MediaType> getFormats() {
+        return List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, SMILE);
+    }
+}
@@ -0,0 +1,89 @@
+package com.boxwood.form.engine.form.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 직렬화가 끝난 JSON 응답 바이트 저장소 (ETag -> 바이트)
+ * - ETag 가 템플릿 버전과 옵션을 모두 담고 있으므로 키로 그대로 사용 (버전이 바뀌면 새 키, 옛 항목은 LRU 로 밀려남)
+ * - 항목 수가 아닌 바이트 합계로 용량을 제한 (응답 크기가 템플릿마다 크게 다름)
+ */
+@Slf4j
+@Component
+public class SerializedResponseStore {
+    // 키 문자열/엔트리 객체 등 바이트 배열 외 대략적인 항목당 비용
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final FormEngineMetrics metrics;
+
+    @Value("${form.template.response-cache.max-bytes:16777216}")
+    private long maxBytes;
+
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long totalBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public SerializedResponseStore(FormEngineMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 저장된 응답 바이트 (없으면 null)
+     */
+    public synchronized byte[] get(String key) {
+        byte[] bytes = entries.get(key);
+        if (bytes != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        metrics.cacheAccess("response.serialized", bytes != null);
+        return bytes;
+    }
+
+    /**
+     * 응답 바이트 저장 후 용량 초과분을 오래된 순서로 제거 (한 항목이 전체 용량보다 크면 저장하지 않음)
+     */
+    public synchronized void put(String key, byte[] bytes) {
+        long weight = weigh(key, bytes);
+        if (weight > maxBytes) {
+            log.debug("Serialized response for {} too large to cache: {} bytes", key, bytes.length);
+            return;
+        }
+        byte[] previous = entries.put(key, bytes);
+        if (previous != null) {
+            totalBytes -= weigh(key, previous);
+        }
+        totalBytes += weight;
+
+        Iterator<Map.Entry<String, byte[]>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, byte[]> eldest = iterator.next();
+            totalBytes -= weigh(eldest.getKey(), eldest.getValue());
+            iterator.remove();
+            evictions++;
+        }
+    }
+
+    public synchronized Map<String, Object> getStatistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("entries", entries.size());
+        statistics.put("totalBytes", totalBytes);
+        statistics.put("maxBytes", maxBytes);
+        statistics.put("hits", hits);
+        statistics.put("misses", misses);
+        statistics.put("evictions", evictions);
+        return statistics;
+    }
+
+    private static long weigh(String key, byte[] bytes) {
+        return bytes.length + 2L * key.length() + ENTRY_OVERHEAD;
+    }
+}
@@ -0,0 +1,100 @@
+package com.boxwood.form.engine.form.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 템플릿에서 추출한 스타일시트 저장소 (내용 해시 -> CSS 바이트)
+ * - 같은 내용은 같은 ID 이므로 템플릿 간 공유되고, 내용이 바뀌면 ID 도 바뀜 (영구 캐시 가능)
+ * - 템플릿별로 참조하는 자산을 기록하고, 어느 템플릿도 참조하지 않게 된 자산은 퇴역 목록(LRU)으로 옮김
+ *   (이미 내려간 HTML 이 이전 ID 를 요청할 수 있으므로 바로 지우지 않고 개수만 제한)
+ */
+@Component
+public class StyleAssetStore {
+    // 내용 해시 앞 16자 (64비트)
+    private static final int ID_LENGTH = 16;
+
+    @Value("${form.template.styles.max-retired-assets:256}")
+    private int maxRetiredAssets;
+
+    private final Map<String, byte[]> assets = new ConcurrentHashMap<>();
+    // 템플릿명 -> 마지막 변환에서 참조한 자산 ID
+    private final Map<String, Set<String>> templateAssets = new HashMap<>();
+    // 더 이상 참조되지 않는 자산 (접근 순서 LRU)
+    private final Map<String, byte[]> retired = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+            return size() > maxRetiredAssets;
+        }
+    };
+
+    /**
+     * CSS 등록 후 자산 ID 반환
+     */
+    public synchronized String register(String css) {
+        byte[] bytes = css.getBytes(StandardCharsets.UTF_8);
+        String id = contentHash(bytes);
+        if (!assets.containsKey(id)) {
+            byte[] previous = retired.remove(id);
+            assets.put(id, previous != null ? previous : bytes);
+        }
+        return id;
+    }
+
+    /**
+     * 템플릿이 참조하는 자산 목록 교체 - 이전에 참조했지만 이제 아무 템플릿도 참조하지 않는 자산은 퇴역
+     */
+    public synchronized void retain(String templateName, Set<String> assetIds) {
+        Set<String> previous = templateAssets.put(templateName, Set.copyOf(assetIds));
+        if (previous == null) {
+            return;
+        }
+        for (String id : previous) {
+            if (!assetIds.contains(id) && templateAssets.values().stream().noneMatch(ids -> ids.contains(id))) {
+                byte[] bytes = assets.remove(id);
+                if (bytes != null) {
+                    retired.put(id, bytes);
+                }
+            }
+        }
+    }
+
+    /**
+     * 자산 내용 (없으면 null)
+     */
+    public byte[] get(String id) {
+        byte[] bytes = assets.get(id);
+        if (bytes != null) {
+            return bytes;
+        }
+        synchronized (this) {
+            return retired.get(id);
+        }
+    }
+
+    /**
+     * 현재 템플릿이 참조하는 자산 ID (퇴역 자산 제외)
+     */
+    public Set<String> getAssetIds() {
+        return Collections.unmodifiableSet(assets.keySet());
+    }
+
+    public synchronized int getRetiredCount() {
+        return retired.size();
+    }
+
+    private static String contentHash(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(bytes)).substring(0, ID_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.boxwood.form.engine.form.utils;
+
+import freemarker.cache.TemplateLoader;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿의 <style> 블록을 내용 해시 스타일시트로 분리하는 TemplateLoader 래퍼
+ * (form.template.styles.extract.enabled=true 일 때 사용)
+ * - 정적 CSS 는 StyleAssetStore 에 등록하고 <link rel="stylesheet"> 로 교체 (템플릿별 참조 자산도 갱신)
+ * - FTL 구문이 들어 있는 규칙은 같은 순서를 유지하도록 인라인 <style> 로 남김 (앞뒤 정적 규칙만 분리)
+ * - 메일처럼 외부 스타일시트를 쓸 수 없는 템플릿(inline 목록)은 그대로 둠
+ */
+public class StyleExtractingTemplateLoader extends TransformingTemplateLoader {
+    private static final Pattern STYLE_BLOCK = Pattern.compile(
+            "<style(\\s[^>]*)?>(.*?)</style\\s*>", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final Pattern FTL_CONSTRUCT = Pattern.compile("\\$\\{|#\\{|</?[#@]");
+    private static final Pattern MEDIA_ATTRIBUTE = Pattern.compile(
+            "\\smedia\\s*=\\s*(\"[^\"]*\"|'[^']*')", Pattern.CASE_INSENSITIVE);
+    // 시트 맨 앞에만 올 수 있는 규칙 (여러 시트로 나누면 의미가 바뀜)
+    private static final Pattern LEADING_AT_RULE = Pattern.compile("^\\s*@(import|charset|namespace)\\b", Pattern.MULTILINE);
+    private static final Pattern FTL_BLOCK_START = Pattern.compile(
+            "<#(if|list|items|switch|attempt|compress|escape|noescape|autoesc|noautoesc|outputformat)\\b");
+
+    private final StyleAssetStore store;
+    private final String assetUrl;
+    private final Set<String> inlineTemplates;
+    private final int minAssetBytes;
+
+    public StyleExtractingTemplateLoader(TemplateLoader delegate, StyleAssetStore store, String assetUrl,
+                                         Set<String> inlineTemplates, int minAssetBytes) {
+        super(delegate);
+        this.store = store;
+        this.assetUrl = assetUrl.endsWith("/") ? assetUrl.substring(0, assetUrl.length() - 1) : assetUrl;
+        this.inlineTemplates = inlineTemplates;
+        this.minAssetBytes = minAssetBytes;
+    }
+
+    @Override
+    protected String transform(String templateName, String source) {
+        if (inlineTemplates.contains(templateName)) {
+            return source;
+        }
+        Matcher matcher = STYLE_BLOCK.matcher(source);
+        StringBuilder output = new StringBuilder(source.length());
+        Set<String> assetIds = new LinkedHashSet<>();
+        while (matcher.find()) {
+            String attributes = matcher.group(1) != null ? matcher.group(1) : "";
+            String replacement = FTL_CONSTRUCT.matcher(attributes).find()
+                    ? matcher.group() : hoist(matcher.group(), attributes, matcher.group(2), assetIds);
+            matcher.appendReplacement(output, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(output);
+        store.retain(templateName, assetIds);
+        return output.toString();
+    }
+
+    /**
+     * 스타일 블록 하나를 <link>/<style> 순서열로 변환 (분리할 것이 없으면 원본)
+     */
+    private String hoist(String block, String attributes, String css, Set<String> assetIds) {
+        if (LEADING_AT_RULE.matcher(css).find()) {
+            return block;
+        }
+        List<String> rules = FTL_CONSTRUCT.matcher(css).find() ? splitRules(css) : List.of(css);
+        if (rules == null) {
+            return block;
+        }
+
+        StringBuilder replacement = new StringBuilder();
+        StringBuilder inline = new StringBuilder();
+        StringBuilder pending = new StringBuilder();
+        boolean linked = false;
+        for (String rule : rules) {
+            if (FTL_CONSTRUCT.matcher(rule).find()) {
+                linked |= flushStatic(pending, inline, replacement, attributes, assetIds);
+                inline.append(rule);
+            } else {
+                pending.append(rule);
+            }
+        }
+        linked |= flushStatic(pending, inline, replacement, attributes, assetIds);
+        flushInline(inline, replacement, attributes);
+        return linked ? replacement.toString() : block;
+    }
+
+    /**
+     * 모인 정적 규칙이 충분히 크면 자산으로 분리, 작으면 인라인 쪽에 합침
+     */
+    private boolean flushStatic(StringBuilder pending, StringBuilder inline, StringBuilder replacement, String attributes,
+                                Set<String> assetIds) {
+        String css = pending.toString().strip();
+        pending.setLength(0);
+        if (css.length() < minAssetBytes) {
+            inline.append(css);
+            return false;
+        }
+        flushInline(inline, replacement, attributes);
+        String assetId = store.register(css);
+        assetIds.add(assetId);
+        replacement.append("<link rel=\"stylesheet\" href=\"").append(assetUrl).append('/')
+                .append(assetId).append(".css\"");
+        Matcher media = MEDIA_ATTRIBUTE.matcher(attributes);
+        if (media.find()) {
+            replacement.append(media.group());
+        }
+        replacement.append('>');
+        return true;
+    }
+
+    private static void flushInline(StringBuilder inline, StringBuilder replacement, String attributes) {
+        if (!inline.toString().isBlank()) {
+            replacement.append("<style").append(attributes).append('>').append(inline).append("</style>");
+        }
+        inline.setLength(0);
+    }
+
+    /**
+     * 최상위 CSS 규칙 단위로 분할 (앞의 공백/주석은 다음 규칙에 포함)
+     * - FTL 보간/태그 안의 중괄호는 무시하고, FTL 블록(#if 등) 안에서는 자르지 않음
+     * - 괄호가 맞지 않으면 null
+     */
+    private static List<String> splitRules(String css) {
+        List<String> rules = new ArrayList<>();
+        int depth = 0;
+        int ftlDepth = 0;
+        int start = 0;
+        int i = 0;
+        while (i < css.length()) {
+            char c = css.charAt(i);
+            if (css.startsWith("/*", i)) {
+                int end = css.indexOf("*/", i + 2);
+                i = end < 0 ? css.length() : end + 2;
+                continue;
+            }
+            if (css.startsWith("<#--", i)) {
+                int end = css.indexOf("-->", i + 4);
+                i = end < 0 ? css.length() : end + 3;
+                continue;
+            }
+            if (css.startsWith("${", i) || css.startsWith("#{", i)) {
+                i = skipInterpolation(css, i + 2);
+                continue;
+            }
+            if (css.startsWith("</#", i) || css.startsWith("<#", i) || css.startsWith("<@", i) || css.startsWith("</@", i)) {
+                int end = skipTag(css, i + 2);
+                boolean selfClosing = css.charAt(end - 2) == '/';
+                if (css.startsWith("</#", i)) {
+                    ftlDepth--;
+                } else if (!selfClosing && FTL_BLOCK_START.matcher(css).region(i, end).lookingAt()) {
+                    ftlDepth++;
+                }
+                i = end;
+            } else if (c == '"' || c == '\'') {
+                int end = css.indexOf(c, i + 1);
+                i = end < 0 ? css.length() : end + 1;
+                continue;
+            } else {
+                i++;
+                if (c == '{') {
+                    depth++;
+                } else if (c == '}') {
+                    depth--;
+                } else if (c != ';') {
+                    continue;
+                }
+                if (depth < 0) {
+                    return null;
+                }
+            }
+            if (depth == 0 && ftlDepth == 0 && i > start && (css.charAt(i - 1) == '}' || css.charAt(i - 1) == ';')) {
+                rules.add(css.substring(start, i));
+                start = i;
+            }
+        }
+        if (depth != 0 || ftlDepth != 0) {
+            return null;
+        }
+        if (start < css.length()) {
+            rules.add(css.substring(start));
+        }
+        return rules;
+    }
+
+    private static int skipInterpolation(String css, int from) {
+        int depth = 0;
+        for (int i = from; i < css.length(); i++) {
+            char c = css.charAt(i);
+            if (c == '{') depth++;
+            if (c == '}' && depth-- == 0) return i + 1;
+        }
+        return css.length();
+    }
+
+    /**
+     * 태그 끝 다음 위치 - 문자열과 괄호 안의 '>' 는 무시
+     */
+    private static int skipTag(String css, int from) {
+        int depth = 0;
+        int i = from;
+        while (i < css.length()) {
+            char c = css.charAt(i);
+            if (c == '"' || c == '\'') {
+                int close = css.indexOf(c, i + 1);
+                i = close < 0 ? css.length() : close + 1;
+                continue;
+            }
+            if (c == '(') depth++;
+            if (c == ')') depth--;
+            if (c == '>' && depth <= 0) return i + 1;
+            i++;
+        }
+        return css.length();
+    }
+}
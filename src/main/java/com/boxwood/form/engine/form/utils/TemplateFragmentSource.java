@@ -0,0 +1,232 @@
+package com.boxwood.form.engine.form.utils;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부분 렌더링용 템플릿 소스 분해
+ * - 매크로/함수 정의와 #import 를 모아 프렐류드로 만들고, 그 뒤에 영역 본문이나 매크로 호출을 붙여 조각 템플릿을 생성
+ * - 영역은 주석 마커로 표시: <#-- @region items --> ... <#-- @endregion -->
+ * - 영역 앞의 최상위 #assign/#global 은 영역 조각에 포함 (블록 안의 할당은 제외)
+ * - 영역은 자기 완결적이어야 함 (#list 별칭이나 다른 영역에서 누적한 값은 사용 불가)
+ * - 증분 렌더링용으로 최상위 블록 지시자(#if, #list 등, 본문이 있는 사용자 지시자 호출 포함) 위치를 함께 수집
+ */
+public final class TemplateFragmentSource {
+    // 매크로 조각 호출 시 인자 해시 변수명 (<@name?with_args(_fragmentArgs) />)
+    public static final String ARGUMENTS_VARIABLE = "_fragmentArgs";
+
+    private static final Pattern REGION_START = Pattern.compile("^\\s*@region\\s+([\\w-]+)\\s*$");
+    private static final Pattern REGION_END = Pattern.compile("^\\s*@endregion(?:\\s+[\\w-]+)?\\s*$");
+    private static final Pattern TAG_NAME = Pattern.compile("\\w+");
+    private static final Pattern USER_DIRECTIVE_NAME = Pattern.compile("[\\w.]+");
+    private static final Pattern IMPORT_NAMESPACE = Pattern.compile("\\bas\\s+(\\w+)\\s*$");
+    // 닫는 태그가 있는 지시자 (최상위 판단용)
+    private static final Set<String> BLOCK_DIRECTIVES = Set.of(
+            "if", "list", "items", "macro", "function", "attempt", "switch", "compress", "escape",
+            "noescape", "autoesc", "noautoesc", "outputformat");
+
+    private final String source;
+    private final StringBuilder definitions = new StringBuilder();
+    private final Map<String, String> definitionSources = new LinkedHashMap<>(); // 매크로/함수명 -> 정의 소스
+    private final Set<String> importNamespaces = new LinkedHashSet<>();
+    private final List<int[]> topLevelAssignments = new ArrayList<>(); // {시작, 끝}
+    private final Map<String, int[]> regions = new LinkedHashMap<>();  // 이름 -> {본문 시작, 본문 끝, 마커 시작}
+    private final List<int[]> topLevelBlocks = new ArrayList<>();      // {시작 태그 위치, 닫는 태그 끝}
+
+    private TemplateFragmentSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * 템플릿 소스를 분해
+     */
+    public static TemplateFragmentSource parse(String source) {
+        TemplateFragmentSource parsed = new TemplateFragmentSource(source);
+        parsed.scan();
+        return parsed;
+    }
+
+    public Set<String> getRegionNames() {
+        return Collections.unmodifiableSet(regions.keySet());
+    }
+
+    /**
+     * 매크로/함수 정의와 #import (출력 없음)
+     */
+    public String getDefinitions() {
+        return definitions.toString();
+    }
+
+    /**
+     * 매크로/함수별 정의 소스 (이름 -> <#macro ...>...</#macro>)
+     */
+    public Map<String, String> getDefinitionSources() {
+        return Collections.unmodifiableMap(definitionSources);
+    }
+
+    /**
+     * #import 네임스페이스 이름
+     */
+    public Set<String> getImportNamespaces() {
+        return Collections.unmodifiableSet(importNamespaces);
+    }
+
+    /**
+     * 영역 조각 템플릿 본문 (정의 제외). 영역이 없으면 null
+     */
+    public String regionBody(String name) {
+        int[] region = regions.get(name);
+        if (region == null) {
+            return null;
+        }
+        StringBuilder body = new StringBuilder();
+        for (int[] assignment : topLevelAssignments) {
+            if (assignment[1] <= region[2]) {
+                body.append(source, assignment[0], assignment[1]);
+            }
+        }
+        return body.append(source, region[0], region[1]).toString();
+    }
+
+    /**
+     * 최상위 블록 지시자 위치 ({시작 태그 위치, 닫는 태그 끝 다음}, 매크로/함수 정의 제외)
+     */
+    public List<int[]> getTopLevelBlocks() {
+        return Collections.unmodifiableList(topLevelBlocks);
+    }
+
+    private void scan() {
+        Deque<int[]> openRegions = new ArrayDeque<>();
+        Deque<String> openRegionNames = new ArrayDeque<>();
+        Deque<String> blocks = new ArrayDeque<>();
+        int blockStart = -1;
+        int definitionStart = -1;
+        String definitionName = null;
+        int i = 0;
+        while (i < source.length()) {
+            if (source.startsWith("<#--", i)) {
+                int end = source.indexOf("-->", i + 4);
+                end = end < 0 ? source.length() : end;
+                String comment = source.substring(i + 4, end);
+                Matcher start = REGION_START.matcher(comment);
+                if (start.matches()) {
+                    openRegions.push(new int[]{end + 3, i});
+                    openRegionNames.push(start.group(1));
+                } else if (REGION_END.matcher(comment).matches() && !openRegions.isEmpty()) {
+                    int[] open = openRegions.pop();
+                    regions.putIfAbsent(openRegionNames.pop(), new int[]{open[0], i, open[1]});
+                }
+                i = Math.min(source.length(), end + 3);
+            } else if (source.startsWith("</#", i)) {
+                int end = findTagEnd(i + 3);
+                String name = tagName(i + 3);
+                if (blocks.contains(name)) {
+                    while (!blocks.pop().equals(name)) {
+                        // 닫히지 않은 안쪽 블록 포함
+                    }
+                    if (blocks.isEmpty() && !name.equals("macro") && !name.equals("function")) {
+                        topLevelBlocks.add(new int[]{blockStart, end + 1});
+                    }
+                }
+                if (name.equals(definitionName) && !blocks.contains(name)) {
+                    definitions.append(source, definitionStart, end + 1);
+                    Matcher defined = TAG_NAME.matcher(source);
+                    if (defined.find(definitionStart + 2 + definitionName.length())) {
+                        definitionSources.putIfAbsent(defined.group(), source.substring(definitionStart, end + 1));
+                    }
+                    definitionName = null;
+                }
+                i = end + 1;
+            } else if (source.startsWith("</@", i)) {
+                // </@name> 또는 </@> - 가장 가까운 (같은 이름의) 사용자 지시자 본문을 닫음
+                int end = findTagEnd(i + 3);
+                String name = userDirectiveName(i + 3);
+                Predicate<String> closes = name.isEmpty()
+                        ? open -> open.startsWith("@") : open -> open.equals("@" + name);
+                if (blocks.stream().anyMatch(closes)) {
+                    while (!closes.test(blocks.pop())) {
+                        // 닫히지 않은 안쪽 블록 포함
+                    }
+                    if (blocks.isEmpty()) {
+                        topLevelBlocks.add(new int[]{blockStart, end + 1});
+                    }
+                }
+                i = end + 1;
+            } else if (source.startsWith("<@", i)) {
+                // 본문이 있는 사용자 지시자 호출은 본문을 여러 번(또는 다른 위치에서) 실행할 수 있으므로 블록으로 취급
+                int end = findTagEnd(i + 2);
+                if (source.charAt(end - 1) != '/') {
+                    if (blocks.isEmpty()) {
+                        blockStart = i;
+                    }
+                    blocks.push("@" + userDirectiveName(i + 2));
+                }
+                i = end + 1;
+            } else if (source.startsWith("<#", i)) {
+                int end = findTagEnd(i + 2);
+                String name = tagName(i + 2);
+                boolean selfClosing = source.charAt(end - 1) == '/';
+                String body = source.substring(i + 2 + name.length(), selfClosing ? end - 1 : end);
+                if (definitionName == null) {
+                    if (name.equals("macro") || name.equals("function")) {
+                        // 매크로 정의는 파싱 시점에 등록되므로 블록 안에 있어도 포함
+                        definitionName = name;
+                        definitionStart = i;
+                    } else if (name.equals("import")) {
+                        definitions.append(source, i, end + 1);
+                        Matcher namespace = IMPORT_NAMESPACE.matcher(body);
+                        if (namespace.find()) {
+                            importNamespaces.add(namespace.group(1));
+                        }
+                    } else if ((name.equals("assign") || name.equals("global")) && blocks.isEmpty() && body.contains("=")) {
+                        topLevelAssignments.add(new int[]{i, end + 1});
+                    }
+                }
+                boolean capture = (name.equals("assign") || name.equals("global") || name.equals("local"))
+                        && !body.contains("=") && !selfClosing;
+                if ((BLOCK_DIRECTIVES.contains(name) || capture) && !selfClosing) {
+                    if (blocks.isEmpty()) {
+                        blockStart = i;
+                    }
+                    blocks.push(name);
+                }
+                i = end + 1;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private String tagName(int from) {
+        Matcher matcher = TAG_NAME.matcher(source);
+        return matcher.find(from) && matcher.start() == from ? matcher.group() : "";
+    }
+
+    private String userDirectiveName(int from) {
+        Matcher matcher = USER_DIRECTIVE_NAME.matcher(source);
+        return matcher.find(from) && matcher.start() == from ? matcher.group() : "";
+    }
+
+    /**
+     * 태그 끝('>') 위치 - 문자열과 괄호 안의 '>' 는 무시
+     */
+    private int findTagEnd(int from) {
+        int depth = 0;
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '"' || c == '\'') {
+                int close = source.indexOf(c, i + 1);
+                i = close < 0 ? source.length() : close + 1;
+                continue;
+            }
+            if (c == '(') depth++;
+            if (c == ')') depth--;
+            if (c == '>' && depth <= 0) return i;
+            i++;
+        }
+        return source.length() - 1;
+    }
+}
@@ -0,0 +1,146 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 템플릿 버전별로 미리 컴파일한 렌더링 요청 검증기
+ * - 분석 결과의 필수 경로/타입 제약으로 경로 트리를 만들어 두고, 요청 변수를 한 번 순회하며 검사
+ * - 렌더링 전에 누락/타입 불일치를 모두 모아 반환 (template.process 도중 실패하는 요청을 미리 거름)
+ * - 규칙은 어긋나면 렌더링이 실패하는 근거만으로 만들어지므로, 통과한 요청이 항상 성공한다는 보장은 아님
+ */
+public final class TemplateRequestValidator {
+    private static final int MAX_PROBLEMS = 50;
+
+    @Getter
+    private final String templateName;
+    @Getter
+    private final String version;
+    @Getter
+    private final int ruleCount;
+    private final Node root = new Node("");
+
+    private TemplateRequestValidator(TemplateVariableAnalysis analysis) {
+        this.templateName = analysis.getTemplateName();
+        this.version = analysis.getContentHash();
+        analysis.getRequiredPaths().forEach(path -> node(path).required = true);
+        analysis.getTypeConstraints().forEach((path, allowed) -> node(path).allowed = EnumSet.copyOf(allowed));
+        this.ruleCount = analysis.getRequiredPaths().size() + analysis.getTypeConstraints().size();
+    }
+
+    /**
+     * 분석 결과로 검증기 생성 (분석 실패 시 규칙 없는 검증기)
+     */
+    public static TemplateRequestValidator compile(TemplateVariableAnalysis analysis) {
+        return new TemplateRequestValidator(analysis);
+    }
+
+    /**
+     * 요청 변수 검사. 문제가 없으면 빈 목록
+     */
+    public List<String> validate(Map<String, Object> variables) {
+        List<String> problems = new ArrayList<>();
+        validateHash(root, variables != null ? variables : Map.of(), "", problems);
+        return problems;
+    }
+
+    private void validateHash(Node node, Map<?, ?> values, String prefix, List<String> problems) {
+        for (Node child : node.children.values()) {
+            if (problems.size() >= MAX_PROBLEMS) {
+                return;
+            }
+            String path = prefix.isEmpty() ? child.name : prefix + "." + child.name;
+            validateValue(child, values.get(child.name), path, problems);
+        }
+    }
+
+    private void validateValue(Node node, Object value, String path, List<String> problems) {
+        if (value == null) {
+            if (node.required) {
+                problems.add(path + ": required variable is missing");
+            }
+            return;
+        }
+
+        VariableType actual = typeOf(value);
+        if (node.allowed != null && !node.allowed.contains(actual)) {
+            problems.add(path + ": expected " + describe(node.allowed) + " but was " + actual);
+            return;
+        }
+
+        if (!node.children.isEmpty() && value instanceof Map<?, ?> map) {
+            validateHash(node, map, path, problems);
+        }
+        if (node.element != null) {
+            int index = 0;
+            for (Object element : elements(value)) {
+                if (problems.size() >= MAX_PROBLEMS) {
+                    return;
+                }
+                validateValue(node.element, element, path + "[" + index++ + "]", problems);
+            }
+        }
+    }
+
+    private static VariableType typeOf(Object value) {
+        if (value instanceof Map) return VariableType.HASH;
+        if (value instanceof Collection || value.getClass().isArray()) return VariableType.SEQUENCE;
+        if (value instanceof Number) return VariableType.NUMBER;
+        if (value instanceof Boolean) return VariableType.BOOLEAN;
+        if (value instanceof Date) return VariableType.DATE;
+        return VariableType.STRING;
+    }
+
+    private static Iterable<?> elements(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection;
+        }
+        if (value instanceof Object[] array) {
+            return Arrays.asList(array);
+        }
+        return List.of();
+    }
+
+    private static String describe(Set<VariableType> allowed) {
+        return allowed.size() == 1 ? allowed.iterator().next().name()
+                : allowed.stream().map(Enum::name).reduce((a, b) -> a + " or " + b).orElse("");
+    }
+
+    /**
+     * 정규화 경로(items[].name)에 해당하는 노드 (없으면 생성)
+     */
+    private Node node(String path) {
+        Node current = root;
+        for (String segment : path.split("\\.")) {
+            String name = segment;
+            int depth = 0;
+            while (name.endsWith("[]")) {
+                name = name.substring(0, name.length() - 2);
+                depth++;
+            }
+            current = current.children.computeIfAbsent(name, Node::new);
+            for (int i = 0; i < depth; i++) {
+                if (current.element == null) {
+                    current.element = new Node(name + "[]");
+                }
+                current = current.element;
+            }
+        }
+        return current;
+    }
+
+    private static final class Node {
+        private final String name;
+        private final Map<String, Node> children = new LinkedHashMap<>();
+        private Node element;
+        private boolean required;
+        private Set<VariableType> allowed;
+
+        private Node(String name) {
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.boxwood.form.engine.form.utils;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿 정적 텍스트 축소 (로드 시점에 적용)
+ * - FTL 태그/주석/보간(${...}, #{...})은 그대로 두고, 그 사이의 정적 텍스트만 변환
+ * - 공백 연속은 줄바꿈이 있으면 줄바꿈 하나, 없으면 공백 하나로 줄임
+ *   (줄 구조를 유지해야 FTL 태그만 있는 줄의 공백 제거가 그대로 동작)
+ * - HTML 주석 제거 (조건부 주석 <!--[if ...]> 과 FTL 구문이 들어 있는 주석은 유지)
+ * - <pre>, <textarea>, <script> 내용, HTML 태그의 따옴표 속성 값, #noparse 블록은 그대로 유지
+ */
+public final class TemplateTextMinifier {
+    private static final Pattern RAW_ELEMENT_START = Pattern.compile("<(pre|textarea|script)\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern FTL_CONSTRUCT = Pattern.compile("\\$\\{|#\\{|</?[#@]");
+    private static final Pattern WHITESPACE_RUN = Pattern.compile("\\s+");
+
+    private final String source;
+    private final StringBuilder output;
+    private final StringBuilder text = new StringBuilder();
+    // HTML 시작/닫는 태그 안인지 ('<' + 영문자 ~ '>')
+    private boolean inHtmlTag;
+
+    private TemplateTextMinifier(String source) {
+        this.source = source;
+        this.output = new StringBuilder(source.length());
+    }
+
+    /**
+     * 정적 텍스트를 축소한 템플릿 소스
+     */
+    public static String minify(String source) {
+        TemplateTextMinifier minifier = new TemplateTextMinifier(source);
+        minifier.run();
+        return minifier.output.toString();
+    }
+
+    private void run() {
+        Matcher rawElement = RAW_ELEMENT_START.matcher(source);
+        int i = 0;
+        while (i < source.length()) {
+            if (source.startsWith("<#--", i)) {
+                i = copyThrough(i, "-->");
+            } else if (source.startsWith("<#noparse", i)) {
+                i = copyThrough(i, "</#noparse>");
+            } else if (source.startsWith("<#", i) || source.startsWith("</#", i)
+                    || source.startsWith("<@", i) || source.startsWith("</@", i)) {
+                i = copyTo(i, findTagEnd(i + 2) + 1);
+            } else if (source.startsWith("${", i) || source.startsWith("#{", i)) {
+                i = copyTo(i, findInterpolationEnd(i + 2) + 1);
+            } else if (source.startsWith("<!--", i) && !source.startsWith("<!--[if", i) && removableComment(i)) {
+                i = source.indexOf("-->", i + 4) + 3;
+            } else if (source.charAt(i) == '<' && rawElement.region(i, source.length()).lookingAt()) {
+                // 닫는 태그 전까지 그대로 (안의 FTL 구문도 변환하지 않음)
+                int close = indexOfIgnoreCase("</" + rawElement.group(1), i);
+                i = copyTo(i, close < 0 ? source.length() : close);
+            } else if (inHtmlTag && (source.charAt(i) == '"' || source.charAt(i) == '\'')) {
+                // 속성 값은 공백도 값의 일부이므로 그대로 (안의 FTL 구문 포함)
+                i = copyTo(i, findAttributeValueEnd(i) + 1);
+            } else {
+                char c = source.charAt(i);
+                if (c == '<' && i + 1 < source.length()
+                        && (Character.isLetter(source.charAt(i + 1)) || source.charAt(i + 1) == '/')) {
+                    inHtmlTag = true;
+                } else if (c == '>') {
+                    inHtmlTag = false;
+                }
+                text.append(c);
+                i++;
+            }
+        }
+        flushText();
+    }
+
+    /**
+     * 따옴표 속성 값의 닫는 따옴표 위치 - 값 안의 보간과 FTL 태그는 건너뜀
+     */
+    private int findAttributeValueEnd(int start) {
+        char quote = source.charAt(start);
+        int i = start + 1;
+        while (i < source.length()) {
+            if (source.startsWith("${", i) || source.startsWith("#{", i)) {
+                i = findInterpolationEnd(i + 2) + 1;
+            } else if (source.startsWith("<#", i) || source.startsWith("<@", i)) {
+                i = findTagEnd(i + 2) + 1;
+            } else if (source.startsWith("</#", i) || source.startsWith("</@", i)) {
+                i = findTagEnd(i + 3) + 1;
+            } else if (source.charAt(i) == quote) {
+                return i;
+            } else {
+                i++;
+            }
+        }
+        return source.length() - 1;
+    }
+
+    /**
+     * 주석이 정적 텍스트 안에서 끝나는지 (FTL 구문을 포함하면 유지)
+     */
+    private boolean removableComment(int start) {
+        int end = source.indexOf("-->", start + 4);
+        return end >= 0 && !FTL_CONSTRUCT.matcher(source).region(start, end).find();
+    }
+
+    private int copyThrough(int start, String terminator) {
+        int end = source.indexOf(terminator, start);
+        return copyTo(start, end < 0 ? source.length() : end + terminator.length());
+    }
+
+    private int copyTo(int start, int end) {
+        flushText();
+        output.append(source, start, end);
+        return end;
+    }
+
+    private void flushText() {
+        if (text.isEmpty()) {
+            return;
+        }
+        Matcher matcher = WHITESPACE_RUN.matcher(text);
+        StringBuilder collapsed = new StringBuilder(text.length());
+        while (matcher.find()) {
+            matcher.appendReplacement(collapsed, matcher.group().indexOf('\n') >= 0 ? "\n" : " ");
+        }
+        matcher.appendTail(collapsed);
+        output.append(collapsed);
+        text.setLength(0);
+    }
+
+    private int indexOfIgnoreCase(String target, int from) {
+        for (int i = from; i <= source.length() - target.length(); i++) {
+            if (source.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 태그 끝('>') 위치 - 문자열과 괄호 안의 '>' 는 무시
+     */
+    private int findTagEnd(int from) {
+        int depth = 0;
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '"' || c == '\'') {
+                int close = source.indexOf(c, i + 1);
+                i = close < 0 ? source.length() : close + 1;
+                continue;
+            }
+            if (c == '(') depth++;
+            if (c == ')') depth--;
+            if (c == '>' && depth <= 0) return i;
+            i++;
+        }
+        return source.length() - 1;
+    }
+
+    /**
+     * 보간 끝('}') 위치 - 문자열과 중첩 중괄호는 건너뜀
+     */
+    private int findInterpolationEnd(int from) {
+        int depth = 0;
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '"' || c == '\'') {
+                int close = source.indexOf(c, i + 1);
+                i = close < 0 ? source.length() : close + 1;
+                continue;
+            }
+            if (c == '{') depth++;
+            if (c == '}' && depth-- == 0) return i;
+            i++;
+        }
+        return source.length() - 1;
+    }
+}
@@ -0,0 +1,429 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 템플릿 소스의 변수 사용 위치 스캐너
+ * - ${...}, #if, #list, #assign, 매크로 호출 인자 등 사용 문맥별로 변수 경로를 분류
+ * - #list 별칭(item)은 원본 시퀀스 경로(items[])로 치환
+ * - 리스트 인덱스는 [] 로 정규화 (items[0].name -> items[].name)
+ * - Mock 실행으로 찾은 경로에 사용 유형을 붙이는 보조 용도 (경로 발견 자체는 Mock 방식이 담당)
+ */
+public final class TemplateUsageScanner {
+    private static final Pattern COMMENT_PATTERN = Pattern.compile("<#--.*?-->", Pattern.DOTALL);
+    private static final Pattern LIST_PATTERN = Pattern.compile(
+            "^\\s*(.+?)\\s+as\\s+(\\w+)(?:\\s*,\\s*(\\w+))?\\s*$", Pattern.DOTALL);
+    private static final Pattern INDEX_PATTERN = Pattern.compile("\\[\\d+]");
+    private static final int CONTEXT_LENGTH = 24;
+    // 본문이 항상 실행된다고 볼 수 없는 블록 지시자
+    private static final Set<String> CONDITIONAL_BLOCKS = Set.of(
+            "if", "list", "switch", "macro", "function", "attempt");
+    private static final Set<String> OPERATOR_WORDS = Set.of(
+            "as", "in", "using", "gt", "gte", "lt", "lte", "true", "false", "eq", "ne");
+
+    private final String source;
+    private final List<VariableUsage> usages = new ArrayList<>();
+    private final Map<String, String> loopAliases = new HashMap<>();
+    private String directive;
+    private final Deque<String[]> openBlocks = new ArrayDeque<>(); // {지시자, #list 원소 경로}
+
+    private TemplateUsageScanner(String source) {
+        this.source = COMMENT_PATTERN.matcher(source).replaceAll("");
+    }
+
+    /**
+     * 템플릿 소스에서 변수 사용 목록 추출
+     */
+    public static List<VariableUsage> scan(String source) {
+        TemplateUsageScanner scanner = new TemplateUsageScanner(source);
+        scanner.scanSource();
+        return scanner.usages;
+    }
+
+    /**
+     * 사용 목록을 정규화 경로별 사용 유형으로 집계
+     */
+    public static Map<String, Set<ExpressionType>> usageTypesByPath(List<VariableUsage> usages) {
+        Map<String, Set<ExpressionType>> result = new LinkedHashMap<>();
+        for (VariableUsage usage : usages) {
+            result.computeIfAbsent(usage.getPath(), k -> EnumSet.noneOf(ExpressionType.class)).add(usage.getType());
+        }
+        return result;
+    }
+
+    /**
+     * 리스트 인덱스를 [] 로 정규화
+     */
+    public static String normalizePath(String path) {
+        return path.indexOf('[') < 0 ? path : INDEX_PATTERN.matcher(path).replaceAll("[]");
+    }
+
+    private void scanSource() {
+        int i = 0;
+        int length = source.length();
+        while (i < length) {
+            if (source.startsWith("${", i) || source.startsWith("#{", i)) {
+                int end = findClosing(i + 2, '{', '}');
+                ExpressionType type = source.charAt(i) == '$' ? ExpressionType.OUTPUT : ExpressionType.INTERPOLATION;
+                directive = null;
+                scanExpression(source.substring(i + 2, end), type);
+                i = end + 1;
+            } else if (source.startsWith("</#", i)) {
+                int end = findTagEnd(i + 3);
+                closeBlock(source.substring(i + 3, end).trim());
+                i = end + 1;
+            } else if (source.startsWith("<#", i) || source.startsWith("<@", i)) {
+                int end = findTagEnd(i + 2);
+                scanTag(source.charAt(i + 1) == '@', source.substring(i + 2, end));
+                i = end + 1;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void scanTag(boolean macroCall, String body) {
+        int nameEnd = 0;
+        while (nameEnd < body.length() && (Character.isLetterOrDigit(body.charAt(nameEnd))
+                || body.charAt(nameEnd) == '_' || body.charAt(nameEnd) == '.')) {
+            nameEnd++;
+        }
+        String name = body.substring(0, nameEnd);
+        String expression = body.substring(nameEnd).replaceFirst("/\\s*$", "");
+        directive = macroCall ? "@" + name : name;
+
+        if (macroCall) {
+            scanExpression(expression, ExpressionType.PARAMETER);
+            return;
+        }
+
+        switch (name) {
+            case "if", "elseif", "switch", "case" -> scanExpression(expression, ExpressionType.CONDITION);
+            case "list" -> {
+                scanList(expression);
+                return;
+            }
+            case "assign", "global", "local" -> {
+                int eq = expression.indexOf('=');
+                if (eq >= 0) {
+                    scanExpression(expression.substring(eq + 1), ExpressionType.ASSIGNMENT);
+                }
+            }
+            case "return" -> scanExpression(expression, ExpressionType.PARAMETER);
+            default -> {
+                // macro/function 정의, else, items 등은 변수 사용이 아님
+            }
+        }
+        if (CONDITIONAL_BLOCKS.contains(name)) {
+            openBlocks.push(new String[]{name, null});
+        }
+    }
+
+    private void closeBlock(String name) {
+        for (String[] block : openBlocks) {
+            if (block[0].equals(name)) {
+                // 짝이 맞는 블록까지 닫음 (닫히지 않은 안쪽 블록 포함)
+                while (!openBlocks.pop()[0].equals(name)) {
+                    // continue
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * &&, || 뒤나 ?then(...) 인자처럼 앞 조건에 따라 평가되지 않을 수 있는 위치인지
+     */
+    private static boolean isShortCircuited(String expression, int start) {
+        String before = expression.substring(0, start);
+        return before.contains("&&") || before.contains("||") || before.contains("?then(");
+    }
+
+    /**
+     * 감싸는 블록 중 본문 실행이 보장되지 않는 블록이 있는지
+     * - 사용 경로가 원소로 속한 #list 블록은 제외 (원소가 있을 때만 검사 대상이므로)
+     */
+    private boolean isConditional(String path) {
+        for (String[] block : openBlocks) {
+            String element = block[1];
+            boolean ownList = element != null && path.startsWith(element)
+                    && (path.length() == element.length() || path.charAt(element.length()) == '.'
+                    || path.charAt(element.length()) == '[');
+            if (!ownList) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scanList(String expression) {
+        Matcher matcher = LIST_PATTERN.matcher(expression);
+        if (!matcher.matches()) {
+            scanExpression(expression, ExpressionType.ITERATION);
+            openBlocks.push(new String[]{"list", null});
+            return;
+        }
+        String sequence = matcher.group(1).trim();
+        scanExpression(sequence, ExpressionType.ITERATION);
+        String resolved = resolvePath(sequence);
+        if (resolved != null) {
+            loopAliases.put(matcher.group(matcher.group(3) != null ? 3 : 2), resolved + "[]");
+        }
+        openBlocks.push(new String[]{"list", resolved != null ? resolved + "[]" : null});
+    }
+
+    /**
+     * 표현식 안의 변수 경로와 뒤따르는 내장 함수 체인을 수집
+     */
+    private void scanExpression(String expression, ExpressionType type) {
+        int i = 0;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '"' || c == '\'') {
+                int end = skipString(expression, i);
+                scanStringInterpolations(expression.substring(i + 1, Math.max(i + 1, end - 1)));
+                i = end;
+            } else if (Character.isLetter(c) || c == '_') {
+                int start = i;
+                i = readPath(expression, i);
+                String path = expression.substring(start, i);
+                int suffixEnd = readSuffix(expression, i);
+                String suffix = expression.substring(i, suffixEnd);
+                if (isVariableReference(expression, start, i, path)) {
+                    String resolved = resolvePath(path);
+                    if (resolved != null) {
+                        String preceding = expression.substring(Math.max(0, start - CONTEXT_LENGTH), start).trim();
+                        String following = expression.substring(suffixEnd,
+                                Math.min(length, suffixEnd + CONTEXT_LENGTH)).trim();
+                        usages.add(new VariableUsage(resolved, type, directive, suffix, preceding, following,
+                                isConditional(resolved) || isShortCircuited(expression, start)));
+                    }
+                }
+                i = suffixEnd;
+            } else if (c == '?') {
+                // 내장 함수 이름은 변수가 아님
+                i++;
+                while (i < length && (Character.isLetterOrDigit(expression.charAt(i)) || expression.charAt(i) == '_')) {
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private void scanStringInterpolations(String literal) {
+        int i = literal.indexOf("${");
+        while (i >= 0) {
+            int depth = 0;
+            int end = i + 2;
+            for (; end < literal.length(); end++) {
+                char c = literal.charAt(end);
+                if (c == '{') depth++;
+                if (c == '}' && depth-- == 0) break;
+            }
+            scanExpression(literal.substring(i + 2, Math.min(end, literal.length())), ExpressionType.STRING_INTERPOLATION);
+            i = literal.indexOf("${", end);
+        }
+    }
+
+    private boolean isVariableReference(String expression, int start, int end, String path) {
+        if (OPERATOR_WORDS.contains(path)) {
+            return false;
+        }
+        // .now 같은 특수 변수
+        int before = start - 1;
+        while (before >= 0 && Character.isWhitespace(expression.charAt(before))) {
+            before--;
+        }
+        if (before >= 0 && expression.charAt(before) == '.') {
+            return false;
+        }
+        // 함수 호출 이름 (safeNumber(...))
+        int after = end;
+        while (after < expression.length() && Character.isWhitespace(expression.charAt(after))) {
+            after++;
+        }
+        if (after < expression.length() && expression.charAt(after) == '(') {
+            return false;
+        }
+        // 매크로 호출의 이름 있는 인자 (value=...)
+        return !(after < expression.length() && expression.charAt(after) == '='
+                && (after + 1 >= expression.length() || expression.charAt(after + 1) != '='));
+    }
+
+    private String resolvePath(String path) {
+        String trimmed = path.trim();
+        if (trimmed.isEmpty() || !(Character.isLetter(trimmed.charAt(0)) || trimmed.charAt(0) == '_')) {
+            return null;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '[' || c == ']')) {
+                return null;
+            }
+        }
+        String normalized = normalizePath(trimmed);
+        int rootEnd = normalized.length();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (normalized.charAt(i) == '.' || normalized.charAt(i) == '[') {
+                rootEnd = i;
+                break;
+            }
+        }
+        String alias = loopAliases.get(normalized.substring(0, rootEnd));
+        return alias != null ? alias + normalized.substring(rootEnd) : normalized;
+    }
+
+    private static int readPath(String expression, int i) {
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '_') {
+                i++;
+            } else if (c == '.' && i + 1 < length
+                    && (Character.isLetter(expression.charAt(i + 1)) || expression.charAt(i + 1) == '_')) {
+                i++;
+            } else if (c == '[') {
+                int close = expression.indexOf(']', i);
+                if (close < 0 || !expression.substring(i + 1, close).trim().chars().allMatch(Character::isDigit)
+                        || close == i + 1) {
+                    break;
+                }
+                i = close + 1;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * 경로 뒤의 ?builtin(args), ??, ! 체인 범위
+     */
+    private static int readSuffix(String expression, int i) {
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '?' && i + 1 < length && expression.charAt(i + 1) == '?') {
+                i += 2;
+            } else if (c == '?') {
+                int j = i + 1;
+                while (j < length && (Character.isLetterOrDigit(expression.charAt(j)) || expression.charAt(j) == '_')) {
+                    j++;
+                }
+                if (j == i + 1) {
+                    break;
+                }
+                if (j < length && expression.charAt(j) == '(') {
+                    j = skipParentheses(expression, j);
+                }
+                i = j;
+            } else if (c == '!') {
+                if (i + 1 < length && expression.charAt(i + 1) == '=') {
+                    break;
+                }
+                i++;
+                break;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static int skipParentheses(String expression, int open) {
+        int depth = 0;
+        int i = open;
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipString(expression, i);
+                continue;
+            }
+            if (c == '(') depth++;
+            if (c == ')' && --depth == 0) return i + 1;
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipString(String text, int start) {
+        char quote = text.charAt(start);
+        int i = start + 1;
+        while (i < text.length()) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == quote) {
+                return i + 1;
+            }
+            i++;
+        }
+        return text.length();
+    }
+
+    private int findClosing(int from, char open, char close) {
+        int depth = 0;
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipString(source, i);
+                continue;
+            }
+            if (c == open) depth++;
+            if (c == close && depth-- == 0) return i;
+            i++;
+        }
+        return source.length();
+    }
+
+    /**
+     * 태그 끝('>') 위치 - 문자열과 괄호 안의 '>' 는 무시
+     */
+    private int findTagEnd(int from) {
+        int depth = 0;
+        int i = from;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '"' || c == '\'') {
+                i = skipString(source, i);
+                continue;
+            }
+            if (c == '(') depth++;
+            if (c == ')') depth--;
+            if (c == '>' && depth <= 0) return i;
+            i++;
+        }
+        return source.length();
+    }
+
+    /**
+     * 변수 사용 한 건
+     * - path: 정규화 경로, type: 사용 문맥, directive: 감싸는 지시자 이름 (${} 안이면 null)
+     * - builtIns: 뒤따르는 내장 함수 체인 (?string("#,##0") 등)
+     * - preceding/following: 앞뒤 표현식 일부 (연산자/기본값 리터럴 판단용)
+     * - conditional: #if/#list/#macro 등 실행이 보장되지 않는 블록 안의 사용인지
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class VariableUsage {
+        private final String path;
+        private final ExpressionType type;
+        private final String directive;
+        private final String builtIns;
+        private final String preceding;
+        private final String following;
+        private final boolean conditional;
+    }
+}
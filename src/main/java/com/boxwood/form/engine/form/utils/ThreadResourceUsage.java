@@ -0,0 +1,87 @@
+package com.boxwood.form.engine.form.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 현재 스레드의 할당 바이트 / CPU 시간 측정 (com.sun.management.ThreadMXBean)
+ * - start() 와 stop() 을 같은 스레드에서 호출하고, 그 사이 증가분을 getAllocatedBytes() / getCpuNanos() 로 조회
+ * - 렌더링/분석은 요청 스레드에서 끝나므로 요청 단위 비용이 됨 (다른 스레드에 넘긴 작업은 포함되지 않음)
+ * - JVM 이 지원하지 않거나 꺼져 있으면 -1
+ */
+@Slf4j
+public final class ThreadResourceUsage {
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private final long startAllocatedBytes;
+    private final long startCpuNanos;
+    private long allocatedBytes = -1;
+    private long cpuNanos = -1;
+    private boolean stopped;
+
+    private ThreadResourceUsage() {
+        this.startAllocatedBytes = currentAllocatedBytes();
+        this.startCpuNanos = currentCpuNanos();
+    }
+
+    public static ThreadResourceUsage start() {
+        return new ThreadResourceUsage();
+    }
+
+    /**
+     * 측정 종료 (처음 호출한 시점의 값으로 고정, 이후 호출은 무시)
+     */
+    public ThreadResourceUsage stop() {
+        if (!stopped) {
+            stopped = true;
+            long allocated = currentAllocatedBytes();
+            long cpu = currentCpuNanos();
+            allocatedBytes = startAllocatedBytes >= 0 && allocated >= 0 ? allocated - startAllocatedBytes : -1;
+            cpuNanos = startCpuNanos >= 0 && cpu >= 0 ? cpu - startCpuNanos : -1;
+        }
+        return this;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    public static boolean isAllocationSupported() {
+        return THREADS != null && THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    public static boolean isCpuTimeSupported() {
+        return THREADS != null && THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+    }
+
+    private static long currentAllocatedBytes() {
+        return isAllocationSupported() ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static long currentCpuNanos() {
+        return isCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)) {
+            log.warn("com.sun.management.ThreadMXBean not available, per-request allocation/CPU accounting disabled");
+            return null;
+        }
+        try {
+            if (threads.isThreadAllocatedMemorySupported() && !threads.isThreadAllocatedMemoryEnabled()) {
+                threads.setThreadAllocatedMemoryEnabled(true);
+            }
+            if (threads.isCurrentThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled()) {
+                threads.setThreadCpuTimeEnabled(true);
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            log.warn("Failed to enable thread allocation/CPU time measurement: {}", e.getMessage());
+        }
+        return threads;
+    }
+}
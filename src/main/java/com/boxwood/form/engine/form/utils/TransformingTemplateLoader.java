@@ -0,0 +1,89 @@
+package com.boxwood.form.engine.form.utils;
+
+import freemarker.cache.TemplateLoader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Objects;
+
+/**
+ * 로드한 템플릿 소스를 컴파일 전에 변환하는 TemplateLoader 래퍼
+ * - 템플릿 캐시가 소스 객체를 비교하므로 원본 소스 객체에 템플릿명을 붙여 equals/hashCode 를 유지
+ * - 여러 변환은 래퍼를 겹쳐서 적용 (바깥 래퍼가 마지막에 적용됨)
+ */
+public abstract class TransformingTemplateLoader implements TemplateLoader {
+    private final TemplateLoader delegate;
+
+    protected TransformingTemplateLoader(TemplateLoader delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 변환 래퍼를 모두 벗긴 원본 로더
+     */
+    public static TemplateLoader unwrap(TemplateLoader loader) {
+        TemplateLoader current = loader;
+        while (current instanceof TransformingTemplateLoader transforming) {
+            current = transforming.delegate;
+        }
+        return current;
+    }
+
+    /**
+     * 템플릿 소스 변환
+     */
+    protected abstract String transform(String templateName, String source);
+
+    @Override
+    public Object findTemplateSource(String name) throws IOException {
+        Object source = delegate.findTemplateSource(name);
+        return source == null ? null : new NamedSource(name, source);
+    }
+
+    @Override
+    public long getLastModified(Object templateSource) {
+        return delegate.getLastModified(((NamedSource) templateSource).source);
+    }
+
+    @Override
+    public Reader getReader(Object templateSource, String encoding) throws IOException {
+        NamedSource named = (NamedSource) templateSource;
+        try (Reader reader = delegate.getReader(named.source, encoding)) {
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            return new StringReader(transform(named.name, writer.toString()));
+        }
+    }
+
+    @Override
+    public void closeTemplateSource(Object templateSource) throws IOException {
+        delegate.closeTemplateSource(((NamedSource) templateSource).source);
+    }
+
+    private static final class NamedSource {
+        private final String name;
+        private final Object source;
+
+        private NamedSource(String name, Object source) {
+            this.name = name;
+            this.source = source;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof NamedSource named && name.equals(named.name) && source.equals(named.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, source);
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+}
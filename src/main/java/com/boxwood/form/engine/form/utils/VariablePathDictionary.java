@@ -0,0 +1,68 @@
+package com.boxwood.form.engine.form.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 변수 경로/이름 사전
+ * - company.name, user.email 처럼 여러 템플릿에서 반복되는 문자열을 한 번만 보관
+ * - 분석 결과는 문자열 대신 int ID 배열로 경로를 참조
+ * - ID는 한 번 발급되면 변하지 않음 (추가 전용). 정리는 사용하는 쪽이 새 사전으로 다시 만드는 방식
+ *   (FreeMarkerVariableExtractor 가 교체된 분석 결과가 쌓이면 재구성)
+ */
+public final class VariablePathDictionary {
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] paths = new String[1024];
+    private int size;
+
+    /**
+     * 경로의 ID 반환 (없으면 새로 발급)
+     */
+    public int intern(String path) {
+        Integer id = ids.get(path);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(path);
+            if (id != null) {
+                return id;
+            }
+            String[] current = paths;
+            if (size == current.length) {
+                current = Arrays.copyOf(current, size * 2);
+            }
+            current[size] = path;
+            paths = current;
+            ids.put(path, size);
+            return size++;
+        }
+    }
+
+    public int[] internAll(Collection<String> values) {
+        int[] result = new int[values.size()];
+        int i = 0;
+        for (String value : values) {
+            result[i++] = intern(value);
+        }
+        return result;
+    }
+
+    /**
+     * 이미 발급된 ID 조회 (없으면 -1)
+     */
+    public int idOf(String path) {
+        Integer id = ids.get(path);
+        return id != null ? id : -1;
+    }
+
+    public String path(int id) {
+        return paths[id];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
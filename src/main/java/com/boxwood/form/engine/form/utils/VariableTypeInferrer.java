@@ -0,0 +1,344 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import com.boxwood.form.engine.form.utils.TemplateUsageScanner.VariableUsage;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 사용 문맥 기반 변수 타입 추론
+ * - ?string("#,##0") -> NUMBER, ?string("yyyy-MM-dd") -> DATE, #list 대상 -> SEQUENCE
+ * - 기본값 리터럴(x!0, x!"-"), 비교/산술 연산자의 상대 피연산자도 근거로 사용
+ * - ${x} 단독 출력은 스칼라이므로 다른 근거가 없으면 STRING
+ * - 하위 경로가 있으면 HASH, [] 하위 경로가 있으면 SEQUENCE (구조 근거가 우선)
+ * - 근거가 충돌하면 VariableType 선언 순서상 앞선 타입을 채택
+ * - 요청 검증용으로 필수 경로와, 어긋나면 렌더링이 반드시 실패하는 타입 제약도 함께 도출
+ */
+public final class VariableTypeInferrer {
+    private static final Pattern BUILT_IN_PATTERN = Pattern.compile("^\\?(\\w+)(?:\\((.*?)\\))?", Pattern.DOTALL);
+    private static final Pattern STRING_ARGUMENT_PATTERN = Pattern.compile("\"([^\"]*)\"|'([^']*)'");
+    private static final Pattern NUMBER_FORMAT_PATTERN = Pattern.compile("^[#0,.\\s%¤]+$|^(number|currency|percent|computer)$");
+    private static final Pattern DATE_FORMAT_PATTERN = Pattern.compile("yy|MM|dd|HH|hh|mm|ss|^(short|medium|long|full|iso.*)$");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("^-?\\d+(\\.\\d+)?\\b.*", Pattern.DOTALL);
+    private static final Pattern STRING_LITERAL = Pattern.compile("^[\"'].*", Pattern.DOTALL);
+    private static final Pattern BOOLEAN_LITERAL = Pattern.compile("^(true|false)\\b.*", Pattern.DOTALL);
+    private static final Pattern COMPARISON_AFTER = Pattern.compile("^(==|!=|=|>=|<=|>|<|\\bgte?\\b|\\blte?\\b)\\s*(.*)", Pattern.DOTALL);
+    private static final Pattern COMPARISON_BEFORE = Pattern.compile("(.*?)\\s*(==|!=|=|>=|<=|>|<|\\bgte?|\\blte?)$", Pattern.DOTALL);
+    private static final Pattern ARITHMETIC_AFTER = Pattern.compile("^[-*/%][^=].*|^[-*/%]$", Pattern.DOTALL);
+    private static final Pattern ARITHMETIC_BEFORE = Pattern.compile(".*[*/%]$", Pattern.DOTALL);
+    private static final Pattern LOGICAL_AFTER = Pattern.compile("^(&&|\\|\\||\\)|$).*", Pattern.DOTALL);
+    private static final Pattern LITERAL_ONLY = Pattern.compile("^(\"[^\"]*\"|'[^']*'|-?\\d+(\\.\\d+)?)$");
+    private static final Pattern GUARD_PATTERN = Pattern.compile("\\?\\?|!$|\\?(has_content|default|if_exists)\\b");
+    private static final Pattern PARENTHESIZED_GUARD = Pattern.compile("^\\)+\\s*(!|\\?\\?)");
+    private static final Pattern LOGICAL_BEFORE = Pattern.compile("(^|.*(&&|\\|\\||\\(|!))$", Pattern.DOTALL);
+
+    private static final Set<String> NUMBER_BUILT_INS = Set.of(
+            "round", "floor", "ceiling", "abs", "int", "is_infinite", "is_nan", "number_to_date",
+            "number_to_time", "number_to_datetime", "lower_abc", "upper_abc", "roman");
+    private static final Set<String> STRING_BUILT_INS = Set.of(
+            "upper_case", "lower_case", "cap_first", "uncap_first", "capitalize", "substring", "trim",
+            "length", "replace", "split", "html", "xhtml", "xml", "url", "js_string", "json_string",
+            "starts_with", "ends_with", "contains", "index_of", "last_index_of", "left_pad", "right_pad",
+            "matches", "number", "truncate", "keep_before", "keep_after", "remove_beginning", "remove_ending",
+            "word_list", "ensure_starts_with", "ensure_ends_with", "eval", "no_esc", "esc");
+    private static final Set<String> SEQUENCE_BUILT_INS = Set.of(
+            "size", "first", "last", "join", "sort", "sort_by", "reverse", "seq_contains", "seq_index_of",
+            "seq_last_index_of", "chunk", "filter", "map", "min", "max", "take_while", "drop_while");
+    private static final Set<String> HASH_BUILT_INS = Set.of("keys", "values");
+    private static final Set<String> DATE_BUILT_INS = Set.of("date", "time", "datetime", "date_if_unknown",
+            "time_if_unknown", "datetime_if_unknown", "iso", "iso_utc", "iso_local");
+    private static final Set<String> BOOLEAN_BUILT_INS = Set.of("then");
+
+    private VariableTypeInferrer() {
+    }
+
+    /**
+     * 사용 목록에서 정규화 경로별 타입 추론
+     *
+     * @param usages 스캐너가 수집한 사용 목록
+     * @param paths  타입을 구할 정규화 경로 (Mock 실행으로 확인된 경로)
+     */
+    public static Map<String, VariableType> infer(List<VariableUsage> usages, Set<String> paths) {
+        Map<String, VariableType> types = new LinkedHashMap<>();
+        for (VariableUsage usage : usages) {
+            if (paths.contains(usage.getPath())) {
+                VariableType type = inferUsage(usage);
+                if (type != null) {
+                    types.merge(usage.getPath(), type, VariableTypeInferrer::preferred);
+                }
+            }
+        }
+
+        // 구조 근거: 하위 경로가 있으면 HASH, [] 하위 경로가 있으면 SEQUENCE
+        for (String path : paths) {
+            for (int i = 1; i <= path.length(); i++) {
+                if (i == path.length() || path.charAt(i) == '.') {
+                    String prefix = path.substring(0, i);
+                    if (prefix.endsWith("[]")) {
+                        types.put(prefix.substring(0, prefix.length() - 2), VariableType.SEQUENCE);
+                    }
+                    if (i < path.length()) {
+                        types.put(prefix, VariableType.HASH);
+                    }
+                }
+            }
+        }
+        types.keySet().retainAll(withParents(paths));
+        return types;
+    }
+
+    /**
+     * 필수 경로 도출
+     * - 조건/반복/매크로 블록 밖에서 기본값(!)이나 존재 확인(??) 없이 쓰인 경로와 그 상위 경로
+     * - a.b!"x", a.b?? 는 마지막 단계만 보호하므로 상위 경로(a)는 여전히 필요, (a.b)! 는 전체 보호
+     * - items[].name 처럼 원소 경로는 해당 리스트가 주어졌을 때 원소마다 필요
+     */
+    public static Set<String> requiredPaths(List<VariableUsage> usages, Set<String> paths) {
+        Set<String> required = new LinkedHashSet<>();
+        for (VariableUsage usage : usages) {
+            String path = usage.getPath();
+            if (!paths.contains(path) || usage.isConditional()
+                    || PARENTHESIZED_GUARD.matcher(usage.getFollowing()).find()) {
+                continue;
+            }
+            // 같은 원소 범위 안의 상위 경로 (user.name -> user, items[].meta.code -> items[].meta)
+            int scopeStart = path.lastIndexOf("[]") + 1;
+            for (int i = path.indexOf('.', scopeStart); i > 0; i = path.indexOf('.', i + 1)) {
+                required.add(path.substring(0, i));
+            }
+            if (!GUARD_PATTERN.matcher(usage.getBuiltIns()).find()) {
+                required.add(path);
+            }
+        }
+        return required;
+    }
+
+    /**
+     * 타입 제약 도출: 값이 있을 때 허용되는 타입 (이외의 타입이면 렌더링이 실패하는 근거만 사용)
+     * - ?string("#,##0"), 산술/비교 연산, 단독 #if, #list 대상, 하위 경로 접근, ${x} 단독 출력 등
+     * - ?is_hash 같은 타입 검사가 있는 경로는 다형적으로 보고 제약하지 않음
+     */
+    public static Map<String, Set<VariableType>> typeConstraints(List<VariableUsage> usages, Set<String> paths) {
+        Map<String, Set<VariableType>> constraints = new LinkedHashMap<>();
+        Set<String> polymorphic = new HashSet<>();
+        for (VariableUsage usage : usages) {
+            if (!paths.contains(usage.getPath())) {
+                continue;
+            }
+            if (usage.getBuiltIns().contains("?is_")) {
+                polymorphic.add(usage.getPath());
+            }
+            Set<VariableType> allowed = strictTypes(usage);
+            if (allowed != null) {
+                constrain(constraints, usage.getPath(), allowed);
+            }
+        }
+        for (String path : paths) {
+            for (int i = 1; i < path.length(); i++) {
+                if (path.charAt(i) == '.') {
+                    String prefix = path.substring(0, i);
+                    constrain(constraints, prefix, EnumSet.of(VariableType.HASH));
+                    if (prefix.endsWith("[]")) {
+                        constrain(constraints, prefix.substring(0, prefix.length() - 2), EnumSet.of(VariableType.SEQUENCE));
+                    }
+                }
+            }
+            if (path.endsWith("[]")) {
+                constrain(constraints, path.substring(0, path.length() - 2), EnumSet.of(VariableType.SEQUENCE));
+            }
+        }
+        constraints.keySet().removeAll(polymorphic);
+        // 근거끼리 모순되면 (교집합이 비면) 제약하지 않음
+        constraints.values().removeIf(Set::isEmpty);
+        return constraints;
+    }
+
+    private static void constrain(Map<String, Set<VariableType>> constraints, String path, Set<VariableType> allowed) {
+        constraints.computeIfAbsent(path, k -> EnumSet.allOf(VariableType.class)).retainAll(allowed);
+    }
+
+    private static Set<VariableType> strictTypes(VariableUsage usage) {
+        String builtIns = usage.getBuiltIns();
+        String following = usage.getFollowing();
+        String preceding = usage.getPreceding();
+
+        if (usage.getType() == ExpressionType.ITERATION) {
+            return EnumSet.of(VariableType.SEQUENCE);
+        }
+        Matcher matcher = BUILT_IN_PATTERN.matcher(builtIns);
+        if (matcher.find()) {
+            String name = matcher.group(1);
+            if (name.equals("size")) {
+                return EnumSet.of(VariableType.SEQUENCE, VariableType.HASH);
+            }
+            if (name.equals("c")) {
+                return EnumSet.of(VariableType.STRING, VariableType.NUMBER, VariableType.BOOLEAN);
+            }
+            if (name.equals("string") && matcher.group(2) == null) {
+                return EnumSet.of(VariableType.STRING, VariableType.NUMBER, VariableType.BOOLEAN, VariableType.DATE);
+            }
+            if (STRING_BUILT_INS.contains(name)) {
+                return EnumSet.of(VariableType.STRING, VariableType.NUMBER);
+            }
+            if (name.equals("string") || NUMBER_BUILT_INS.contains(name) || SEQUENCE_BUILT_INS.contains(name)
+                    || HASH_BUILT_INS.contains(name) || BOOLEAN_BUILT_INS.contains(name)) {
+                VariableType type = builtInType(name, matcher.group(2));
+                return type != null ? EnumSet.of(type) : null;
+            }
+            return null;
+        }
+        if (!builtIns.isEmpty() && !builtIns.equals("!")) {
+            return null;
+        }
+
+        boolean defaulted = builtIns.equals("!");
+        if (!defaulted) {
+            Matcher after = COMPARISON_AFTER.matcher(following);
+            if (after.matches()) {
+                VariableType type = literalType(after.group(2));
+                return type != null && type != VariableType.SEQUENCE && type != VariableType.HASH ? EnumSet.of(type) : null;
+            }
+            if (ARITHMETIC_AFTER.matcher(following).matches() || ARITHMETIC_BEFORE.matcher(preceding).matches()) {
+                return EnumSet.of(VariableType.NUMBER);
+            }
+            if (usage.getType() == ExpressionType.CONDITION && !"switch".equals(usage.getDirective())
+                    && LOGICAL_AFTER.matcher(following).matches() && LOGICAL_BEFORE.matcher(preceding).matches()) {
+                return EnumSet.of(VariableType.BOOLEAN);
+            }
+        }
+
+        // ${x}, ${x!"-"} 단독 출력은 문자열/숫자만 가능 (boolean/날짜/리스트/맵은 출력 실패)
+        if (usage.getDirective() == null && preceding.isEmpty()
+                && (following.isEmpty() || defaulted && LITERAL_ONLY.matcher(following).matches())) {
+            return EnumSet.of(VariableType.STRING, VariableType.NUMBER);
+        }
+        return null;
+    }
+
+    /**
+     * 두 근거 중 우선 타입 (선언 순서상 앞선 쪽)
+     */
+    public static VariableType preferred(VariableType a, VariableType b) {
+        return a.ordinal() <= b.ordinal() ? a : b;
+    }
+
+    static VariableType inferUsage(VariableUsage usage) {
+        String builtIns = usage.getBuiltIns();
+        String following = usage.getFollowing();
+        String preceding = usage.getPreceding();
+
+        if (usage.getType() == ExpressionType.ITERATION) {
+            return VariableType.SEQUENCE;
+        }
+
+        // 기본값 리터럴 (x!0, x!"-")
+        if (builtIns.endsWith("!") && !builtIns.endsWith("?!")) {
+            VariableType literal = literalType(following);
+            if (literal != null) {
+                return literal;
+            }
+        }
+
+        // 체인의 첫 내장 함수만 변수 자신의 타입을 나타냄
+        Matcher matcher = BUILT_IN_PATTERN.matcher(builtIns);
+        if (matcher.find()) {
+            VariableType type = builtInType(matcher.group(1), matcher.group(2));
+            if (type != null) {
+                return type;
+            }
+        }
+        if (!builtIns.isEmpty() && !builtIns.equals("!")) {
+            return null;
+        }
+
+        // 비교/산술 연산의 상대 피연산자
+        Matcher after = COMPARISON_AFTER.matcher(following);
+        if (after.matches()) {
+            return literalType(after.group(2));
+        }
+        Matcher before = COMPARISON_BEFORE.matcher(preceding);
+        if (before.matches()) {
+            String operand = before.group(1);
+            int space = Math.max(operand.lastIndexOf(' '), operand.lastIndexOf('('));
+            return literalType(operand.substring(space + 1));
+        }
+        if (ARITHMETIC_AFTER.matcher(following).matches() || ARITHMETIC_BEFORE.matcher(preceding).matches()) {
+            return VariableType.NUMBER;
+        }
+
+        // ${x} 단독 출력은 스칼라 (다른 근거가 없으면 문자열)
+        if (usage.getDirective() == null && builtIns.isEmpty() && following.isEmpty() && preceding.isEmpty()) {
+            return VariableType.STRING;
+        }
+
+        // #switch 대상은 #case 값과 비교되는 문자열, 조건문에 단독으로 쓰이면 boolean
+        if ("switch".equals(usage.getDirective())) {
+            return VariableType.STRING;
+        }
+        if (usage.getType() == ExpressionType.CONDITION && builtIns.isEmpty()
+                && LOGICAL_AFTER.matcher(following).matches() && LOGICAL_BEFORE.matcher(preceding).matches()) {
+            return VariableType.BOOLEAN;
+        }
+        return null;
+    }
+
+    private static VariableType builtInType(String name, String arguments) {
+        if (name.equals("string") && arguments != null) {
+            List<String> literals = new ArrayList<>();
+            Matcher literal = STRING_ARGUMENT_PATTERN.matcher(arguments);
+            while (literal.find()) {
+                literals.add(literal.group(1) != null ? literal.group(1) : literal.group(2));
+            }
+            if (literals.size() == 2) {
+                return VariableType.BOOLEAN;
+            }
+            if (literals.size() == 1) {
+                String format = literals.get(0);
+                if (NUMBER_FORMAT_PATTERN.matcher(format).find()) {
+                    return VariableType.NUMBER;
+                }
+                if (DATE_FORMAT_PATTERN.matcher(format).find()) {
+                    return VariableType.DATE;
+                }
+            }
+            return null;
+        }
+        if (NUMBER_BUILT_INS.contains(name)) return VariableType.NUMBER;
+        if (STRING_BUILT_INS.contains(name)) return VariableType.STRING;
+        if (SEQUENCE_BUILT_INS.contains(name)) return VariableType.SEQUENCE;
+        if (HASH_BUILT_INS.contains(name)) return VariableType.HASH;
+        if (DATE_BUILT_INS.contains(name) && arguments == null) return VariableType.DATE;
+        if (BOOLEAN_BUILT_INS.contains(name)) return VariableType.BOOLEAN;
+        return null;
+    }
+
+    private static VariableType literalType(String text) {
+        if (text == null || text.isEmpty()) {
+            return null;
+        }
+        if (NUMBER_LITERAL.matcher(text).matches()) return VariableType.NUMBER;
+        if (STRING_LITERAL.matcher(text).matches()) return VariableType.STRING;
+        if (BOOLEAN_LITERAL.matcher(text).matches()) return VariableType.BOOLEAN;
+        if (text.startsWith("[")) return VariableType.SEQUENCE;
+        if (text.startsWith("{")) return VariableType.HASH;
+        return null;
+    }
+
+    private static Set<String> withParents(Set<String> paths) {
+        Set<String> result = new HashSet<>(paths);
+        for (String path : paths) {
+            for (int i = 0; i < path.length(); i++) {
+                if (path.charAt(i) == '.') {
+                    result.add(path.substring(0, i));
+                } else if (path.startsWith("[]", i)) {
+                    result.add(path.substring(0, i));
+                    result.add(path.substring(0, i + 2));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -308,6 +308,7 @@
     </div>
 
     <!-- 항목 테이블 - 수정된 버전 -->
+    <#-- @region items -->
     <table class="items-table">
         <thead>
         <tr>
@@ -352,6 +353,7 @@
         </#if>
         </tbody>
     </table>
+    <#-- @endregion -->
 
     <!-- 합계 섹션 - 수정된 버전 -->
     <div class="totals-section">
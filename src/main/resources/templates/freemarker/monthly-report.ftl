@@ -180,6 +180,7 @@
 <!-- 핵심 지표 섹션 -->
 <div class="section">
     <h2 class="section-title">📊 핵심 성과 지표 (KPI)</h2>
+    <#-- @region kpis -->
     <div class="metric-grid">
         <#if kpis?? && kpis?has_content>
             <#list kpis as kpi>
@@ -229,6 +230,7 @@
             </div>
         </#if>
     </div>
+    <#-- @endregion -->
 </div>
 
 <!-- 주요 성과 섹션 -->
@@ -0,0 +1,150 @@
+package com.boxwood.form.engine.form.grpc;
+
+import com.boxwood.form.engine.form.grpc.proto.*;
+import com.boxwood.form.engine.form.model.TemplateAnalysisResponseDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import com.google.protobuf.Struct;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TemplateEngineGrpcServiceTest {
+    private final TemplateAnalysisService templateService = mock(TemplateAnalysisService.class);
+    private Server server;
+    private ManagedChannel channel;
+    private TemplateEngineServiceGrpc.TemplateEngineServiceBlockingStub stub;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        TemplateEngineGrpcService service = new TemplateEngineGrpcService(templateService);
+        ReflectionTestUtils.setField(service, "maxBatchSize", 3);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = TemplateEngineServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void stopServer() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void analyzeMapsResponse() {
+        when(templateService.analyzeTemplate("invoice.ftl")).thenReturn(TemplateAnalysisResponseDto.builder()
+                .templateName("invoice.ftl")
+                .templateValid(true)
+                .requiredExternalVariables(new LinkedHashSet<>(List.of("customer.name", "items")))
+                .inferredTypes(Map.of("items", VariableType.SEQUENCE))
+                .macros(Map.of("formatNumber", List.of("value", "defaultValue")))
+                .summary("2 variables")
+                .build());
+
+        TemplateAnalysis analysis = stub.analyze(AnalyzeRequest.newBuilder().setTemplateName("invoice.ftl").build());
+
+        assertTrue(analysis.getTemplateValid());
+        assertEquals(List.of("customer.name", "items"), analysis.getRequiredExternalVariablesList());
+        assertEquals("SEQUENCE", analysis.getInferredTypesMap().get("items"));
+        assertEquals(List.of("value", "defaultValue"), analysis.getMacrosMap().get("formatNumber").getValuesList());
+        assertEquals("2 variables", analysis.getSummary());
+    }
+
+    @Test
+    void analyzeRejectsBlankTemplateName() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.analyze(AnalyzeRequest.getDefaultInstance()));
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+    }
+
+    @Test
+    void renderRoundTripsStructNumbers() {
+        Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("quantity", 3);
+        variables.put("total", 10_000_000_000L);
+        variables.put("rate", 0.1);
+        variables.put("negative", -2);
+        variables.put("items", List.of(Map.of("price", 1500, "discount", 2.5)));
+        variables.put("note", null);
+        ArgumentCaptor<TemplateRenderRequestDto> captor = ArgumentCaptor.forClass(TemplateRenderRequestDto.class);
+        when(templateService.renderTemplate(captor.capture())).thenReturn(TemplateRenderResponseDto.builder()
+                .templateName("invoice.ftl").renderedHtml("<p>합계</p>").success(true).renderTimeMs(7)
+                .debugInfo(Map.of("variableCount", 6, "renderTime", 7L))
+                .build());
+
+        RenderResult result = stub.render(RenderRequest.newBuilder()
+                .setTemplateName("invoice.ftl")
+                .setVariables(GrpcMessageMapper.toStruct(variables))
+                .setIncludeDebugInfo(true)
+                .build());
+
+        TemplateRenderRequestDto request = captor.getValue();
+        assertEquals(variables, request.getVariables());
+        assertInstanceOf(Integer.class, request.getVariables().get("quantity"));
+        assertInstanceOf(Integer.class, request.getVariables().get("negative"));
+        assertInstanceOf(Long.class, request.getVariables().get("total"));
+        assertInstanceOf(Double.class, request.getVariables().get("rate"));
+        assertTrue(request.isIncludeDebugInfo());
+        assertNull(request.getDocumentId());
+
+        assertTrue(result.getSuccess());
+        assertEquals("<p>합계</p>", result.getRenderedHtml().toString(StandardCharsets.UTF_8));
+        assertEquals(Map.of("variableCount", 6, "renderTime", 7), GrpcMessageMapper.toMap(result.getDebugInfo()));
+    }
+
+    @Test
+    void batchRenderStreamsResultsInOrderAndReportsFailuresPerItem() {
+        when(templateService.renderTemplate(any())).thenAnswer(invocation -> {
+            TemplateRenderRequestDto request = invocation.getArgument(0);
+            if (request.getTemplateName().equals("broken.ftl")) {
+                throw new IllegalStateException("boom");
+            }
+            return TemplateRenderResponseDto.builder().templateName(request.getTemplateName())
+                    .renderedHtml(request.getTemplateName()).success(true).build();
+        });
+
+        List<RenderResult> results = new ArrayList<>();
+        stub.batchRender(batch("a.ftl", "broken.ftl", "b.ftl")).forEachRemaining(results::add);
+
+        assertEquals(List.of(0, 1, 2), results.stream().map(RenderResult::getIndex).toList());
+        assertEquals(List.of(true, false, true), results.stream().map(RenderResult::getSuccess).toList());
+        assertEquals("Render failed: boom", results.get(1).getErrors(0));
+        assertEquals("b.ftl", results.get(2).getRenderedHtml().toStringUtf8());
+    }
+
+    @Test
+    void batchRenderRejectsOversizedBatch() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> stub.batchRender(batch("a.ftl", "b.ftl", "c.ftl", "d.ftl")).hasNext());
+
+        assertEquals(Status.Code.INVALID_ARGUMENT, e.getStatus().getCode());
+        verifyNoInteractions(templateService);
+    }
+
+    private static BatchRenderRequest batch(String... templateNames) {
+        BatchRenderRequest.Builder batch = BatchRenderRequest.newBuilder();
+        for (String templateName : templateNames) {
+            batch.addRequests(RenderRequest.newBuilder().setTemplateName(templateName).setVariables(Struct.getDefaultInstance()));
+        }
+        return batch.build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.boxwood.form.engine.form.job;
+
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 큐 구현별 용량 계산 (신규 접수, 재시도, dead-letter 이동/복원)
+ */
+class RenderJobQueueTest {
+    private static final int CAPACITY = 2;
+
+    @TempDir
+    Path directory;
+
+    static List<Named<Function<Path, RenderJobQueue>>> queues() {
+        return List.of(
+                Named.of("memory", directory -> configure(new InMemoryRenderJobQueue())),
+                Named.of("file", directory -> {
+                    FileRenderJobQueue queue = configure(new FileRenderJobQueue(new ObjectMapper()));
+                    ReflectionTestUtils.setField(queue, "directory", directory.toString());
+                    try {
+                        queue.load();
+                    } catch (IOException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    return queue;
+                }));
+    }
+
+    @ParameterizedTest
+    @MethodSource("queues")
+    void rejectsNewJobsBeyondCapacity(Function<Path, RenderJobQueue> factory) throws Exception {
+        RenderJobQueue queue = factory.apply(directory);
+
+        assertTrue(queue.offer(job("a")));
+        assertTrue(queue.offer(job("b")));
+        assertFalse(queue.offer(job("c")));
+        assertEquals(2, queue.size());
+
+        queue.acknowledge(queue.poll(0, TimeUnit.MILLISECONDS));
+        assertEquals(1, queue.size());
+        assertTrue(queue.offer(job("c")));
+        assertEquals(List.of("b", "c"), drain(queue));
+    }
+
+    @ParameterizedTest
+    @MethodSource("queues")
+    void retryOfAdmittedJobDoesNotCountTwice(Function<Path, RenderJobQueue> factory) throws Exception {
+        RenderJobQueue queue = factory.apply(directory);
+        queue.offer(job("a"));
+        queue.offer(job("b"));
+
+        RenderJob a = queue.poll(0, TimeUnit.MILLISECONDS);
+        a.setAttempts(1);
+        assertTrue(queue.retry(a));
+        assertEquals(2, queue.size());
+        assertEquals("a", queue.poll(0, TimeUnit.MILLISECONDS).getId());
+
+        // 접수 기록이 없는 작업은 신규 접수와 같이 용량 확인
+        assertFalse(queue.retry(job("x")));
+        queue.acknowledge(a);
+        assertTrue(queue.retry(job("x")));
+        assertEquals(2, queue.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("queues")
+    void deadLetterReleasesCapacityOnce(Function<Path, RenderJobQueue> factory) throws Exception {
+        RenderJobQueue queue = factory.apply(directory);
+        queue.offer(job("a"));
+        queue.offer(job("b"));
+
+        RenderJob a = queue.poll(0, TimeUnit.MILLISECONDS);
+        queue.deadLetter(a);
+        assertEquals(1, queue.size());
+
+        // 다시 넣지 못한 작업을 되돌려도 남은 작업의 용량은 그대로
+        RenderJob removed = queue.removeDeadLetter("a");
+        assertNotNull(removed);
+        queue.restoreDeadLetter(removed);
+        assertEquals(1, queue.size());
+        assertEquals(List.of("a"), queue.getDeadLetters().stream().map(RenderJob::getId).toList());
+
+        queue.deadLetter(removed);
+        assertEquals(1, queue.size());
+        assertEquals(List.of("b"), drain(queue));
+    }
+
+    private static <T extends RenderJobQueue> T configure(T queue) {
+        ReflectionTestUtils.setField(queue, "capacity", CAPACITY);
+        ReflectionTestUtils.setField(queue, "maxDeadLetters", 10);
+        return queue;
+    }
+
+    private static RenderJob job(String id) {
+        return RenderJob.builder()
+                .id(id)
+                .request(TemplateRenderRequestDto.builder().templateName("invoice.ftl").variables(Map.of()).build())
+                .submittedAt(System.currentTimeMillis())
+                .build();
+    }
+
+    private static List<String> drain(RenderJobQueue queue) throws InterruptedException {
+        List<String> ids = new ArrayList<>();
+        RenderJob job;
+        while ((job = queue.poll(0, TimeUnit.MILLISECONDS)) != null) {
+            ids.add(job.getId());
+            queue.acknowledge(job);
+        }
+        assertEquals(0, queue.size());
+        return ids;
+    }
+}
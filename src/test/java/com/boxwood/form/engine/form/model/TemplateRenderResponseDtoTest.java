@@ -0,0 +1,27 @@
+package com.boxwood.form.engine.form.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateRenderResponseDtoTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void omitsSectionCountsOutsideIncrementalRendering() throws Exception {
+        String json = mapper.writeValueAsString(TemplateRenderResponseDto.builder().success(true).build());
+
+        assertFalse(json.contains("sectionCount"), json);
+        assertFalse(json.contains("reusedSectionCount"), json);
+    }
+
+    @Test
+    void writesSectionCountsForIncrementalRendering() throws Exception {
+        String json = mapper.writeValueAsString(
+                TemplateRenderResponseDto.builder().success(true).sectionCount(3).reusedSectionCount(2).build());
+
+        assertTrue(json.contains("\"sectionCount\":3"), json);
+        assertTrue(json.contains("\"reusedSectionCount\":2"), json);
+    }
+}
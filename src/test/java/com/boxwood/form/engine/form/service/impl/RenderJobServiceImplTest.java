@@ -0,0 +1,113 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.job.InMemoryRenderJobQueue;
+import com.boxwood.form.engine.form.job.InMemoryRenderResultStore;
+import com.boxwood.form.engine.form.job.RenderJob;
+import com.boxwood.form.engine.form.model.RenderJobDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.utils.FormEngineMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RenderJobServiceImplTest {
+    private final TemplateAnalysisService templateService = mock(TemplateAnalysisService.class);
+    private final InMemoryRenderJobQueue queue = new InMemoryRenderJobQueue();
+    private final InMemoryRenderResultStore resultStore = new InMemoryRenderResultStore();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RenderJobServiceImpl service =
+            new RenderJobServiceImpl(templateService, queue, resultStore, new FormEngineMetrics(registry));
+
+    RenderJobServiceImplTest() {
+        ReflectionTestUtils.setField(queue, "capacity", 2);
+        ReflectionTestUtils.setField(queue, "maxDeadLetters", 10);
+        ReflectionTestUtils.setField(resultStore, "maxResults", 10);
+        ReflectionTestUtils.setField(service, "workers", 1);
+        ReflectionTestUtils.setField(service, "maxAttempts", 2);
+        ReflectionTestUtils.setField(service, "retryBackoffMs", 10L);
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        service.stop();
+    }
+
+    @Test
+    void replayIntoFullQueueKeepsCapacityAccounting() {
+        queue.deadLetter(job("dead-1"));
+        queue.deadLetter(job("dead-2"));
+        queue.offer(job("live-1"));
+        queue.offer(job("live-2"));
+
+        assertEquals(0, service.replayDeadLetters(null));
+        assertEquals(2, queue.size());
+        assertEquals(2, queue.getDeadLetters().size());
+        assertNull(service.getJob("dead-1"));
+    }
+
+    @Test
+    void failingJobIsRetriedThenDeadLetteredWithoutLeakingCapacity() throws Exception {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        when(templateService.renderTemplate(any())).thenReturn(TemplateRenderResponseDto.builder()
+                .success(false)
+                .errors(List.of("boom"))
+                .build());
+        service.start();
+
+        String jobId = service.submit(List.of(request())).getJobIds().get(0);
+        for (int i = 0; i < 200 && service.getJob(jobId).getStatus() != RenderJobDto.Status.DEAD_LETTERED; i++) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(RenderJobDto.Status.DEAD_LETTERED, service.getJob(jobId).getStatus());
+        assertEquals(2, service.getJob(jobId).getAttempts());
+        assertEquals(0, queue.size());
+        Timer render = registry.find("form.render.jobs.latency").tag("stage", "render").timer();
+        Timer queueWait = registry.find("form.render.jobs.latency").tag("stage", "queue_wait").timer();
+        assertEquals(2, render.count());
+        assertEquals(2, queueWait.count());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void statisticsReportLatencyFromRegistry() throws Exception {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        when(templateService.renderTemplate(any())).thenReturn(TemplateRenderResponseDto.builder()
+                .success(true)
+                .renderedHtml("<p/>")
+                .build());
+        service.start();
+
+        String jobId = service.submit(List.of(request())).getJobIds().get(0);
+        for (int i = 0; i < 200 && service.getJob(jobId).getStatus() != RenderJobDto.Status.SUCCEEDED; i++) {
+            Thread.sleep(10);
+        }
+
+        Map<String, Object> statistics = service.getStatistics();
+        Map<String, Object> endToEnd = (Map<String, Object>) statistics.get("endToEndMs");
+        assertEquals(1L, endToEnd.get("count"));
+        assertTrue(endToEnd.containsKey("p99"), endToEnd.toString());
+        assertEquals(1L, ((Map<String, Object>) statistics.get("renderTimeMs")).get("count"));
+        assertEquals(1, registry.find("form.render.jobs.latency").tag("stage", "end_to_end").timer().count());
+    }
+
+    private static TemplateRenderRequestDto request() {
+        return TemplateRenderRequestDto.builder().templateName("invoice.ftl").variables(Map.of()).build();
+    }
+
+    private static RenderJob job(String id) {
+        return RenderJob.builder().id(id).request(request()).submittedAt(System.currentTimeMillis()).build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.RenderedDocumentDto;
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.utils.FormEngineMetrics;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.RenderedDocumentStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RenderedDocumentServiceImplTest {
+    private final TemplateAnalysisService templateService = mock(TemplateAnalysisService.class);
+    private final FreeMarkerVariableExtractor extractor = mock(FreeMarkerVariableExtractor.class);
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @TempDir
+    Path directory;
+
+    RenderedDocumentServiceImplTest() throws IOException {
+        when(extractor.getCachedTemplateVersion(anyString())).thenReturn("v1");
+        when(extractor.isTimeDependent("report.ftl")).thenReturn(true);
+        when(templateService.renderTemplate(any())).thenAnswer(invocation -> TemplateRenderResponseDto.builder()
+                .success(true)
+                .renderedHtml("<p>render " + renders.incrementAndGet() + "</p>")
+                .build());
+    }
+
+    @Test
+    void sameTemplateVersionAndModelIsReused() throws IOException {
+        RenderedDocumentServiceImpl service = service();
+
+        RenderedDocumentDto first = service.storeDocument(request("invoice.ftl"));
+        RenderedDocumentDto second = service.storeDocument(request("invoice.ftl"));
+
+        assertFalse(first.isReused());
+        assertTrue(second.isReused());
+        assertEquals(first.getDocumentId(), second.getDocumentId());
+        assertEquals(1, renders.get());
+        verify(extractor, never()).getTemplateVersion(anyString());
+    }
+
+    @Test
+    void templatesPrintingCurrentTimeAreRenderedEveryTime() {
+        RenderedDocumentServiceImpl service = service();
+
+        RenderedDocumentDto first = service.storeDocument(request("report.ftl"));
+        RenderedDocumentDto second = service.storeDocument(request("report.ftl"));
+
+        assertFalse(second.isReused());
+        assertNotEquals(first.getDocumentId(), second.getDocumentId());
+        assertEquals(2, renders.get());
+    }
+
+    private RenderedDocumentServiceImpl service() {
+        RenderedDocumentStore store = new RenderedDocumentStore(new FormEngineMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        ReflectionTestUtils.setField(store, "maxBytes", 1_000_000L);
+        ReflectionTestUtils.setField(store, "gcTarget", 0.8);
+        store.load();
+        return new RenderedDocumentServiceImpl(templateService, extractor, store, new ObjectMapper());
+    }
+
+    private static TemplateRenderRequestDto request(String templateName) {
+        return TemplateRenderRequestDto.builder().templateName(templateName).variables(Map.of("id", 1)).build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.utils.FormEngineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseCompressionServiceImplTest {
+    private final ResponseCompressionServiceImpl service =
+            new ResponseCompressionServiceImpl(new FormEngineMetrics(new SimpleMeterRegistry()));
+
+    ResponseCompressionServiceImplTest() {
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "minSize", 1024);
+        ReflectionTestUtils.setField(service, "level", 6);
+    }
+
+    @Test
+    void thresholdComparesEncodedBytes() {
+        // 400 자: ASCII 는 400 바이트, 한글은 1200 바이트
+        assertNull(service.negotiate("gzip", "a".repeat(400)));
+        assertEquals("gzip", service.negotiate("gzip", "가".repeat(400)));
+        assertEquals("gzip", service.negotiate("gzip", "😀".repeat(256)));
+        assertNull(service.negotiate("gzip", "😀".repeat(255)));
+    }
+
+    @Test
+    void negotiatesByQuality() {
+        String body = "a".repeat(2048);
+
+        assertEquals("gzip", service.negotiate("deflate, gzip", body));
+        assertEquals("deflate", service.negotiate("gzip;q=0.5, deflate", body));
+        assertEquals("gzip", service.negotiate("*", body));
+        assertNull(service.negotiate("gzip;q=0, br", body));
+        assertNull(service.negotiate(null, body));
+    }
+
+    @Test
+    void streamingCompressionRoundTripsMultiByteText() throws IOException {
+        // 조각 경계(8192 자)에 서로게이트 쌍이 걸치도록 구성
+        String content = "a".repeat(8191) + "😀" + "송장 금액 ".repeat(5000);
+
+        for (String encoding : new String[]{"gzip", "deflate"}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            service.compressTo(content, encoding, out);
+            assertEquals(content, decompress(out.toByteArray(), encoding));
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> gzip = (Map<String, Object>) service.getStatistics().get("gzip");
+        assertEquals((long) content.getBytes(StandardCharsets.UTF_8).length, gzip.get("bytesIn"));
+    }
+
+    @Test
+    void precompressedBytesAreReusedForTheSameContent() throws IOException {
+        String content = "<p>미리보기</p>".repeat(200);
+
+        byte[] first = service.precompressed("preview-html:a.ftl", content, "gzip");
+        assertSame(first, service.precompressed("preview-html:a.ftl", content, "gzip"));
+        assertEquals(content, decompress(first, "gzip"));
+        assertNotSame(first, service.precompressed("preview-html:a.ftl", new String(content), "gzip"));
+    }
+
+    private static String decompress(byte[] bytes, String encoding) throws IOException {
+        try (InputStream in = encoding.equals("gzip")
+                ? new GZIPInputStream(new ByteArrayInputStream(bytes)) : new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.TemplateTextMinifier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 최적화 경로(가지치기, 축소)와 일반 렌더링 경로의 출력 비교 (.now 로 찍히는 날짜/시간은 비교에서 제외)
+ */
+@SpringBootTest
+class TemplateAnalysisServiceImplTest {
+    private static final Pattern QUOTED_OR_WHITESPACE = Pattern.compile("(\"[^\"<>]*\"|'[^'<>]*')|\\s+");
+    private static final String NOW_PATTERN = "\\d{4}(-\\d{2}-\\d{2}( \\d{2}:\\d{2}(:\\d{2})?)?|년 \\d{2}월 \\d{2}일)";
+
+    @Autowired
+    private TemplateAnalysisService templateService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FreeMarkerVariableExtractor extractor;
+
+    @Autowired
+    private Configuration freeMarkerConfig;
+
+    @Test
+    void detectsTemplatesPrintingCurrentTime() throws Exception {
+        assertTrue(extractor.isTimeDependent("index.ftl"));
+        assertTrue(extractor.isTimeDependent("invoice.ftl"));
+        assertTrue(extractor.isTimeDependent("monthly-report.ftl"));
+        assertFalse(extractor.isTimeDependent("script_sample.ftl"));
+    }
+
+    @Test
+    void previewOfTimeDependentTemplateIsRenderedPerRequest() throws Exception {
+        // index.ftl 은 생성 시각을 초 단위로 출력
+        TemplateRenderResponseDto first = templateService.renderTemplatePreview("index.ftl");
+        Thread.sleep(1_100);
+        TemplateRenderResponseDto second = templateService.renderTemplatePreview("index.ftl");
+
+        assertTrue(first.isSuccess() && second.isSuccess());
+        assertNotEquals(first.getRenderedHtml(), second.getRenderedHtml());
+        assertNull(second.getDebugInfo().get("fromPreviewSnapshot"));
+
+        // 시각을 출력하지 않는 템플릿은 스냅샷의 렌더링 결과를 그대로 사용
+        templateService.renderTemplatePreview("script_sample.ftl");
+        assertEquals(true, templateService.renderTemplatePreview("script_sample.ftl").getDebugInfo().get("fromPreviewSnapshot"));
+    }
+
+    @SuppressWarnings("unchecked")
+    @ParameterizedTest
+    @ValueSource(strings = {"invoice.ftl", "monthly-report.ftl", "user-profile.ftl", "welcome-email.ftl"})
+    void prunedRenderMatchesFullRender(String templateName) throws Exception {
+        Map<String, Object> variables = new LinkedHashMap<>(templateService.getPreviewModel(templateName));
+        // 템플릿이 읽지 않는 변수를 섞어 실제로 가지치기가 일어나게 함
+        variables.put("unusedPayload", Map.of("rows", List.of(Map.of("a", 1), Map.of("b", 2))));
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("templateName", templateName);
+        body.put("variables", variables);
+        byte[] json = objectMapper.writeValueAsBytes(body);
+
+        // 두 경로 모두 같은 JSON 에서 읽은 값으로 렌더링 (날짜 등은 JSON 에서 문자열이 됨)
+        Map<String, Object> parsed = objectMapper.readValue(json, Map.class);
+        TemplateRenderResponseDto full = templateService.renderTemplate(
+                request(templateName, (Map<String, Object>) parsed.get("variables")));
+        TemplateRenderResponseDto pruned = templateService.renderPrunedTemplate(new ByteArrayInputStream(json));
+
+        assertTrue(full.isSuccess(), () -> String.valueOf(full.getErrors()));
+        assertTrue(pruned.isSuccess(), () -> String.valueOf(pruned.getErrors()));
+        assertEquals(normalize(full.getRenderedHtml()), normalize(pruned.getRenderedHtml()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"invoice.ftl", "monthly-report.ftl", "user-profile.ftl", "welcome-email.ftl", "index.ftl"})
+    void minifiedTemplateRendersSameAsOriginal(String templateName) throws Exception {
+        String source = extractor.loadTemplateSource(templateName);
+        Map<String, Object> model = templateService.getPreviewModel(templateName);
+
+        String original = render(templateName, source, model);
+        String minified = render(templateName, TemplateTextMinifier.minify(source), model);
+
+        assertTrue(minified.length() < original.length());
+        assertEquals(normalizeWhitespace(original), normalizeWhitespace(minified));
+    }
+
+    private String render(String templateName, String source, Map<String, Object> model) throws Exception {
+        StringWriter writer = new StringWriter();
+        new Template(templateName, source, freeMarkerConfig).process(model, writer);
+        return writer.toString();
+    }
+
+    /**
+     * 축소로 달라지는 부분(HTML 주석, 공백 연속)만 정규화 - 따옴표 안의 공백은 그대로 비교
+     */
+    private static String normalizeWhitespace(String html) {
+        Matcher matcher = QUOTED_OR_WHITESPACE.matcher(normalize(html).replaceAll("<!--(?!\\[if)[\\s\\S]*?-->", ""));
+        StringBuilder normalized = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(normalized, matcher.group(1) != null ? Matcher.quoteReplacement(matcher.group(1)) : " ");
+        }
+        return matcher.appendTail(normalized).toString().trim();
+    }
+
+    static TemplateRenderRequestDto request(String templateName, Map<String, Object> variables) {
+        return TemplateRenderRequestDto.builder().templateName(templateName).variables(variables).build();
+    }
+
+    static String normalize(String html) {
+        return html.replaceAll(NOW_PATTERN, "<now>");
+    }
+}
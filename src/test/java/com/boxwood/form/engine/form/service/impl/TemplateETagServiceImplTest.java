@@ -0,0 +1,65 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TemplateETagServiceImplTest {
+    private final FreeMarkerVariableExtractor extractor = mock(FreeMarkerVariableExtractor.class);
+    private final TemplateETagServiceImpl service = new TemplateETagServiceImpl(extractor);
+
+    TemplateETagServiceImplTest() throws IOException {
+        when(extractor.getCachedTemplateVersion(anyString())).thenReturn("v1");
+        when(extractor.isTimeDependent("report.ftl")).thenReturn(true);
+    }
+
+    @Test
+    void usesCachedVersionWithoutReadingSource() throws IOException {
+        String etag = service.getETag("analyze", "invoice.ftl", true);
+
+        assertEquals(etag, service.getETag("analyze", "invoice.ftl", true));
+        assertNotEquals(etag, service.getETag("analyze", "invoice.ftl", false));
+        verify(extractor, never()).getTemplateVersion(anyString());
+        verify(extractor, never()).loadTemplateSource(anyString());
+    }
+
+    @Test
+    void analyzerVersionChangesETag() {
+        String etag = service.getETag("analyze", "invoice.ftl");
+
+        ReflectionTestUtils.setField(service, "analyzerVersion", FreeMarkerVariableExtractor.ANALYZER_VERSION + 1);
+
+        assertNotEquals(etag, service.getETag("analyze", "invoice.ftl"));
+    }
+
+    @Test
+    void timeDependentPreviewsGetWeakETags() {
+        String preview = service.getETag("preview-html", "report.ftl");
+        String analysis = service.getETag("analyze", "report.ftl");
+
+        assertTrue(preview.startsWith("W/\""), preview);
+        assertTrue(analysis.startsWith("\""), analysis);
+        assertTrue(service.getETag("preview-html", "invoice.ftl").startsWith("\""));
+        assertEquals(preview.substring(0, preview.length() - 1) + "-gzip\"", service.forVariant(preview, "gzip"));
+    }
+
+    @Test
+    void matchesWeaklyAcrossEncodingVariants() {
+        String strong = service.getETag("preview-html", "invoice.ftl");
+        String weak = service.getETag("preview-html", "report.ftl");
+
+        assertTrue(service.matches(service.forVariant(strong, "gzip"), strong));
+        assertTrue(service.matches("W/" + strong, strong));
+        assertTrue(service.matches(service.forVariant(weak, "deflate"), weak));
+        assertTrue(service.matches(weak.substring(2), weak));
+        assertTrue(service.matches("\"other\", " + weak, weak));
+        assertFalse(service.matches(strong, weak));
+        assertFalse(service.matches(null, weak));
+    }
+}
@@ -0,0 +1,150 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.TemplateRenderRequestDto;
+import com.boxwood.form.engine.form.model.TemplateRenderResponseDto;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import freemarker.cache.StringTemplateLoader;
+import freemarker.core.Environment;
+import freemarker.template.*;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TemplateIncrementalRenderServiceImplTest {
+    private final StringTemplateLoader loader = new StringTemplateLoader();
+    private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_34);
+    private final FreeMarkerVariableExtractor extractor = mock(FreeMarkerVariableExtractor.class);
+    private final TemplateIncrementalRenderServiceImpl service =
+            new TemplateIncrementalRenderServiceImpl(extractor, configuration);
+
+    TemplateIncrementalRenderServiceImplTest() throws Exception {
+        configuration.setTemplateLoader(loader);
+        ReflectionTestUtils.setField(service, "maxDocuments", 100);
+        when(extractor.getTemplateVersion(anyString())).thenReturn("v1");
+        when(extractor.loadTemplateSource(anyString())).thenAnswer(invocation -> templateSource(invocation.getArgument(0)));
+    }
+
+    @Test
+    void incrementalRendersMatchFullRenders() throws Exception {
+        template("doc.ftl", """
+                <#macro money value>${value?string("0.00")}</#macro>
+                <#assign currency = unit!"KRW">
+                <h1>${title}</h1>
+                <#if customer??><p>${customer.name} (${currency})</p></#if>
+                <#list items as item><li>${item.name}: <@money item.price /></li></#list>
+                <#if notes?has_content><#list notes as note>${note}</#list></#if>
+                <footer>${items?size}</footer>
+                """);
+        List<Map<String, Object>> models = List.of(
+                model("Invoice", "Kim", List.of(item("pen", 1.5), item("ink", 3)), List.of()),
+                model("Invoice", "Lee", List.of(item("pen", 1.5), item("ink", 3)), List.of()),
+                model("Invoice", "Lee", List.of(item("pen", 2), item("ink", 3)), List.of("fragile")),
+                model("Invoice", "Lee", List.of(item("pen", 2)), List.of("fragile")),
+                model("Receipt", "Lee", List.of(item("pen", 2)), List.of("fragile")));
+
+        for (Map<String, Object> model : models) {
+            TemplateRenderResponseDto response = service.renderIncremental(request("doc.ftl", model));
+            assertTrue(response.isSuccess(), () -> String.valueOf(response.getErrors()));
+            assertEquals(fullRender("doc.ftl", model), response.getRenderedHtml());
+        }
+        Map<String, Object> last = models.get(models.size() - 1);
+        assertEquals(service.renderIncremental(request("doc.ftl", last)).getSectionCount(),
+                service.renderIncremental(request("doc.ftl", last)).getReusedSectionCount());
+    }
+
+    @Test
+    void sectionCallingVolatileMacroIsAlwaysExecuted() throws Exception {
+        template("stamp.ftl", """
+                <#macro stamp>${.now?long}</#macro><#macro plain>plain</#macro>
+                <#if a>A</#if><#if b><@stamp /></#if><#if b><@plain /></#if>
+                """);
+        Map<String, Object> model = Map.of("a", true, "b", true);
+        service.renderIncremental(request("stamp.ftl", model));
+
+        TemplateRenderResponseDto second = service.renderIncremental(request("stamp.ftl", model));
+        assertEquals(List.of(1), second.getDebugInfo().get("executedSections"));
+    }
+
+    @Test
+    void sectionCallingUnknownDirectiveIsAlwaysExecuted() throws Exception {
+        TemplateDirectiveModel counter = new TemplateDirectiveModel() {
+            private int calls;
+
+            @Override
+            public void execute(Environment env, Map params, TemplateModel[] loopVars, TemplateDirectiveBody body)
+                    throws IOException {
+                env.getOut().write(String.valueOf(++calls));
+            }
+        };
+        configuration.setSharedVariable("counter", counter);
+        template("shared.ftl", "<#if a><@counter /></#if><#if a>A</#if>");
+        Map<String, Object> model = Map.of("a", true);
+
+        assertEquals("1A", service.renderIncremental(request("shared.ftl", model)).getRenderedHtml());
+        TemplateRenderResponseDto second = service.renderIncremental(request("shared.ftl", model));
+        assertEquals("2A", second.getRenderedHtml());
+        assertEquals(List.of(0), second.getDebugInfo().get("executedSections"));
+    }
+
+    @Test
+    void blocksInsideUserDirectiveBodiesAreNotSeparateSections() throws Exception {
+        template("nested.ftl", """
+                <#macro twice><#nested 1><#nested 2></#macro>
+                <@twice ; n><#if show>[${n}]</#if></@twice>${title}
+                """);
+        Map<String, Object> first = Map.of("show", true, "title", "a");
+        Map<String, Object> second = Map.of("show", true, "title", "b");
+
+        assertEquals(fullRender("nested.ftl", first), service.renderIncremental(request("nested.ftl", first)).getRenderedHtml());
+        TemplateRenderResponseDto response = service.renderIncremental(request("nested.ftl", second));
+        assertEquals(fullRender("nested.ftl", second), response.getRenderedHtml());
+        assertEquals(1, response.getSectionCount());
+        assertEquals(1, response.getReusedSectionCount());
+    }
+
+    private void template(String name, String source) {
+        loader.putTemplate(name, source);
+        configuration.clearTemplateCache();
+    }
+
+    private String templateSource(String name) throws Exception {
+        StringWriter writer = new StringWriter();
+        loader.getReader(loader.findTemplateSource(name), "UTF-8").transferTo(writer);
+        return writer.toString();
+    }
+
+    private String fullRender(String name, Map<String, Object> model) throws Exception {
+        StringWriter writer = new StringWriter();
+        configuration.getTemplate(name).process(model, writer);
+        return writer.toString();
+    }
+
+    private static TemplateRenderRequestDto request(String name, Map<String, Object> model) {
+        return TemplateRenderRequestDto.builder()
+                .templateName(name).variables(model).documentId("doc-1").includeDebugInfo(true).build();
+    }
+
+    private static Map<String, Object> model(String title, String customer, List<Map<String, Object>> items,
+                                             List<String> notes) {
+        Map<String, Object> model = new LinkedHashMap<>();
+        model.put("title", title);
+        model.put("customer", Map.of("name", customer));
+        model.put("items", items);
+        model.put("notes", notes);
+        return model;
+    }
+
+    private static Map<String, Object> item(String name, Number price) {
+        return Map.of("name", name, "price", price);
+    }
+}
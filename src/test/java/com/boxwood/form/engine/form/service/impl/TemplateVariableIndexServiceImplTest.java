@@ -0,0 +1,89 @@
+package com.boxwood.form.engine.form.service.impl;
+
+import com.boxwood.form.engine.form.model.VariableUsageDto;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+class TemplateVariableIndexServiceImplTest {
+
+    @Test
+    void prefixMatchesOnPathSegmentBoundaries() {
+        TemplateVariableIndexServiceImpl index = new TemplateVariableIndexServiceImpl(mock(FreeMarkerVariableExtractor.class));
+        index.update(analysis("a.ftl", "v1", "item.name", "items[0].price", "item[1].qty", "itemCount"));
+
+        assertEquals(List.of("item.name", "item[].qty"), paths(index.findByPrefix("item")));
+        assertEquals(List.of("items[].price"), paths(index.findByPrefix("items")));
+        assertEquals(List.of("item.name"), paths(index.findByPrefix("item.")));
+        assertEquals(List.of("itemCount"), paths(index.findByPrefix("itemCount")));
+    }
+
+    @Test
+    void invalidTemplateIsNotReanalyzedUntilItChanges() throws Exception {
+        FreeMarkerVariableExtractor extractor = mock(FreeMarkerVariableExtractor.class);
+        TemplateVariableAnalysis broken = new TemplateVariableAnalysis("broken.ftl");
+        broken.setTemplateValid(false);
+        when(extractor.listTemplateNames()).thenReturn(List.of("broken.ftl"));
+        when(extractor.getCachedTemplateVersion("broken.ftl")).thenReturn("v1");
+        when(extractor.analyzeTemplate("broken.ftl")).thenReturn(broken);
+
+        TemplateVariableIndexServiceImpl index = new TemplateVariableIndexServiceImpl(extractor);
+        index.refreshAll();
+        index.refreshAll();
+        verify(extractor, times(1)).analyzeTemplate("broken.ftl");
+
+        when(extractor.getCachedTemplateVersion("broken.ftl")).thenReturn("v2");
+        index.refreshAll();
+        verify(extractor, times(2)).analyzeTemplate("broken.ftl");
+    }
+
+    @Test
+    void overlappingRefreshIsSkipped() throws Exception {
+        FreeMarkerVariableExtractor extractor = mock(FreeMarkerVariableExtractor.class);
+        CountDownLatch analyzing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(extractor.listTemplateNames()).thenReturn(List.of("a.ftl"));
+        when(extractor.getCachedTemplateVersion("a.ftl")).thenReturn("v1");
+        when(extractor.analyzeTemplate("a.ftl")).thenAnswer(invocation -> {
+            analyzing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return analysis("a.ftl", "v1", "user.name");
+        });
+
+        TemplateVariableIndexServiceImpl index = new TemplateVariableIndexServiceImpl(extractor);
+        Thread first = new Thread(index::refreshAll);
+        first.start();
+        assertTrue(analyzing.await(5, TimeUnit.SECONDS));
+
+        // 시작 시 색인이 끝나기 전에 주기 갱신이 들어와도 같은 템플릿을 다시 분석하지 않음
+        index.refreshAll();
+        release.countDown();
+        first.join();
+
+        verify(extractor, times(1)).analyzeTemplate("a.ftl");
+        assertEquals(List.of("user.name"), paths(index.findByPrefix("user")));
+    }
+
+    private static TemplateVariableAnalysis analysis(String templateName, String version, String... paths) {
+        TemplateVariableAnalysis analysis = new TemplateVariableAnalysis(templateName);
+        analysis.setContentHash(version);
+        analysis.addVariablePaths(List.of(paths));
+        for (String path : paths) {
+            analysis.addReferencedVariable(path, ExpressionType.OUTPUT);
+        }
+        return analysis;
+    }
+
+    private static List<String> paths(List<VariableUsageDto> usages) {
+        return usages.stream().map(VariableUsageDto::getPath).toList();
+    }
+}
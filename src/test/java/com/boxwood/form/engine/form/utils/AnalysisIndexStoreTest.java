@@ -0,0 +1,126 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisIndexStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shortFileIsRebuiltWithHeader() throws Exception {
+        Path index = directory.resolve("analysis.idx");
+        Files.write(index, new byte[]{1, 2, 3});
+
+        AnalysisIndexStore store = open(index, 64);
+        store.append(analysis("a.ftl", "hash-a"));
+        store.close();
+
+        assertEquals(0x46544149, ByteBuffer.wrap(Files.readAllBytes(index)).getInt());
+        AnalysisIndexStore reloaded = open(index, 64);
+        assertNotNull(reloaded.lookup("a.ftl", "hash-a"));
+        reloaded.close();
+    }
+
+    @Test
+    void unknownFormatIsRebuilt() throws Exception {
+        Path index = directory.resolve("analysis.idx");
+        Files.write(index, new byte[100]);
+
+        AnalysisIndexStore store = open(index, 64);
+        assertEquals(0, store.size());
+        store.append(analysis("a.ftl", "hash-a"));
+        store.close();
+
+        AnalysisIndexStore reloaded = open(index, 64);
+        assertNotNull(reloaded.lookup("a.ftl", "hash-a"));
+        assertEquals(1, reloaded.fileRecords());
+        reloaded.close();
+    }
+
+    @Test
+    void supersededRecordsAreCompactedWhileRunning() throws Exception {
+        Path index = directory.resolve("analysis.idx");
+        AnalysisIndexStore store = open(index, 4);
+        for (int i = 0; i < 50; i++) {
+            store.append(analysis("a.ftl", "hash-" + i));
+            store.append(analysis("b.ftl", "hash-" + i));
+        }
+        assertTrue(store.fileRecords() <= 2 + 4 + 1, "records: " + store.fileRecords());
+        store.close();
+
+        AnalysisIndexStore reloaded = open(index, 4);
+        assertNotNull(reloaded.lookup("a.ftl", "hash-49"));
+        assertNotNull(reloaded.lookup("b.ftl", "hash-49"));
+        assertNull(reloaded.lookup("a.ftl", "hash-48"));
+        reloaded.close();
+    }
+
+    @Test
+    void corruptedRecordIsDiscardedAndFileRewritten() throws Exception {
+        Path index = directory.resolve("analysis.idx");
+        AnalysisIndexStore store = open(index, 64);
+        store.append(analysis("a.ftl", "hash-a"));
+        store.append(analysis("b.ftl", "hash-b"));
+        store.close();
+
+        // 첫 레코드 payload 의 마지막 바이트를 바꿔 CRC 불일치
+        byte[] bytes = Files.readAllBytes(index);
+        int firstLength = ByteBuffer.wrap(bytes, 8, 4).getInt();
+        bytes[8 + 12 + firstLength - 1] ^= 0x7f;
+        Files.write(index, bytes);
+
+        AnalysisIndexStore reloaded = open(index, 64);
+        assertNull(reloaded.lookup("a.ftl", "hash-a"));
+        assertNotNull(reloaded.lookup("b.ftl", "hash-b"));
+        assertEquals(1, reloaded.fileRecords());
+        reloaded.close();
+    }
+
+    @Test
+    void tornTailShorterThanRecordHeaderIsTruncated() throws Exception {
+        Path index = directory.resolve("analysis.idx");
+        AnalysisIndexStore store = open(index, 64);
+        store.append(analysis("a.ftl", "hash-a"));
+        store.close();
+        Files.write(index, new byte[]{0, 0, 1, 0, 0}, StandardOpenOption.APPEND);
+
+        AnalysisIndexStore reloaded = open(index, 64);
+        assertNotNull(reloaded.lookup("a.ftl", "hash-a"));
+        reloaded.append(analysis("b.ftl", "hash-b"));
+        reloaded.close();
+
+        // 잘린 꼬리를 지운 뒤 추가했으므로 새 레코드도 다시 읽힘
+        AnalysisIndexStore again = open(index, 64);
+        assertNotNull(again.lookup("a.ftl", "hash-a"));
+        assertNotNull(again.lookup("b.ftl", "hash-b"));
+        assertEquals(2, again.fileRecords());
+        again.close();
+    }
+
+    private static AnalysisIndexStore open(Path index, int compactThreshold) {
+        AnalysisIndexStore store = new AnalysisIndexStore();
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "indexPath", index.toString());
+        ReflectionTestUtils.setField(store, "compactThreshold", compactThreshold);
+        store.load();
+        return store;
+    }
+
+    private static CompactTemplateAnalysis analysis(String templateName, String contentHash) {
+        TemplateVariableAnalysis analysis = new TemplateVariableAnalysis(templateName);
+        analysis.setContentHash(contentHash);
+        analysis.addVariablePaths(java.util.List.of("user.name", "items[].price"));
+        return CompactTemplateAnalysis.of(analysis, new VariablePathDictionary());
+    }
+}
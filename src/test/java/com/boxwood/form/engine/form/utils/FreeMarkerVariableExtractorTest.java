@@ -0,0 +1,114 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 파일 단위 분석 결과의 include/import 합성과 파일별 분석 캐시
+ */
+class FreeMarkerVariableExtractorTest {
+    private final StringTemplateLoader loader = new StringTemplateLoader();
+    private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_34);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final FreeMarkerVariableExtractor extractor =
+            new FreeMarkerVariableExtractor(configuration, new AnalysisIndexStore(), new FormEngineMetrics(registry));
+
+    FreeMarkerVariableExtractorTest() {
+        configuration.setTemplateLoader(loader);
+        loader.putTemplate("header.ftl", """
+                <#assign pageTitle = "Invoice ${invoice.number}">
+                <h1>${company.name}</h1>
+                """);
+        loader.putTemplate("lib.ftl", """
+                <#macro money value>${value?string("0.00")} ${currency}</#macro>
+                """);
+        loader.putTemplate("invoice.ftl", """
+                <#include "header.ftl">
+                <#import "lib.ftl" as ui>
+                <title>${pageTitle}</title>
+                <@ui.money value=invoice.total/>
+                """);
+        loader.putTemplate("receipt.ftl", """
+                <#import "lib.ftl" as ui>
+                <@ui.money value=receipt.amount/>
+                """);
+    }
+
+    @Test
+    void composesIncludedAndImportedFiles() throws Exception {
+        TemplateVariableAnalysis analysis = extractor.analyzeTemplate("invoice.ftl");
+
+        // include 대상이 할당한 pageTitle 은 외부 변수가 아니고, 라이브러리의 currency 는 외부 변수
+        assertEquals(Set.of("invoice", "invoice.total", "invoice.number", "company", "company.name", "currency"),
+                analysis.getVariablePaths());
+        assertEquals(Set.of("company", "company.name", "invoice", "invoice.number", "invoice.total"),
+                analysis.getRequiredPaths());
+        assertEquals(Set.of("header.ftl"), analysis.getIncludedTemplates());
+        assertEquals("lib.ftl", analysis.getImportedTemplates().get("ui"));
+    }
+
+    @Test
+    void sharedLibraryIsAnalyzedOnce() throws Exception {
+        extractor.analyzeTemplate("invoice.ftl");
+        // invoice, header, lib 각각 한 번씩 분석
+        assertEquals(3, analyzedFiles());
+
+        TemplateVariableAnalysis receipt = extractor.analyzeTemplate("receipt.ftl");
+
+        // receipt 만 새로 분석하고 lib 는 캐시된 결과로 합성
+        assertEquals(4, analyzedFiles());
+        assertEquals(Set.of("receipt", "receipt.amount", "currency"), receipt.getVariablePaths());
+
+        extractor.analyzeTemplate("invoice.ftl");
+        assertEquals(4, analyzedFiles());
+    }
+
+    @Test
+    void reassignedInputsStayExternal() throws Exception {
+        loader.putTemplate("list.ftl", """
+                <#assign title = title!"Untitled">
+                <#assign items = items?sort>
+                <#assign footer = "fixed">
+                <h1>${title}</h1>${footer}
+                <#list items as item>${item}</#list>
+                """);
+
+        TemplateVariableAnalysis analysis = extractor.analyzeTemplate("list.ftl");
+
+        assertTrue(analysis.getVariablePaths().containsAll(Set.of("title", "items")), analysis.getVariablePaths().toString());
+        assertFalse(analysis.getVariablePaths().contains("footer"));
+        // 기본값이 있는 입력은 선택, 그대로 정렬하는 입력은 필수
+        assertTrue(analysis.getRequiredPaths().contains("items"));
+        assertFalse(analysis.getRequiredPaths().contains("title"));
+    }
+
+    @Test
+    void pathDictionaryDropsPathsOfReplacedAnalyses() throws Exception {
+        extractor.analyzeTemplate("invoice.ftl");
+        int baseline = extractor.pathDictionary().size();
+
+        // 수정될 때마다 새 경로를 쓰는 템플릿 - 이전 버전의 경로가 사전에 계속 쌓이면 안 됨
+        for (int revision = 0; revision < 50; revision++) {
+            loader.putTemplate("draft.ftl", "${draft.field" + revision + "}");
+            extractor.analyzeTemplate("draft.ftl");
+        }
+
+        VariablePathDictionary dictionary = extractor.pathDictionary();
+        assertTrue(dictionary.size() < baseline + 20, "dictionary size " + dictionary.size());
+        assertTrue(dictionary.idOf("draft.field49") >= 0);
+        assertEquals(Set.of("invoice", "invoice.total", "invoice.number", "company", "company.name", "currency"),
+                extractor.analyzeTemplate("invoice.ftl").getVariablePaths());
+    }
+
+    private long analyzedFiles() {
+        return (long) registry.find("form.cache.requests")
+                .tag("cache", "analysis.memory").tag("result", "miss").counter().count();
+    }
+}
@@ -0,0 +1,64 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.ModelReadTracker.ReadSet;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModelReadTrackerTest {
+    private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_34);
+
+    @Test
+    void changedPathsUseNormalizedListPaths() {
+        Map<String, Object> before = Map.of(
+                "user", Map.of("name", "Kim", "age", 30),
+                "items", List.of(Map.of("price", 1), Map.of("price", 2)),
+                "tags", List.of("a"));
+        Map<String, Object> after = Map.of(
+                "user", Map.of("name", "Lee", "age", 30),
+                "items", List.of(Map.of("price", 1), Map.of("price", 3)),
+                "tags", List.of("a", "b"),
+                "added", true);
+
+        assertEquals(Set.of("user.name", "items[].price", "tags", "added"), ModelReadTracker.changedPaths(before, after));
+        assertTrue(ModelReadTracker.changedPaths(before, ModelReadTracker.copy(before)).isEmpty());
+    }
+
+    @Test
+    void recordsNavigationAndValueReads() throws Exception {
+        ReadSet reads = render("${user.name}<#list items as item>${item.price}</#list>${missing!}",
+                Map.of("user", Map.of("name", "Kim"), "items", List.of(Map.of("price", 1, "memo", "x"))));
+
+        assertEquals(Set.of("user", "items", "items[]"), reads.getNavigated());
+        assertEquals(Set.of("user.name", "items[].price", "missing"), reads.getValues());
+    }
+
+    @Test
+    void affectsValueReadsInBothDirectionsButNavigationOnlyFromAbove() throws Exception {
+        ReadSet reads = render("${user.name}<#list items as item>${item.price}</#list>",
+                Map.of("user", Map.of("name", "Kim", "age", 30), "items", List.of(Map.of("price", 1))));
+
+        assertTrue(ModelReadTracker.affects(reads, Set.of("user.name")));
+        assertTrue(ModelReadTracker.affects(reads, Set.of("user")), "replacing the parent changes the value read");
+        assertTrue(ModelReadTracker.affects(reads, Set.of("items")), "list length change");
+        assertTrue(ModelReadTracker.affects(reads, Set.of("items[].price")));
+        assertFalse(ModelReadTracker.affects(reads, Set.of("user.age")), "sibling of a value read");
+        assertFalse(ModelReadTracker.affects(reads, Set.of("items[].memo")), "unread field under a navigated list");
+        assertFalse(ModelReadTracker.affects(reads, Set.of("username")), "prefix without a path boundary");
+    }
+
+    private ReadSet render(String source, Map<String, Object> model) throws Exception {
+        ModelReadTracker tracker = new ModelReadTracker(configuration.getObjectWrapper());
+        ReadSet reads = new ReadSet();
+        tracker.record(reads);
+        new Template("test", source, configuration).process(tracker.wrap(model), new StringWriter());
+        return reads;
+    }
+}
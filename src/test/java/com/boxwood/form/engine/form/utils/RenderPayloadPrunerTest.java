@@ -0,0 +1,95 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RenderPayloadPrunerTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PAYLOAD = """
+            {
+              "user": {"name": "Kim", "password": "secret"},
+              "items": [{"price": 1, "memo": "a"}, {"price": 2}],
+              "flags": {"beta": true},
+              "tags": [{"label": "x"}, {"label": "y"}],
+              "unused": {"nested": [1, 2, 3]}
+            }
+            """;
+
+    @Test
+    void pruneDropsUnreachableSubtrees() throws IOException {
+        Map<String, Object> pruned = pruner().prune(payload());
+
+        assertEquals(expected(), pruned);
+    }
+
+    @Test
+    void streamingReadMatchesPrune() throws IOException {
+        RenderPayloadPruner pruner = pruner();
+        try (JsonParser parser = MAPPER.getFactory().createParser(PAYLOAD)) {
+            parser.nextToken();
+            assertEquals(pruner.prune(payload()), pruner.read(parser));
+        }
+    }
+
+    @Test
+    void dynamicAccessDisablesPruning() throws IOException {
+        TemplateVariableAnalysis analysis = analysis();
+        analysis.setDynamicDataAccess(true);
+        RenderPayloadPruner pruner = RenderPayloadPruner.compile(analysis);
+        Map<String, Object> variables = payload();
+
+        assertFalse(pruner.isEnabled());
+        assertSame(variables, pruner.prune(variables));
+        try (JsonParser parser = MAPPER.getFactory().createParser(PAYLOAD)) {
+            parser.nextToken();
+            assertEquals(variables, pruner.read(parser));
+        }
+    }
+
+    @Test
+    void detectsDynamicDataAccess() {
+        assertTrue(RenderPayloadPruner.hasDynamicDataAccess("${.vars[name]}"));
+        assertTrue(RenderPayloadPruner.hasDynamicDataAccess("<#list map as key, value>${key}</#list>"));
+        assertTrue(RenderPayloadPruner.hasDynamicDataAccess("<#include path>"));
+        assertFalse(RenderPayloadPruner.hasDynamicDataAccess("<#include \"header.ftl\">${user.name}"));
+    }
+
+    private static Map<String, Object> payload() throws IOException {
+        return MAPPER.readValue(PAYLOAD, new TypeReference<>() {
+        });
+    }
+
+    private static RenderPayloadPruner pruner() {
+        RenderPayloadPruner pruner = RenderPayloadPruner.compile(analysis());
+        assertTrue(pruner.isEnabled());
+        return pruner;
+    }
+
+    /**
+     * ${user.name}, <#list items as item>${item.price}</#list>, <#if flags??>, <#list tags as tag>${tag?index}</#list>
+     */
+    private static TemplateVariableAnalysis analysis() {
+        TemplateVariableAnalysis analysis = new TemplateVariableAnalysis("sample.ftl");
+        analysis.setContentHash("v1");
+        List.of("user", "user.name", "items", "items[].price", "flags", "tags").forEach(analysis::addReachablePath);
+        List.of("user.name", "items[].price").forEach(analysis::addOpaquePath);
+        return analysis;
+    }
+
+    private static Map<String, Object> expected() {
+        return Map.of(
+                "user", Map.of("name", "Kim"),
+                "items", List.of(Map.of("price", 1), Map.of("price", 2)),
+                "flags", Map.of(),
+                "tags", List.of(Map.of(), Map.of()));
+    }
+}
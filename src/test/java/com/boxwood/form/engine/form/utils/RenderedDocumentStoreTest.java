@@ -0,0 +1,133 @@
+package com.boxwood.form.engine.form.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 내용 주소 저장, 크기 기준 GC, 조회 후 유예, 재시작 복구
+ */
+class RenderedDocumentStoreTest {
+    // 문서 하나 100 바이트, 최대 300 바이트 -> 넘으면 240 바이트(문서 2개)까지 삭제
+    private static final int DOCUMENT_BYTES = 100;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void sameContentIsStoredOnce() throws IOException {
+        RenderedDocumentStore store = store(0);
+
+        String first = store.put("a.ftl|v1|m1", document('a'));
+        String second = store.put("a.ftl|v1|m2", document('a'));
+
+        assertEquals(first, second);
+        assertEquals(first, store.lookup("a.ftl|v1|m2"));
+        assertEquals(1, store.getStatistics().get("documents"));
+        assertEquals(2, store.getStatistics().get("indexEntries"));
+        assertNull(store.lookup("a.ftl|v2|m1"));
+    }
+
+    @Test
+    void collectsLeastRecentlyUsedDocumentsAndTheirIndexEntries() throws IOException {
+        RenderedDocumentStore store = store(0);
+        String a = store.put("a", document('a'));
+        String b = store.put("b", document('b'));
+        String c = store.put("c", document('c'));
+        Path pathA = store.getDocument(a);
+
+        store.put("d", document('d'));
+
+        // a 는 조회로 최근 사용이 되었으므로 가장 오래된 b, c 가 삭제됨
+        assertNull(store.lookup("b"));
+        assertNull(store.lookup("c"));
+        assertNull(store.getDocument(b));
+        assertNull(store.getDocument(c));
+        assertEquals(a, store.lookup("a"));
+        assertTrue(Files.exists(pathA));
+        assertEquals(2L, store.getStatistics().get("collectedDocuments"));
+        assertEquals(2L * DOCUMENT_BYTES, store.getStatistics().get("totalBytes"));
+    }
+
+    @Test
+    void recentlyFetchedDocumentsAreNotCollectedDuringGracePeriod() throws IOException {
+        RenderedDocumentStore store = store(60_000);
+        String a = store.put("a", document('a'));
+        String b = store.put("b", document('b'));
+        Path pathA = store.getDocument(a);
+        Path pathB = store.getDocument(b);
+        String c = store.put("c", document('c'));
+        expireGracePeriod(store, c);
+        store.lookup("c");
+
+        String d = store.put("d", document('d'));
+
+        // 다운로드 중일 수 있는 a, b 와 방금 저장한 d 는 남기고 인덱스 조회만 된 c 를 삭제 (목표 크기는 넘은 채로 끝남)
+        assertTrue(Files.exists(pathA));
+        assertTrue(Files.exists(pathB));
+        assertEquals(a, store.lookup("a"));
+        assertEquals(b, store.lookup("b"));
+        assertNull(store.getDocument(c));
+        assertNotNull(store.getDocument(d));
+        assertEquals(3L * DOCUMENT_BYTES, store.getStatistics().get("totalBytes"));
+    }
+
+    @Test
+    void reloadKeepsOnlyIndexEntriesOfSurvivingDocuments() throws IOException {
+        RenderedDocumentStore store = store(0);
+        store.put("a", document('a'));
+        store.put("b", document('b'));
+        store.put("c", document('c'));
+        store.put("d", document('d'));
+
+        RenderedDocumentStore reloaded = store(0);
+
+        assertNull(reloaded.lookup("a"));
+        assertNull(reloaded.lookup("b"));
+        assertNotNull(reloaded.lookup("c"));
+        assertNotNull(reloaded.lookup("d"));
+        assertEquals(2, reloaded.getStatistics().get("indexEntries"));
+    }
+
+    @Test
+    void disabledStoreKeepsNothing() throws IOException {
+        RenderedDocumentStore store = new RenderedDocumentStore(new FormEngineMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        store.load();
+
+        assertFalse(store.isEnabled());
+        assertNull(store.lookup("a"));
+        assertFalse(Files.exists(directory.resolve("objects")));
+    }
+
+    private RenderedDocumentStore store(long gcGraceMs) {
+        RenderedDocumentStore store = new RenderedDocumentStore(new FormEngineMetrics(new SimpleMeterRegistry()));
+        ReflectionTestUtils.setField(store, "enabled", true);
+        ReflectionTestUtils.setField(store, "directory", directory.toString());
+        ReflectionTestUtils.setField(store, "maxBytes", 3L * DOCUMENT_BYTES);
+        ReflectionTestUtils.setField(store, "gcTarget", 0.8);
+        ReflectionTestUtils.setField(store, "gcGraceMs", gcGraceMs);
+        store.load();
+        return store;
+    }
+
+    /**
+     * 유예 시간이 지난 것처럼 마지막 저장/조회 시각을 되돌림
+     */
+    @SuppressWarnings("unchecked")
+    private static void expireGracePeriod(RenderedDocumentStore store, String contentHash) {
+        ((Map<String, Long>) ReflectionTestUtils.getField(store, "lastReads")).put(contentHash, 0L);
+    }
+
+    private static String document(char fill) {
+        return String.valueOf(fill).repeat(DOCUMENT_BYTES);
+    }
+}
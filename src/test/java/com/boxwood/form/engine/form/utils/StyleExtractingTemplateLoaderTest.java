@@ -0,0 +1,93 @@
+package com.boxwood.form.engine.form.utils;
+
+import freemarker.cache.StringTemplateLoader;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StyleExtractingTemplateLoaderTest {
+    private static final Pattern LINK = Pattern.compile("<link rel=\"stylesheet\" href=\"/assets/(\\w+)\\.css\"([^>]*)>");
+    private static final String STATIC_CSS = "body { margin: 0; padding: 0; }";
+
+    private final StyleAssetStore store = new StyleAssetStore();
+    private final StyleExtractingTemplateLoader loader =
+            new StyleExtractingTemplateLoader(new StringTemplateLoader(), store, "/assets/", Set.of("mail.ftl"), 10);
+
+    StyleExtractingTemplateLoaderTest() {
+        ReflectionTestUtils.setField(store, "maxRetiredAssets", 1);
+    }
+
+    @Test
+    void replacesStaticStyleWithContentHashedLink() {
+        String output = loader.transform("page.ftl", "<head><style media=\"print\">" + STATIC_CSS + "</style></head>");
+
+        Matcher link = LINK.matcher(output);
+        assertTrue(link.find(), output);
+        assertEquals(" media=\"print\"", link.group(2));
+        assertEquals(STATIC_CSS, new String(store.get(link.group(1)), StandardCharsets.UTF_8));
+        assertEquals(Set.of(link.group(1)), store.getAssetIds());
+    }
+
+    @Test
+    void keepsFtlRulesInlineInOrder() {
+        String css = STATIC_CSS + " .total { color: ${color}; } h1 { font-size: 20px; font-weight: bold; }";
+        String output = loader.transform("page.ftl", "<style>" + css + "</style>");
+
+        Matcher link = LINK.matcher(output);
+        assertTrue(link.find());
+        String first = link.group(1);
+        assertTrue(link.find());
+        assertNotEquals(first, link.group(1));
+        assertTrue(output.indexOf("<style> .total { color: ${color}; }</style>") > output.indexOf(first));
+        assertTrue(output.indexOf("<style> .total") < output.indexOf(link.group(1)));
+    }
+
+    @Test
+    void leavesInlineTemplatesSmallSheetsAndLeadingAtRulesAlone() {
+        String mail = "<style>" + STATIC_CSS + "</style>";
+        String small = "<style>a{}</style>";
+        String imports = "<style>@import url(base.css); " + STATIC_CSS + "</style>";
+
+        assertEquals(mail, loader.transform("mail.ftl", mail));
+        assertEquals(small, loader.transform("page.ftl", small));
+        assertEquals(imports, loader.transform("page.ftl", imports));
+        assertTrue(store.getAssetIds().isEmpty());
+    }
+
+    @Test
+    void retiresAssetsNoLongerReferencedAndEvictsOldest() {
+        String v1 = assetId(loader.transform("page.ftl", "<style>body { margin: 1px; }</style>"));
+        String v2 = assetId(loader.transform("page.ftl", "<style>body { margin: 2px; }</style>"));
+
+        assertEquals(Set.of(v2), store.getAssetIds());
+        assertNotNull(store.get(v1), "pages rendered before the change still link the old sheet");
+
+        String v3 = assetId(loader.transform("page.ftl", "<style>body { margin: 3px; }</style>"));
+        assertEquals(Set.of(v3), store.getAssetIds());
+        assertNotNull(store.get(v2));
+        assertNull(store.get(v1), "only max-retired-assets old sheets are kept");
+        assertEquals(1, store.getRetiredCount());
+    }
+
+    @Test
+    void sharedAssetStaysWhileAnotherTemplateReferencesIt() {
+        String shared = assetId(loader.transform("a.ftl", "<style>" + STATIC_CSS + "</style>"));
+        loader.transform("b.ftl", "<style>" + STATIC_CSS + "</style>");
+        loader.transform("a.ftl", "<p>no styles</p>");
+
+        assertEquals(Set.of(shared), store.getAssetIds());
+        assertEquals(0, store.getRetiredCount());
+    }
+
+    private static String assetId(String output) {
+        Matcher link = LINK.matcher(output);
+        assertTrue(link.find(), output);
+        return link.group(1);
+    }
+}
@@ -0,0 +1,86 @@
+package com.boxwood.form.engine.form.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateFragmentSourceTest {
+    private static final String SOURCE = """
+            <#import "lib/common.ftl" as common>
+            <#assign currency = "KRW">
+            <#macro row item><tr><td>${item.name}</td></tr></#macro>
+            <h1>${title}</h1>
+            <#if showTotals><#assign currency = "USD"></#if>
+            <#-- @region items -->
+            <table><#list items as item><@row item=item /></#list></table>
+            <#-- @endregion -->
+            <#assign footer = "end">
+            <#function total items><#return items?size></#function>
+            """;
+
+    @Test
+    void collectsDefinitionsAndImports() {
+        String definitions = TemplateFragmentSource.parse(SOURCE).getDefinitions();
+
+        assertTrue(definitions.startsWith("<#import \"lib/common.ftl\" as common>"));
+        assertTrue(definitions.contains("<#macro row item><tr><td>${item.name}</td></tr></#macro>"));
+        assertTrue(definitions.contains("<#function total items><#return items?size></#function>"));
+        assertFalse(definitions.contains("${title}"));
+    }
+
+    @Test
+    void regionBodyIncludesPrecedingTopLevelAssignmentsOnly() {
+        TemplateFragmentSource parsed = TemplateFragmentSource.parse(SOURCE);
+
+        assertEquals(Set.of("items"), parsed.getRegionNames());
+        assertEquals("<#assign currency = \"KRW\">\n<table><#list items as item><@row item=item /></#list></table>\n",
+                parsed.regionBody("items"));
+        assertNull(parsed.regionBody("missing"));
+    }
+
+    @Test
+    void macroDefinedInsideBlockIsStillADefinition() {
+        String definitions = TemplateFragmentSource.parse("<#if x><#macro m>inner</#macro></#if>").getDefinitions();
+
+        assertEquals("<#macro m>inner</#macro>", definitions);
+    }
+
+    @Test
+    void findsTopLevelBlocksExcludingDefinitions() {
+        String source = "<#macro m>a</#macro>${x}<#if a><#list b as c>${c}</#list></#if><#assign body>t</#assign>";
+        List<int[]> blocks = TemplateFragmentSource.parse(source).getTopLevelBlocks();
+
+        assertEquals(List.of("<#if a><#list b as c>${c}</#list></#if>", "<#assign body>t</#assign>"),
+                blocks.stream().map(block -> source.substring(block[0], block[1])).toList());
+    }
+
+    @Test
+    void ignoresClosingBracketsInsideStrings() {
+        String source = "<#if label == \">\">x</#if>";
+        List<int[]> blocks = TemplateFragmentSource.parse(source).getTopLevelBlocks();
+
+        assertEquals(1, blocks.size());
+        assertEquals(source.length(), blocks.get(0)[1]);
+    }
+
+    @Test
+    void userDirectiveBodiesAreBlocks() {
+        String source = "<@layout title=\"t\"><#if a>x</#if><#assign inner = 1></@layout><@row item=i /><@ns.box>y</@>";
+        TemplateFragmentSource parsed = TemplateFragmentSource.parse(source);
+
+        assertEquals(List.of("<@layout title=\"t\"><#if a>x</#if><#assign inner = 1></@layout>", "<@ns.box>y</@>"),
+                parsed.getTopLevelBlocks().stream().map(block -> source.substring(block[0], block[1])).toList());
+    }
+
+    @Test
+    void indexesDefinitionsByNameAndImportNamespaces() {
+        TemplateFragmentSource parsed = TemplateFragmentSource.parse(SOURCE);
+
+        assertEquals(List.of("row", "total"), List.copyOf(parsed.getDefinitionSources().keySet()));
+        assertEquals("<#function total items><#return items?size></#function>", parsed.getDefinitionSources().get("total"));
+        assertEquals(Set.of("common"), parsed.getImportNamespaces());
+    }
+}
@@ -0,0 +1,61 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.TemplateVariableAnalysis;
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TemplateRequestValidatorTest {
+
+    private final TemplateRequestValidator validator = TemplateRequestValidator.compile(analysis());
+
+    @Test
+    void acceptsValidRequest() {
+        assertTrue(validator.validate(Map.of(
+                "user", Map.of("name", "Kim"),
+                "items", List.of(Map.of("price", 1000), Map.of("price", 2.5)),
+                "total", 3)).isEmpty());
+    }
+
+    @Test
+    void reportsAllMissingAndMistypedValuesAtOnce() {
+        List<String> problems = validator.validate(Map.of(
+                "user", Map.of(),
+                "items", List.of(Map.of("price", 1), Map.of("price", "free")),
+                "total", "3"));
+
+        assertEquals(List.of(
+                "user.name: required variable is missing",
+                "items[1].price: expected NUMBER but was STRING",
+                "total: expected NUMBER but was STRING"), problems);
+    }
+
+    @Test
+    void missingParentIsReportedOnceAndNullVariablesAreAllowed() {
+        assertEquals(List.of("user: required variable is missing"), validator.validate(Map.of("total", 1)));
+        assertEquals(List.of("user: required variable is missing"), validator.validate(null));
+    }
+
+    @Test
+    void sequenceConstraintRejectsScalar() {
+        assertEquals(List.of("items: expected SEQUENCE but was STRING"),
+                validator.validate(Map.of("user", Map.of("name", "Kim"), "items", "none")));
+    }
+
+    private static TemplateVariableAnalysis analysis() {
+        TemplateVariableAnalysis analysis = new TemplateVariableAnalysis("order.ftl");
+        analysis.setContentHash("v1");
+        analysis.addRequiredPath("user");
+        analysis.addRequiredPath("user.name");
+        analysis.addTypeConstraint("items", Set.of(VariableType.SEQUENCE));
+        analysis.addTypeConstraint("items[].price", Set.of(VariableType.NUMBER));
+        analysis.addTypeConstraint("total", Set.of(VariableType.NUMBER));
+        return analysis;
+    }
+}
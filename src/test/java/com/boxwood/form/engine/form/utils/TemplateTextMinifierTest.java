@@ -0,0 +1,96 @@
+package com.boxwood.form.engine.form.utils;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateTextMinifierTest {
+
+    @Test
+    void collapsesWhitespaceAndKeepsLineStructure() {
+        assertEquals("<p> a b\n</p>\n<#if x>\n</#if>", TemplateTextMinifier.minify("<p>   a  \t b \n\n  </p>\n  <#if x>\n  </#if>"));
+    }
+
+    @Test
+    void keepsQuotedAttributeValues() {
+        String source = "<div   title=\"a   b\"  data-x='c    d'   class=\"${cls}  extra\">  x  </div>";
+
+        assertEquals("<div title=\"a   b\" data-x='c    d' class=\"${cls}  extra\"> x </div>", TemplateTextMinifier.minify(source));
+    }
+
+    @Test
+    void attributeValuesMayContainFtlWithQuotes() {
+        String source = "<a href=\"${url(\"a  b\")}\"   title=\"<#if x>one  two<#else>three   four</#if>\">  go  </a>";
+
+        assertEquals("<a href=\"${url(\"a  b\")}\" title=\"<#if x>one  two<#else>three   four</#if>\"> go </a>",
+                TemplateTextMinifier.minify(source));
+    }
+
+    @Test
+    void apostrophesInTextAreNotAttributeValues() {
+        assertEquals("<p>It's a b</p>", TemplateTextMinifier.minify("<p>It's   a  b</p>"));
+    }
+
+    @Test
+    void keepsRawElementsNoparseAndConditionalComments() {
+        String source = "<pre>  a\n   b</pre><textarea>  x  </textarea><script>var a  =  1;</script>"
+                + "<#noparse>  ${raw}  </#noparse><!--[if IE]>ie<![endif]-->";
+
+        assertEquals(source, TemplateTextMinifier.minify(source));
+    }
+
+    @Test
+    void removesPlainHtmlCommentsButKeepsCommentsWithFtl() {
+        assertEquals("<p>a</p> <p>b</p>", TemplateTextMinifier.minify("<p>a</p> <!-- note --> <p>b</p>"));
+        assertEquals("<!-- ${version} -->", TemplateTextMinifier.minify("<!-- ${version} -->"));
+    }
+
+    @Test
+    void minifiedTemplateRendersSameAsOriginal() throws Exception {
+        String source = """
+                <#assign label = "합계   금액">
+                <!-- summary -->
+                <table   class="items  striped" data-note='${note}'>
+                    <#list items as item>
+                    <tr title="${item.name}   (${item.qty})">
+                        <td>   ${item.name}   </td>
+                        <td>${item.qty}</td>
+                    </tr>
+                    </#list>
+                </table>
+                <pre>
+                  ${label}
+                </pre>
+                """;
+        Map<String, Object> model = Map.of("note", "a  b", "items",
+                List.of(Map.of("name", "pen", "qty", 2), Map.of("name", "ink", "qty", 1)));
+
+        String original = render(source, model);
+        String minified = render(TemplateTextMinifier.minify(source), model);
+
+        assertEquals(normalize(original.replace("<!-- summary -->", "")), normalize(minified));
+        assertTrue(minified.contains("class=\"items  striped\" data-note='a  b'"));
+        assertTrue(minified.contains("title=\"pen   (2)\""));
+        assertTrue(minified.contains("<pre>\n  합계   금액\n</pre>"));
+    }
+
+    private static String render(String source, Map<String, Object> model) throws Exception {
+        StringWriter writer = new StringWriter();
+        new Template("test", source, new Configuration(Configuration.VERSION_2_3_34)).process(model, writer);
+        return writer.toString();
+    }
+
+    /**
+     * 태그 사이 텍스트와 속성 사이의 공백만 정규화 (속성 값/<pre> 안의 공백은 비교에 포함)
+     */
+    private static String normalize(String html) {
+        return html.replaceAll(">\\s+", "> ").replaceAll("\\s+<", " <")
+                .replaceAll("\\s+(?=[\\w-]+=[\"'])", " ").trim();
+    }
+}
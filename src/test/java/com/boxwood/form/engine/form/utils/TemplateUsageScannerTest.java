@@ -0,0 +1,59 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.ExpressionType;
+import com.boxwood.form.engine.form.utils.TemplateUsageScanner.VariableUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TemplateUsageScannerTest {
+
+    @Test
+    void classifiesUsagesByContext() {
+        Map<String, Set<ExpressionType>> types = TemplateUsageScanner.usageTypesByPath(TemplateUsageScanner.scan("""
+                <h1>${user.name}</h1>
+                <#if user.active>active</#if>
+                <#list orders as order>${order.id}</#list>
+                <#assign total = invoice.amount>
+                """));
+
+        assertEquals(Set.of(ExpressionType.OUTPUT), types.get("user.name"));
+        assertEquals(Set.of(ExpressionType.CONDITION), types.get("user.active"));
+        assertTrue(types.get("orders").contains(ExpressionType.ITERATION));
+        assertEquals(Set.of(ExpressionType.OUTPUT), types.get("orders[].id"));
+        assertTrue(types.containsKey("invoice.amount"));
+        assertFalse(types.containsKey("order.id"), "loop alias must be replaced by the sequence path");
+    }
+
+    @Test
+    void usagesInsideBlocksAreConditional() {
+        List<VariableUsage> usages = TemplateUsageScanner.scan("${title}<#if show>${detail}</#if>");
+
+        assertFalse(usage(usages, "title").isConditional());
+        assertTrue(usage(usages, "detail").isConditional());
+    }
+
+    @Test
+    void ignoresCommentsAndCapturesBuiltIns() {
+        List<VariableUsage> usages = TemplateUsageScanner.scan("<#-- ${hidden} -->${price?string(\"#,##0\")}");
+
+        assertTrue(usages.stream().noneMatch(usage -> usage.getPath().equals("hidden")));
+        assertTrue(usage(usages, "price").getBuiltIns().startsWith("?string"));
+    }
+
+    @Test
+    void normalizesListIndexes() {
+        assertEquals("items[].name", TemplateUsageScanner.normalizePath("items[0].name"));
+        assertEquals("a[].b[].c", TemplateUsageScanner.normalizePath("a[12].b[3].c"));
+        assertEquals("user.name", TemplateUsageScanner.normalizePath("user.name"));
+    }
+
+    private static VariableUsage usage(List<VariableUsage> usages, String path) {
+        return usages.stream().filter(usage -> usage.getPath().equals(path)).findFirst()
+                .orElseThrow(() -> new AssertionError("no usage of " + path + " in " + usages.stream().map(VariableUsage::getPath).toList()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.boxwood.form.engine.form.utils;
+
+import com.boxwood.form.engine.form.utils.FreeMarkerVariableExtractor.VariableType;
+import com.boxwood.form.engine.form.utils.TemplateUsageScanner.VariableUsage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VariableTypeInferrerTest {
+
+    @Test
+    void infersTypesFromBuiltInsOperatorsAndStructure() {
+        String source = """
+                ${amount?string("#,##0")}
+                ${issued?string("yyyy-MM-dd")}
+                <#if count gt 0>${label}</#if>
+                <#list items as item>${item.name}</#list>
+                ${user.name}
+                """;
+        Set<String> paths = Set.of("amount", "issued", "count", "label", "items[].name", "user.name");
+        Map<String, VariableType> types = VariableTypeInferrer.infer(TemplateUsageScanner.scan(source), paths);
+
+        assertEquals(VariableType.NUMBER, types.get("amount"));
+        assertEquals(VariableType.DATE, types.get("issued"));
+        assertEquals(VariableType.NUMBER, types.get("count"));
+        assertEquals(VariableType.STRING, types.get("label"));
+        assertEquals(VariableType.SEQUENCE, types.get("items"));
+        assertEquals(VariableType.HASH, types.get("user"));
+        assertEquals(VariableType.STRING, types.get("user.name"));
+    }
+
+    @Test
+    void requiredPathsSkipGuardedAndConditionalUsages() {
+        String source = """
+                ${user.name}
+                ${nickname!"-"}
+                ${(profile.bio)!""}
+                ${company.code!""}
+                <#if show>${detail}</#if>
+                """;
+        Set<String> paths = Set.of("user.name", "nickname", "profile.bio", "company.code", "show", "detail");
+        Set<String> required = VariableTypeInferrer.requiredPaths(TemplateUsageScanner.scan(source), paths);
+
+        assertTrue(required.containsAll(List.of("user", "user.name", "company", "show")), required.toString());
+        assertFalse(required.contains("nickname"));
+        assertFalse(required.contains("profile"));
+        assertFalse(required.contains("company.code"));
+        assertFalse(required.contains("detail"));
+    }
+
+    @Test
+    void typeCheckedPathsAreNotConstrained() {
+        List<VariableUsage> usages = TemplateUsageScanner.scan("<#if value?is_hash>${value.x}<#else>${value}</#if>${total * 2}");
+        Map<String, Set<VariableType>> constraints = VariableTypeInferrer.typeConstraints(usages, Set.of("value", "value.x", "total"));
+
+        assertFalse(constraints.containsKey("value"));
+        assertEquals(Set.of(VariableType.NUMBER), constraints.get("total"));
+    }
+}
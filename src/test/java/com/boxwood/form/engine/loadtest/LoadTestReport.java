@@ -0,0 +1,131 @@
+package com.boxwood.form.engine.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 시나리오 결과 - 단계별 / 전체 처리량(req/s), 지연 시간 백분위(p50/p95/p99/p99.9, ms), 오류 수
+ */
+@Slf4j
+public class LoadTestReport {
+    private final LoadTestScenario scenario;
+    private final List<Map<String, Object>> stages = new ArrayList<>();
+    private final LoadTestRunner.Measurements overall = new LoadTestRunner.Measurements();
+
+    LoadTestReport(LoadTestScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    void addStage(LoadTestScenario.Stage stage, LoadTestRunner.Measurements measurements) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("stage", stage.getName());
+        result.put("concurrency", stage.getConcurrency());
+        result.putAll(summary(measurements));
+        stages.add(result);
+        overall.add(measurements);
+    }
+
+    public long getRequests() {
+        return overall.total().getTotalCount();
+    }
+
+    public double getErrorRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : (double) overall.totalErrors() / requests;
+    }
+
+    public double getP99Millis() {
+        return millis(overall.total().getValueAtPercentile(99));
+    }
+
+    public List<String> getErrorSamples() {
+        return new ArrayList<>(overall.errorSamples);
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario.getName());
+        report.put("version", scenario.getVersion());
+        report.put("overall", summary(overall));
+        report.put("stages", stages);
+        report.put("errorSamples", getErrorSamples());
+        return report;
+    }
+
+    /**
+     * target/loadtest/{name}-v{version}.json 에 저장하고 요약을 로그로 출력
+     */
+    public Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve(scenario.getName() + "-v" + scenario.getVersion() + ".json");
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file.toFile(), toMap());
+
+        log.info("[{} v{}] {} requests, {} errors", scenario.getName(), scenario.getVersion(),
+                getRequests(), overall.totalErrors());
+        log.info(String.format("%-16s %-36s %10s %8s %9s %9s %9s %9s %9s",
+                "stage", "request", "req/s", "errors", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (Map<String, Object> stage : stages) {
+            logRows(String.valueOf(stage.get("stage")), stage);
+        }
+        logRows("overall", summary(overall));
+        getErrorSamples().forEach(sample -> log.warn("  {}", sample));
+        return file;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void logRows(String stage, Map<String, Object> summary) {
+        logRow(stage, "*", summary);
+        ((Map<String, Map<String, Object>>) summary.get("byRequest")).forEach((label, row) -> logRow("", label, row));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void logRow(String stage, String label, Map<String, Object> row) {
+        Map<String, Object> latency = (Map<String, Object>) row.get("latencyMillis");
+        log.info(String.format("%-16s %-36s %10.1f %8d %9s %9s %9s %9s %9s", stage, label,
+                row.get("throughputPerSecond"), row.get("errors"), latency.get("p50"), latency.get("p95"),
+                latency.get("p99"), latency.get("p99.9"), latency.get("max")));
+    }
+
+    private static Map<String, Object> summary(LoadTestRunner.Measurements measurements) {
+        double seconds = Math.max(1, measurements.elapsedNanos) / 1e9;
+        Map<String, Object> summary = row(measurements.total(), measurements.totalErrors(), seconds);
+        summary.put("elapsedSeconds", Math.round(seconds * 100) / 100.0);
+        Map<String, Object> byRequest = new LinkedHashMap<>();
+        measurements.latencies.forEach((label, histogram) ->
+                byRequest.put(label, row(histogram, measurements.errors.getOrDefault(label, 0L), seconds)));
+        summary.put("byRequest", byRequest);
+        return summary;
+    }
+
+    private static Map<String, Object> row(Histogram histogram, long errors, double seconds) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("requests", histogram.getTotalCount());
+        row.put("errors", errors);
+        row.put("throughputPerSecond", Math.round(histogram.getTotalCount() / seconds * 10) / 10.0);
+        Map<String, Object> latency = new LinkedHashMap<>();
+        if (histogram.getTotalCount() > 0) {
+            latency.put("mean", Math.round(histogram.getMean() / 10) / 100.0);
+            latency.put("p50", millis(histogram.getValueAtPercentile(50)));
+            latency.put("p95", millis(histogram.getValueAtPercentile(95)));
+            latency.put("p99", millis(histogram.getValueAtPercentile(99)));
+            latency.put("p99.9", millis(histogram.getValueAtPercentile(99.9)));
+            latency.put("max", millis(histogram.getMaxValue()));
+        }
+        row.put("latencyMillis", latency);
+        return row;
+    }
+
+    private static double millis(long micros) {
+        return Math.round(micros / 10.0) / 100.0;
+    }
+}
@@ -0,0 +1,202 @@
+package com.boxwood.form.engine.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오 실행기 - java.net.http.HttpClient 로 기동된 서버를 호출
+ * - 단계마다 concurrency 개 작업자가 끝날 때까지 요청을 연속으로 보냄 (응답을 받아야 다음 요청, closed loop)
+ * - 지연 시간은 작업자별 HdrHistogram(µs, 유효숫자 3자리)에 기록하고 단계가 끝나면 합침
+ * - 오류: 2xx 가 아닌 응답, 예외, render / preview-json 의 success=false 응답
+ */
+@Slf4j
+public class LoadTestRunner {
+    private static final byte[] SUCCESS_TRUE = "\"success\":true".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_ERROR_SAMPLES = 5;
+
+    private final String baseUrl;
+    private final Map<LoadTestScenario.RequestMix, byte[]> renderBodies;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    /**
+     * @param baseUrl      서버 주소 (예: http://localhost:12345/api/template)
+     * @param renderBodies render 요청 구성별 JSON 본문
+     */
+    public LoadTestRunner(String baseUrl, Map<LoadTestScenario.RequestMix, byte[]> renderBodies) {
+        this.baseUrl = baseUrl;
+        this.renderBodies = renderBodies;
+    }
+
+    public LoadTestReport run(LoadTestScenario scenario) throws Exception {
+        if (scenario.getWarmupSeconds() > 0 && !scenario.getStages().isEmpty()) {
+            log.info("[{} v{}] warmup {}s", scenario.getName(), scenario.getVersion(), scenario.getWarmupSeconds());
+            runStage(scenario, scenario.getStages().get(0).getConcurrency(), scenario.getWarmupSeconds());
+        }
+        LoadTestReport report = new LoadTestReport(scenario);
+        for (LoadTestScenario.Stage stage : scenario.getStages()) {
+            log.info("[{} v{}] stage {}: concurrency {}, {}s", scenario.getName(), scenario.getVersion(),
+                    stage.getName(), stage.getConcurrency(), stage.getDurationSeconds());
+            report.addStage(stage, runStage(scenario, stage.getConcurrency(), stage.getDurationSeconds()));
+        }
+        return report;
+    }
+
+    private Measurements runStage(LoadTestScenario scenario, int concurrency, int seconds) throws Exception {
+        List<LoadTestScenario.RequestMix> mix = scenario.getRequests();
+        int[] cumulativeWeights = new int[mix.size()];
+        int totalWeight = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            totalWeight += Math.max(0, mix.get(i).getWeight());
+            cumulativeWeights[i] = totalWeight;
+        }
+        int weightSum = totalWeight;
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Measurements>> futures = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + TimeUnit.SECONDS.toNanos(seconds);
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    Measurements measurements = new Measurements();
+                    while (System.nanoTime() < deadline) {
+                        int pick = ThreadLocalRandom.current().nextInt(weightSum);
+                        int index = 0;
+                        while (cumulativeWeights[index] <= pick) {
+                            index++;
+                        }
+                        execute(mix.get(index), measurements);
+                    }
+                    return measurements;
+                }));
+            }
+            Measurements stage = new Measurements();
+            for (Future<Measurements> future : futures) {
+                stage.add(future.get());
+            }
+            stage.elapsedNanos = System.nanoTime() - startNanos;
+            return stage;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void execute(LoadTestScenario.RequestMix mix, Measurements measurements) {
+        String label = mix.label();
+        String error = null;
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request(mix), HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() / 100 != 2) {
+                error = "HTTP " + response.statusCode() + ": " + abbreviate(response.body());
+            } else if (checksSuccessFlag(mix) && indexOf(response.body(), SUCCESS_TRUE) < 0) {
+                error = "success=false: " + abbreviate(response.body());
+            }
+        } catch (IOException e) {
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        measurements.record(label, (System.nanoTime() - start) / 1_000, error);
+    }
+
+    private HttpRequest request(LoadTestScenario.RequestMix mix) {
+        String type = mix.getType();
+        HttpRequest.Builder builder = HttpRequest.newBuilder().timeout(Duration.ofSeconds(30));
+        switch (type) {
+            case "render":
+                return builder.uri(URI.create(baseUrl + "/render"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofByteArray(renderBodies.get(mix)))
+                        .build();
+            case "analyze":
+            case "preview-json":
+            case "preview-html":
+                return builder.uri(URI.create(baseUrl + "/" + type + "/" + mix.getTemplate())).GET().build();
+            default:
+                throw new IllegalArgumentException("Unknown request type: " + type);
+        }
+    }
+
+    private static boolean checksSuccessFlag(LoadTestScenario.RequestMix mix) {
+        return mix.getType().equals("render") || mix.getType().equals("preview-json");
+    }
+
+    private static int indexOf(byte[] body, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= body.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (body[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static String abbreviate(byte[] body) {
+        String text = new String(body, 0, Math.min(body.length, 200), StandardCharsets.UTF_8);
+        return body.length > 200 ? text + "..." : text;
+    }
+
+    /**
+     * 요청 구성별 지연 시간(µs) / 오류 수
+     */
+    static class Measurements {
+        final Map<String, Histogram> latencies = new TreeMap<>();
+        final Map<String, Long> errors = new TreeMap<>();
+        final Set<String> errorSamples = new LinkedHashSet<>();
+        long elapsedNanos;
+
+        void record(String label, long micros, String error) {
+            latencies.computeIfAbsent(label, key -> new Histogram(3)).recordValue(Math.max(1, micros));
+            if (error != null) {
+                errors.merge(label, 1L, Long::sum);
+                if (errorSamples.size() < MAX_ERROR_SAMPLES) {
+                    errorSamples.add(label + " -> " + error);
+                }
+            }
+        }
+
+        void add(Measurements other) {
+            other.latencies.forEach((label, histogram) ->
+                    latencies.computeIfAbsent(label, key -> new Histogram(3)).add(histogram));
+            other.errors.forEach((label, count) -> errors.merge(label, count, Long::sum));
+            for (String sample : other.errorSamples) {
+                if (errorSamples.size() < MAX_ERROR_SAMPLES) {
+                    errorSamples.add(sample);
+                }
+            }
+            elapsedNanos += other.elapsedNanos;
+        }
+
+        Histogram total() {
+            Histogram total = new Histogram(3);
+            latencies.values().forEach(total::add);
+            return total;
+        }
+
+        long totalErrors() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.boxwood.form.engine.loadtest;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 부하 테스트 시나리오 (src/test/resources/loadtest/scenarios/*.json)
+ * - 단계(stage)마다 동시 실행 수와 시간을 정하고, 각 작업자는 요청 구성(requests)에서 가중치대로 골라 연속 호출 (closed loop)
+ * - 시나리오를 바꿀 때는 version 을 올려 결과 파일(target/loadtest/{name}-v{version}.json)끼리 구분
+ */
+@Data
+@NoArgsConstructor
+public class LoadTestScenario {
+    private String name;
+    private int version = 1;
+    private String description;
+
+    // 측정 전 워밍업 (첫 단계 동시 실행 수로 실행, 결과는 버림)
+    private int warmupSeconds = 5;
+
+    private List<Stage> stages = new ArrayList<>();
+    private List<RequestMix> requests = new ArrayList<>();
+    private Expectations expectations = new Expectations();
+
+    @Data
+    @NoArgsConstructor
+    public static class Stage {
+        private String name;
+        private int concurrency = 8;
+        private int durationSeconds = 10;
+    }
+
+    /**
+     * 요청 종류
+     * - render: POST /render (미리보기 모델의 리스트를 listSize 원소로 늘린 본문)
+     * - analyze: GET /analyze/{template}
+     * - preview-json / preview-html: GET /preview-json/{template}, /preview-html/{template}
+     */
+    @Data
+    @NoArgsConstructor
+    public static class RequestMix {
+        private String type;
+        private String template;
+        private int weight = 1;
+        // render 본문의 리스트 원소 수 (음수면 미리보기 모델 그대로)
+        private int listSize = -1;
+
+        public String label() {
+            return listSize >= 0 ? type + ":" + template + "[" + listSize + "]" : type + ":" + template;
+        }
+    }
+
+    /**
+     * 통과 기준 (0 이하이면 검사하지 않음)
+     */
+    @Data
+    @NoArgsConstructor
+    public static class Expectations {
+        private double maxErrorRate = 0.01;
+        private double maxP99Millis;
+    }
+}
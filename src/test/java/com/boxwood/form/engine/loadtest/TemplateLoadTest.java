@@ -0,0 +1,161 @@
+package com.boxwood.form.engine.loadtest;
+
+import com.boxwood.form.engine.form.service.TemplateAnalysisService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 전체 Spring 스택 부하 테스트 - 임의 포트로 서버를 띄우고 시나리오별로 /render, /analyze, 미리보기 호출
+ * - 기본 빌드에서는 제외 (mvn -Ploadtest test)
+ * - 시스템 속성으로 조정: loadtest.scenarios (쉼표 구분 이름), loadtest.concurrency, loadtest.duration-seconds,
+ *   loadtest.warmup-seconds, loadtest.list-size (모든 단계/요청에 덮어씀)
+ * - 결과: target/loadtest/{name}-v{version}.json
+ */
+@Slf4j
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "form.grpc.port=-1",
+        "logging.level.com.boxwood.form.engine=WARN",
+        "logging.level.com.boxwood.form.engine.loadtest=INFO"
+})
+class TemplateLoadTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TemplateAnalysisService templateService;
+
+    static List<Named<LoadTestScenario>> scenarios() throws IOException {
+        Set<String> selected = new HashSet<>();
+        String names = System.getProperty("loadtest.scenarios", "");
+        for (String name : names.split(",")) {
+            if (!name.isBlank()) {
+                selected.add(name.trim());
+            }
+        }
+
+        List<Named<LoadTestScenario>> scenarios = new ArrayList<>();
+        Resource[] resources = new PathMatchingResourcePatternResolver()
+                .getResources("classpath:loadtest/scenarios/*.json");
+        for (Resource resource : resources) {
+            try (InputStream in = resource.getInputStream()) {
+                LoadTestScenario scenario = MAPPER.readValue(in, LoadTestScenario.class);
+                if (selected.isEmpty() || selected.contains(scenario.getName())) {
+                    scenarios.add(Named.of(scenario.getName() + " v" + scenario.getVersion(), applyOverrides(scenario)));
+                }
+            }
+        }
+        scenarios.sort(Comparator.comparing(Named::getName));
+        return scenarios;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("scenarios")
+    void runScenario(LoadTestScenario scenario) throws Exception {
+        Map<LoadTestScenario.RequestMix, byte[]> renderBodies = new HashMap<>();
+        for (LoadTestScenario.RequestMix mix : scenario.getRequests()) {
+            if (mix.getType().equals("render")) {
+                renderBodies.put(mix, renderBody(mix));
+            }
+        }
+
+        LoadTestReport report = new LoadTestRunner("http://localhost:" + port + "/api/template", renderBodies)
+                .run(scenario);
+        Path file = report.write(Path.of("target", "loadtest"));
+        log.info("Load test report written to {}", file);
+
+        LoadTestScenario.Expectations expectations = scenario.getExpectations();
+        assertTrue(report.getRequests() > 0, "no requests completed");
+        if (expectations.getMaxErrorRate() > 0) {
+            assertTrue(report.getErrorRate() <= expectations.getMaxErrorRate(),
+                    "error rate " + report.getErrorRate() + " > " + expectations.getMaxErrorRate()
+                            + " " + report.getErrorSamples());
+        }
+        if (expectations.getMaxP99Millis() > 0) {
+            assertTrue(report.getP99Millis() <= expectations.getMaxP99Millis(),
+                    "p99 " + report.getP99Millis() + "ms > " + expectations.getMaxP99Millis() + "ms");
+        }
+    }
+
+    /**
+     * render 본문 - 미리보기 기본값 모델의 리스트를 listSize 원소로 늘림
+     */
+    private byte[] renderBody(LoadTestScenario.RequestMix mix) throws IOException {
+        Map<String, Object> variables = expand(templateService.getPreviewModel(mix.getTemplate()), mix.getListSize());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("templateName", mix.getTemplate());
+        body.put("variables", variables);
+        return MAPPER.writeValueAsBytes(body);
+    }
+
+    private static LoadTestScenario applyOverrides(LoadTestScenario scenario) {
+        Integer concurrency = Integer.getInteger("loadtest.concurrency");
+        Integer durationSeconds = Integer.getInteger("loadtest.duration-seconds");
+        Integer warmupSeconds = Integer.getInteger("loadtest.warmup-seconds");
+        Integer listSize = Integer.getInteger("loadtest.list-size");
+        for (LoadTestScenario.Stage stage : scenario.getStages()) {
+            if (concurrency != null) {
+                stage.setConcurrency(concurrency);
+            }
+            if (durationSeconds != null) {
+                stage.setDurationSeconds(durationSeconds);
+            }
+        }
+        if (warmupSeconds != null) {
+            scenario.setWarmupSeconds(warmupSeconds);
+        }
+        if (listSize != null) {
+            scenario.getRequests().stream()
+                    .filter(mix -> mix.getType().equals("render"))
+                    .forEach(mix -> mix.setListSize(listSize));
+        }
+        return scenario;
+    }
+
+    /**
+     * 모델 복사 - 리스트는 첫 원소를 복제해 size 개로 (리스트 원소 안의 리스트는 원래 길이 유지, size 가 음수면 그대로)
+     */
+    private static Map<String, Object> expand(Map<String, Object> model, int size) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        model.forEach((key, value) -> copy.put(key, expandValue(value, size)));
+        return copy;
+    }
+
+    private static Object expandValue(Object value, int size) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, nested) -> copy.put(String.valueOf(key), expandValue(nested, size)));
+            return copy;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = new ArrayList<>();
+            if (size < 0) {
+                list.forEach(element -> copy.add(expandValue(element, -1)));
+            } else if (!list.isEmpty()) {
+                for (int i = 0; i < size; i++) {
+                    copy.add(expandValue(list.get(0), -1));
+                }
+            }
+            return copy;
+        }
+        return value;
+    }
+}